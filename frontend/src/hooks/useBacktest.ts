@@ -1,6 +1,7 @@
-import { useQuery, useMutation } from '@tanstack/react-query';
+import { useEffect, useState } from 'react';
+import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { strategyService } from '../services/api';
-import { BacktestRequest } from '../types/api';
+import { BacktestProgress, BacktestRequest } from '../types/api';
 
 export const useBacktest = () => {
   return useMutation({
@@ -28,6 +29,67 @@ export const useSnapshots = (simulationId: number | null) => {
   });
 };
 
+export const useSnapshotSeries = (simulationId: number | null, enabled: boolean, maxPoints = 1000) => {
+  return useQuery({
+    queryKey: ['snapshotSeries', simulationId, maxPoints],
+    queryFn: () => strategyService.getSnapshotSeries(simulationId!, maxPoints),
+    enabled: !!simulationId && enabled,
+  });
+};
+
+export interface LiveCurvePoint {
+  date: string;
+  value: number;
+}
+
+/**
+ * SSE 로 진행률과 누적 자산 곡선을 받는다.
+ * 곡선은 curveOffset 위치부터의 증분이므로 그 앞까지만 남기고 이어 붙인다.
+ */
+export const useBacktestProgress = (simulationId: number | null) => {
+  const queryClient = useQueryClient();
+  const [progress, setProgress] = useState<BacktestProgress | null>(null);
+  const [curve, setCurve] = useState<LiveCurvePoint[]>([]);
+  const [completed, setCompleted] = useState(false);
+
+  useEffect(() => {
+    setProgress(null);
+    setCurve([]);
+    setCompleted(false);
+    if (!simulationId) {
+      return;
+    }
+
+    const source = new EventSource(strategyService.progressStreamUrl(simulationId));
+    const apply = (event: MessageEvent) => {
+      const data: BacktestProgress = JSON.parse(event.data);
+      setProgress(data);
+      const dates = data.curveDates || [];
+      const values = data.curveValues || [];
+      if (dates.length > 0) {
+        setCurve((prev) => [
+          ...prev.slice(0, data.curveOffset),
+          ...dates.map((date, i) => ({ date, value: values[i] })),
+        ]);
+      }
+    };
+
+    source.addEventListener('progress', apply as EventListener);
+    source.addEventListener('status', apply as EventListener);
+    source.addEventListener('complete', ((event: MessageEvent) => {
+      setProgress(JSON.parse(event.data));
+      setCompleted(true);
+      source.close();
+      // 결과 폴링을 기다리지 않고 바로 조회
+      queryClient.invalidateQueries({ queryKey: ['backtestResult', simulationId] });
+    }) as EventListener);
+
+    return () => source.close();
+  }, [simulationId, queryClient]);
+
+  return { progress, curve, completed };
+};
+
 export const useCompareStrategies = (resultIds: string) => {
   return useQuery({
     queryKey: ['compareStrategies', resultIds],
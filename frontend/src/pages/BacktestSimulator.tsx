@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Play, Settings2, Loader2, Info } from 'lucide-react';
 import { AreaChart, Area, XAxis, YAxis, Tooltip, ResponsiveContainer } from 'recharts';
-import { useBacktest, useBacktestResult, useSnapshots } from '../hooks/useBacktest';
+import { useBacktest, useBacktestProgress, useBacktestResult, useSnapshotSeries } from '../hooks/useBacktest';
 import { formatCurrency, formatPercent } from '../utils/cn';
 import { BacktestRequest } from '../types/api';
 
@@ -13,7 +13,8 @@ export default function BacktestSimulator() {
 
   const backtestMutation = useBacktest();
   const { data: result } = useBacktestResult(simulationId);
-  const { data: snapshots } = useSnapshots(simulationId);
+  const { progress, curve } = useBacktestProgress(simulationId);
+  const { data: series } = useSnapshotSeries(simulationId, !!result);
 
   const [formData, setFormData] = useState<BacktestRequest>({
     strategyType: 'VALUE',
@@ -66,10 +67,11 @@ export default function BacktestSimulator() {
     }
   }, [result]);
 
-  const chartData = snapshots?.map((s: any) => ({
-    date: s.snapshotDate,
-    value: s.totalValue,
-  })) || [];
+  // 완료 전에는 SSE 로 받은 누적 곡선, 완료 후에는 저장된 스냅샷 시계열을 그린다
+  const chartData = series
+    ? series.dates.map((date: string, i: number) => ({ date, value: series.totalValues[i] }))
+    : curve;
+  const hasLiveCurve = isWaiting && curve.length > 0;
 
   const isPositive = result ? result.totalReturn >= 0 : true;
   const mainColor = isPositive ? '#16a34a' : '#dc2626'; // green-600, red-600 for light/dark balance
@@ -345,8 +347,15 @@ export default function BacktestSimulator() {
               <p className="text-zinc-500 dark:text-[#8E8E93] font-bold text-sm uppercase tracking-widest">Portfolio Value</p>
               <div className="flex items-baseline gap-4 flex-wrap">
                 <h1 className="text-6xl md:text-7xl font-black tracking-tighter">
-                  {isWaiting ? 'Evaluating...' : formatCurrency(result?.finalValue || 0)}
+                  {isWaiting
+                    ? (progress?.totalValue !== undefined ? formatCurrency(progress.totalValue) : 'Evaluating...')
+                    : formatCurrency(result?.finalValue || 0)}
                 </h1>
+                {isWaiting && progress && (
+                  <span className="text-2xl font-black text-zinc-500 dark:text-[#8E8E93]">
+                    {formatNum(progress.percent)}% · {progress.currentDate || progress.status}
+                  </span>
+                )}
                 {result && (
                   <span className={`text-2xl font-black ${isPositive ? 'text-green-600 dark:text-[#00C805]' : 'text-red-600 dark:text-[#FF5000]'}`}>
                     {formatPercent(result.totalReturn)}
@@ -380,7 +389,7 @@ export default function BacktestSimulator() {
 
         {/* Interactive Chart */}
         <div className="h-[500px] w-full bg-zinc-50 dark:bg-black rounded-3xl relative overflow-hidden border border-zinc-100 dark:border-transparent">
-          {isWaiting && (
+          {isWaiting && !hasLiveCurve && (
             <div className="absolute inset-0 z-10 bg-white/40 dark:bg-black/40 backdrop-blur-sm flex items-center justify-center">
                <Loader2 className="animate-spin text-green-600 dark:text-[#00C805]" size={48} />
             </div>
@@ -412,6 +421,7 @@ export default function BacktestSimulator() {
                 strokeWidth={4} 
                 fillOpacity={1} 
                 fill="url(#colorValue)" 
+                isAnimationActive={!isWaiting}
                 animationDuration={1500}
               />
             </AreaChart>
@@ -20,6 +20,12 @@ export const strategyService = {
     const { data } = await api.get(`/strategy/backtest/${simulationId}/snapshots`);
     return data;
   },
+  getSnapshotSeries: async (simulationId: number, maxPoints = 1000) => {
+    const { data } = await api.get(`/strategy/backtest/${simulationId}/snapshots/series?maxPoints=${maxPoints}`);
+    return data;
+  },
+  // EventSource 는 axios 를 거치지 않으므로 baseURL 을 포함한 경로를 직접 사용
+  progressStreamUrl: (simulationId: number) => `/api/v1/strategy/backtest/${simulationId}/stream`,
   compareStrategies: async (resultIds: string) => {
     const { data } = await api.get(`/strategy/backtest/compare?resultIds=${resultIds}`);
     return data;
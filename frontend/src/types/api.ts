@@ -42,10 +42,39 @@ export interface BacktestRequest {
   assetAllocationConfig?: any;
 }
 
+export interface BacktestProgress {
+  simulationId: number;
+  status: string;
+  processedDays: number;
+  totalDays: number;
+  percent: number;
+  currentDate?: string;
+  totalValue?: number;
+  totalReturn?: number;
+  cagr?: number;
+  mdd?: number;
+  sharpeRatio?: number;
+  rollingReturn?: number;
+  rollingSharpeRatio?: number;
+  curveOffset: number;
+  curveDates?: string[];
+  curveValues?: number[];
+}
+
+export interface SnapshotSeries {
+  simulationId: number;
+  totalPoints: number;
+  sampled: boolean;
+  dates: string[];
+  totalValues: number[];
+  cashBalances: number[];
+}
+
 export interface BacktestResponse {
   simulationId: number;
   status: string;
   message: string;
+  cached?: boolean;
 }
 
 export interface ServiceInfo {
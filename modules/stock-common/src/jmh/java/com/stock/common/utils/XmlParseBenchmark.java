@@ -0,0 +1,115 @@
+package com.stock.common.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.stock.common.utils.ParseUtils.getTagValue;
+import static com.stock.common.utils.ParseUtils.safeParseInt;
+
+/**
+ * 시세 응답 한 페이지 파싱 비교: 기존 DOM (응답 문자열 -> 바이트 -> DocumentBuilder, 필드마다 getElementsByTagName) vs StAX 스트림.
+ * <p>
+ * 픽스처는 getStockPriceInfo 응답 형식의 item 몇 건이며, 실제 페이지 크기(rows)만큼 item 을 반복하여 사용한다.
+ * 실행: ./gradlew :modules:stock-common:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlParseBenchmark {
+
+    // StockParseUtils 가 읽는 item 필드
+    private static final String[] FIELDS = {"basDt", "srtnCd", "mrktCtg", "trqu", "trPrc", "mkp", "clpr",
+            "hipr", "lopr", "vs", "fltRt", "lstgStCnt", "mrktTotAmt"};
+
+    @Param({"500"})
+    private int rows;
+
+    private String body;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        String page;
+        try (InputStream input = XmlParseBenchmark.class.getResourceAsStream("/fixtures/stock-price-page.xml")) {
+            if (input == null) {
+                throw new IllegalStateException("Fixture not found: /fixtures/stock-price-page.xml");
+            }
+            page = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        int itemsStart = page.indexOf("<item>");
+        int itemsEnd = page.lastIndexOf("</item>") + "</item>".length();
+        List<String> samples = new ArrayList<>();
+        for (int from = itemsStart; from < itemsEnd; ) {
+            int to = page.indexOf("</item>", from) + "</item>".length();
+            samples.add(page.substring(from, to));
+            from = page.indexOf("<item>", to);
+            if (from < 0) {
+                break;
+            }
+        }
+
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            items.append(samples.get(i % samples.size()));
+        }
+        body = page.substring(0, itemsStart) + items + page.substring(itemsEnd);
+        bytes = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<String[]> dom() throws Exception {
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        Document doc = builder.parse(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        doc.getDocumentElement().normalize();
+        safeParseInt(getTagValue("totalCount", doc.getDocumentElement()));
+
+        NodeList itemList = doc.getElementsByTagName("item");
+        List<String[]> result = new ArrayList<>(itemList.getLength());
+        for (int i = 0; i < itemList.getLength(); i++) {
+            Element item = (Element) itemList.item(i);
+            String[] values = new String[FIELDS.length];
+            for (int f = 0; f < FIELDS.length; f++) {
+                values[f] = getTagValue(FIELDS[f], item);
+            }
+            result.add(values);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String[]> stax() throws IOException {
+        return XmlStreamParser.parseItems(new ByteArrayInputStream(bytes), item -> {
+            String[] values = new String[FIELDS.length];
+            for (int f = 0; f < FIELDS.length; f++) {
+                values[f] = XmlStreamParser.valueOf(item, FIELDS[f]);
+            }
+            return values;
+        }).getItemList();
+    }
+}
@@ -0,0 +1,22 @@
+package com.stock.common.config;
+
+import com.stock.common.util.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 공공데이터포털(data.go.kr) 호출 속도 제한.
+ * <p>
+ * 호출 한도는 서비스 키 단위이므로 같은 키(data-go.service-key)를 쓰는 시세/기업/공휴일/발행 정보 조회가 하나의 토큰 버킷을 공유한다.
+ */
+@Configuration
+public class DataGoRateLimiterConfig {
+
+    @Bean
+    public TokenBucketRateLimiter dataGoRateLimiter(
+            @Value("${data-go.rate-limit.requests-per-second:10}") double requestsPerSecond,
+            @Value("${data-go.rate-limit.burst:5}") int burst) {
+        return new TokenBucketRateLimiter(requestsPerSecond, burst);
+    }
+}
@@ -45,4 +45,15 @@ public class ApplicationConstants {
 
     // DART API 제한 (분당 1,000회이나 안전을 위해 기본값 800 설정)
     public static final int DART_MAX_CALLS_PER_MINUTE = 800;
+
+    // 데이터 버전 (공용 레디스). 시세/재무/팩터/기업 정보 배치가 완료될 때마다 1 증가하며 백테스트 결과 캐시 키에 포함
+    public static final String PRICE_DATA_VERSION_KEY = "data-version:price";
+
+    public static final String FINANCE_DATA_VERSION_KEY = "data-version:finance";
+
+    // 팩터 노출값 사전 계산 배치 (factorPrecomputeJob)
+    public static final String FACTOR_DATA_VERSION_KEY = "data-version:factor";
+
+    // 기업 정보/업종 배치 (corpDataJob, sectorUpdateJob). 상장 종목과 업종이 바뀌면 유니버스와 섹터 전략 결과가 달라짐
+    public static final String CORP_DATA_VERSION_KEY = "data-version:corp";
 }
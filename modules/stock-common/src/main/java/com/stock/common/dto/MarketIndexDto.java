@@ -0,0 +1,38 @@
+package com.stock.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.stock.common.enums.IndexWeighting;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "시장 지수 일별 시계열 DTO")
+public class MarketIndexDto {
+    @Schema(description = "시장 코드", example = "KOSPI")
+    private String marketCode;
+
+    @Schema(description = "가중 방식", example = "CAP")
+    private IndexWeighting weighting;
+
+    @Schema(description = "기준 일자", example = "2024-02-13")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate basDt;
+
+    @Schema(description = "지수 값 (첫 산출일 1000 기준)", example = "1034.521300")
+    private BigDecimal indexValue;
+
+    @Schema(description = "일간 수익률 (비율, 0.01 = 1%)", example = "0.0123000000")
+    private BigDecimal dailyReturn;
+
+    @Schema(description = "구성 종목 수", example = "948")
+    private Integer constituentCount;
+}
@@ -0,0 +1,25 @@
+package com.stock.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "다종목 기간 시세 패널 조회 요청 DTO")
+public class PricePanelRequest {
+    @Schema(description = "종목 코드 목록", example = "[\"005930\", \"000660\"]")
+    private List<String> stockCodes;
+
+    @Schema(description = "조회 시작일 (yyyyMMdd)", example = "20240101")
+    private String startDate;
+
+    @Schema(description = "조회 종료일 (yyyyMMdd)", example = "20241231")
+    private String endDate;
+}
@@ -0,0 +1,16 @@
+package com.stock.common.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시장 지수 가중 방식
+ */
+@Getter
+@AllArgsConstructor
+public enum IndexWeighting {
+    CAP("시가총액 가중"),
+    EQUAL("동일 가중");
+
+    private final String description;
+}
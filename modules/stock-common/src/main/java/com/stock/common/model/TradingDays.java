@@ -0,0 +1,163 @@
+package com.stock.common.model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정렬된 거래일 배열을 감싼 불변 객체.
+ * <p>
+ * 달력일 오프셋 -> 거래일 인덱스 테이블을 함께 보관하여 날짜 조회, 이전/다음 거래일 조회를 O(1)로 처리한다.
+ * 생성 이후 변경되지 않으므로 여러 스레드에서 공유해도 안전하다.
+ */
+public final class TradingDays {
+
+    public static final int NOT_FOUND = -1;
+
+    private static final TradingDays EMPTY = new TradingDays(new LocalDate[0]);
+
+    private final LocalDate[] days;
+    private final long baseEpochDay;
+    // 달력일 오프셋 -> 해당일 이하의 마지막 거래일 인덱스
+    private final int[] floorIndex;
+
+    private TradingDays(LocalDate[] days) {
+        this.days = days;
+        if (days.length == 0) {
+            this.baseEpochDay = 0;
+            this.floorIndex = new int[0];
+            return;
+        }
+
+        this.baseEpochDay = days[0].toEpochDay();
+        int span = (int) (days[days.length - 1].toEpochDay() - baseEpochDay) + 1;
+        this.floorIndex = new int[span];
+        int idx = 0;
+        for (int offset = 0; offset < span; offset++) {
+            while (idx + 1 < days.length && days[idx + 1].toEpochDay() - baseEpochDay <= offset) {
+                idx++;
+            }
+            floorIndex[offset] = idx;
+        }
+    }
+
+    public static TradingDays empty() {
+        return EMPTY;
+    }
+
+    public static TradingDays of(Collection<LocalDate> dates) {
+        if (dates == null || dates.isEmpty()) {
+            return EMPTY;
+        }
+        LocalDate[] sorted = dates.stream().distinct().sorted().toArray(LocalDate[]::new);
+        return new TradingDays(sorted);
+    }
+
+    public int size() {
+        return days.length;
+    }
+
+    public boolean isEmpty() {
+        return days.length == 0;
+    }
+
+    public LocalDate get(int index) {
+        return days[index];
+    }
+
+    public LocalDate first() {
+        return days.length > 0 ? days[0] : null;
+    }
+
+    public LocalDate last() {
+        return days.length > 0 ? days[days.length - 1] : null;
+    }
+
+    public List<LocalDate> toList() {
+        return List.of(days);
+    }
+
+    public boolean contains(LocalDate date) {
+        return indexOf(date) != NOT_FOUND;
+    }
+
+    /**
+     * 거래일이면 인덱스, 아니면 {@link #NOT_FOUND}
+     */
+    public int indexOf(LocalDate date) {
+        int floor = floorIndexOf(date);
+        return floor != NOT_FOUND && days[floor].equals(date) ? floor : NOT_FOUND;
+    }
+
+    /**
+     * 해당 날짜 이하의 마지막 거래일 인덱스. 범위 시작 이전이면 {@link #NOT_FOUND}
+     */
+    public int floorIndexOf(LocalDate date) {
+        if (days.length == 0) return NOT_FOUND;
+        long offset = date.toEpochDay() - baseEpochDay;
+        if (offset < 0) return NOT_FOUND;
+        if (offset >= floorIndex.length) return days.length - 1;
+        return floorIndex[(int) offset];
+    }
+
+    /**
+     * 해당 날짜 이상의 첫 거래일 인덱스. 범위 종료 이후이면 {@link #NOT_FOUND}
+     */
+    public int ceilIndexOf(LocalDate date) {
+        if (days.length == 0) return NOT_FOUND;
+        int floor = floorIndexOf(date);
+        if (floor == NOT_FOUND) return 0;
+        if (days[floor].equals(date)) return floor;
+        return floor + 1 < days.length ? floor + 1 : NOT_FOUND;
+    }
+
+    /**
+     * 해당 날짜 이후(해당일 제외)의 첫 거래일. 없으면 null
+     */
+    public LocalDate next(LocalDate date) {
+        int idx = ceilIndexOf(date.plusDays(1));
+        return idx != NOT_FOUND ? days[idx] : null;
+    }
+
+    /**
+     * 해당 날짜 이전(해당일 제외)의 마지막 거래일. 없으면 null
+     */
+    public LocalDate previous(LocalDate date) {
+        int idx = floorIndexOf(date.minusDays(1));
+        return idx != NOT_FOUND ? days[idx] : null;
+    }
+
+    /**
+     * 해당 월의 n번째 거래일 (1부터 시작, 음수는 말일부터 역순: -1 = 마지막 거래일). 없으면 null
+     */
+    public LocalDate nthOfMonth(YearMonth month, int n) {
+        if (n == 0) {
+            throw new IllegalArgumentException("n must not be zero");
+        }
+        int start = ceilIndexOf(month.atDay(1));
+        int end = floorIndexOf(month.atEndOfMonth());
+        if (start == NOT_FOUND || end == NOT_FOUND || start > end) {
+            return null;
+        }
+
+        int idx = n > 0 ? start + n - 1 : end + n + 1;
+        return idx >= start && idx <= end ? days[idx] : null;
+    }
+
+    @Override
+    public String toString() {
+        return "TradingDays{" + days.length + " days, " + first() + " ~ " + last() + "}";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof TradingDays other && Arrays.equals(days, other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(days);
+    }
+}
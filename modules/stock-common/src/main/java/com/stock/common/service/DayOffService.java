@@ -1,9 +1,11 @@
 package com.stock.common.service;
 
 import com.stock.common.consts.ApplicationConstants;
+import com.stock.common.util.TokenBucketRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -12,7 +14,10 @@ import org.springframework.web.client.RestClient;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.stock.common.utils.DateUtils.toLocalDateString;
@@ -27,6 +32,7 @@ public class DayOffService {
     String serviceKey;
 
     private final RestClient restClient;
+    private final TokenBucketRateLimiter dataGoRateLimiter;
 
     // 대한민국 공휴일 체크 - 불필요한 배치 수행 안함 (true: 휴일/주말, false: 평일)
     @Cacheable(value = "holidayCache", key = "#targetDate.toString()")
@@ -59,19 +65,69 @@ public class DayOffService {
                     .build()
                     .toUri();
 
-            //API 호출 (RestClient)
-            String responseXml = restClient.get()
-                    .uri(uri)
-                    .retrieve()
-                    .body(String.class);
-
-            List<String> dateList = parseLocdatesFromXml(responseXml);
+            //API 호출 (RestClient) - 응답 스트림에서 바로 파싱
+            List<String> dateList = fetchLocdates(uri);
             // 휴일 목록에 포함되어 있으면 true
             return dateList.contains(toLocalDateString(targetDate));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         } catch (Exception e){
             log.warn("Failed to fetch holidays from external API: {}", e.getMessage());
             // 오류 발생 시 평일로 간주 (false)하여 배치 수행 시도
             return false;
         }
     }
+
+    // 연도 단위 공휴일 목록 (yyyyMMdd) - 1년치를 한 번에 조회하여 캐시 (주말, 거래소 자체 휴장일 제외)
+    @Cacheable(value = "holidayCache", key = "'year:' + #year")
+    public List<String> getHolidays(int year) {
+        return fetchHolidays(year);
+    }
+
+    // 연중 추가 지정되는 공휴일(임시공휴일, 선거일 등) 반영을 위해 API 를 다시 조회하여 캐시 갱신
+    @CachePut(value = "holidayCache", key = "'year:' + #year")
+    public List<String> refreshHolidays(int year) {
+        return fetchHolidays(year);
+    }
+
+    private List<String> fetchHolidays(int year) {
+        if (!StringUtils.hasText(serviceKey) || serviceKey.contains("YOUR_SERVICE_KEY")) {
+            return new ArrayList<>();
+        }
+
+        String decodedServiceKey = URLDecoder.decode(serviceKey, StandardCharsets.UTF_8);
+
+        URI uri = UriComponentsBuilder.newInstance()
+                .scheme("http")
+                .host(ApplicationConstants.API_GO_URL)
+                .path(ApplicationConstants.KAI_REST_DATE_URL)
+                .queryParam("solYear", year)
+                .queryParam("ServiceKey", decodedServiceKey)
+                .queryParam("numOfRows", 100)
+                .build()
+                .toUri();
+
+        try {
+            return new ArrayList<>(fetchLocdates(uri));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching holidays for year " + year, e);
+        } catch (Exception e) {
+            // 실패 결과가 캐시되지 않도록 예외로 전달
+            throw new IllegalStateException("Failed to parse holidays for year " + year + ": " + e.getMessage(), e);
+        }
+    }
+
+    private List<String> fetchLocdates(URI uri) throws InterruptedException {
+        dataGoRateLimiter.acquire();
+        return restClient.get()
+                .uri(uri)
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new IllegalStateException("API 응답 오류: " + response.getStatusCode());
+                    }
+                    return parseLocdatesFromXml(response.getBody());
+                });
+    }
 }
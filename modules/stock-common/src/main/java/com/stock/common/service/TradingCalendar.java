@@ -0,0 +1,144 @@
+package com.stock.common.service;
+
+import com.stock.common.model.TradingDays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.stock.common.utils.DateUtils.toStringLocalDate;
+
+/**
+ * KRX 거래일 달력.
+ * <p>
+ * 공휴일은 연 단위로 조회하며 (holidayCache 에 연도 키로 보관), 조회된 연도는 프로세스 내에도 보관한다.
+ * 올해와 내년은 임시공휴일 등이 연중 추가될 수 있으므로 refreshInterval 이 지나면 API 를 다시 조회하여 두 캐시를 모두 갱신한다.
+ * 일자별 휴장 여부를 외부 API 로 확인하는 대신 기간 전체의 거래일 배열({@link TradingDays})을 만들어 사용한다.
+ */
+@Slf4j
+@Component
+public class TradingCalendar {
+
+    // 공휴일 API 에 포함되지 않는 거래소 자체 휴장일 (근로자의 날)
+    private static final List<MonthDay> KRX_FIXED_CLOSURES = List.of(MonthDay.of(5, 1));
+
+    private final DayOffService dayOffService;
+    private final Duration refreshInterval;
+    private final Clock clock;
+
+    private final Map<Integer, ClosedDays> closedDaysByYear = new ConcurrentHashMap<>();
+
+    private record ClosedDays(Set<LocalDate> days, Instant loadedAt) {
+    }
+
+    @Autowired
+    public TradingCalendar(DayOffService dayOffService,
+                           @Value("${trading-calendar.refresh-hours:24}") long refreshHours) {
+        this(dayOffService, Duration.ofHours(refreshHours), Clock.systemDefaultZone());
+    }
+
+    TradingCalendar(DayOffService dayOffService, Duration refreshInterval, Clock clock) {
+        this.dayOffService = dayOffService;
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * [startDate, endDate] 구간의 거래일 배열
+     */
+    public TradingDays getTradingDays(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("startDate and endDate are required");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate: " + startDate + " > " + endDate);
+        }
+
+        List<LocalDate> days = new ArrayList<>();
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            Set<LocalDate> closed = getClosedDays(year);
+            LocalDate from = year == startDate.getYear() ? startDate : LocalDate.of(year, 1, 1);
+            LocalDate to = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                if (!isWeekend(date) && !closed.contains(date)) {
+                    days.add(date);
+                }
+            }
+        }
+        return TradingDays.of(days);
+    }
+
+    public boolean isTradingDay(LocalDate date) {
+        return !isWeekend(date) && !getClosedDays(date.getYear()).contains(date);
+    }
+
+    /**
+     * 해당 연도의 평일 휴장일 (공휴일 + 거래소 자체 휴장일)
+     */
+    public Set<LocalDate> getClosedDays(int year) {
+        ClosedDays cached = closedDaysByYear.get(year);
+        if (cached != null && !isStale(year, cached)) {
+            return cached.days();
+        }
+
+        Set<LocalDate> closed = new HashSet<>(krxClosures(year));
+        try {
+            // 만료된 연도는 레디스 캐시를 거치지 않고 다시 조회하여 레디스도 함께 갱신
+            List<String> holidays = cached != null ? dayOffService.refreshHolidays(year) : dayOffService.getHolidays(year);
+            for (String holiday : holidays) {
+                closed.add(toStringLocalDate(holiday));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load holidays for {}: {}", year, e.getMessage());
+            if (cached != null) {
+                // 갱신 실패 시 기존 목록 유지 (다음 호출에서 다시 갱신 시도)
+                return cached.days();
+            }
+            // 조회 실패 시 주말/거래소 휴장일만 적용하고, 다음 호출에서 다시 조회하도록 보관하지 않음
+            return Set.copyOf(closed);
+        }
+
+        Set<LocalDate> result = Set.copyOf(closed);
+        closedDaysByYear.put(year, new ClosedDays(result, clock.instant()));
+        return result;
+    }
+
+    // 지난 해 휴장일은 바뀌지 않으므로 올해 이후만 주기적으로 다시 조회
+    private boolean isStale(int year, ClosedDays cached) {
+        return year >= LocalDate.now(clock).getYear()
+                && Duration.between(cached.loadedAt(), clock.instant()).compareTo(refreshInterval) >= 0;
+    }
+
+    private static List<LocalDate> krxClosures(int year) {
+        List<LocalDate> closures = new ArrayList<>();
+        for (MonthDay monthDay : KRX_FIXED_CLOSURES) {
+            closures.add(monthDay.atYear(year));
+        }
+
+        // 연말 휴장일: 12월의 마지막 평일
+        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        while (isWeekend(yearEnd)) {
+            yearEnd = yearEnd.minusDays(1);
+        }
+        closures.add(yearEnd);
+        return closures;
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+}
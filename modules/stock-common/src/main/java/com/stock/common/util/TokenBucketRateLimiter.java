@@ -0,0 +1,54 @@
+package com.stock.common.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 Rate Limiter
+ * - 초당 permitsPerSecond 개씩 토큰이 채워지며, 최대 burst 개까지 쌓아 두었다가 한 번에 사용할 수 있습니다.
+ * - 토큰이 없으면 다음 토큰을 예약하고 그 시점까지 대기하므로, 여러 스레드가 동시에 호출해도 전체 호출 속도가 제한됩니다.
+ * - 대기 중 인터럽트되면 예약한 토큰을 돌려주므로 취소된 호출이 다른 호출의 대기 시간을 늘리지 않습니다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 얻을 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+
+            // 토큰이 부족하면 음수로 예약하고, 예약한 토큰이 채워지는 시점까지 잠금 밖에서 대기
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                synchronized (this) {
+                    tokens += 1;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1,47 +1,22 @@
 package com.stock.common.utils;
 
 import org.springframework.util.StringUtils;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ParseUtils {
 
-    public static List<String> parseLocdatesFromXml(String xml) throws Exception {
+    public static List<String> parseLocdatesFromXml(InputStream xml) throws IOException {
         List<String> locdates = new ArrayList<>();
-
-        if (StringUtils.hasText(xml)) {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            ByteArrayInputStream input = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
-            Document doc = builder.parse(input);
-            doc.getDocumentElement().normalize();
-
-            //오류 응답 확인
-            NodeList errorHeaders = doc.getElementsByTagName("cmmMsgHeader");
-            if (errorHeaders.getLength() > 0) {
-                Element error = (Element) errorHeaders.item(0);
-                String errMsg = getTagValue("errMsg", error);
-                String returnAuthMsg = getTagValue("returnAuthMsg", error);
-                throw new RuntimeException("API 오류: " + errMsg + " - " + returnAuthMsg);
-            }
-
-            //item 리스트 추출 (없을 수도 있음)
-            NodeList itemList = doc.getElementsByTagName("item");
-            for (int i = 0; i < itemList.getLength(); i++) {
-                Element item = (Element) itemList.item(i);
-                String locdate = getTagValue("locdate", item);
-                if (!locdate.isEmpty()) {
-                    locdates.add(locdate);
-                }
+        for (String locdate : XmlStreamParser.parseItems(xml, item -> XmlStreamParser.valueOf(item, "locdate")).getItemList()) {
+            if (!locdate.isEmpty()) {
+                locdates.add(locdate);
             }
         }
         return locdates;
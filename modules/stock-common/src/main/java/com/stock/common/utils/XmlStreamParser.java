@@ -0,0 +1,150 @@
+package com.stock.common.utils;
+
+import com.stock.common.model.ApiBody;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 공공데이터포털(data.go.kr) XML 응답을 StAX 로 한 번 읽으며 item 목록으로 바꾸는 파서.
+ * <p>
+ * HTTP 응답 스트림을 그대로 읽으므로 문서 전체 DOM 이나 응답 문자열 복사본을 만들지 않는다.
+ * item 안의 단일 값 태그는 태그명 -> 값 맵으로 모아 itemMapper 에 넘기며, 맵은 item 마다 비워서 재사용한다.
+ * item 밖의 numOfRows / pageNo / totalCount 는 ApiBody 에 기록하고, 오류 응답(cmmMsgHeader)은 예외로 던진다.
+ */
+public final class XmlStreamParser {
+
+    private static final String ITEM = "item";
+    private static final String ERROR_HEADER = "cmmMsgHeader";
+
+    // 설정 후에는 스레드 안전. 외부 엔티티/DTD 는 읽지 않음
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private XmlStreamParser() {
+    }
+
+    /**
+     * @param itemMapper item 태그 값 맵으로 결과 객체를 만드는 함수 (맵은 재사용되므로 보관하지 말 것)
+     * @throws IOException      XML 형식이 잘못된 경우
+     * @throws RuntimeException API 오류 응답인 경우
+     */
+    public static <T> ApiBody<T> parseItems(InputStream input, Function<Map<String, String>, T> itemMapper) throws IOException {
+        ApiBody<T> result = new ApiBody<>();
+        List<T> items = new ArrayList<>();
+        result.setItemList(items);
+        // 헤더 태그가 없으면 0 (DOM 파싱 시 safeParseInt("") 와 동일)
+        result.setNumOfRows(0);
+        result.setPageNo(0);
+        result.setTotalCount(0);
+        if (input == null) {
+            return result;
+        }
+        // 빈 응답은 빈 결과 (문자열 파싱 시 hasText 검사와 동일)
+        InputStream stream = input.markSupported() ? input : new BufferedInputStream(input);
+        stream.mark(1);
+        if (stream.read() < 0) {
+            return result;
+        }
+        stream.reset();
+
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.createXMLStreamReader(stream);
+
+            Map<String, String> fields = new HashMap<>();
+            Map<String, String> errorFields = null;
+            boolean inItem = false;
+            String leaf = null;
+            StringBuilder text = new StringBuilder();
+
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (ITEM.equals(name)) {
+                            inItem = true;
+                            fields.clear();
+                        } else if (ERROR_HEADER.equals(name)) {
+                            errorFields = new HashMap<>();
+                        }
+                        // 하위 태그가 시작되면 이전 태그는 단일 값 태그가 아님
+                        leaf = name;
+                        text.setLength(0);
+                    }
+                    case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                        if (leaf != null) {
+                            text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        String name = reader.getLocalName();
+                        if (ITEM.equals(name)) {
+                            items.add(itemMapper.apply(fields));
+                            inItem = false;
+                        } else if (ERROR_HEADER.equals(name) && errorFields != null) {
+                            throw new RuntimeException("API 오류: " + valueOf(errorFields, "errMsg") + " - " + valueOf(errorFields, "returnAuthMsg"));
+                        } else if (name.equals(leaf)) {
+                            String value = text.toString();
+                            if (inItem) {
+                                fields.putIfAbsent(name, value);
+                            } else if (errorFields != null) {
+                                errorFields.putIfAbsent(name, value);
+                            } else {
+                                setHeader(result, name, value);
+                            }
+                        }
+                        leaf = null;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return result;
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed XML response: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // 입력 스트림은 호출자가 닫음
+                }
+            }
+        }
+    }
+
+    /**
+     * 태그 값. 태그가 없으면 빈 문자열 (DOM getTagValue 와 동일)
+     */
+    public static String valueOf(Map<String, String> fields, String tag) {
+        return fields.getOrDefault(tag, "");
+    }
+
+    private static void setHeader(ApiBody<?> result, String name, String value) {
+        switch (name) {
+            case "numOfRows" -> result.setNumOfRows(ParseUtils.safeParseInt(value));
+            case "pageNo" -> result.setPageNo(ParseUtils.safeParseInt(value));
+            case "totalCount" -> result.setTotalCount(ParseUtils.safeParseInt(value));
+            default -> {
+            }
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -0,0 +1,92 @@
+package com.stock.common.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TradingDaysTest {
+
+    // 2024-04-29(월) ~ 2024-05-10(금), 5/1 휴장, 5/6 대체공휴일, 주말 제외
+    private final TradingDays days = TradingDays.of(List.of(
+            LocalDate.of(2024, 5, 10),
+            LocalDate.of(2024, 4, 29),
+            LocalDate.of(2024, 4, 30),
+            LocalDate.of(2024, 5, 2),
+            LocalDate.of(2024, 5, 3),
+            LocalDate.of(2024, 5, 7),
+            LocalDate.of(2024, 5, 8),
+            LocalDate.of(2024, 5, 9),
+            LocalDate.of(2024, 5, 9)));
+
+    @Test
+    @DisplayName("입력 순서와 중복에 관계없이 정렬된 거래일 배열")
+    void sortedDistinctTest() {
+        assertThat(days.size()).isEqualTo(8);
+        assertThat(days.first()).isEqualTo(LocalDate.of(2024, 4, 29));
+        assertThat(days.last()).isEqualTo(LocalDate.of(2024, 5, 10));
+        assertThat(days.indexOf(LocalDate.of(2024, 5, 2))).isEqualTo(2);
+        assertThat(days.contains(LocalDate.of(2024, 5, 4))).isFalse();
+        assertThat(days.indexOf(LocalDate.of(2024, 5, 1))).isEqualTo(TradingDays.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("다음/이전 거래일은 주말과 휴장일을 건너뛰고 해당일은 제외")
+    void nextPreviousTest() {
+        // 금요일 다음은 주말과 대체공휴일을 건너뛴 화요일
+        assertThat(days.next(LocalDate.of(2024, 5, 3))).isEqualTo(LocalDate.of(2024, 5, 7));
+        // 휴장일 기준 이전/다음 거래일
+        assertThat(days.previous(LocalDate.of(2024, 5, 1))).isEqualTo(LocalDate.of(2024, 4, 30));
+        assertThat(days.next(LocalDate.of(2024, 5, 1))).isEqualTo(LocalDate.of(2024, 5, 2));
+        assertThat(days.previous(LocalDate.of(2024, 5, 7))).isEqualTo(LocalDate.of(2024, 5, 3));
+        // 범위 밖
+        assertThat(days.next(LocalDate.of(2024, 5, 10))).isNull();
+        assertThat(days.previous(LocalDate.of(2024, 4, 29))).isNull();
+        assertThat(days.next(LocalDate.of(2024, 4, 1))).isEqualTo(LocalDate.of(2024, 4, 29));
+    }
+
+    @Test
+    @DisplayName("범위 경계의 floor/ceil 인덱스")
+    void floorCeilTest() {
+        assertThat(days.floorIndexOf(LocalDate.of(2024, 4, 28))).isEqualTo(TradingDays.NOT_FOUND);
+        assertThat(days.ceilIndexOf(LocalDate.of(2024, 4, 28))).isZero();
+        assertThat(days.floorIndexOf(LocalDate.of(2024, 5, 5))).isEqualTo(3);
+        assertThat(days.ceilIndexOf(LocalDate.of(2024, 5, 5))).isEqualTo(4);
+        assertThat(days.floorIndexOf(LocalDate.of(2024, 6, 1))).isEqualTo(7);
+        assertThat(days.ceilIndexOf(LocalDate.of(2024, 6, 1))).isEqualTo(TradingDays.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("월의 n번째 거래일 (음수는 말일부터 역순)")
+    void nthOfMonthTest() {
+        YearMonth may = YearMonth.of(2024, 5);
+
+        assertThat(days.nthOfMonth(may, 1)).isEqualTo(LocalDate.of(2024, 5, 2));
+        assertThat(days.nthOfMonth(may, 3)).isEqualTo(LocalDate.of(2024, 5, 7));
+        assertThat(days.nthOfMonth(may, -1)).isEqualTo(LocalDate.of(2024, 5, 10));
+        assertThat(days.nthOfMonth(may, -2)).isEqualTo(LocalDate.of(2024, 5, 9));
+        assertThat(days.nthOfMonth(YearMonth.of(2024, 4), -1)).isEqualTo(LocalDate.of(2024, 4, 30));
+
+        // 해당 월 거래일 수를 넘거나 범위 밖의 월
+        assertThat(days.nthOfMonth(may, 7)).isNull();
+        assertThat(days.nthOfMonth(may, -7)).isNull();
+        assertThat(days.nthOfMonth(YearMonth.of(2024, 6), 1)).isNull();
+        assertThatThrownBy(() -> days.nthOfMonth(may, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("빈 거래일 배열")
+    void emptyTest() {
+        TradingDays empty = TradingDays.of(List.of());
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.first()).isNull();
+        assertThat(empty.next(LocalDate.of(2024, 5, 1))).isNull();
+        assertThat(empty.nthOfMonth(YearMonth.of(2024, 5), 1)).isNull();
+    }
+}
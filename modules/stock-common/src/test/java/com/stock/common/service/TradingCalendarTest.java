@@ -0,0 +1,156 @@
+package com.stock.common.service;
+
+import com.stock.common.model.TradingDays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TradingCalendarTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private DayOffService dayOffService;
+
+    private final MutableClock clock = new MutableClock(LocalDate.of(2026, 1, 10).atStartOfDay(SEOUL).toInstant());
+
+    private TradingCalendar calendar() {
+        return new TradingCalendar(dayOffService, Duration.ofHours(24), clock);
+    }
+
+    @Test
+    @DisplayName("주말, 공휴일, 거래소 자체 휴장일(근로자의 날)을 제외한 거래일")
+    void tradingDaysTest() {
+        // given: 2024-05-06 대체공휴일
+        when(dayOffService.getHolidays(2024)).thenReturn(List.of("20240506"));
+
+        // when
+        TradingDays days = calendar().getTradingDays(LocalDate.of(2024, 4, 29), LocalDate.of(2024, 5, 8));
+
+        // then
+        assertThat(days.toList()).containsExactly(
+                LocalDate.of(2024, 4, 29),
+                LocalDate.of(2024, 4, 30),
+                LocalDate.of(2024, 5, 2),
+                LocalDate.of(2024, 5, 3),
+                LocalDate.of(2024, 5, 7),
+                LocalDate.of(2024, 5, 8));
+    }
+
+    @Test
+    @DisplayName("연말 휴장일은 12월의 마지막 평일")
+    void yearEndClosureTest() {
+        // given
+        when(dayOffService.getHolidays(anyInt())).thenReturn(List.of());
+        TradingCalendar calendar = calendar();
+
+        // then: 2022-12-31 토요일 -> 12-30(금) 휴장, 2024-12-31 화요일 휴장
+        assertThat(calendar.isTradingDay(LocalDate.of(2022, 12, 30))).isFalse();
+        assertThat(calendar.isTradingDay(LocalDate.of(2022, 12, 29))).isTrue();
+        assertThat(calendar.isTradingDay(LocalDate.of(2024, 12, 31))).isFalse();
+        assertThat(calendar.isTradingDay(LocalDate.of(2024, 12, 30))).isTrue();
+        assertThat(calendar.isTradingDay(LocalDate.of(2024, 12, 28))).isFalse();
+    }
+
+    @Test
+    @DisplayName("거래일 배열로 다음/이전 거래일과 월 n번째 거래일 조회")
+    void navigationTest() {
+        // given: 2024-09-16 ~ 18 추석 연휴
+        when(dayOffService.getHolidays(2024)).thenReturn(List.of("20240916", "20240917", "20240918"));
+        TradingDays days = calendar().getTradingDays(LocalDate.of(2024, 9, 1), LocalDate.of(2024, 10, 31));
+
+        // then
+        assertThat(days.next(LocalDate.of(2024, 9, 13))).isEqualTo(LocalDate.of(2024, 9, 19));
+        assertThat(days.previous(LocalDate.of(2024, 9, 19))).isEqualTo(LocalDate.of(2024, 9, 13));
+        assertThat(days.nthOfMonth(YearMonth.of(2024, 9), 1)).isEqualTo(LocalDate.of(2024, 9, 2));
+        assertThat(days.nthOfMonth(YearMonth.of(2024, 9), -1)).isEqualTo(LocalDate.of(2024, 9, 30));
+    }
+
+    @Test
+    @DisplayName("올해 공휴일은 갱신 주기가 지나면 다시 조회하여 연중 추가된 임시공휴일 반영")
+    void refreshCurrentYearTest() {
+        // given
+        when(dayOffService.getHolidays(2026)).thenReturn(List.of());
+        when(dayOffService.refreshHolidays(2026)).thenReturn(List.of("20260603"));
+        TradingCalendar calendar = calendar();
+        LocalDate electionDay = LocalDate.of(2026, 6, 3);
+
+        // when / then: 갱신 주기 전에는 기존 목록 사용
+        assertThat(calendar.isTradingDay(electionDay)).isTrue();
+        clock.advance(Duration.ofHours(23));
+        assertThat(calendar.isTradingDay(electionDay)).isTrue();
+
+        // 갱신 주기가 지나면 레디스 캐시를 거치지 않고 다시 조회
+        clock.advance(Duration.ofHours(2));
+        assertThat(calendar.isTradingDay(electionDay)).isFalse();
+        verify(dayOffService, times(1)).getHolidays(2026);
+        verify(dayOffService, times(1)).refreshHolidays(2026);
+    }
+
+    @Test
+    @DisplayName("지난 해 공휴일은 다시 조회하지 않고, 갱신 실패 시 기존 목록 유지")
+    void refreshPolicyTest() {
+        // given
+        when(dayOffService.getHolidays(2025)).thenReturn(List.of("20251006"));
+        when(dayOffService.getHolidays(2027)).thenReturn(List.of("20270101"));
+        when(dayOffService.refreshHolidays(2027)).thenThrow(new IllegalStateException("API down"));
+        TradingCalendar calendar = calendar();
+        calendar.getClosedDays(2025);
+        calendar.getClosedDays(2027);
+
+        // when
+        clock.advance(Duration.ofDays(2));
+
+        // then
+        assertThat(calendar.getClosedDays(2025)).contains(LocalDate.of(2025, 10, 6));
+        assertThat(calendar.getClosedDays(2027)).contains(LocalDate.of(2027, 1, 1));
+        verify(dayOffService, never()).refreshHolidays(2025);
+        verify(dayOffService, times(1)).refreshHolidays(2027);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SEOUL;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.stock.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    private static long elapsedMillis(long startNanos) {
+        return Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+    }
+
+    @Test
+    @DisplayName("초당 허용 수가 0 이하이거나 burst 가 1 미만이면 예외")
+    void invalidArgumentTest() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(-1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("burst 만큼은 대기 없이 바로 획득")
+    void burstTest() throws InterruptedException {
+        // given: 초당 1 개라 burst 이후라면 1 초씩 대기
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 5);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+        }
+
+        // then
+        assertThat(elapsedMillis(start)).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("burst 를 다 쓰면 초당 허용 수에 맞춰 대기")
+    void rateTest() throws InterruptedException {
+        // given: 20ms 마다 토큰 1 개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 1);
+
+        // when: 첫 토큰 이후 10 번 대기
+        long start = System.nanoTime();
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire();
+        }
+
+        // then
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 함께 호출해도 전체 호출 속도가 제한됨")
+    void concurrentTest() throws InterruptedException {
+        // given: 4 개 스레드가 각각 5 번씩 획득
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(50, 1);
+        List<Thread> threads = new ArrayList<>();
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 4; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    for (int j = 0; j < 5; j++) {
+                        limiter.acquire();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then: 첫 토큰 이후 19 번 대기
+        assertThat(elapsedMillis(start)).isGreaterThanOrEqualTo(340);
+    }
+
+    @Test
+    @DisplayName("대기 중 인터럽트되면 예외를 던지고 예약한 토큰을 돌려줌")
+    void interruptRefundsTokenTest() throws InterruptedException {
+        // given: burst 를 다 쓴 상태, 100ms 마다 토큰 1 개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1);
+        limiter.acquire();
+
+        // when: 인터럽트된 상태로 획득하면 대기 없이 실패
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(limiter::acquire).isInstanceOf(InterruptedException.class);
+        assertThat(Thread.interrupted()).isFalse();
+
+        // then: 취소된 예약이 남아 있으면 200ms 를 기다려야 함
+        long start = System.nanoTime();
+        limiter.acquire();
+        assertThat(elapsedMillis(start)).isLessThan(170);
+    }
+}
@@ -0,0 +1,135 @@
+package com.stock.common.utils;
+
+import com.stock.common.model.ApiBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class XmlStreamParserTest {
+
+    // 벤치마크와 같은 getStockPriceInfo 응답 한 페이지 (src/jmh/resources)
+    private static final String FIXTURE = "/fixtures/stock-price-page.xml";
+
+    private static InputStream xml(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 파서가 맵을 재사용하므로 복사하여 보관
+    private static ApiBody<Map<String, String>> parse(InputStream input) throws IOException {
+        return XmlStreamParser.parseItems(input, HashMap::new);
+    }
+
+    @Test
+    @DisplayName("픽스처 페이지 - 헤더 건수와 item 의 단일 값 태그를 순서대로 읽음")
+    void fixtureTest() throws IOException {
+        // when
+        ApiBody<Map<String, String>> body;
+        try (InputStream input = XmlStreamParserTest.class.getResourceAsStream(FIXTURE)) {
+            assertThat(input).as("fixture " + FIXTURE).isNotNull();
+            body = parse(input);
+        }
+
+        // then
+        assertThat(body.getNumOfRows()).isEqualTo(500);
+        assertThat(body.getPageNo()).isEqualTo(1);
+        assertThat(body.getTotalCount()).isEqualTo(2753);
+        assertThat(body.getItemList())
+                .extracting(item -> item.get("srtnCd"), item -> item.get("itmsNm"), item -> item.get("clpr"), item -> item.get("vs"))
+                .containsExactly(
+                        tuple("005930", "삼성전자", "79600", "1100"),
+                        tuple("000660", "SK하이닉스", "142400", "1800"),
+                        tuple("035420", "NAVER", "230000", "6000"),
+                        tuple("247540", "에코프로비엠", "296500", "-3000"));
+        // item 밖의 헤더 태그는 item 값에 섞이지 않음
+        assertThat(body.getItemList().get(0)).doesNotContainKeys("resultCode", "numOfRows", "item", "items");
+    }
+
+    @Test
+    @DisplayName("item 에 없는 태그는 빈 문자열, 빈 태그도 빈 문자열")
+    void missingTagTest() throws IOException {
+        // given
+        String response = """
+                <response><body><items>
+                    <item><srtnCd>005930</srtnCd><clpr></clpr><itmsNm><![CDATA[삼성전자 & 우]]></itmsNm></item>
+                </items></body></response>
+                """;
+
+        // when
+        Map<String, String> item = parse(xml(response)).getItemList().get(0);
+
+        // then
+        assertThat(XmlStreamParser.valueOf(item, "srtnCd")).isEqualTo("005930");
+        assertThat(XmlStreamParser.valueOf(item, "clpr")).isEmpty();
+        assertThat(XmlStreamParser.valueOf(item, "mrktTotAmt")).isEmpty();
+        assertThat(XmlStreamParser.valueOf(item, "itmsNm")).isEqualTo("삼성전자 & 우");
+    }
+
+    @Test
+    @DisplayName("헤더 태그가 없거나 숫자가 아니면 건수는 0")
+    void missingHeaderTest() throws IOException {
+        // given
+        String response = """
+                <response><body><pageNo>x</pageNo><items>
+                    <item><srtnCd>005930</srtnCd></item>
+                </items></body></response>
+                """;
+
+        // when
+        ApiBody<Map<String, String>> body = parse(xml(response));
+
+        // then
+        assertThat(body.getNumOfRows()).isZero();
+        assertThat(body.getPageNo()).isZero();
+        assertThat(body.getTotalCount()).isZero();
+        assertThat(body.getItemList()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("오류 응답(cmmMsgHeader)은 오류 메시지와 함께 예외")
+    void errorResponseTest() {
+        // given
+        String response = """
+                <OpenAPI_ServiceResponse>
+                    <cmmMsgHeader>
+                        <errMsg>SERVICE ERROR</errMsg>
+                        <returnAuthMsg>SERVICE_KEY_IS_NOT_REGISTERED_ERROR</returnAuthMsg>
+                        <returnReasonCode>30</returnReasonCode>
+                    </cmmMsgHeader>
+                </OpenAPI_ServiceResponse>
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> parse(xml(response)))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("API 오류: SERVICE ERROR - SERVICE_KEY_IS_NOT_REGISTERED_ERROR");
+    }
+
+    @Test
+    @DisplayName("빈 응답이나 item 이 없는 응답은 빈 목록")
+    void emptyBodyTest() throws IOException {
+        assertThat(parse(null).getItemList()).isEmpty();
+        assertThat(parse(xml("")).getItemList()).isEmpty();
+
+        ApiBody<Map<String, String>> noItems = parse(xml("<response><body><totalCount>0</totalCount><items/></body></response>"));
+        assertThat(noItems.getItemList()).isEmpty();
+        assertThat(noItems.getTotalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 XML 은 IOException")
+    void malformedTest() {
+        assertThatThrownBy(() -> parse(xml("<response><body><items><item><srtnCd>005930</item>")))
+                .isInstanceOf(IOException.class)
+                .hasMessageStartingWith("Malformed XML response");
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.client.RestClient;
 
@@ -43,6 +44,7 @@ public class CorpInfoBatch {
     private final CorpInfoService corpInfoService;
     private final RestClient restClient;
     private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Value("${dart.api-key}")
     private String dartApiKey;
@@ -57,6 +59,8 @@ public class CorpInfoBatch {
                     public void afterJob(JobExecution jobExecution) {
                         if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
                             cacheManager.getCache("corpCache").clear();
+                            // 전략 서비스의 백테스트 결과 캐시/팩터 사전 계산이 바뀐 기업 정보를 반영하도록 데이터 버전 증가
+                            stringRedisTemplate.opsForValue().increment(CORP_DATA_VERSION_KEY);
                             log.info("corpCache evicted after corpDataJob completion");
                         }
                     }
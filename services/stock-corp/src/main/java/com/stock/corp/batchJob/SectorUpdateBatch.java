@@ -24,10 +24,13 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Collections;
 
+import static com.stock.common.consts.ApplicationConstants.CORP_DATA_VERSION_KEY;
+
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -39,6 +42,7 @@ public class SectorUpdateBatch {
     private final CorpDetailRepository corpDetailRepository;
     private final DartClient dartClient;
     private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Bean
     public Job sectorUpdateJob() {
@@ -49,6 +53,8 @@ public class SectorUpdateBatch {
                     public void afterJob(JobExecution jobExecution) {
                         if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
                             cacheManager.getCache("corpCache").clear();
+                            // 전략 서비스의 백테스트 결과 캐시/팩터 사전 계산이 바뀐 기업 정보를 반영하도록 데이터 버전 증가
+                            stringRedisTemplate.opsForValue().increment(CORP_DATA_VERSION_KEY);
                             log.info("corpCache evicted after sectorUpdateJob completion");
                         }
                     }
@@ -6,6 +6,7 @@ import com.stock.corp.entity.CorpInfo;
 import com.stock.corp.mapper.CorpInfoMapper;
 import com.stock.common.consts.ApplicationConstants;
 import com.stock.common.model.ApiBody;
+import com.stock.common.util.TokenBucketRateLimiter;
 import com.stock.corp.repository.CorpInfoRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ public class CorpInfoService {
     String serviceKey;
 
     private final RestClient restClient;
+    private final TokenBucketRateLimiter dataGoRateLimiter;
     private final CorpInfoRepository corpInfoRepository;
     private final CorpInfoMapper corpInfoMapper;
 
@@ -54,13 +56,17 @@ public class CorpInfoService {
                     .queryParam("basDt", basDt)
                     .build();
 
-            String responseBody = restClient.get()
-                    .uri(uri.toUri())
-                    .retrieve()
-                    .body(String.class);
-
+            // 응답 문자열을 만들지 않고 응답 스트림에서 바로 파싱
             try {
-                ApiBody<CorpInfo> result = parseCorpInfoFromXml(responseBody);
+                dataGoRateLimiter.acquire();
+                ApiBody<CorpInfo> result = restClient.get()
+                        .uri(uri.toUri())
+                        .exchange((request, response) -> {
+                            if (response.getStatusCode().isError()) {
+                                throw new IllegalStateException("API 응답 오류: " + response.getStatusCode());
+                            }
+                            return parseCorpInfoFromXml(response.getBody());
+                        });
                 log.debug("pageNum : {} totalPage : {}" , pageNum, totalPage);
                 if(pageNum == 1){
                     totalPage = (int) Math.ceil((double) result.getTotalCount() / ApplicationConstants.PAGE_SIZE);
@@ -68,7 +74,7 @@ public class CorpInfoService {
                 corpList.addAll(result.getItemList());
                 pageNum++;
             } catch (Exception e) {
-                log.error("Failed to parse XML response: {}", responseBody);
+                log.error("Failed to parse XML response page {}: {}", pageNum, e.getMessage());
                 throw e;
             }
         }
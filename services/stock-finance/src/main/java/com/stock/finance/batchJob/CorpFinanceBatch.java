@@ -29,6 +29,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import com.stock.common.utils.DateUtils;
 
+import static com.stock.common.consts.ApplicationConstants.FINANCE_DATA_VERSION_KEY;
 import static com.stock.common.consts.ApplicationConstants.STOCK_FINANCE_CHUNK_SIZE;
 
 @Slf4j
@@ -52,6 +54,7 @@ public class CorpFinanceBatch {
     private final CorpFinanceService corpFinanceService;
     private final FinanceValidationService financeValidationService;
     private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Bean
     @StepScope
@@ -80,6 +83,8 @@ public class CorpFinanceBatch {
                             if (cacheManager.getCache("universeCache") != null) {
                                 cacheManager.getCache("universeCache").clear();
                             }
+                            // 전략 서비스의 백테스트 결과 캐시가 이전 재무 데이터로 계산된 결과를 재사용하지 않도록 데이터 버전 증가
+                            stringRedisTemplate.opsForValue().increment(FINANCE_DATA_VERSION_KEY);
                             log.info("Finance and Universe caches evicted after corpFinanceJob completion");
                         }
                     }
@@ -98,6 +103,15 @@ public class CorpFinanceBatch {
     public Job recalculateIndicatorsJob() {
         return new JobBuilder("recalculateIndicatorsJob", jobRepository)
                 .start(recalculateIndicatorsStep())
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                            stringRedisTemplate.opsForValue().increment(FINANCE_DATA_VERSION_KEY);
+                            log.info("Finance data version bumped after recalculateIndicatorsJob completion");
+                        }
+                    }
+                })
                 .build();
     }
 
@@ -2,9 +2,11 @@ package com.stock.price.batchJob;
 
 import com.stock.common.consts.ApplicationConstants;
 import com.stock.price.batchJob.itemReader.AdjustedPriceItemReader;
+import com.stock.price.batchJob.itemReader.AllStockCodeItemReader;
 import com.stock.price.batchJob.itemReader.CorpEventItemReader;
 import com.stock.price.batchJob.itemReader.StockIndicatorItemReader;
 import com.stock.price.batchJob.itemReader.StockPriceItemReader;
+import com.stock.price.client.StockPriceClient;
 import com.stock.price.entity.StockPrice;
 import com.stock.price.repository.StockPriceRepository;
 import com.stock.price.service.*;
@@ -17,9 +19,7 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.data.RepositoryItemReader;
 import org.springframework.batch.item.data.RepositoryItemWriter;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
 import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,7 +27,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -43,15 +43,20 @@ import com.stock.common.utils.DateUtils;
 @RequiredArgsConstructor
 public class StockPriceBatch {
 
+    // 지표 전체 재계산 시 한 청크(트랜잭션)에서 처리할 종목 수
+    private static final int INDICATOR_RECALCULATION_CHUNK_SIZE = 10;
+
     private final JobRepository jobRepository;
     private final StockPriceRepository stockPriceRepository;
     private final PlatformTransactionManager platformTransactionManager;
-    private final StockService stockService;
+    private final StockPriceClient stockPriceClient;
     private final TechnicalIndicatorService technicalIndicatorService;
     private final MarketCapRankService marketCapRankService;
+    private final MarketIndexService marketIndexService;
     private final CorpEventService corpEventService;
     private final AdjustedPriceService adjustedPriceService;
     private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
 
     @Bean
     public TaskExecutor batchTaskExecutor() {
@@ -71,6 +76,12 @@ public class StockPriceBatch {
         return new CorpEventItemReader(stockPriceRepository);
     }
 
+    @Bean
+    @StepScope
+    public AllStockCodeItemReader allStockCodeItemReader() {
+        return new AllStockCodeItemReader(stockPriceRepository);
+    }
+
     @Bean
     @StepScope
     public AdjustedPriceItemReader adjustedPriceItemReader() {
@@ -86,7 +97,7 @@ public class StockPriceBatch {
     @Bean
     @StepScope
     public StockPriceItemReader stockApiItemReader() {
-        return new StockPriceItemReader(stockService);
+        return new StockPriceItemReader(stockPriceClient);
     }
 
     @Bean
@@ -94,6 +105,7 @@ public class StockPriceBatch {
         return new JobBuilder("stockDataJob", jobRepository)
                 .start(stockDataStep())
                 .next(calculateRankStep())
+                .next(calculateMarketIndexStep())
                 .next(corpEventStep())
                 .next(calculateAdjPriceStep())
                 .next(calculateIndicatorStep())
@@ -108,6 +120,8 @@ public class StockPriceBatch {
                             if (cacheManager.getCache("universeCache") != null) {
                                 cacheManager.getCache("universeCache").clear();
                             }
+                            // 전략 서비스의 백테스트 결과 캐시가 이전 시세로 계산된 결과를 재사용하지 않도록 데이터 버전 증가
+                            stringRedisTemplate.opsForValue().increment(ApplicationConstants.PRICE_DATA_VERSION_KEY);
                             log.info("Price and Universe caches evicted after stockDataJob completion");
                         }
                     }
@@ -120,6 +134,7 @@ public class StockPriceBatch {
         return new JobBuilder("stockPriceRecoveryJob", jobRepository)
                 .start(stockDataStep()) // 1. 일별 데이터 수집/업데이트
                 .next(calculateRankStep())
+                .next(calculateMarketIndexStep())
                 .next(calculateIndicatorStep()) // 지표 계산 추가
                 .next(weeklyStockDataStep) // 2. 주간 데이터 집계/업데이트
                 .next(monthlyStockDataStep) // 3. 월간 데이터 집계/업데이트
@@ -133,6 +148,8 @@ public class StockPriceBatch {
                             if (cacheManager.getCache("universeCache") != null) {
                                 cacheManager.getCache("universeCache").clear();
                             }
+                            // 전략 서비스의 백테스트 결과 캐시가 이전 시세로 계산된 결과를 재사용하지 않도록 데이터 버전 증가
+                            stringRedisTemplate.opsForValue().increment(ApplicationConstants.PRICE_DATA_VERSION_KEY);
                             log.info("Price and Universe caches evicted after stockPriceRecoveryJob completion");
                         }
                     }
@@ -144,26 +161,37 @@ public class StockPriceBatch {
     public Job recalculateIndicatorsJob() {
         return new JobBuilder("recalculateIndicatorsJob", jobRepository)
                 .start(recalculateAllIndicatorsStep())
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                            stringRedisTemplate.opsForValue().increment(ApplicationConstants.PRICE_DATA_VERSION_KEY);
+                            log.info("Price data version bumped after recalculateIndicatorsJob completion");
+                        }
+                    }
+                })
                 .build();
     }
 
+    /**
+     * 종목마다 전체 이력을 날짜순으로 한 번 순회하며 지표를 다시 계산합니다.
+     * 종목 하나의 전체 이력이 한 트랜잭션에 올라가므로 청크는 종목 수 기준으로 작게 유지합니다.
+     */
     @Bean
     public Step recalculateAllIndicatorsStep() {
         return new StepBuilder("recalculateAllIndicatorsStep", jobRepository)
-                .<StockPrice, StockPrice>chunk(ApplicationConstants.STOCK_PRICE_CHUNK_SIZE, platformTransactionManager)
-                .reader(allStockPriceItemReader())
-                .processor(indicatorItemProcessor())
-                .writer(stockItemWriter())
-                .build();
-    }
-
-    @Bean
-    public RepositoryItemReader<StockPrice> allStockPriceItemReader() {
-        return new RepositoryItemReaderBuilder<StockPrice>()
-                .name("allStockPriceItemReader")
-                .repository(stockPriceRepository)
-                .methodName("findAll")
-                .sorts(Map.of("id", Sort.Direction.ASC))
+                .<String, String>chunk(INDICATOR_RECALCULATION_CHUNK_SIZE, platformTransactionManager)
+                .reader(allStockCodeItemReader())
+                .writer(chunk -> {
+                    for (String code : chunk) {
+                        try {
+                            technicalIndicatorService.recalculateIndicators(code);
+                        } catch (Exception e) {
+                            log.error("Failed to recalculate indicators for {}: {}", code, e.getMessage());
+                        }
+                    }
+                })
+                .taskExecutor(batchTaskExecutor())
                 .build();
     }
 
@@ -190,6 +218,18 @@ public class StockPriceBatch {
                 .build();
     }
 
+    @Bean
+    public Step calculateMarketIndexStep() {
+        return new StepBuilder("calculateMarketIndexStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    String jobDate = (String) chunkContext.getStepContext().getJobParameters().get("date");
+                    LocalDate date = DateUtils.toStringLocalDate(jobDate);
+                    marketIndexService.calculateAndSaveMarketIndices(date);
+                    return RepeatStatus.FINISHED;
+                }, platformTransactionManager)
+                .build();
+    }
+
     @Bean
     public Step corpEventStep() {
         return new StepBuilder("corpEventStep", jobRepository)
@@ -240,16 +280,11 @@ public class StockPriceBatch {
     @Bean
     public ItemProcessor<StockPrice, StockPrice> indicatorItemProcessor() {
         return item -> {
-            List<StockPrice> history = stockPriceRepository.findTop300ByStockCodeAndBasDtBeforeOrderByBasDtDesc(
-                    item.getStockCode(), item.getBasDt());
-
-            if (history.size() < 300) {
-                log.warn("Insufficient history data for stock: {}. Required: 300, Found: {}", item.getStockCode(), history.size());
+            if (!technicalIndicatorService.updateIndicators(item)) {
+                log.warn("Insufficient history data for stock: {}. Required: {}",
+                        item.getStockCode(), TechnicalIndicatorService.REQUIRED_HISTORY);
                 return null;
             }
-
-            technicalIndicatorService.calculateAndFillIndicators(item, history);
-            
             return item;
         };
     }
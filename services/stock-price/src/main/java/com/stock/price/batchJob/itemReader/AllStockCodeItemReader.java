@@ -0,0 +1,37 @@
+package com.stock.price.batchJob.itemReader;
+
+import com.stock.price.repository.StockPriceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemReader;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 시세가 있는 전체 종목 코드를 읽습니다. 종목 단위로 전체 이력을 처리하는 재계산 작업에서 사용합니다.
+ */
+@RequiredArgsConstructor
+public class AllStockCodeItemReader implements ItemReader<String> {
+
+    private final StockPriceRepository stockPriceRepository;
+    private Iterator<String> stockCodeIterator;
+    private boolean dataFetched = false;
+
+    @Override
+    public synchronized String read() throws Exception {
+        if (!dataFetched) {
+            List<String> stockCodes = stockPriceRepository.findDistinctStockCodes();
+
+            if (stockCodes != null && !stockCodes.isEmpty()) {
+                stockCodeIterator = stockCodes.iterator();
+            }
+            dataFetched = true;
+        }
+
+        if (stockCodeIterator != null && stockCodeIterator.hasNext()) {
+            return stockCodeIterator.next();
+        }
+
+        return null;
+    }
+}
@@ -1,28 +1,46 @@
 package com.stock.price.batchJob.itemReader;
 
+import com.stock.price.client.StockPriceClient;
 import com.stock.price.entity.StockPrice;
 import com.stock.common.enums.StockMarket;
-import com.stock.price.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import com.stock.common.utils.DateUtils;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+/**
+ * 최근 7일 시세를 API 에서 조회하여 읽는 Reader.
+ * 날짜별 조회를 가상 스레드로 동시에 시작하고, 모든 페이지를 받은 날짜부터 제한된 크기의 큐로 넘겨 다른 날짜 조회가 끝나기 전부터 처리합니다.
+ * 한 페이지라도 실패한 날짜는 일부 페이지만 저장되지 않도록 통째로 건너뛰며, 다음 실행의 7일 구간에서 다시 수집됩니다.
+ * 스텝이 먼저 끝나면(close) 남은 조회를 중단하고 대기 중인 read 는 null 을 반환합니다.
+ */
 @Slf4j
 @RequiredArgsConstructor
-public class StockPriceItemReader implements ItemReader<StockPrice> {
+public class StockPriceItemReader implements ItemStreamReader<StockPrice> {
+
+    private static final int COLLECT_DAYS = 7;
 
-    private final StockService stockService;
-    private Iterator<StockPrice> stockIterator;
-    private boolean dataFetched = false;
+    // 모든 날짜 조회가 끝났음을 알리는 표식 (동일 객체 비교)
+    private static final List<StockPrice> END_OF_DAYS = new ArrayList<>();
+
+    private final StockPriceClient stockPriceClient;
+
+    private BlockingQueue<List<StockPrice>> days;
+    private volatile Thread producer;
+    private volatile boolean closed = false;
+    private Iterator<StockPrice> dayIterator = Collections.emptyIterator();
+    private boolean finished = false;
 
     // @Value를 사용하여 JobParameter 받기
     @Value("#{jobParameters['date']}")
@@ -31,36 +49,80 @@ public class StockPriceItemReader implements ItemReader<StockPrice> {
     @Value("#{jobParameters['market']}")
     private String jobMarket;
 
+    // 조회가 처리보다 빠를 때 메모리에 쌓아 둘 최대 날짜 수 (날짜별 전체 시세)
+    @Value("${data-go.price-fetch.queue-capacity:8}")
+    private int queueCapacity;
+
     @Override
     public synchronized StockPrice read() throws Exception {
-        if (!dataFetched) {
-            List<StockPrice> allPrices = new ArrayList<>();
-            LocalDate endDate = DateUtils.toStringLocalDate(jobDate);
-            // Collect for last 7 days
-            for (int i = 0; i < 7; i++) {
-                LocalDate targetDate = endDate.minusDays(i);
-                String targetBasDt = DateUtils.toLocalDateString(targetDate);
-                try {
-                    List<StockPrice> dailyPrices = stockService.getStockPrice(StockMarket.valueOf(jobMarket), targetBasDt);
-                    if (dailyPrices != null && !dailyPrices.isEmpty()) {
-                        allPrices.addAll(dailyPrices);
-                        log.info("Fetched {} prices for date {}", dailyPrices.size(), targetBasDt);
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to fetch prices for date {}: {}", targetBasDt, e.getMessage());
-                }
+        if (closed) {
+            return null;
+        }
+        if (producer == null) {
+            startFetching();
+        }
+
+        while (!dayIterator.hasNext()) {
+            if (finished || closed) {
+                return null;
             }
-            
-            if (!allPrices.isEmpty()) {
-                stockIterator = allPrices.iterator();
+            List<StockPrice> day = days.take();
+            if (day == END_OF_DAYS) {
+                finished = true;
+                return null;
             }
-            dataFetched = true;
+            dayIterator = day.iterator();
         }
+        return dayIterator.next();
+    }
 
-        if (stockIterator != null && stockIterator.hasNext()) {
-            return stockIterator.next();
+    @Override
+    public void close() {
+        // 스텝이 먼저 끝나면 남은 조회 중단
+        closed = true;
+        if (producer != null && producer.isAlive()) {
+            producer.interrupt();
         }
+    }
+
+    private void startFetching() {
+        days = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        StockMarket market = StockMarket.valueOf(jobMarket);
+        LocalDate endDate = DateUtils.toStringLocalDate(jobDate);
+
+        producer = Thread.ofVirtual().name("stock-price-fetch-" + market).start(() -> {
+            List<Thread> fetchers = new ArrayList<>(COLLECT_DAYS);
+            try {
+                // Collect for last 7 days
+                for (int i = 0; i < COLLECT_DAYS; i++) {
+                    String targetBasDt = DateUtils.toLocalDateString(endDate.minusDays(i));
+                    fetchers.add(Thread.ofVirtual().start(() -> fetchDay(market, targetBasDt)));
+                }
+                for (Thread fetcher : fetchers) {
+                    fetcher.join();
+                }
+                days.put(END_OF_DAYS);
+            } catch (InterruptedException e) {
+                // 중단: 남은 조회를 멈추고, 읽지 않은 날짜는 버린 뒤 대기 중인 read 를 깨움
+                fetchers.forEach(Thread::interrupt);
+                do {
+                    days.clear();
+                } while (!days.offer(END_OF_DAYS));
+            }
+        });
+    }
 
-        return null;
+    private void fetchDay(StockMarket market, String targetBasDt) {
+        try {
+            List<StockPrice> prices = stockPriceClient.fetchStockPrice(market, targetBasDt);
+            if (!prices.isEmpty()) {
+                days.put(prices);
+                log.info("Fetched {} prices for date {}", prices.size(), targetBasDt);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Skipping prices for date {}: {}", targetBasDt, e.getMessage());
+        }
     }
 }
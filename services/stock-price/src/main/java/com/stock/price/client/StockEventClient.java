@@ -2,6 +2,7 @@ package com.stock.price.client;
 
 import com.stock.common.consts.ApplicationConstants;
 import com.stock.common.dto.StockIssuanceInfoDto;
+import com.stock.common.util.TokenBucketRateLimiter;
 import com.stock.common.utils.ParseUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ public class StockEventClient {
     private String serviceKey;
 
     private final RestClient restClient;
+    private final TokenBucketRateLimiter dataGoRateLimiter;
 
     public List<StockIssuanceInfoDto> getIssuanceInfo(String stockCode) {
         List<StockIssuanceInfoDto> result = new ArrayList<>();
@@ -50,6 +52,7 @@ public class StockEventClient {
                     .build()
                     .toUri();
 
+            dataGoRateLimiter.acquire();
             String responseXml = restClient.get()
                     .uri(uri)
                     .accept(MediaType.APPLICATION_XML, MediaType.TEXT_XML)
@@ -58,6 +61,8 @@ public class StockEventClient {
 
             result = parseIssuanceInfo(responseXml);
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("Failed to fetch issuance info for {}: {}", stockCode, e.getMessage());
         }
@@ -0,0 +1,146 @@
+package com.stock.price.client;
+
+import com.stock.common.consts.ApplicationConstants;
+import com.stock.common.enums.StockMarket;
+import com.stock.common.model.ApiBody;
+import com.stock.common.util.TokenBucketRateLimiter;
+import com.stock.price.entity.StockPrice;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static com.stock.price.utils.StockParseUtils.parseStockPriceFromXml;
+
+/**
+ * 공공데이터포털 주식 시세 페이지 조회 클라이언트.
+ * <p>
+ * 첫 페이지로 전체 건수를 확인한 뒤 나머지 페이지를 가상 스레드로 동시에 조회한다.
+ * 서비스 키 단위 호출 속도는 다른 data.go.kr 조회와 공유하는 토큰 버킷(dataGoRateLimiter)으로,
+ * 동시 요청 수는 세마포어로 제한하며 페이지마다 지수 백오프로 재시도한다.
+ */
+@Slf4j
+@Component
+public class StockPriceClient {
+
+    private final RestClient restClient;
+    private final String serviceKey;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public StockPriceClient(RestClient restClient,
+                            @Value("${data-go.service-key}") String serviceKey,
+                            TokenBucketRateLimiter dataGoRateLimiter,
+                            @Value("${data-go.price-fetch.concurrency:4}") int concurrency,
+                            @Value("${data-go.price-fetch.max-attempts:3}") int maxAttempts,
+                            @Value("${data-go.price-fetch.backoff-millis:500}") long backoffMillis) {
+        this.restClient = restClient;
+        this.serviceKey = serviceKey;
+        this.rateLimiter = dataGoRateLimiter;
+        this.permits = new Semaphore(Math.max(1, concurrency));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 시장/기준일의 전체 시세를 페이지 순서대로 조회합니다.
+     * 한 페이지라도 재시도 후 실패하면 남은 페이지 조회를 취소하고 예외를 던지므로, 일부 페이지만 반환하는 경우는 없습니다.
+     */
+    public List<StockPrice> fetchStockPrice(StockMarket market, String basDt) throws Exception {
+        ApiBody<StockPrice> first = fetchPage(market, basDt, 1);
+
+        int totalPage = (int) Math.ceil((double) first.getTotalCount() / ApplicationConstants.PAGE_SIZE);
+        if (totalPage <= 1) {
+            return first.getItemList();
+        }
+
+        List<Future<List<StockPrice>>> pages = new ArrayList<>(totalPage - 1);
+        for (int pageNo = 2; pageNo <= totalPage; pageNo++) {
+            int page = pageNo;
+            pages.add(executor.submit(() -> fetchPage(market, basDt, page).getItemList()));
+        }
+
+        List<StockPrice> rows = new ArrayList<>(first.getTotalCount());
+        rows.addAll(first.getItemList());
+        try {
+            for (Future<List<StockPrice>> page : pages) {
+                rows.addAll(page.get());
+            }
+        } catch (ExecutionException e) {
+            pages.forEach(page -> page.cancel(true));
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } catch (InterruptedException e) {
+            pages.forEach(page -> page.cancel(true));
+            throw e;
+        }
+        log.debug("Fetched {} pages ({} rows) for {} {}", totalPage, rows.size(), market, basDt);
+        return rows;
+    }
+
+    private ApiBody<StockPrice> fetchPage(StockMarket market, String basDt, int pageNo) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            permits.acquire();
+            try {
+                return requestPage(market, basDt, pageNo);
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Failed to fetch {} {} page {} after {} attempts: {}", market, basDt, pageNo, attempt, e.getMessage());
+                    throw e;
+                }
+                log.warn("Retrying {} {} page {} (attempt {}): {}", market, basDt, pageNo, attempt, e.getMessage());
+            } finally {
+                permits.release();
+            }
+            Thread.sleep(backoffMillis << (attempt - 1));
+        }
+    }
+
+    private ApiBody<StockPrice> requestPage(StockMarket market, String basDt, int pageNo) {
+        URI uri = UriComponentsBuilder
+                .newInstance()
+                .scheme("http")
+                .host(ApplicationConstants.API_GO_URL)
+                .path(ApplicationConstants.KRX_STOCK_VALUE_URI)
+                .queryParam("serviceKey", URLDecoder.decode(serviceKey, StandardCharsets.UTF_8))
+                .queryParam("numOfRows", ApplicationConstants.PAGE_SIZE)
+                .queryParam("pageNo", pageNo)
+                .queryParam("mrktCls", market.name())
+                .queryParam("basDt", basDt)
+                .build()
+                .toUri();
+
+        log.debug("Request {} {} page {}", market, basDt, pageNo);
+
+        // 응답 문자열을 만들지 않고 응답 스트림에서 바로 파싱
+        return restClient.get()
+                .uri(uri)
+                .exchange((request, response) -> {
+                    if (response.getStatusCode().isError()) {
+                        throw new IllegalStateException("API 응답 오류: " + response.getStatusCode());
+                    }
+                    return parseStockPriceFromXml(response.getBody());
+                });
+    }
+}
@@ -36,6 +36,7 @@ public class RedisConfig {
                 .withCacheConfiguration("latestPriceCache", config.entryTtl(Duration.ofMinutes(10)))
                 .withCacheConfiguration("priceCache", config.entryTtl(Duration.ofHours(6)))
                 .withCacheConfiguration("historyPriceCache", config.entryTtl(Duration.ofHours(6)))
+                .withCacheConfiguration("holidayCache", config.entryTtl(Duration.ofDays(30)))
                 .build();
     }
 }
@@ -1,16 +1,28 @@
 package com.stock.price.controller;
 
+import com.stock.common.dto.MarketIndexDto;
+import com.stock.common.dto.PricePanelRequest;
 import com.stock.common.dto.StockPriceDto;
+import com.stock.common.enums.IndexWeighting;
+import com.stock.price.service.MarketIndexService;
+import com.stock.price.service.PricePanelStreamService;
 import com.stock.price.service.StockService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/internal")
 public class StockInternalController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final StockService stockService;
+    private final PricePanelStreamService pricePanelStreamService;
+    private final MarketIndexService marketIndexService;
 
     @GetMapping("/price/latest/{stockCode}")
     public StockPriceDto getLatestStockPrice(@PathVariable String stockCode) {
@@ -39,8 +51,32 @@ public class StockInternalController {
         return stockService.getPricesByDateBatch(stockCodes, date);
     }
 
+    /**
+     * 다종목 × 기간 시세를 NDJSON 으로 스트리밍 (종목코드, 기준일 순 정렬)
+     */
+    @PostMapping("/prices/panel")
+    public ResponseEntity<StreamingResponseBody> streamPricePanel(@RequestBody PricePanelRequest request) {
+        StreamingResponseBody body = out -> pricePanelStreamService.streamPanel(
+                request.getStockCodes(), request.getStartDate(), request.getEndDate(), out);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/indicators/batch")
     public java.util.List<com.stock.common.dto.StockIndicatorDto> getIndicatorsByDateBatch(@RequestParam java.util.List<String> stockCodes, @RequestParam String date) {
         return stockService.getIndicatorsByDateBatch(stockCodes, date);
     }
+
+    /**
+     * 시장 지수 일별 시계열 (기준일 오름차순). 날짜는 yyyyMMdd
+     */
+    @GetMapping("/index/{marketCode}")
+    public java.util.List<MarketIndexDto> getMarketIndex(
+            @PathVariable String marketCode,
+            @RequestParam(name = "weighting", defaultValue = "CAP") IndexWeighting weighting,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        return marketIndexService.getIndexSeries(marketCode, weighting, startDate, endDate);
+    }
 }
@@ -39,4 +39,8 @@ public class CorpEventHistory {
 
     @Column(name = "description")
     private String description;
+
+    //마지막 수정주가 계산에서 이벤트일 이전 시세에 적용한 누적 수정계수
+    @Column(name = "cumulative_factor")
+    private BigDecimal cumulativeFactor;
 }
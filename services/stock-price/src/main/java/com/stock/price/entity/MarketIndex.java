@@ -0,0 +1,53 @@
+package com.stock.price.entity;
+
+import com.stock.common.enums.IndexWeighting;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "TB_MARKET_INDEX")
+public class MarketIndex {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    //주식시장 구분
+    @Column(name = "market_code")
+    private String marketCode;
+
+    //가중 방식 (CAP, EQUAL)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "weighting")
+    private IndexWeighting weighting;
+
+    //기준일
+    @Column(name = "bas_dt")
+    private LocalDate basDt;
+
+    //지수 값 (첫 산출일 1000 기준)
+    @Column(name = "index_value")
+    private BigDecimal indexValue;
+
+    //일간 수익률 (비율)
+    @Column(name = "daily_return")
+    private BigDecimal dailyReturn;
+
+    //구성 종목 수
+    @Column(name = "constituent_count")
+    private Integer constituentCount;
+
+    //구성 종목 시가총액 합계
+    @Column(name = "total_market_amt")
+    private BigDecimal totalMarketAmt;
+}
@@ -0,0 +1,45 @@
+package com.stock.price.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "TB_STOCK_INDICATOR_STATE")
+public class StockIndicatorState {
+
+    @Id
+    @Column(name = "stock_code")
+    private String stockCode;
+
+    //마지막으로 반영한 거래일
+    @Column(name = "bas_dt")
+    private LocalDate basDt;
+
+    //마지막으로 반영한 종가 (수정주가 우선). 이력이 바뀌었는지 확인하는 데 사용
+    @Column(name = "last_close")
+    private BigDecimal lastClose;
+
+    //반영한 거래일 수
+    @Column(name = "bar_count")
+    private Integer barCount;
+
+    //StreamingIndicatorEngine 직렬화 상태
+    @Lob
+    @Column(name = "state")
+    @lombok.ToString.Exclude
+    private byte[] state;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.stock.price.repository;
+
+import com.stock.common.enums.IndexWeighting;
+import com.stock.price.entity.MarketIndex;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MarketIndexRepository extends JpaRepository<MarketIndex, Long> {
+
+    Optional<MarketIndex> findByMarketCodeAndWeightingAndBasDt(String marketCode, IndexWeighting weighting, LocalDate basDt);
+
+    Optional<MarketIndex> findTopByMarketCodeAndWeightingAndBasDtBeforeOrderByBasDtDesc(String marketCode, IndexWeighting weighting, LocalDate basDt);
+
+    List<MarketIndex> findByMarketCodeAndWeightingAndBasDtBetweenOrderByBasDtAsc(String marketCode, IndexWeighting weighting,
+                                                                                LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,9 @@
+package com.stock.price.repository;
+
+import com.stock.price.entity.StockIndicatorState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockIndicatorStateRepository extends JpaRepository<StockIndicatorState, String> {
+}
@@ -20,10 +20,20 @@ public interface StockPriceRepository extends JpaRepository<StockPrice, Long> {
     
     Optional<StockPrice> findByStockCodeAndBasDt(String stockCode, LocalDate basDt);
 
+    // 지표 계산 상태 검증용 최근 거래일 (일별 수집이 다시 저장하는 구간). 검증 대상이므로 캐시하지 않음
+    List<StockPrice> findTop20ByStockCodeAndBasDtBeforeOrderByBasDtDesc(String stockCode, LocalDate basDt);
+
+    // 지표 계산 상태가 없거나 무효일 때 전체 이력 재계산용
+    List<StockPrice> findByStockCodeAndBasDtBeforeOrderByBasDtAsc(String stockCode, LocalDate basDt);
+
     List<StockPrice> findByStockCodeInAndBasDt(List<String> stockCodes, LocalDate basDt);
 
     List<StockPrice> findByStockCodeOrderByBasDtAsc(String stockCode);
 
+    // 지표 전체 재계산용: 지표를 함께 조회하여 행마다 지표를 다시 조회하지 않도록 함
+    @Query("SELECT s FROM StockPrice s LEFT JOIN FETCH s.stockIndicator WHERE s.stockCode = :stockCode ORDER BY s.basDt ASC")
+    List<StockPrice> findWithIndicatorByStockCodeOrderByBasDtAsc(@Param("stockCode") String stockCode);
+
     @Query("SELECT DISTINCT s.stockCode FROM StockPrice s WHERE s.basDt BETWEEN :startDate AND :endDate")
     List<String> findDistinctStockCodeByBasDtBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
@@ -2,72 +2,112 @@ package com.stock.price.service;
 
 import com.stock.common.enums.CorpEventType;
 import com.stock.price.entity.CorpEventHistory;
-import com.stock.price.entity.StockPrice;
 import com.stock.price.repository.CorpEventRepository;
-import com.stock.price.repository.StockPriceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdjustedPriceService {
 
-    private final StockPriceRepository stockPriceRepository;
+    // 누적 수정계수 자릿수 (TB_CORP_EVENT_HISTORY.cumulative_factor)
+    private static final int FACTOR_SCALE = 10;
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    // 구간 [fromDate, toDate) 의 수정주가 = 종가 × 누적 수정계수 (소수점 4자리 반올림)
+    // recompute 가 아니면 이미 반영된 구간이므로 수정주가가 없는(새로 들어온) 행만 계산하고, 값이 같은 행은 갱신하지 않음
+    private static final String UPDATE_SEGMENT_SQL = """
+            UPDATE TB_STOCK_PRICE
+               SET adj_close_price = ROUND(end_price * :factor, 4)
+             WHERE stock_code = :stockCode
+               AND bas_dt >= :fromDate
+               AND bas_dt < :toDate
+               AND end_price IS NOT NULL
+               AND (adj_close_price IS NULL
+                    OR (:recompute AND adj_close_price <> ROUND(end_price * :factor, 4)))
+            """;
+
     private final CorpEventRepository corpEventRepository;
+    private final TechnicalIndicatorService technicalIndicatorService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
+    /**
+     * 종목의 수정주가를 다시 계산합니다.
+     * 이벤트를 최신 -> 과거 순으로 한 번 훑으며 누적 수정계수를 구하고, 이벤트 사이 구간마다 UPDATE 한 건씩 JDBC 배치로 실행합니다.
+     * 누적 계수가 지난 실행과 같은 구간은 새로 들어온 시세만 계산하므로, 새 이벤트가 없으면 당일 시세만 갱신됩니다.
+     */
     @Transactional
     public void calculateAndSaveAdjustedPrices(String stockCode) {
-        // 1. 전체 주가 데이터 조회 (최신순)
-        List<StockPrice> prices = stockPriceRepository.findByStockCodeOrderByBasDtAsc(stockCode);
-        if (prices.isEmpty()) return;
-
-        // 2. 전체 이벤트 조회 (최신순)
-        List<CorpEventHistory> events = corpEventRepository.findAllByStockCodeOrderByEventDateDesc(stockCode);
-        
-        // 시간순(과거->미래) 처리를 위해 리스트 뒤집기 또는 날짜 비교 로직 구현
-        // 여기서는 "과거 데이터를 보정"하는 방식이므로, 최신->과거로 역순회하며 팩터를 누적 곱(Product)하는 방식이 효율적입니다.
-        // 하지만 직관적인 이해를 위해 Ta4j등 일반적인 방식인 "Factor를 적용하여 재계산"하는 방식을 씁니다.
-        
-        // 간단한 전략:
-        // 1. 기본 수정주가는 종가와 동일하게 초기화.
-        // 2. 이벤트 발생일 이전의 모든 데이터에 대해 수정 계수를 적용.
-        
-        // 초기화
-        for (StockPrice price : prices) {
-            if (price.getAdjClosePrice() == null) {
-                // endPrice is already BigDecimal
-                price.setAdjClosePrice(price.getEndPrice());
-            }
+        // 같은 날짜 이벤트는 한 번에 적용 (최신순)
+        Map<LocalDate, List<CorpEventHistory>> eventsByDate = new TreeMap<>(Comparator.reverseOrder());
+        for (CorpEventHistory event : corpEventRepository.findAllByStockCodeOrderByEventDateDesc(stockCode)) {
+            LocalDate eventDate = LocalDate.parse(event.getEventDate(), DateTimeFormatter.BASIC_ISO_DATE);
+            eventsByDate.computeIfAbsent(eventDate, date -> new ArrayList<>()).add(event);
         }
 
-        if (events.isEmpty()) return;
+        List<MapSqlParameterSource> segments = new ArrayList<>();
+        BigDecimal cumulative = BigDecimal.ONE;
+        boolean recompute = false;
+        LocalDate upper = MAX_DATE;
+        for (Map.Entry<LocalDate, List<CorpEventHistory>> entry : eventsByDate.entrySet()) {
+            segments.add(segment(stockCode, entry.getKey(), upper, cumulative, recompute));
 
-        for (CorpEventHistory event : events) {
-            LocalDate eventDate = LocalDate.parse(event.getEventDate(), DateTimeFormatter.BASIC_ISO_DATE);
-            BigDecimal factor = calculateAdjustmentFactor(event);
+            for (CorpEventHistory event : entry.getValue()) {
+                cumulative = cumulative.multiply(calculateAdjustmentFactor(event)).setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+            }
+            recompute = false;
+            for (CorpEventHistory event : entry.getValue()) {
+                if (event.getCumulativeFactor() == null || event.getCumulativeFactor().compareTo(cumulative) != 0) {
+                    recompute = true;
+                    event.setCumulativeFactor(cumulative);
+                }
+            }
+            upper = entry.getKey();
+        }
+        segments.add(segment(stockCode, MIN_DATE, upper, cumulative, recompute));
 
-            if (factor.compareTo(BigDecimal.ONE) == 0) continue;
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SEGMENT_SQL, segments.toArray(new SqlParameterSource[0]));
 
-            // 이벤트 발생일 '이전'의 모든 주가에 Factor 적용
-            for (StockPrice price : prices) {
-                if (price.getBasDt().isBefore(eventDate)) {
-                    BigDecimal currentAdj = price.getAdjClosePrice();
-                    // 소수점 4자리 반올림
-                    price.setAdjClosePrice(currentAdj.multiply(factor).setScale(4, java.math.RoundingMode.HALF_UP));
-                }
+        // 과거 수정주가가 바뀌면 저장된 지표 계산 상태로 이어서 계산할 수 없으므로 삭제
+        // (드라이버가 건수를 주지 않는 경우(SUCCESS_NO_INFO)도 바뀐 것으로 간주)
+        boolean historyChanged = false;
+        for (int i = 0; i < counts.length; i++) {
+            if (Boolean.TRUE.equals(segments.get(i).getValue("recompute")) && counts[i] != 0) {
+                historyChanged = true;
             }
         }
-        
-        // 일괄 저장 (Batch Update 권장되나 JPA Dirty Checking 활용)
-        // 성능 이슈 발생 시 JDBC Batch로 전환 필요
+        if (historyChanged) {
+            technicalIndicatorService.invalidateState(stockCode);
+        }
+        log.debug("Adjusted prices for {}: {} segments, history changed: {}", stockCode, segments.size(), historyChanged);
+    }
+
+    private static MapSqlParameterSource segment(String stockCode, LocalDate fromDate, LocalDate toDate,
+                                                 BigDecimal factor, boolean recompute) {
+        return new MapSqlParameterSource()
+                .addValue("stockCode", stockCode)
+                .addValue("fromDate", Date.valueOf(fromDate))
+                .addValue("toDate", Date.valueOf(toDate))
+                .addValue("factor", factor)
+                .addValue("recompute", recompute);
     }
 
     private BigDecimal calculateAdjustmentFactor(CorpEventHistory event) {
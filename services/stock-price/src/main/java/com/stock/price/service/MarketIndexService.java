@@ -0,0 +1,157 @@
+package com.stock.price.service;
+
+import com.stock.common.dto.MarketIndexDto;
+import com.stock.common.enums.IndexWeighting;
+import com.stock.common.enums.StockMarket;
+import com.stock.common.utils.DateUtils;
+import com.stock.price.entity.MarketIndex;
+import com.stock.price.entity.StockPrice;
+import com.stock.price.repository.MarketIndexRepository;
+import com.stock.price.repository.StockPriceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * TB_STOCK_PRICE 의 시가총액/등락률로 시장별 시가총액 가중, 동일 가중 지수를 일별로 산출합니다.
+ * <p>
+ * 구성 종목은 직전 산출일과 당일 모두 시세가 있는 종목이며, 종목 수익률은 등락률(daily_ratio)을 사용합니다.
+ * 시가총액 가중 수익률은 직전 산출일 시가총액을 가중치로 하고, 지수 값은 직전 지수 × (1 + 수익률)로 이어 붙입니다.
+ * 첫 산출일은 1000 에서 시작합니다. 과거 일자를 다시 산출하면 해당 일자만 갱신되므로 이후 일자는 순서대로 재산출해야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketIndexService {
+
+    private static final BigDecimal BASE_INDEX_VALUE = BigDecimal.valueOf(1000);
+    private static final List<StockMarket> INDEX_MARKETS = List.of(StockMarket.KOSPI, StockMarket.KOSDAQ);
+
+    private final StockPriceRepository stockPriceRepository;
+    private final MarketIndexRepository marketIndexRepository;
+
+    @Transactional
+    public void calculateAndSaveMarketIndices(LocalDate date) {
+        log.info("Calculating market indices for date: {}", date);
+        List<StockPrice> prices = stockPriceRepository.findByBasDt(date);
+
+        if (prices.isEmpty()) {
+            log.warn("No price data found for date: {}", date);
+            return;
+        }
+
+        // 직전 산출일 시세는 시장이 같은 날짜를 가리키는 경우가 대부분이므로 날짜별로 한 번만 조회
+        Map<LocalDate, Map<String, BigDecimal>> previousCaps = new HashMap<>();
+
+        for (StockMarket market : INDEX_MARKETS) {
+            String marketCode = market.name();
+            List<StockPrice> marketPrices = prices.stream()
+                    .filter(p -> marketCode.equals(p.getMarketCode()))
+                    .toList();
+            if (marketPrices.isEmpty()) {
+                continue;
+            }
+
+            Optional<MarketIndex> previousCap = marketIndexRepository
+                    .findTopByMarketCodeAndWeightingAndBasDtBeforeOrderByBasDtDesc(marketCode, IndexWeighting.CAP, date);
+            Optional<MarketIndex> previousEqual = marketIndexRepository
+                    .findTopByMarketCodeAndWeightingAndBasDtBeforeOrderByBasDtDesc(marketCode, IndexWeighting.EQUAL, date);
+
+            double weightedReturnSum = 0.0;
+            double weightSum = 0.0;
+            double returnSum = 0.0;
+            int constituents = 0;
+            BigDecimal totalMarketAmt = BigDecimal.ZERO;
+
+            if (previousCap.isPresent()) {
+                Map<String, BigDecimal> caps = previousCaps.computeIfAbsent(previousCap.get().getBasDt(), this::loadMarketCaps);
+                for (StockPrice price : marketPrices) {
+                    BigDecimal previousAmt = caps.get(price.getStockCode());
+                    if (previousAmt == null || previousAmt.signum() <= 0 || price.getDailyRatio() == null
+                            || price.getMarketTotalAmt() == null) {
+                        continue;
+                    }
+                    double dailyReturn = price.getDailyRatio().doubleValue() / 100.0;
+                    double weight = previousAmt.doubleValue();
+                    weightedReturnSum += weight * dailyReturn;
+                    weightSum += weight;
+                    returnSum += dailyReturn;
+                    constituents++;
+                    totalMarketAmt = totalMarketAmt.add(price.getMarketTotalAmt());
+                }
+            } else {
+                // 첫 산출일: 수익률 없이 기준값만 기록
+                for (StockPrice price : marketPrices) {
+                    if (price.getMarketTotalAmt() != null && price.getMarketTotalAmt().signum() > 0) {
+                        constituents++;
+                        totalMarketAmt = totalMarketAmt.add(price.getMarketTotalAmt());
+                    }
+                }
+            }
+
+            double capReturn = weightSum > 0 ? weightedReturnSum / weightSum : 0.0;
+            double equalReturn = constituents > 0 && previousCap.isPresent() ? returnSum / constituents : 0.0;
+
+            upsert(marketCode, IndexWeighting.CAP, date, previousCap, capReturn, constituents, totalMarketAmt);
+            upsert(marketCode, IndexWeighting.EQUAL, date, previousEqual, equalReturn, constituents, totalMarketAmt);
+            log.info("{} index on {}: cap {}, equal {} ({} constituents)",
+                    marketCode, date, capReturn, equalReturn, constituents);
+        }
+    }
+
+    private Map<String, BigDecimal> loadMarketCaps(LocalDate date) {
+        Map<String, BigDecimal> caps = new HashMap<>();
+        for (StockPrice price : stockPriceRepository.findByBasDt(date)) {
+            if (price.getMarketTotalAmt() != null) {
+                caps.put(price.getStockCode(), price.getMarketTotalAmt());
+            }
+        }
+        return caps;
+    }
+
+    private void upsert(String marketCode, IndexWeighting weighting, LocalDate date, Optional<MarketIndex> previous,
+                        double dailyReturn, int constituents, BigDecimal totalMarketAmt) {
+        BigDecimal previousValue = previous.map(MarketIndex::getIndexValue).orElse(BASE_INDEX_VALUE);
+        BigDecimal indexValue = previousValue
+                .multiply(BigDecimal.valueOf(1 + dailyReturn))
+                .setScale(6, RoundingMode.HALF_UP);
+
+        MarketIndex index = marketIndexRepository.findByMarketCodeAndWeightingAndBasDt(marketCode, weighting, date)
+                .orElseGet(() -> MarketIndex.builder()
+                        .marketCode(marketCode)
+                        .weighting(weighting)
+                        .basDt(date)
+                        .build());
+        index.setIndexValue(indexValue);
+        index.setDailyReturn(BigDecimal.valueOf(dailyReturn).setScale(10, RoundingMode.HALF_UP));
+        index.setConstituentCount(constituents);
+        index.setTotalMarketAmt(totalMarketAmt);
+        marketIndexRepository.save(index);
+    }
+
+    public List<MarketIndexDto> getIndexSeries(String marketCode, IndexWeighting weighting, String startDate, String endDate) {
+        LocalDate start = DateUtils.toStringLocalDate(startDate);
+        LocalDate end = DateUtils.toStringLocalDate(endDate);
+
+        return marketIndexRepository.findByMarketCodeAndWeightingAndBasDtBetweenOrderByBasDtAsc(
+                        marketCode.toUpperCase(), weighting, start, end).stream()
+                .map(index -> MarketIndexDto.builder()
+                        .marketCode(index.getMarketCode())
+                        .weighting(index.getWeighting())
+                        .basDt(index.getBasDt())
+                        .indexValue(index.getIndexValue())
+                        .dailyReturn(index.getDailyReturn())
+                        .constituentCount(index.getConstituentCount())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.stock.price.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.common.utils.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 다종목 × 기간 시세를 엔티티/DTO 목록으로 만들지 않고 JDBC 커서에서 바로 NDJSON 으로 흘려보내는 서비스.
+ * 한 행은 {"stockCode":"005930","basDt":"2024-01-02","endPrice":78500.0,"volume":17142847} 형태이며
+ * 종목코드, 기준일 순으로 정렬되어 전송된다.
+ */
+@Slf4j
+@Service
+public class PricePanelStreamService {
+
+    private static final String PANEL_SQL = """
+            SELECT stock_code, bas_dt, end_price, volume
+              FROM TB_STOCK_PRICE
+             WHERE stock_code IN (:stockCodes)
+               AND bas_dt BETWEEN :startDate AND :endDate
+               AND end_price IS NOT NULL
+             ORDER BY stock_code, bas_dt
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PricePanelStreamService(DataSource dataSource, ObjectMapper objectMapper) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        // MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍한다
+        template.setFetchSize(Integer.MIN_VALUE);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.objectMapper = objectMapper;
+    }
+
+    public void streamPanel(List<String> stockCodes, String startDate, String endDate, OutputStream out) {
+        if (stockCodes == null || stockCodes.isEmpty()) {
+            return;
+        }
+
+        List<String> codes = stockCodes.stream().map(c -> c.replace("A", "")).distinct().toList();
+        LocalDate start = DateUtils.toStringLocalDate(startDate);
+        LocalDate end = DateUtils.toStringLocalDate(endDate);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("stockCodes", codes)
+                .addValue("startDate", Date.valueOf(start))
+                .addValue("endDate", Date.valueOf(end));
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 기본 루트 값 구분자(공백)를 끄고, 행마다 writeRaw('\n') 으로 개행을 직접 써서 NDJSON 으로 만든다
+            generator.setRootValueSeparator(null);
+            long[] rows = {0L};
+
+            jdbcTemplate.query(PANEL_SQL, params, rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeStringField("stockCode", rs.getString(1));
+                    generator.writeStringField("basDt", rs.getDate(2).toLocalDate().toString());
+                    generator.writeNumberField("endPrice", rs.getDouble(3));
+                    generator.writeNumberField("volume", rs.getLong(4));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.flush();
+            log.debug("Streamed price panel: {} stocks, {} rows ({} ~ {})", codes.size(), rows[0], startDate, endDate);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.stock.price.service;
 
 import com.stock.common.enums.StockMarket;
-import com.stock.common.service.DayOffService;
+import com.stock.common.model.TradingDays;
+import com.stock.common.service.TradingCalendar;
 import com.stock.common.utils.DateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,18 +22,18 @@ public class RecoveryService {
 
     private final JobLauncher jobLauncher;
     private final Job stockPriceRecoveryJob;
-    private final DayOffService dayOffService;
+    private final TradingCalendar tradingCalendar;
 
     @Async
     public void recoverStockPrices(LocalDate startDate, LocalDate endDate) {
         log.info("[Recovery] Starting batch-based recovery from {} to {}", startDate, endDate);
         
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            if (dayOffService.checkIsDayOff(date)) {
-                log.info("[Recovery] Skipping holiday: {}", date);
-                continue;
-            }
+        // 휴장일을 제외한 거래일만 순회
+        TradingDays tradingDays = tradingCalendar.getTradingDays(startDate, endDate);
+        log.info("[Recovery] {} trading days to recover", tradingDays.size());
 
+        for (int i = 0; i < tradingDays.size(); i++) {
+            LocalDate date = tradingDays.get(i);
             String dateStr = DateUtils.toLocalDateString(date);
             
             // KOSPI와 KOSDAQ 각각에 대해 복구 배치 실행
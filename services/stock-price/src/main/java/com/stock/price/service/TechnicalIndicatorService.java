@@ -1,30 +1,20 @@
 package com.stock.price.service;
 
 import com.stock.price.entity.StockIndicator;
+import com.stock.price.entity.StockIndicatorState;
 import com.stock.price.entity.StockPrice;
+import com.stock.price.repository.StockIndicatorStateRepository;
+import com.stock.price.repository.StockPriceRepository;
+import com.stock.price.service.indicator.StreamingIndicatorEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.ta4j.core.BarSeries;
-import org.ta4j.core.BaseBarSeriesBuilder;
-import org.ta4j.core.indicators.MACDIndicator;
-import org.ta4j.core.indicators.ROCIndicator;
-import org.ta4j.core.indicators.RSIIndicator;
-import org.ta4j.core.indicators.averages.EMAIndicator;
-import org.ta4j.core.indicators.averages.SMAIndicator;
-import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
-import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
-import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
-import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
-import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
-import org.ta4j.core.num.Num;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.Duration;
-import java.time.Instant;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -32,103 +22,158 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TechnicalIndicatorService {
 
+    // 지표를 기록하려면 필요한 과거 거래일 수
+    public static final int REQUIRED_HISTORY = 300;
+
+    // 저장된 계산 상태를 검증하는 최근 거래일 수 (일별 수집이 다시 저장하는 최근 7일보다 넉넉하게, findTop20 과 일치)
+    static final int STATE_CHECK_DAYS = 20;
+
+    private final StockPriceRepository stockPriceRepository;
+    private final StockIndicatorStateRepository stockIndicatorStateRepository;
+
     /**
      * 특정 주식 데이터(targetPrice)에 대한 지표를 계산하여 StockIndicator를 업데이트합니다.
+     * 저장된 직전 거래일 계산 상태가 유효하면 당일 종가만 반영하고(O(1)),
+     * 상태가 없거나 직전 거래일이 다르거나, 최근 STATE_CHECK_DAYS 거래일 중 다시 수집된 종가가 바뀌었으면 과거 이력 전체로 다시 계산합니다.
+     * 그보다 과거 구간을 고치는 수정주가 재계산은 {@link #invalidateState(String)} 로 상태를 지웁니다.
+     *
      * @param targetPrice 지표를 계산할 당일 데이터
-     * @param historyPrices 과거 데이터 (최소 250개 이상 권장)
+     * @return 과거 거래일이 REQUIRED_HISTORY 개 이상이어서 지표를 기록했는지 여부
      */
-    public void calculateAndFillIndicators(StockPrice targetPrice, List<StockPrice> historyPrices) {
-        // 1. 과거 데이터와 현재 데이터 병합 및 정렬 (과거 -> 현재 순)
-        List<StockPrice> allPrices = new java.util.ArrayList<>(List.copyOf(historyPrices));
-        allPrices.add(targetPrice);
-        allPrices.sort(Comparator.comparing(StockPrice::getBasDt));
-
-        // 2. BarSeries 생성
-        BarSeries series = createBarSeries(allPrices);
-        int endIndex = series.getEndIndex();
-
-        // 3. 지표 계산 준비
-        ClosePriceIndicator closePrice = new ClosePriceIndicator(series);
+    @Transactional
+    public boolean updateIndicators(StockPrice targetPrice) {
+        BigDecimal close = closeOf(targetPrice);
+        if (close == null) {
+            return false;
+        }
 
-        // 4. 지표 계산 및 매핑
-        StockIndicator indicator = targetPrice.getStockIndicator();
-        if (indicator == null) {
-            indicator = new StockIndicator();
-            indicator.setStockPrice(targetPrice);
-            targetPrice.setStockIndicator(indicator);
+        StreamingIndicatorEngine engine = resumeEngine(targetPrice);
+        if (engine == null) {
+            engine = replayEngine(targetPrice);
         }
 
-        // 이동평균선 (MA)
-        indicator.setMa5(calculateSMA(closePrice, 5, endIndex));
-        indicator.setMa20(calculateSMA(closePrice, 20, endIndex));
-        indicator.setMa60(calculateSMA(closePrice, 60, endIndex));
-        indicator.setMa120(calculateSMA(closePrice, 120, endIndex));
-        indicator.setMa200(calculateSMA(closePrice, 200, endIndex));
-        indicator.setMa250(calculateSMA(closePrice, 250, endIndex));
-
-        // RSI (14)
-        RSIIndicator rsi = new RSIIndicator(closePrice, 14);
-        indicator.setRsi14(getValue(rsi, endIndex));
-
-        // Bollinger Bands (20, 2)
-        BollingerBandsMiddleIndicator bbMiddle = new BollingerBandsMiddleIndicator(new SMAIndicator(closePrice, 20));
-        StandardDeviationIndicator sd20 = new StandardDeviationIndicator(closePrice, 20);
-        BollingerBandsUpperIndicator bbu = new BollingerBandsUpperIndicator(bbMiddle, sd20, series.numFactory().numOf(2));
-        BollingerBandsLowerIndicator bbl = new BollingerBandsLowerIndicator(bbMiddle, sd20, series.numFactory().numOf(2));
-        indicator.setBollingerUpper(getValue(bbu, endIndex));
-        indicator.setBollingerLower(getValue(bbl, endIndex));
-
-        // MACD (12, 26, 9)
-        MACDIndicator macd = new MACDIndicator(closePrice, 12, 26);
-        EMAIndicator macdSignal = new EMAIndicator(macd, 9);
-        indicator.setMacd(getValue(macd, endIndex));
-        indicator.setMacdSignal(getValue(macdSignal, endIndex));
-        
-        // Momentum (1m, 3m, 6m)
-        ROCIndicator roc1m = new ROCIndicator(closePrice, 20);
-        ROCIndicator roc3m = new ROCIndicator(closePrice, 60);
-        ROCIndicator roc6m = new ROCIndicator(closePrice, 120);
-        
-        indicator.setMomentum1m(getValue(roc1m, endIndex));
-        indicator.setMomentum3m(getValue(roc3m, endIndex));
-        indicator.setMomentum6m(getValue(roc6m, endIndex));
+        boolean enoughHistory = engine.size() >= REQUIRED_HISTORY;
+        engine.push(close);
+        if (enoughHistory) {
+            engine.fill(indicatorOf(targetPrice));
+        }
+        saveState(targetPrice, engine);
+        return enoughHistory;
     }
 
-    private BarSeries createBarSeries(List<StockPrice> prices) {
-        BarSeries series = new BaseBarSeriesBuilder().withName(prices.get(0).getStockCode()).build();
-        for (StockPrice p : prices) {
-            ZonedDateTime zdt = p.getBasDt().atStartOfDay(ZoneId.of("Asia/Seoul"));
-            // 수정주가가 있으면 우선 사용, 없으면 종가 사용
-            BigDecimal close = p.getAdjClosePrice() != null ? 
-                           p.getAdjClosePrice() : 
-                           p.getEndPrice();
-            
-            // Ta4j Bar 추가: date, open, high, low, close, volume
-            series.addBar(series.barBuilder()
-                    .timePeriod(Duration.ofDays(1))
-                    .endTime(zdt.toInstant())
-                    .openPrice(series.numFactory().numOf(p.getStartPrice()))
-                    .highPrice(series.numFactory().numOf(p.getHighPrice()))
-                    .lowPrice(series.numFactory().numOf(p.getLowPrice()))
-                    .closePrice(series.numFactory().numOf(close))
-                    .volume(series.numFactory().numOf(p.getVolume() != null ? p.getVolume() : BigDecimal.ZERO))
-                    .build());
+    /**
+     * 종목의 전체 이력을 날짜순으로 한 번 순회하며 지표를 다시 계산합니다.
+     * 일별 배치와 같이 과거 거래일이 REQUIRED_HISTORY 개 이상인 날부터 기록하고, 마지막 거래일 기준 계산 상태를 저장합니다.
+     *
+     * @return 지표를 기록한 거래일 수
+     */
+    @Transactional
+    public int recalculateIndicators(String stockCode) {
+        List<StockPrice> prices = stockPriceRepository.findWithIndicatorByStockCodeOrderByBasDtAsc(stockCode);
+
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+        int updated = 0;
+        StockPrice last = null;
+        for (StockPrice price : prices) {
+            BigDecimal close = closeOf(price);
+            if (close == null) {
+                continue;
+            }
+            last = price;
+            boolean enoughHistory = engine.size() >= REQUIRED_HISTORY;
+            engine.push(close);
+            if (enoughHistory) {
+                engine.fill(indicatorOf(price));
+                updated++;
+            }
+        }
+        if (last != null) {
+            saveState(last, engine);
         }
-        return series;
+        log.debug("Recalculated indicators for {}: {} of {} rows", stockCode, updated, prices.size());
+        return updated;
     }
 
-    private BigDecimal calculateSMA(ClosePriceIndicator indicator, int barCount, int index) {
-        if (index < barCount - 1) return null; // 데이터 부족 시 null
-        SMAIndicator sma = new SMAIndicator(indicator, barCount);
-        return getValue(sma, index);
+    /**
+     * 수정주가 변경 등으로 과거 이력이 바뀐 종목의 계산 상태 삭제 (다음 계산 시 전체 이력으로 다시 계산)
+     */
+    @Transactional
+    public void invalidateState(String stockCode) {
+        stockIndicatorStateRepository.deleteById(stockCode);
     }
 
-    private BigDecimal getValue(org.ta4j.core.Indicator<Num> indicator, int index) {
+    // 저장된 상태가 직전 거래일까지 반영했고 최근 구간 종가가 모두 그대로이면 복원, 아니면 null
+    private StreamingIndicatorEngine resumeEngine(StockPrice targetPrice) {
+        StockIndicatorState state = stockIndicatorStateRepository.findById(targetPrice.getStockCode()).orElse(null);
+        if (state == null) {
+            return null;
+        }
+        StreamingIndicatorEngine engine;
         try {
-            return new BigDecimal(indicator.getValue(index).toString());
-        } catch (Exception e) {
-            // 인덱스 범위 초과 등 예외 발생 시 null 처리
+            engine = StreamingIndicatorEngine.fromState(state.getState());
+        } catch (IllegalArgumentException e) {
+            log.warn("Discarding indicator state of {}: {}", targetPrice.getStockCode(), e.getMessage());
             return null;
         }
+
+        // 일별 수집은 최근 7일 시세를 다시 저장하므로 직전 거래일뿐 아니라 최근 구간의 종가를 모두 상태의 버퍼와 대조
+        List<StockPrice> recent = stockPriceRepository
+                .findTop20ByStockCodeAndBasDtBeforeOrderByBasDtDesc(targetPrice.getStockCode(), targetPrice.getBasDt());
+        List<BigDecimal> recentCloses = new ArrayList<>(recent.size());
+        LocalDate previousDate = null;
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            BigDecimal close = closeOf(recent.get(i));
+            if (close != null) {
+                recentCloses.add(close);
+                previousDate = recent.get(i).getBasDt();
+            }
+        }
+        // 조회된 거래일이 검증 구간보다 적으면 전체 이력이므로 반영한 종가 수도 같아야 함
+        boolean wholeHistory = recent.size() < STATE_CHECK_DAYS;
+        if (!state.getBasDt().equals(previousDate)
+                || (wholeHistory && engine.size() != recentCloses.size())
+                || !engine.endsWith(recentCloses)) {
+            log.debug("Indicator state of {} is stale (state: {}), replaying history", targetPrice.getStockCode(), state.getBasDt());
+            return null;
+        }
+        return engine;
+    }
+
+    private StreamingIndicatorEngine replayEngine(StockPrice targetPrice) {
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+        for (StockPrice price : stockPriceRepository.findByStockCodeAndBasDtBeforeOrderByBasDtAsc(
+                targetPrice.getStockCode(), targetPrice.getBasDt())) {
+            BigDecimal close = closeOf(price);
+            if (close != null) {
+                engine.push(close);
+            }
+        }
+        return engine;
+    }
+
+    private void saveState(StockPrice lastPrice, StreamingIndicatorEngine engine) {
+        stockIndicatorStateRepository.save(StockIndicatorState.builder()
+                .stockCode(lastPrice.getStockCode())
+                .basDt(lastPrice.getBasDt())
+                .lastClose(engine.lastClose())
+                .barCount(engine.size())
+                .state(engine.toState())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    // 수정주가가 있으면 우선 사용, 없으면 종가 사용
+    private static BigDecimal closeOf(StockPrice price) {
+        return price.getAdjClosePrice() != null ? price.getAdjClosePrice() : price.getEndPrice();
+    }
+
+    private static StockIndicator indicatorOf(StockPrice price) {
+        StockIndicator indicator = price.getStockIndicator();
+        if (indicator == null) {
+            indicator = new StockIndicator();
+            indicator.setStockPrice(price);
+            price.setStockIndicator(indicator);
+        }
+        return indicator;
     }
 }
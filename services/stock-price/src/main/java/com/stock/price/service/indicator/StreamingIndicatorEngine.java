@@ -0,0 +1,276 @@
+package com.stock.price.service.indicator;
+
+import com.stock.price.entity.StockIndicator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 한 종목의 종가를 날짜순으로 한 번씩 넣으며 기술적 지표를 갱신하는 스트리밍 계산기.
+ * <p>
+ * 종가마다 O(1) 로 상태만 갱신한다.
+ * <ul>
+ *     <li>이동평균 / ROC: 최근 250 거래일 원형 버퍼와 기간별 누적 합 (소수 4자리 정수 단위로 정확히 계산)</li>
+ *     <li>RSI(14): Wilder 평균 이득/손실 (Ta4j MMA 와 같이 첫 거래일 0 에서 시작)</li>
+ *     <li>MACD(12, 26) / 시그널(9): EMA 상태 (첫 거래일 종가, MACD 0 에서 시작)</li>
+ *     <li>볼린저 밴드(20, 2): 20일 합과 제곱합 (모표준편차, 누적 오차 방지를 위해 20일마다 버퍼로 재계산)</li>
+ * </ul>
+ * 계산식과 초기값은 Ta4j 지표와 같으며(StreamingIndicatorEngineTest 에서 대조), 결과는 TB_STOCK_INDICATOR 컬럼과 같은 소수 4자리로 반올림한다.
+ * Ta4j 와 다른 점은 다음과 같다.
+ * <ul>
+ *     <li>EMA/RSI 는 종목 전체 이력의 첫 거래일부터 누적한다 (일별 계산과 전체 재계산이 같은 값).
+ *     기존 Ta4j 계산은 최근 300 거래일 창의 첫 거래일에서 시작했으므로 초기값 영향이 (25/27)^300 ≈ 1e-10 배로 줄어든 차이만 남고,
+ *     소수 4자리 반올림 경계에서 MACD/시그널/RSI 가 1e-4 다를 수 있다 (허용 오차).</li>
+ *     <li>기간보다 거래일이 적으면 이동평균/ROC/볼린저 밴드는 null 이다 (Ta4j 는 있는 구간만으로 계산).
+ *     서비스는 과거 300 거래일 이상인 날만 기록하므로 저장되는 값에는 영향이 없다.</li>
+ * </ul>
+ * 상태는 {@link #toState()} 로 저장했다가 {@link #fromState(byte[])} 로 복원하여 다음 거래일부터 이어서 계산할 수 있다.
+ * 스레드 안전하지 않으므로 종목마다 새로 만들어 사용한다.
+ */
+public final class StreamingIndicatorEngine {
+
+    private static final int SCALE = 4;
+    private static final long UNIT = 10_000L;
+
+    private static final int[] MA_PERIODS = {5, 20, 60, 120, 200, 250};
+    private static final int CAPACITY = 251;
+
+    private static final int RSI_PERIOD = 14;
+    private static final int MACD_SHORT = 12;
+    private static final int MACD_LONG = 26;
+    private static final int MACD_SIGNAL = 9;
+    private static final int BOLLINGER_PERIOD = 20;
+    private static final double BOLLINGER_K = 2.0;
+    private static final int BOLLINGER_SUM = 1; // MA_PERIODS 의 20일 인덱스
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    // 상태 형식이 바뀌면 올림 (이전 형식 상태는 복원하지 않고 전체 이력으로 다시 계산)
+    private static final int STATE_VERSION = 1;
+    private static final int STATE_BYTES = Integer.BYTES * 2 + Long.BYTES * (CAPACITY + MA_PERIODS.length) + Double.BYTES * 8;
+
+    private final long[] closes = new long[CAPACITY];
+    private final long[] maSums = new long[MA_PERIODS.length];
+    private int count;
+
+    private double previousClose;
+    private double averageGain;
+    private double averageLoss;
+
+    private double shortEma;
+    private double longEma;
+    private double signalEma;
+
+    // 볼린저 제곱합은 첫 종가 기준 편차로 누적하여 큰 가격대의 자릿수 손실을 줄임
+    private double anchor;
+    private double squaredDeviationSum;
+
+    public void push(BigDecimal close) {
+        long units = unitsOf(close);
+        double value = (double) units / UNIT;
+
+        for (int i = 0; i < MA_PERIODS.length; i++) {
+            maSums[i] += units;
+            if (count >= MA_PERIODS[i]) {
+                maSums[i] -= closes[(count - MA_PERIODS[i]) % CAPACITY];
+            }
+        }
+
+        if (count == 0) {
+            anchor = value;
+            shortEma = value;
+            longEma = value;
+            signalEma = 0.0;
+        } else {
+            double change = value - previousClose;
+            averageGain += (Math.max(change, 0.0) - averageGain) / RSI_PERIOD;
+            averageLoss += (Math.max(-change, 0.0) - averageLoss) / RSI_PERIOD;
+
+            shortEma += (value - shortEma) * (2.0 / (MACD_SHORT + 1));
+            longEma += (value - longEma) * (2.0 / (MACD_LONG + 1));
+            signalEma += (shortEma - longEma - signalEma) * (2.0 / (MACD_SIGNAL + 1));
+        }
+
+        double deviation = value - anchor;
+        squaredDeviationSum += deviation * deviation;
+        if (count >= BOLLINGER_PERIOD) {
+            double leaving = (double) closes[(count - BOLLINGER_PERIOD) % CAPACITY] / UNIT - anchor;
+            squaredDeviationSum -= leaving * leaving;
+        }
+
+        closes[count % CAPACITY] = units;
+        previousClose = value;
+        count++;
+
+        if (count % BOLLINGER_PERIOD == 0) {
+            resyncSquaredDeviations();
+        }
+    }
+
+    /**
+     * 지금까지 넣은 종가 수
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * 마지막으로 넣은 종가 (소수 4자리). 아직 없으면 null
+     */
+    public BigDecimal lastClose() {
+        return count > 0 ? BigDecimal.valueOf(closes[(count - 1) % CAPACITY], SCALE) : null;
+    }
+
+    /**
+     * 마지막으로 넣은 종가들이 recentCloses(날짜 오름차순)와 같은지 (소수 4자리 기준).
+     * 상태를 저장한 뒤 과거 시세가 다시 수집되어 바뀌었는지 확인하는 데 사용하며, 넣은 종가 수나 버퍼보다 많으면 false
+     */
+    public boolean endsWith(List<BigDecimal> recentCloses) {
+        int size = recentCloses.size();
+        if (size > count || size > CAPACITY) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (closes[(count - size + i) % CAPACITY] != unitsOf(recentCloses.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 이어서 계산하는 데 필요한 전체 상태 (고정 길이)
+     */
+    public byte[] toState() {
+        ByteBuffer buffer = ByteBuffer.allocate(STATE_BYTES);
+        buffer.putInt(STATE_VERSION).putInt(count);
+        for (long close : closes) {
+            buffer.putLong(close);
+        }
+        for (long sum : maSums) {
+            buffer.putLong(sum);
+        }
+        buffer.putDouble(previousClose)
+                .putDouble(averageGain)
+                .putDouble(averageLoss)
+                .putDouble(shortEma)
+                .putDouble(longEma)
+                .putDouble(signalEma)
+                .putDouble(anchor)
+                .putDouble(squaredDeviationSum);
+        return buffer.array();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 다르거나 손상된 상태
+     */
+    public static StreamingIndicatorEngine fromState(byte[] state) {
+        if (state == null || state.length != STATE_BYTES) {
+            throw new IllegalArgumentException("Invalid indicator state length");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        if (buffer.getInt() != STATE_VERSION) {
+            throw new IllegalArgumentException("Unsupported indicator state version");
+        }
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+        engine.count = buffer.getInt();
+        if (engine.count < 0) {
+            throw new IllegalArgumentException("Invalid indicator state count");
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            engine.closes[i] = buffer.getLong();
+        }
+        for (int i = 0; i < MA_PERIODS.length; i++) {
+            engine.maSums[i] = buffer.getLong();
+        }
+        engine.previousClose = buffer.getDouble();
+        engine.averageGain = buffer.getDouble();
+        engine.averageLoss = buffer.getDouble();
+        engine.shortEma = buffer.getDouble();
+        engine.longEma = buffer.getDouble();
+        engine.signalEma = buffer.getDouble();
+        engine.anchor = buffer.getDouble();
+        engine.squaredDeviationSum = buffer.getDouble();
+        return engine;
+    }
+
+    /**
+     * 마지막으로 넣은 거래일 기준 지표를 기록. 기간이 부족한 이동평균/모멘텀/볼린저 밴드는 null
+     */
+    public void fill(StockIndicator indicator) {
+        indicator.setMa5(movingAverage(0));
+        indicator.setMa20(movingAverage(1));
+        indicator.setMa60(movingAverage(2));
+        indicator.setMa120(movingAverage(3));
+        indicator.setMa200(movingAverage(4));
+        indicator.setMa250(movingAverage(5));
+
+        indicator.setRsi14(count > 0 ? scaled(rsi()) : null);
+
+        if (count >= BOLLINGER_PERIOD) {
+            double mean = (double) maSums[BOLLINGER_SUM] / UNIT / BOLLINGER_PERIOD;
+            double centeredMean = mean - anchor;
+            double variance = Math.max(squaredDeviationSum / BOLLINGER_PERIOD - centeredMean * centeredMean, 0.0);
+            double band = BOLLINGER_K * Math.sqrt(variance);
+            indicator.setBollingerUpper(scaled(mean + band));
+            indicator.setBollingerLower(scaled(mean - band));
+        } else {
+            indicator.setBollingerUpper(null);
+            indicator.setBollingerLower(null);
+        }
+
+        indicator.setMacd(count > 0 ? scaled(shortEma - longEma) : null);
+        indicator.setMacdSignal(count > 0 ? scaled(signalEma) : null);
+
+        indicator.setMomentum1m(rateOfChange(20));
+        indicator.setMomentum3m(rateOfChange(60));
+        indicator.setMomentum6m(rateOfChange(120));
+    }
+
+    private BigDecimal movingAverage(int periodIndex) {
+        int period = MA_PERIODS[periodIndex];
+        if (count < period) {
+            return null;
+        }
+        return BigDecimal.valueOf(maSums[periodIndex], SCALE).divide(BigDecimal.valueOf(period), SCALE, RoundingMode.HALF_UP);
+    }
+
+    private double rsi() {
+        if (averageLoss == 0.0) {
+            return averageGain == 0.0 ? 0.0 : 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + averageGain / averageLoss);
+    }
+
+    private BigDecimal rateOfChange(int bars) {
+        if (count <= bars) {
+            return null;
+        }
+        long current = closes[(count - 1) % CAPACITY];
+        long past = closes[(count - 1 - bars) % CAPACITY];
+        if (past == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(current - past).multiply(HUNDRED)
+                .divide(BigDecimal.valueOf(past), SCALE, RoundingMode.HALF_UP);
+    }
+
+    private void resyncSquaredDeviations() {
+        double sum = 0.0;
+        for (int i = count - BOLLINGER_PERIOD; i < count; i++) {
+            double deviation = (double) closes[i % CAPACITY] / UNIT - anchor;
+            sum += deviation * deviation;
+        }
+        squaredDeviationSum = sum;
+    }
+
+    private static long unitsOf(BigDecimal close) {
+        return close.movePointRight(SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static BigDecimal scaled(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP) : null;
+    }
+}
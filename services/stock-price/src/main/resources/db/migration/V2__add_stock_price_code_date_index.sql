@@ -0,0 +1,2 @@
+-- 다종목 기간 시세 스트리밍 조회 (stock_code IN (...) AND bas_dt BETWEEN ...) 용 인덱스
+CREATE INDEX IDX_STOCK_PRICE_CODE_DT ON TB_STOCK_PRICE (stock_code, bas_dt);
@@ -0,0 +1,12 @@
+-- 시장별 시가총액/동일 가중 지수 일별 시계열 (stockDataJob 에서 하루 한 번 산출)
+CREATE TABLE TB_MARKET_INDEX (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    market_code VARCHAR(50) NOT NULL,
+    weighting VARCHAR(20) NOT NULL,
+    bas_dt DATE NOT NULL,
+    index_value DECIMAL(25, 6),
+    daily_return DECIMAL(25, 10),
+    constituent_count INTEGER,
+    total_market_amt DECIMAL(30, 4),
+    CONSTRAINT UK_MARKET_INDEX UNIQUE (market_code, weighting, bas_dt)
+);
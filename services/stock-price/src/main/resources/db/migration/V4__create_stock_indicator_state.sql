@@ -0,0 +1,9 @@
+-- 종목별 기술적 지표 계산 상태 (마지막 반영 거래일 기준). 다음 거래일 지표를 과거 시세 재조회 없이 이어서 계산
+CREATE TABLE TB_STOCK_INDICATOR_STATE (
+    stock_code VARCHAR(50) PRIMARY KEY,
+    bas_dt DATE NOT NULL,
+    last_close DECIMAL(25, 4) NOT NULL,
+    bar_count INTEGER NOT NULL,
+    state BLOB NOT NULL,
+    updated_at DATETIME NOT NULL
+);
@@ -0,0 +1,3 @@
+-- 이벤트별 누적 수정계수 (이 이벤트와 이후 이벤트 계수의 곱 = 이벤트일 이전 시세에 적용한 계수)
+-- 저장값과 같으면 해당 구간은 이미 반영된 것으로 보고 새로 들어온 시세만 계산
+ALTER TABLE TB_CORP_EVENT_HISTORY ADD COLUMN cumulative_factor DECIMAL(25, 10);
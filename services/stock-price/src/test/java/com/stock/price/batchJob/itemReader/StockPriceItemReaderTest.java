@@ -0,0 +1,143 @@
+package com.stock.price.batchJob.itemReader;
+
+import com.stock.common.enums.StockMarket;
+import com.stock.price.client.StockPriceClient;
+import com.stock.price.entity.StockPrice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockPriceItemReaderTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private StockPriceClient stockPriceClient;
+
+    private StockPriceItemReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new StockPriceItemReader(stockPriceClient);
+        ReflectionTestUtils.setField(reader, "jobDate", "20240105");
+        ReflectionTestUtils.setField(reader, "jobMarket", "KOSPI");
+        ReflectionTestUtils.setField(reader, "queueCapacity", 2);
+    }
+
+    private static StockPrice price(String basDt, String stockCode) {
+        return StockPrice.builder()
+                .basDt(LocalDate.parse(basDt, DateTimeFormatter.BASIC_ISO_DATE))
+                .stockCode(stockCode)
+                .build();
+    }
+
+    private List<StockPrice> readAll() {
+        return assertTimeoutPreemptively(TIMEOUT, () -> {
+            List<StockPrice> prices = new ArrayList<>();
+            for (StockPrice price = reader.read(); price != null; price = reader.read()) {
+                prices.add(price);
+            }
+            return prices;
+        });
+    }
+
+    // 중단될 때까지 끝나지 않는 조회. 시작하면 started, 중단되면 interrupted 를 줄임
+    private static List<StockPrice> blockUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) throws InterruptedException {
+        started.countDown();
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            throw e;
+        }
+        return List.of();
+    }
+
+    @Test
+    @DisplayName("모든 페이지를 받은 날짜만 읽고, 실패한 날짜는 통째로 건너뛴 뒤 스트림 끝에서 null")
+    void endOfStreamTest() throws Exception {
+        // given: 0104 는 일부 페이지 조회 실패, 주말/휴일은 빈 결과
+        StockPrice samsung = price("20240105", "005930");
+        StockPrice hynix = price("20240105", "000660");
+        StockPrice naver = price("20240103", "035420");
+        when(stockPriceClient.fetchStockPrice(eq(StockMarket.KOSPI), anyString())).thenAnswer(invocation ->
+                switch (invocation.<String>getArgument(1)) {
+                    case "20240105" -> List.of(samsung, hynix);
+                    case "20240104" -> throw new IllegalStateException("page 3 failed");
+                    case "20240103" -> List.of(naver);
+                    default -> List.of();
+                });
+
+        // when
+        List<StockPrice> prices = readAll();
+
+        // then
+        assertThat(prices).containsExactlyInAnyOrder(samsung, hynix, naver);
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    @DisplayName("스텝이 먼저 끝나면 남은 날짜 조회를 중단하고 이후 read 는 null")
+    void closeInterruptsFetchesTest() throws Exception {
+        // given: 기준일만 바로 응답하고 나머지 6일은 응답 대기
+        CountDownLatch started = new CountDownLatch(6);
+        CountDownLatch interrupted = new CountDownLatch(6);
+        StockPrice samsung = price("20240105", "005930");
+        when(stockPriceClient.fetchStockPrice(eq(StockMarket.KOSPI), anyString())).thenAnswer(invocation ->
+                "20240105".equals(invocation.getArgument(1)) ? List.of(samsung) : blockUntilInterrupted(started, interrupted));
+
+        // when
+        StockPrice first = assertTimeoutPreemptively(TIMEOUT, reader::read);
+        reader.close();
+
+        // then
+        assertThat(first).isSameAs(samsung);
+        assertThat(interrupted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(assertTimeoutPreemptively(TIMEOUT, reader::read)).isNull();
+    }
+
+    @Test
+    @DisplayName("조회를 기다리며 블록된 read 는 close 되면 null 을 반환")
+    void closeWakesBlockedReadTest() throws Exception {
+        // given: 모든 날짜가 응답 대기
+        CountDownLatch started = new CountDownLatch(7);
+        CountDownLatch interrupted = new CountDownLatch(7);
+        when(stockPriceClient.fetchStockPrice(eq(StockMarket.KOSPI), anyString()))
+                .thenAnswer(invocation -> blockUntilInterrupted(started, interrupted));
+        CompletableFuture<StockPrice> blockedRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return reader.read();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        assertThat(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        reader.close();
+
+        // then
+        assertThat(blockedRead.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isNull();
+        assertThat(interrupted.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,156 @@
+package com.stock.price.service;
+
+import com.stock.common.enums.CorpEventType;
+import com.stock.price.entity.CorpEventHistory;
+import com.stock.price.repository.CorpEventRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdjustedPriceServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+
+    @Mock
+    private CorpEventRepository corpEventRepository;
+
+    @Mock
+    private TechnicalIndicatorService technicalIndicatorService;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AdjustedPriceService adjustedPriceService;
+
+    private static CorpEventHistory event(String eventDate, CorpEventType eventType, String ratio, String cumulativeFactor) {
+        return CorpEventHistory.builder()
+                .stockCode(STOCK_CODE)
+                .eventDate(eventDate)
+                .eventType(eventType)
+                .ratio(new BigDecimal(ratio))
+                .cumulativeFactor(cumulativeFactor != null ? new BigDecimal(cumulativeFactor) : null)
+                .build();
+    }
+
+    // 최신순: 2024-06-03 1:5 액면분할 (계수 0.2), 2023-03-02 1주당 1주 무상증자 (누적 계수 0.2 × 0.5)
+    private static List<CorpEventHistory> events(String splitFactor, String bonusFactor) {
+        return List.of(
+                event("20240603", CorpEventType.STOCK_SPLIT, "5", splitFactor),
+                event("20230302", CorpEventType.FREE_INCREASE, "1", bonusFactor));
+    }
+
+    private SqlParameterSource[] runWith(List<CorpEventHistory> events, int... counts) {
+        when(corpEventRepository.findAllByStockCodeOrderByEventDateDesc(STOCK_CODE)).thenReturn(events);
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(counts);
+
+        adjustedPriceService.calculateAndSaveAdjustedPrices(STOCK_CODE);
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private static Tuple segment(SqlParameterSource source) {
+        return tuple(
+                source.getValue("fromDate").toString(),
+                source.getValue("toDate").toString(),
+                ((BigDecimal) source.getValue("factor")).stripTrailingZeros().toPlainString(),
+                source.getValue("recompute"));
+    }
+
+    @Test
+    @DisplayName("새 이벤트가 들어오면 이벤트 이전 구간만 다시 계산하고 누적 계수를 기록, 지표 상태 삭제")
+    void newEventRecomputesAffectedSegmentsTest() {
+        // given: 무상증자만 반영된 상태에서 액면분할이 새로 들어옴
+        List<CorpEventHistory> events = events(null, "0.5");
+
+        // when
+        SqlParameterSource[] segments = runWith(events, 1, 40, 300);
+
+        // then: 분할 이후 구간은 새 시세만, 이전 두 구간은 누적 계수가 바뀌었으므로 다시 계산
+        assertThat(segments)
+                .extracting(AdjustedPriceServiceTest::segment)
+                .containsExactly(
+                        tuple("2024-06-03", "9999-12-31", "1", false),
+                        tuple("2023-03-02", "2024-06-03", "0.2", true),
+                        tuple("1900-01-01", "2023-03-02", "0.1", true));
+        assertThat(events)
+                .extracting(CorpEventHistory::getEventDate, e -> e.getCumulativeFactor().stripTrailingZeros().toPlainString())
+                .containsExactly(tuple("20240603", "0.2"), tuple("20230302", "0.1"));
+        verify(technicalIndicatorService).invalidateState(STOCK_CODE);
+    }
+
+    @Test
+    @DisplayName("이벤트 변화 없이 다시 실행하면 모든 구간이 수정주가가 없는 행만 계산하고 지표 상태는 유지")
+    void unchangedRerunTouchesOnlyNullRowsTest() {
+        // given: 지난 실행의 누적 계수가 그대로
+        List<CorpEventHistory> events = events("0.2000000000", "0.1000000000");
+
+        // when: 당일 새로 들어온 시세 1건만 갱신됨
+        SqlParameterSource[] segments = runWith(events, 1, 0, 0);
+
+        // then
+        assertThat(segments).extracting(source -> source.getValue("recompute")).containsOnly(false);
+        assertThat(segments[0].getValue("toDate")).isEqualTo(Date.valueOf("9999-12-31"));
+        verify(technicalIndicatorService, never()).invalidateState(any());
+    }
+
+    @Test
+    @DisplayName("다시 계산 대상 구간이어도 실제로 바뀐 행이 없으면 지표 상태 유지")
+    void invalidateOnlyWhenHistoryChangedTest() {
+        // given: 누적 계수 컬럼 추가 직후 (기록 없음) 이지만 수정주가는 이미 올바름
+        List<CorpEventHistory> events = events(null, null);
+
+        // when
+        SqlParameterSource[] segments = runWith(events, 0, 0, 0);
+
+        // then
+        assertThat(segments).extracting(source -> source.getValue("recompute")).containsExactly(false, true, true);
+        verify(technicalIndicatorService, never()).invalidateState(any());
+    }
+
+    @Test
+    @DisplayName("드라이버가 갱신 건수를 주지 않으면(SUCCESS_NO_INFO) 과거 이력이 바뀐 것으로 보고 지표 상태 삭제")
+    void successNoInfoInvalidatesStateTest() {
+        // when
+        runWith(events(null, null), Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO);
+
+        // then
+        verify(technicalIndicatorService).invalidateState(STOCK_CODE);
+    }
+
+    @Test
+    @DisplayName("이벤트가 없으면 전 구간을 계수 1 로 한 번만 갱신")
+    void noEventTest() {
+        // when
+        SqlParameterSource[] segments = runWith(List.of(), 1);
+
+        // then
+        assertThat(segments)
+                .extracting(AdjustedPriceServiceTest::segment)
+                .containsExactly(tuple("1900-01-01", "9999-12-31", "1", false));
+        verify(technicalIndicatorService, never()).invalidateState(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.stock.price.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PricePanelStreamServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private PricePanelStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PricePanelStreamService(dataSource, objectMapper);
+    }
+
+    private record PriceRow(String stockCode, String basDt, double endPrice, long volume) {
+    }
+
+    // 커서가 돌려주는 행 (정렬은 DB 가 담당하므로 종목코드, 기준일 순으로 준비)
+    private void givenRows(PriceRow... rows) throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        int[] cursor = {-1};
+        when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < rows.length);
+        if (rows.length > 0) {
+            when(resultSet.getString(1)).thenAnswer(invocation -> rows[cursor[0]].stockCode());
+            when(resultSet.getDate(2)).thenAnswer(invocation -> Date.valueOf(rows[cursor[0]].basDt()));
+            when(resultSet.getDouble(3)).thenAnswer(invocation -> rows[cursor[0]].endPrice());
+            when(resultSet.getLong(4)).thenAnswer(invocation -> rows[cursor[0]].volume());
+        }
+    }
+
+    private String stream(List<String> stockCodes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamPanel(stockCodes, "20240102", "20240103", out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Tuple fields(JsonNode node) {
+        return tuple(node.get("stockCode").asText(), node.get("basDt").asText(),
+                node.get("endPrice").asDouble(), node.get("volume").asLong());
+    }
+
+    @Test
+    @DisplayName("한 줄에 JSON 객체 하나씩, 종목코드/기준일 순으로 전송")
+    void ndjsonTest() throws Exception {
+        // given
+        givenRows(
+                new PriceRow("000660", "2024-01-02", 136500.0, 3_123_456L),
+                new PriceRow("000660", "2024-01-03", 133000.0, 2_987_000L),
+                new PriceRow("005930", "2024-01-02", 79600.0, 17_142_847L),
+                new PriceRow("005930", "2024-01-03", 77000.0, 21_753_644L));
+
+        // when
+        String body = stream(List.of("A005930", "000660", "005930"));
+
+        // then: 마지막 행도 개행으로 끝나며, 각 줄은 독립된 JSON 객체
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            assertThat(node.isObject()).as(line).isTrue();
+            lines.add(node);
+        }
+        assertThat(lines)
+                .extracting(PricePanelStreamServiceTest::fields)
+                .containsExactly(
+                        tuple("000660", "2024-01-02", 136500.0, 3_123_456L),
+                        tuple("000660", "2024-01-03", 133000.0, 2_987_000L),
+                        tuple("005930", "2024-01-02", 79600.0, 17_142_847L),
+                        tuple("005930", "2024-01-03", 77000.0, 21_753_644L));
+
+        // 정렬은 DB 가 담당하며, 종목코드는 'A' 를 떼고 중복을 제거하여 조회
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue()).contains("ORDER BY stock_code, bas_dt");
+        verify(statement).setString(1, "005930");
+        verify(statement).setString(2, "000660");
+    }
+
+    @Test
+    @DisplayName("조회 결과가 없으면 빈 본문")
+    void emptyTest() throws SQLException {
+        // given
+        givenRows();
+
+        // when & then
+        assertThat(stream(List.of("005930"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종목 목록이 비어 있으면 DB 를 조회하지 않고 빈 본문")
+    void noStockCodesTest() {
+        assertThat(stream(List.of())).isEmpty();
+        verifyNoInteractions(dataSource);
+    }
+}
@@ -0,0 +1,183 @@
+package com.stock.price.service;
+
+import com.stock.price.entity.StockIndicator;
+import com.stock.price.entity.StockIndicatorState;
+import com.stock.price.entity.StockPrice;
+import com.stock.price.repository.StockIndicatorStateRepository;
+import com.stock.price.repository.StockPriceRepository;
+import com.stock.price.service.indicator.StreamingIndicatorEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TechnicalIndicatorServiceTest {
+
+    private static final String STOCK_CODE = "005930";
+    private static final LocalDate START = LocalDate.of(2023, 1, 2);
+    private static final int HISTORY = 350;
+
+    @Mock
+    private StockPriceRepository stockPriceRepository;
+
+    @Mock
+    private StockIndicatorStateRepository stockIndicatorStateRepository;
+
+    @InjectMocks
+    private TechnicalIndicatorService technicalIndicatorService;
+
+    private static StockPrice price(int index) {
+        return StockPrice.builder()
+                .stockCode(STOCK_CODE)
+                .basDt(START.plusDays(index))
+                .endPrice(BigDecimal.valueOf(60_000 + (index * 137L) % 3_000 - index * 5L))
+                .build();
+    }
+
+    private static List<StockPrice> history() {
+        List<StockPrice> prices = new ArrayList<>();
+        for (int i = 0; i < HISTORY; i++) {
+            prices.add(price(i));
+        }
+        return prices;
+    }
+
+    private static StreamingIndicatorEngine replay(List<StockPrice> prices) {
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+        prices.forEach(price -> engine.push(price.getEndPrice()));
+        return engine;
+    }
+
+    // 전날 일별 배치가 저장한 상태
+    private static StockIndicatorState stateOf(List<StockPrice> prices) {
+        StreamingIndicatorEngine engine = replay(prices);
+        return StockIndicatorState.builder()
+                .stockCode(STOCK_CODE)
+                .basDt(prices.get(prices.size() - 1).getBasDt())
+                .lastClose(engine.lastClose())
+                .barCount(engine.size())
+                .state(engine.toState())
+                .build();
+    }
+
+    // findTop20ByStockCodeAndBasDtBeforeOrderByBasDtDesc 결과
+    private static List<StockPrice> recentOf(List<StockPrice> prices) {
+        List<StockPrice> recent = new ArrayList<>(prices.subList(prices.size() - TechnicalIndicatorService.STATE_CHECK_DAYS, prices.size()));
+        Collections.reverse(recent);
+        return recent;
+    }
+
+    private static StockIndicator expectedIndicator(List<StockPrice> prices, StockPrice target) {
+        StreamingIndicatorEngine engine = replay(prices);
+        engine.push(target.getEndPrice());
+        StockIndicator indicator = new StockIndicator();
+        engine.fill(indicator);
+        return indicator;
+    }
+
+    private StockIndicatorState savedState() {
+        ArgumentCaptor<StockIndicatorState> captor = ArgumentCaptor.forClass(StockIndicatorState.class);
+        verify(stockIndicatorStateRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("유효한 상태에서 당일 종가만 반영한 결과가 전체 이력 재계산과 같음")
+    void resumeEqualsReplayTest() {
+        // given
+        List<StockPrice> history = history();
+        StockPrice target = price(HISTORY);
+        when(stockIndicatorStateRepository.findById(STOCK_CODE)).thenReturn(Optional.of(stateOf(history)));
+        when(stockPriceRepository.findTop20ByStockCodeAndBasDtBeforeOrderByBasDtDesc(STOCK_CODE, target.getBasDt()))
+                .thenReturn(recentOf(history));
+
+        // when
+        boolean updated = technicalIndicatorService.updateIndicators(target);
+
+        // then
+        assertThat(updated).isTrue();
+        verify(stockPriceRepository, never()).findByStockCodeAndBasDtBeforeOrderByBasDtAsc(any(), any());
+        assertThat(target.getStockIndicator()).usingRecursiveComparison()
+                .ignoringFields("stockPrice")
+                .isEqualTo(expectedIndicator(history, target));
+
+        List<StockPrice> replayed = new ArrayList<>(history);
+        replayed.add(target);
+        StockIndicatorState saved = savedState();
+        assertThat(saved.getBasDt()).isEqualTo(target.getBasDt());
+        assertThat(saved.getBarCount()).isEqualTo(HISTORY + 1);
+        assertThat(saved.getState()).isEqualTo(replay(replayed).toState());
+    }
+
+    @Test
+    @DisplayName("일별 수집이 직전 거래일보다 이전 종가를 바꾸면 상태를 버리고 바뀐 이력 전체로 다시 계산")
+    void staleStateFallbackTest() {
+        // given: 상태 저장 후 3 거래일 전 종가가 다시 수집되어 바뀜
+        List<StockPrice> history = history();
+        StockIndicatorState state = stateOf(history);
+        List<StockPrice> refetched = history();
+        refetched.get(HISTORY - 3).setEndPrice(refetched.get(HISTORY - 3).getEndPrice().add(BigDecimal.valueOf(500)));
+        StockPrice target = price(HISTORY);
+
+        when(stockIndicatorStateRepository.findById(STOCK_CODE)).thenReturn(Optional.of(state));
+        when(stockPriceRepository.findTop20ByStockCodeAndBasDtBeforeOrderByBasDtDesc(STOCK_CODE, target.getBasDt()))
+                .thenReturn(recentOf(refetched));
+        when(stockPriceRepository.findByStockCodeAndBasDtBeforeOrderByBasDtAsc(STOCK_CODE, target.getBasDt()))
+                .thenReturn(refetched);
+
+        // when
+        technicalIndicatorService.updateIndicators(target);
+
+        // then: 직전 거래일과 그 종가는 그대로지만 재계산 결과를 사용
+        assertThat(state.getLastClose()).isEqualByComparingTo(refetched.get(HISTORY - 1).getEndPrice());
+        assertThat(target.getStockIndicator()).usingRecursiveComparison()
+                .ignoringFields("stockPrice")
+                .isEqualTo(expectedIndicator(refetched, target));
+        assertThat(target.getStockIndicator()).usingRecursiveComparison()
+                .ignoringFields("stockPrice")
+                .isNotEqualTo(expectedIndicator(history, target));
+    }
+
+    @Test
+    @DisplayName("직전 거래일 상태가 아니거나 복원할 수 없는 상태는 전체 이력으로 다시 계산")
+    void missedDayAndCorruptStateTest() {
+        // given: 상태가 이틀 전 기준 (하루 누락)
+        List<StockPrice> history = history();
+        StockPrice target = price(HISTORY);
+        when(stockIndicatorStateRepository.findById(STOCK_CODE))
+                .thenReturn(Optional.of(stateOf(history.subList(0, HISTORY - 1))))
+                .thenReturn(Optional.of(StockIndicatorState.builder().stockCode(STOCK_CODE).state(new byte[10]).build()));
+        when(stockPriceRepository.findTop20ByStockCodeAndBasDtBeforeOrderByBasDtDesc(STOCK_CODE, target.getBasDt()))
+                .thenReturn(recentOf(history));
+        when(stockPriceRepository.findByStockCodeAndBasDtBeforeOrderByBasDtAsc(STOCK_CODE, target.getBasDt()))
+                .thenReturn(history);
+
+        // when
+        technicalIndicatorService.updateIndicators(target);
+        StockIndicator afterMissedDay = target.getStockIndicator();
+        target.setStockIndicator(null);
+        technicalIndicatorService.updateIndicators(target);
+
+        // then
+        StockIndicator expected = expectedIndicator(history, target);
+        assertThat(afterMissedDay).usingRecursiveComparison().ignoringFields("stockPrice").isEqualTo(expected);
+        assertThat(target.getStockIndicator()).usingRecursiveComparison().ignoringFields("stockPrice").isEqualTo(expected);
+    }
+}
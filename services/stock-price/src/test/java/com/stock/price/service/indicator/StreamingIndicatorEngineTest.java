@@ -0,0 +1,292 @@
+package com.stock.price.service.indicator;
+
+import com.stock.price.entity.StockIndicator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.ta4j.core.BarSeries;
+import org.ta4j.core.BaseBarSeriesBuilder;
+import org.ta4j.core.Indicator;
+import org.ta4j.core.indicators.MACDIndicator;
+import org.ta4j.core.indicators.ROCIndicator;
+import org.ta4j.core.indicators.RSIIndicator;
+import org.ta4j.core.indicators.averages.EMAIndicator;
+import org.ta4j.core.indicators.averages.SMAIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsLowerIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsMiddleIndicator;
+import org.ta4j.core.indicators.bollinger.BollingerBandsUpperIndicator;
+import org.ta4j.core.indicators.helpers.ClosePriceIndicator;
+import org.ta4j.core.indicators.statistics.StandardDeviationIndicator;
+import org.ta4j.core.num.Num;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class StreamingIndicatorEngineTest {
+
+    // 일별 배치가 지표를 기록하는 최소 과거 거래일 수 (TechnicalIndicatorService.REQUIRED_HISTORY)
+    private static final int WINDOW = 300;
+
+    // 소수 4자리 반올림 경계에서 허용하는 차이
+    private static final BigDecimal TOLERANCE = new BigDecimal("0.0001");
+
+    private static final LocalDate START = LocalDate.of(2018, 1, 2);
+
+    private static final List<BigDecimal> CLOSES = syntheticCloses(1_200);
+
+    /**
+     * 고정 시드 랜덤 워크 종가 (원 단위). 보합 구간과 3배 급등 구간을 포함하여
+     * 분산 0 과 큰 가격대의 자릿수 손실까지 확인한다
+     */
+    private static List<BigDecimal> syntheticCloses(int size) {
+        Random random = new Random(20240628L);
+        List<BigDecimal> closes = new ArrayList<>(size);
+        double price = 50_000;
+        for (int i = 0; i < size; i++) {
+            if (i == 700) {
+                price *= 3;
+            } else if (i < 400 || i >= 430) {
+                price = Math.max(price * Math.exp(random.nextGaussian() * 0.02), 100);
+            }
+            closes.add(BigDecimal.valueOf(Math.round(price)));
+        }
+        return closes;
+    }
+
+    /**
+     * 기존 TechnicalIndicatorService 의 Ta4j 계산 (closes 전체로 시계열을 만들어 마지막 거래일 기준)
+     */
+    private static final class Ta4jReference {
+
+        private final ClosePriceIndicator close;
+        private final List<SMAIndicator> movingAverages = new ArrayList<>();
+        private final RSIIndicator rsi;
+        private final BollingerBandsUpperIndicator bollingerUpper;
+        private final BollingerBandsLowerIndicator bollingerLower;
+        private final MACDIndicator macd;
+        private final EMAIndicator macdSignal;
+        private final ROCIndicator momentum1m;
+        private final ROCIndicator momentum3m;
+        private final ROCIndicator momentum6m;
+
+        Ta4jReference(List<BigDecimal> closes) {
+            BarSeries series = new BaseBarSeriesBuilder().withName("A005930").build();
+            for (int i = 0; i < closes.size(); i++) {
+                Num price = series.numFactory().numOf(closes.get(i));
+                series.addBar(series.barBuilder()
+                        .timePeriod(Duration.ofDays(1))
+                        .endTime(START.plusDays(i).atStartOfDay(ZoneId.of("Asia/Seoul")).toInstant())
+                        .openPrice(price)
+                        .highPrice(price)
+                        .lowPrice(price)
+                        .closePrice(price)
+                        .volume(series.numFactory().numOf(BigDecimal.ZERO))
+                        .build());
+            }
+            close = new ClosePriceIndicator(series);
+            for (int period : new int[]{5, 20, 60, 120, 200, 250}) {
+                movingAverages.add(new SMAIndicator(close, period));
+            }
+            rsi = new RSIIndicator(close, 14);
+            BollingerBandsMiddleIndicator middle = new BollingerBandsMiddleIndicator(new SMAIndicator(close, 20));
+            StandardDeviationIndicator deviation = new StandardDeviationIndicator(close, 20);
+            bollingerUpper = new BollingerBandsUpperIndicator(middle, deviation, series.numFactory().numOf(2));
+            bollingerLower = new BollingerBandsLowerIndicator(middle, deviation, series.numFactory().numOf(2));
+            macd = new MACDIndicator(close, 12, 26);
+            macdSignal = new EMAIndicator(macd, 9);
+            momentum1m = new ROCIndicator(close, 20);
+            momentum3m = new ROCIndicator(close, 60);
+            momentum6m = new ROCIndicator(close, 120);
+        }
+
+        StockIndicator at(int index) {
+            StockIndicator indicator = new StockIndicator();
+            indicator.setMa5(value(movingAverages.get(0), index));
+            indicator.setMa20(value(movingAverages.get(1), index));
+            indicator.setMa60(value(movingAverages.get(2), index));
+            indicator.setMa120(value(movingAverages.get(3), index));
+            indicator.setMa200(value(movingAverages.get(4), index));
+            indicator.setMa250(value(movingAverages.get(5), index));
+            indicator.setRsi14(value(rsi, index));
+            indicator.setBollingerUpper(value(bollingerUpper, index));
+            indicator.setBollingerLower(value(bollingerLower, index));
+            indicator.setMacd(value(macd, index));
+            indicator.setMacdSignal(value(macdSignal, index));
+            indicator.setMomentum1m(value(momentum1m, index));
+            indicator.setMomentum3m(value(momentum3m, index));
+            indicator.setMomentum6m(value(momentum6m, index));
+            return indicator;
+        }
+
+        private static BigDecimal value(Indicator<Num> indicator, int index) {
+            return new BigDecimal(indicator.getValue(index).toString()).setScale(4, RoundingMode.HALF_UP);
+        }
+    }
+
+    private static StockIndicator engineAt(StreamingIndicatorEngine engine) {
+        StockIndicator indicator = new StockIndicator();
+        engine.fill(indicator);
+        return indicator;
+    }
+
+    // 이동평균/ROC 는 정수 합으로 정확히 계산하므로 같아야 하고, 부동소수 상태를 쓰는 지표는 반올림 경계 차이만 허용
+    private static void assertParity(StockIndicator actual, StockIndicator expected, String label) {
+        assertThat(actual.getMa5()).as(label + " ma5").isEqualByComparingTo(expected.getMa5());
+        assertThat(actual.getMa20()).as(label + " ma20").isEqualByComparingTo(expected.getMa20());
+        assertThat(actual.getMa60()).as(label + " ma60").isEqualByComparingTo(expected.getMa60());
+        assertThat(actual.getMa120()).as(label + " ma120").isEqualByComparingTo(expected.getMa120());
+        assertThat(actual.getMa200()).as(label + " ma200").isEqualByComparingTo(expected.getMa200());
+        assertThat(actual.getMa250()).as(label + " ma250").isEqualByComparingTo(expected.getMa250());
+        assertThat(actual.getMomentum1m()).as(label + " momentum1m").isEqualByComparingTo(expected.getMomentum1m());
+        assertThat(actual.getMomentum3m()).as(label + " momentum3m").isEqualByComparingTo(expected.getMomentum3m());
+        assertThat(actual.getMomentum6m()).as(label + " momentum6m").isEqualByComparingTo(expected.getMomentum6m());
+
+        assertThat(actual.getRsi14()).as(label + " rsi14").isCloseTo(expected.getRsi14(), within(TOLERANCE));
+        assertThat(actual.getBollingerUpper()).as(label + " bollingerUpper").isCloseTo(expected.getBollingerUpper(), within(TOLERANCE));
+        assertThat(actual.getBollingerLower()).as(label + " bollingerLower").isCloseTo(expected.getBollingerLower(), within(TOLERANCE));
+        assertThat(actual.getMacd()).as(label + " macd").isCloseTo(expected.getMacd(), within(TOLERANCE));
+        assertThat(actual.getMacdSignal()).as(label + " macdSignal").isCloseTo(expected.getMacdSignal(), within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("전체 재계산 - 첫 거래일부터 넣은 결과가 전체 시계열 Ta4j 계산과 모든 기록 대상 거래일에서 일치")
+    void fullRecomputeParityTest() {
+        // given
+        Ta4jReference reference = new Ta4jReference(CLOSES);
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+
+        // when & then
+        for (int i = 0; i < CLOSES.size(); i++) {
+            engine.push(CLOSES.get(i));
+            if (i >= WINDOW) {
+                assertParity(engineAt(engine), reference.at(i), "index " + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("일별 계산 창 - 300 거래일 창만 넣으면 같은 창의 기존 Ta4j 계산과 일치")
+    void dailyWindowParityTest() {
+        for (int target = WINDOW; target < CLOSES.size(); target += 37) {
+            // given: 기존 일별 배치와 같이 과거 300 거래일 + 당일
+            List<BigDecimal> window = CLOSES.subList(target - WINDOW, target + 1);
+            StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+
+            // when
+            window.forEach(engine::push);
+
+            // then
+            assertParity(engineAt(engine), new Ta4jReference(window).at(WINDOW), "target " + target);
+        }
+    }
+
+    @Test
+    @DisplayName("전체 이력으로 누적한 EMA/RSI 와 기존 300 거래일 창 계산의 차이는 소수 4자리 반올림 경계 이내")
+    void fullHistoryAgainstLegacyWindowTest() {
+        // given
+        StreamingIndicatorEngine fullHistory = new StreamingIndicatorEngine();
+        CLOSES.subList(0, WINDOW).forEach(fullHistory::push);
+
+        for (int target = WINDOW; target < CLOSES.size(); target++) {
+            fullHistory.push(CLOSES.get(target));
+            if (target % 50 != 0) {
+                continue;
+            }
+
+            // when
+            StockIndicator legacy = new Ta4jReference(CLOSES.subList(target - WINDOW, target + 1)).at(WINDOW);
+
+            // then
+            assertParity(engineAt(fullHistory), legacy, "target " + target);
+        }
+    }
+
+    @Test
+    @DisplayName("상태를 저장했다 복원하면 이어서 넣은 결과와 상태가 끊김 없이 계산한 것과 같음")
+    void stateRoundTripTest() {
+        // given
+        StreamingIndicatorEngine continuous = new StreamingIndicatorEngine();
+        CLOSES.subList(0, 500).forEach(continuous::push);
+
+        // when
+        StreamingIndicatorEngine restored = StreamingIndicatorEngine.fromState(continuous.toState());
+        for (BigDecimal close : CLOSES.subList(500, 800)) {
+            continuous.push(close);
+            restored.push(close);
+        }
+
+        // then
+        assertThat(restored.size()).isEqualTo(continuous.size());
+        assertThat(restored.lastClose()).isEqualByComparingTo(continuous.lastClose());
+        assertThat(restored.toState()).isEqualTo(continuous.toState());
+        assertThat(engineAt(restored)).usingRecursiveComparison().isEqualTo(engineAt(continuous));
+    }
+
+    @Test
+    @DisplayName("길이나 형식이 다른 상태는 복원하지 않음")
+    void invalidStateTest() {
+        byte[] state = new StreamingIndicatorEngine().toState();
+        state[3] = 99; // 형식 버전
+
+        assertThatThrownBy(() -> StreamingIndicatorEngine.fromState(new byte[10]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StreamingIndicatorEngine.fromState(state))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    @DisplayName("최근 종가 대조 - 마지막으로 넣은 종가들과 같을 때만 true")
+    void endsWithTest() {
+        // given
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+        CLOSES.subList(0, 300).forEach(engine::push);
+        List<BigDecimal> recent = new ArrayList<>(CLOSES.subList(280, 300));
+
+        // when & then
+        assertThat(engine.endsWith(recent)).isTrue();
+        assertThat(engine.endsWith(List.of())).isTrue();
+        assertThat(engine.endsWith(CLOSES.subList(279, 299))).isFalse();
+        recent.set(15, recent.get(15).add(BigDecimal.ONE));
+        assertThat(engine.endsWith(recent)).isFalse();
+        assertThat(engine.endsWith(CLOSES.subList(0, 252))).isFalse(); // 버퍼보다 많은 구간
+    }
+
+    @Test
+    @DisplayName("기간보다 거래일이 적으면 이동평균/ROC/볼린저 밴드는 null, RSI/MACD 는 첫 거래일부터 계산")
+    void shortHistoryTest() {
+        // given
+        StreamingIndicatorEngine engine = new StreamingIndicatorEngine();
+        CLOSES.subList(0, 20).forEach(engine::push);
+
+        // when
+        StockIndicator indicator = engineAt(engine);
+
+        // then: 20일 이평과 볼린저 밴드는 20 거래일부터, 1개월 ROC 는 21 거래일부터
+        assertThat(indicator.getMa5()).isNotNull();
+        assertThat(indicator.getMa20()).isNotNull();
+        assertThat(indicator.getBollingerUpper()).isNotNull();
+        assertThat(indicator.getMa60()).isNull();
+        assertThat(indicator.getMomentum1m()).isNull();
+        assertThat(indicator.getMomentum3m()).isNull();
+        assertThat(indicator.getRsi14()).isNotNull();
+        assertThat(indicator.getMacd()).isNotNull();
+
+        engine.push(CLOSES.get(20));
+        assertThat(engineAt(engine).getMomentum1m()).isNotNull();
+
+        StreamingIndicatorEngine shorter = new StreamingIndicatorEngine();
+        CLOSES.subList(0, 19).forEach(shorter::push);
+        assertThat(engineAt(shorter).getBollingerUpper()).isNull();
+        assertThat(engineAt(shorter).getBollingerLower()).isNull();
+    }
+}
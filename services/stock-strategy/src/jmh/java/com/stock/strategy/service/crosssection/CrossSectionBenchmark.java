@@ -0,0 +1,99 @@
+package com.stock.strategy.service.crosssection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 유니버스 상위 N 종목 선택 비교: 기존 전략 방식(Map&lt;String, BigDecimal&gt; + 전체 정렬) vs {@link CrossSection#topK}(double[] + 부분 선택).
+ * <p>
+ * 점수의 5% 는 결측(NaN)이며, 호출마다 미리 만든 점수 배열 64 개를 돌아가며 사용한다.
+ * 실행: ./gradlew :services:stock-strategy:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CrossSectionBenchmark {
+
+    private static final int INPUTS = 64;
+
+    @Param({"2500"})
+    private int universe;
+
+    @Param({"20"})
+    private int topN;
+
+    private String[] codes;
+    private double[][] inputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        codes = new String[universe];
+        for (int i = 0; i < universe; i++) {
+            codes[i] = String.format("A%06d", i);
+        }
+
+        inputs = new double[INPUTS][];
+        for (int seed = 0; seed < INPUTS; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            double[] scores = new double[universe];
+            for (int i = 0; i < universe; i++) {
+                scores[i] = random.nextInt(20) == 0 ? Double.NaN : random.nextDouble(-50, 50);
+            }
+            inputs[seed] = scores;
+        }
+    }
+
+    private double[] nextInput() {
+        next = (next + 1) % INPUTS;
+        return inputs[next];
+    }
+
+    @Benchmark
+    public List<String> legacy() {
+        double[] values = nextInput();
+        Map<String, BigDecimal> scores = new HashMap<>();
+        for (int i = 0; i < codes.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                scores.put(codes[i], BigDecimal.valueOf(values[i]).setScale(8, RoundingMode.HALF_UP));
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
+                .limit(topN)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> crossSection() {
+        double[] values = nextInput();
+        List<String> selected = new ArrayList<>(topN);
+        for (int index : CrossSection.topK(values, topN)) {
+            selected.add(codes[index]);
+        }
+        return selected;
+    }
+}
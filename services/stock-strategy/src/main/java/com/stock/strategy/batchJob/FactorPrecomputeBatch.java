@@ -0,0 +1,166 @@
+package com.stock.strategy.batchJob;
+
+import com.stock.common.dto.CorpInfoDto;
+import com.stock.common.enums.StockMarket;
+import com.stock.common.service.TradingCalendar;
+import com.stock.common.utils.DateUtils;
+import com.stock.strategy.client.CorpClient;
+import com.stock.strategy.service.factor.FactorExposure;
+import com.stock.strategy.service.factor.FactorExposureCalculator;
+import com.stock.strategy.service.factor.FactorPartitionMaintainer;
+import com.stock.strategy.service.factor.FactorStore;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.panel.PricePanelLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.stock.common.consts.ApplicationConstants.FACTOR_DATA_VERSION_KEY;
+
+/**
+ * 거래일별 팩터 노출값 사전 계산 배치.
+ * <p>
+ * 주가/재무 데이터 버전이 바뀌면 {@link FactorPrecomputeTrigger}가 최근 구간을 자동 실행하고,
+ * 과거 구간 백필은 {@code POST /batch/factors}로 실행한다. 백테스트는 저장된 노출값을 조회만 한다.
+ * 첫 스텝에서 대상 기간까지 연도별 파티션을 만들고, 한 아이템이 하루치 전 종목 횡단면이므로 청크는 작게 유지한다.
+ * 완료되면 팩터 데이터 버전을 올려 이전 노출값으로 계산된 백테스트 결과 캐시를 무효화한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FactorPrecomputeBatch {
+
+    private static final int FACTOR_CHUNK_SIZE = 5;
+
+    // 변동성 계산용 시세 구간 (20 거래일 + 휴장일 여유)
+    private static final int PRICE_LOOKBACK_DAYS = 40;
+
+    private static final List<StockMarket> MARKETS = List.of(StockMarket.KOSPI, StockMarket.KOSDAQ);
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final TradingCalendar tradingCalendar;
+    private final CorpClient corpClient;
+    private final PricePanelLoader pricePanelLoader;
+    private final FactorExposureCalculator factorExposureCalculator;
+    private final FactorStore factorStore;
+    private final FactorPartitionMaintainer factorPartitionMaintainer;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Bean
+    public Job factorPrecomputeJob() {
+        return new JobBuilder("factorPrecomputeJob", jobRepository)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                            stringRedisTemplate.opsForValue().increment(FACTOR_DATA_VERSION_KEY);
+                            log.info("Factor data version increased after factorPrecomputeJob completion");
+                        }
+                    }
+                })
+                .start(factorPartitionStep())
+                .next(factorPrecomputeStep())
+                .build();
+    }
+
+    @Bean
+    public Step factorPartitionStep() {
+        return new StepBuilder("factorPartitionStep", jobRepository)
+                .tasklet(factorPartitionTasklet(null), platformTransactionManager)
+                .build();
+    }
+
+    // 대상 기간과 내년까지 파티션 확보 (실패해도 pmax 에 저장되므로 계산은 계속 진행)
+    @Bean
+    @StepScope
+    public Tasklet factorPartitionTasklet(@Value("#{jobParameters['endDate']}") String endDate) {
+        return (contribution, chunkContext) -> {
+            int lastYear = Math.max(DateUtils.toStringLocalDate(endDate).getYear(), LocalDate.now().getYear()) + 1;
+            try {
+                factorPartitionMaintainer.ensureYearlyPartitions(lastYear);
+            } catch (Exception e) {
+                log.warn("Factor partition maintenance failed (until {}): {}", lastYear, e.getMessage());
+            }
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public Step factorPrecomputeStep() {
+        return new StepBuilder("factorPrecomputeStep", jobRepository)
+                .<LocalDate, DailyExposures>chunk(FACTOR_CHUNK_SIZE, platformTransactionManager)
+                .reader(factorTradingDayReader(null, null))
+                .processor(factorExposureProcessor())
+                .writer(factorExposureWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ListItemReader<LocalDate> factorTradingDayReader(
+            @Value("#{jobParameters['startDate']}") String startDate,
+            @Value("#{jobParameters['endDate']}") String endDate) {
+        List<LocalDate> tradingDays = tradingCalendar.getTradingDays(
+                DateUtils.toStringLocalDate(startDate), DateUtils.toStringLocalDate(endDate)).toList();
+        log.info("Factor precompute target: {} trading days ({} ~ {})", tradingDays.size(), startDate, endDate);
+        return new ListItemReader<>(tradingDays);
+    }
+
+    @Bean
+    public ItemProcessor<LocalDate, DailyExposures> factorExposureProcessor() {
+        return date -> {
+            Set<String> codes = new LinkedHashSet<>();
+            for (StockMarket market : MARKETS) {
+                for (CorpInfoDto corp : corpClient.getCorpsByMarket(market.name(), date.toString())) {
+                    if (corp.getStockCode() != null && !corp.getStockCode().isEmpty()) {
+                        codes.add(corp.getStockCode());
+                    }
+                }
+            }
+            if (codes.isEmpty()) {
+                log.warn("No listed stocks found for factor precompute on {}", date);
+                return null;
+            }
+
+            List<String> universe = List.copyOf(codes);
+            PricePanel prices = pricePanelLoader.load(universe, date.minusDays(PRICE_LOOKBACK_DAYS), date);
+            return new DailyExposures(date, factorExposureCalculator.calculate(date, universe, prices));
+        };
+    }
+
+    @Bean
+    public ItemWriter<DailyExposures> factorExposureWriter() {
+        return items -> {
+            for (DailyExposures item : items) {
+                factorStore.save(item.date(), item.exposures());
+            }
+        };
+    }
+
+    public record DailyExposures(LocalDate date, List<FactorExposure> exposures) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.stock.strategy.batchJob;
+
+import com.stock.common.utils.DateUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.stock.common.consts.ApplicationConstants.CORP_DATA_VERSION_KEY;
+import static com.stock.common.consts.ApplicationConstants.FINANCE_DATA_VERSION_KEY;
+import static com.stock.common.consts.ApplicationConstants.PRICE_DATA_VERSION_KEY;
+
+/**
+ * 시세/재무/기업 정보 배치 완료 후 팩터 노출값 사전 계산을 이어서 실행하는 트리거.
+ * <p>
+ * 시세(stockDataJob)/재무(corpFinanceJob)/기업 정보(corpDataJob, sectorUpdateJob) 배치는 다른 서비스에서 실행되므로,
+ * 완료 시 증가하는 공용 레디스 데이터 버전을 poll-interval 마다 확인하여 바뀌었으면 최근 구간의 factorPrecomputeJob 을 실행한다.
+ * 시세나 기업 정보(유니버스)만 바뀌면 price-lookback-days, 재무가 바뀌면 공시 반영 지연을 고려한 finance-lookback-days 구간을 다시 계산한다.
+ * 팩터 데이터 버전은 이 배치의 결과이므로 확인하지 않는다 (자기 자신을 다시 실행하지 않도록).
+ * <p>
+ * 데이터 버전을 식별 파라미터로 사용하므로 여러 인스턴스가 같은 버전을 발견해도 배치 저장소에서 한 번만 실행되며,
+ * 실패한 버전은 다음 확인 시 다시 실행된다.
+ */
+@Slf4j
+@Component
+public class FactorPrecomputeTrigger {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final JobLauncher jobLauncher;
+    private final Job factorPrecomputeJob;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long pollIntervalSeconds;
+    private final int priceLookbackDays;
+    private final int financeLookbackDays;
+
+    private final ScheduledExecutorService poller;
+
+    // 이 인스턴스가 마지막으로 처리(또는 다른 인스턴스의 처리를 확인)한 데이터 버전
+    private volatile DataVersion processed;
+
+    public FactorPrecomputeTrigger(JobLauncher jobLauncher,
+                                   @Qualifier("factorPrecomputeJob") Job factorPrecomputeJob,
+                                   StringRedisTemplate redisTemplate,
+                                   @Value("${factor-precompute.auto.enabled:true}") boolean enabled,
+                                   @Value("${factor-precompute.auto.poll-interval-seconds:300}") long pollIntervalSeconds,
+                                   @Value("${factor-precompute.auto.price-lookback-days:14}") int priceLookbackDays,
+                                   @Value("${factor-precompute.auto.finance-lookback-days:120}") int financeLookbackDays) {
+        if (pollIntervalSeconds <= 0 || priceLookbackDays <= 0 || financeLookbackDays <= 0) {
+            throw new IllegalArgumentException("Factor precompute trigger settings must be positive");
+        }
+        this.jobLauncher = jobLauncher;
+        this.factorPrecomputeJob = factorPrecomputeJob;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.pollIntervalSeconds = pollIntervalSeconds;
+        this.priceLookbackDays = priceLookbackDays;
+        this.financeLookbackDays = financeLookbackDays;
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "factor-precompute-trigger");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Factor precompute trigger disabled");
+            return;
+        }
+        log.info("Factor precompute trigger started: every {}s", pollIntervalSeconds);
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalSeconds, pollIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    void poll() {
+        try {
+            DataVersion current = currentVersion();
+            DataVersion previous = processed;
+            if (current.equals(previous)) {
+                return;
+            }
+
+            // 어떤 데이터가 바뀌었는지 모르면(기동 직후) 넓은 구간으로 계산
+            boolean financeChanged = previous == null || !previous.finance().equals(current.finance());
+            LocalDate endDate = LocalDate.now(KST);
+            LocalDate startDate = endDate.minusDays(financeChanged ? financeLookbackDays : priceLookbackDays);
+
+            if (launch(current, startDate, endDate)) {
+                processed = current;
+            }
+        } catch (Exception e) {
+            log.error("Factor precompute trigger failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean launch(DataVersion version, LocalDate startDate, LocalDate endDate) throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("dataVersion", version.toString())
+                .addString("startDate", DateUtils.toLocalDateString(startDate), false)
+                .addString("endDate", DateUtils.toLocalDateString(endDate), false)
+                .toJobParameters();
+
+        try {
+            log.info("Data version changed to {}, precomputing factors {} ~ {}", version, startDate, endDate);
+            JobExecution execution = jobLauncher.run(factorPrecomputeJob, jobParameters);
+            if (execution.getStatus() != BatchStatus.COMPLETED) {
+                log.warn("Factor precompute for data version {} ended with {}, retrying on next poll", version, execution.getStatus());
+                return false;
+            }
+            return true;
+        } catch (JobInstanceAlreadyCompleteException e) {
+            // 다른 인스턴스가 같은 데이터 버전을 이미 계산함
+            log.debug("Factor precompute for data version {} already completed", version);
+            return true;
+        } catch (JobExecutionAlreadyRunningException e) {
+            // 다른 인스턴스에서 실행 중. 다음 확인 시 완료 여부를 다시 확인 (실패했으면 이어서 실행)
+            log.debug("Factor precompute for data version {} is running on another instance", version);
+            return false;
+        }
+    }
+
+    private DataVersion currentVersion() {
+        List<String> versions = redisTemplate.opsForValue().multiGet(
+                List.of(PRICE_DATA_VERSION_KEY, FINANCE_DATA_VERSION_KEY, CORP_DATA_VERSION_KEY));
+        return new DataVersion(versionOf(versions, 0), versionOf(versions, 1), versionOf(versions, 2));
+    }
+
+    private static String versionOf(List<String> versions, int index) {
+        String version = versions != null && versions.size() > index ? versions.get(index) : null;
+        return version != null ? version : "0";
+    }
+
+    record DataVersion(String price, String finance, String corp) {
+
+        @Override
+        public String toString() {
+            return "p" + price + ".f" + finance + ".c" + corp;
+        }
+    }
+}
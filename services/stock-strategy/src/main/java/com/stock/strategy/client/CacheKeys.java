@@ -0,0 +1,32 @@
+package com.stock.strategy.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * 배치 조회 캐시 키 생성 (@Cacheable key SpEL 에서 T(...) 로 호출).
+ * <p>
+ * 코드 목록은 정렬/중복 제거 후 SHA-256 으로 줄여, 순서만 다른 같은 목록은 같은 키를 쓰고
+ * 크기와 hashCode 가 우연히 같은 다른 목록이 서로의 결과를 받지 않도록 한다.
+ */
+public final class CacheKeys {
+
+    private CacheKeys() {
+    }
+
+    public static String codes(Collection<String> codes) {
+        if (codes == null || codes.isEmpty()) {
+            return "empty";
+        }
+        String canonical = String.join(",", codes.stream().distinct().sorted().toList());
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
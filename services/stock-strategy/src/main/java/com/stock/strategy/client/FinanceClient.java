@@ -4,6 +4,7 @@ import com.stock.common.dto.CorpFinanceIndicatorDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -23,6 +24,10 @@ public class FinanceClient {
 
     private static final int BATCH_SIZE = 200;
 
+    // 그리드 서치처럼 같은 날짜/유니버스로 반복 호출되는 경우 재무 지표 조회를 공유
+    @Cacheable(value = "indicatorCache",
+            key = "'finance:date:' + #date + ':codes:' + T(com.stock.strategy.client.CacheKeys).codes(#corpCodes)",
+            unless = "#result.isEmpty()")
     public List<CorpFinanceIndicatorDto> getIndicatorsBatch(List<String> corpCodes, String date) {
         if (corpCodes == null || corpCodes.isEmpty()) {
             return List.of();
@@ -1,15 +1,26 @@
 package com.stock.strategy.client;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.common.dto.MarketIndexDto;
+import com.stock.common.dto.PricePanelRequest;
 import com.stock.common.dto.StockIndicatorDto;
 import com.stock.common.dto.StockPriceDto;
+import com.stock.common.enums.IndexWeighting;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -19,6 +30,7 @@ import java.util.List;
 public class PriceClient {
 
     private final RestClient restClient;
+    private final ObjectMapper objectMapper;
 
     @Value("${services.stock-price.url:http://localhost:8083}")
     private String priceServiceUrl;
@@ -33,6 +45,77 @@ public class PriceClient {
                 .body(new ParameterizedTypeReference<List<StockPriceDto>>() {});
     }
 
+    /**
+     * 주가 서비스가 일별로 산출한 시장 지수 시계열 (기준일 오름차순)
+     */
+    public List<MarketIndexDto> getMarketIndex(String marketCode, IndexWeighting weighting, String startDate, String endDate) {
+        return restClient.get()
+                .uri(priceServiceUrl + "/internal/index/" + marketCode
+                        + "?weighting=" + weighting.name() + "&startDate=" + startDate + "&endDate=" + endDate)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<MarketIndexDto>>() {});
+    }
+
+    /**
+     * 다종목 기간 시세를 NDJSON 스트림으로 받아 행 단위로 handler 에 전달합니다.
+     * 응답 전체를 목록으로 적재하지 않으며, 전달된 행 수를 반환합니다.
+     */
+    public long streamPricePanel(List<String> stockCodes, String startDate, String endDate, PanelRowHandler handler) {
+        if (stockCodes == null || stockCodes.isEmpty()) {
+            return 0L;
+        }
+
+        PricePanelRequest request = PricePanelRequest.builder()
+                .stockCodes(stockCodes)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+
+        Long rows = restClient.post()
+                .uri(priceServiceUrl + "/internal/prices/panel")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .exchange((req, res) -> {
+                    if (res.getStatusCode().isError()) {
+                        throw new RestClientException("Price panel request failed: " + res.getStatusCode());
+                    }
+                    try (InputStream in = res.getBody()) {
+                        return readPanelRows(in, handler);
+                    }
+                });
+        return rows != null ? rows : 0L;
+    }
+
+    private long readPanelRows(InputStream in, PanelRowHandler handler) throws IOException {
+        long rows = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String stockCode = null;
+                LocalDate basDt = null;
+                double endPrice = Double.NaN;
+                long volume = 0L;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    switch (field) {
+                        case "stockCode" -> stockCode = parser.getText();
+                        case "basDt" -> basDt = LocalDate.parse(parser.getText());
+                        case "endPrice" -> endPrice = parser.getDoubleValue();
+                        case "volume" -> volume = parser.getLongValue();
+                        default -> parser.skipChildren();
+                    }
+                }
+
+                if (stockCode != null && basDt != null && !Double.isNaN(endPrice)) {
+                    handler.onRow(stockCode, basDt, endPrice, volume);
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
     @Cacheable(value = "priceCache", key = "'stockCode:' + #stockCode + ':date:' + #date")
     public StockPriceDto getPriceByDate(String stockCode, String date) {
         return restClient.get()
@@ -68,6 +151,9 @@ public class PriceClient {
         return allResults;
     }
 
+    @Cacheable(value = "indicatorCache",
+            key = "'price:date:' + #date + ':codes:' + T(com.stock.strategy.client.CacheKeys).codes(#stockCodes)",
+            unless = "#result.isEmpty()")
     public List<StockIndicatorDto> getIndicatorsByDateBatch(List<String> stockCodes, String date) {
         if (stockCodes == null || stockCodes.isEmpty()) {
             return List.of();
@@ -81,7 +167,7 @@ public class PriceClient {
             
             try {
                 String uri = priceServiceUrl + "/internal/indicators/batch?stockCodes=" + stockCodesParam + "&date=" + date;
-                log.info("Calling Price Service: {}", uri);
+                log.debug("Calling Price Service: {}", uri);
                 
                 List<StockIndicatorDto> chunkResult = restClient.get()
                         .uri(uri)
@@ -97,4 +183,9 @@ public class PriceClient {
         }
         return allResults;
     }
+
+    @FunctionalInterface
+    public interface PanelRowHandler {
+        void onRow(String stockCode, LocalDate basDt, double endPrice, long volume);
+    }
 }
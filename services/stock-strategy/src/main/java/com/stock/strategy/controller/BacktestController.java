@@ -1,25 +1,36 @@
 package com.stock.strategy.controller;
 
+import com.stock.strategy.dto.BacktestJobInfo;
 import com.stock.strategy.dto.BacktestRequest;
 import com.stock.strategy.dto.BacktestResponse;
+import com.stock.strategy.dto.RobustnessReport;
+import com.stock.strategy.dto.SnapshotSeries;
 import com.stock.strategy.entity.BacktestResult;
 import com.stock.strategy.entity.PortfolioSnapshot;
+import com.stock.strategy.entity.SleeveAttribution;
+import com.stock.strategy.entity.WalkForwardFold;
 import com.stock.strategy.repository.BacktestResultRepository;
 import com.stock.strategy.repository.PortfolioSnapshotRepository;
 import com.stock.strategy.service.BacktestService;
+import com.stock.strategy.service.progress.BacktestProgressBroadcaster;
+import com.stock.strategy.service.robustness.RobustnessAnalyzer;
+import com.stock.strategy.service.snapshot.SnapshotSeriesReader;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.util.List;
 
 import com.stock.strategy.dto.CompareStrategiesResponse;
 import com.stock.strategy.dto.GridSearchRequest;
+import com.stock.strategy.dto.OptimizationProgress;
 import com.stock.common.dto.DashboardSummaryDto;
 import java.util.Arrays;
 import java.util.stream.Collectors;
@@ -30,14 +41,22 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BacktestController {
 
+    // 사용자별 동시 실행 제한 기준. 게이트웨이가 전달하지 않으면 작업 큐가 익명 사용자 하나로 묶는다
+    private static final String USER_ID_HEADER = "X-User-Id";
+
     private final BacktestService backtestService;
     private final BacktestResultRepository resultRepository;
     private final PortfolioSnapshotRepository snapshotRepository;
+    private final RobustnessAnalyzer robustnessAnalyzer;
+    private final BacktestProgressBroadcaster progressBroadcaster;
+    private final SnapshotSeriesReader snapshotSeriesReader;
 
     @Operation(summary = "백테스팅 시작", description = "새로운 백테스팅 시뮬레이션을 시작합니다")
     @PostMapping
-    public ResponseEntity<BacktestResponse> startBacktest(@Valid @RequestBody BacktestRequest request) {
-        BacktestResponse response = backtestService.startBacktest(request);
+    public ResponseEntity<BacktestResponse> startBacktest(
+            @Valid @RequestBody BacktestRequest request,
+            @RequestHeader(value = USER_ID_HEADER, required = false) String userId) {
+        BacktestResponse response = backtestService.startBacktest(request, userId);
         return ResponseEntity.ok(response);
     }
 
@@ -52,13 +71,44 @@ public class BacktestController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "그리드 서치 최적화", description = "최적의 파라미터를 탐색합니다")
+    @Operation(summary = "성과 강건성 분석", description = "일별 수익률과 매매 손익 순서를 블록 부트스트랩으로 재표본 추출해 CAGR/MDD/Sharpe 신뢰 구간을 계산합니다")
+    @GetMapping("/robustness")
+    public ResponseEntity<RobustnessReport> analyzeRobustness(
+            @RequestParam Long simulationId,
+            @RequestParam(defaultValue = "10000") int paths,
+            @RequestParam(required = false) Integer blockLength,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(defaultValue = "0.95") double confidence) {
+        return ResponseEntity.ok(robustnessAnalyzer.analyze(simulationId, paths, blockLength, seed, confidence));
+    }
+
+    @Operation(summary = "그리드 서치 최적화", description = "최적의 파라미터를 탐색합니다. 표본 내/외 기간을 지정하면 워크포워드 최적화로 실행합니다")
     @PostMapping("/optimize")
-    public ResponseEntity<BacktestResponse> optimizeStrategies(@Valid @RequestBody GridSearchRequest request) {
-        BacktestResponse response = backtestService.startGridSearch(request);
+    public ResponseEntity<BacktestResponse> optimizeStrategies(
+            @Valid @RequestBody GridSearchRequest request,
+            @RequestHeader(value = USER_ID_HEADER, required = false) String userId) {
+        BacktestResponse response = backtestService.startGridSearch(request, userId);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "그리드 서치 진행 상황 조회", description = "파라미터 최적화 작업의 진행률과 현재 최고 조합을 조회합니다")
+    @GetMapping("/optimize/{optimizationId}")
+    public ResponseEntity<OptimizationProgress> getOptimizationProgress(@PathVariable String optimizationId) {
+        return ResponseEntity.ok(backtestService.getGridSearchProgress(optimizationId));
+    }
+
+    @Operation(summary = "작업 상태 조회", description = "대기열에 등록된 백테스팅/최적화 작업의 상태를 조회합니다")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<BacktestJobInfo> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(backtestService.getJob(jobId));
+    }
+
+    @Operation(summary = "작업 취소", description = "대기 중인 작업은 즉시, 실행 중인 작업은 다음 확인 주기에 취소합니다")
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<BacktestJobInfo> cancelJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(backtestService.cancelJob(jobId));
+    }
+
     @Operation(summary = "대시보드 요약 정보 조회", description = "메인 대시보드에 표시할 요약 정보를 조회합니다")
     @GetMapping("/summary")
     public ResponseEntity<DashboardSummaryDto> getDashboardSummary() {
@@ -73,6 +123,36 @@ public class BacktestController {
         return ResponseEntity.ok(result);
     }
 
+    @Operation(summary = "워크포워드 구간 결과 조회", description = "표본 외 구간 연결 시뮬레이션의 구간별 선택 파라미터와 표본 내/외 점수를 조회합니다")
+    @GetMapping("/{simulationId}/walk-forward")
+    public ResponseEntity<List<WalkForwardFold>> getWalkForwardFolds(@PathVariable Long simulationId) {
+        return ResponseEntity.ok(backtestService.getWalkForwardFolds(simulationId));
+    }
+
+    @Operation(summary = "복합 전략 슬리브별 성과 기여 조회", description = "복합 전략 하위 전략별 손익, 수익률, 주문 금액과 슬리브 간 상쇄 금액을 조회합니다")
+    @GetMapping("/{simulationId}/sleeves")
+    public ResponseEntity<List<SleeveAttribution>> getSleeveAttributions(@PathVariable Long simulationId) {
+        return ResponseEntity.ok(backtestService.getSleeveAttributions(simulationId));
+    }
+
+    @Operation(summary = "백테스팅 진행 상황 스트림",
+            description = "진행률, 다운샘플링된 자산 곡선, 주요 지표를 Server-Sent Events 로 전달합니다 (progress/status/complete 이벤트)")
+    @GetMapping(value = "/{simulationId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProgress(@PathVariable Long simulationId) {
+        return progressBroadcaster.subscribe(simulationId);
+    }
+
+    @Operation(summary = "포트폴리오 스냅샷 시계열 조회",
+            description = "차트용으로 날짜/평가 금액/현금 배열만 조회합니다 (보유 종목 제외). maxPoints 를 넘으면 곡선 모양을 유지하며 다운샘플링합니다")
+    @GetMapping("/{simulationId}/snapshots/series")
+    public ResponseEntity<SnapshotSeries> getSnapshotSeries(
+            @PathVariable Long simulationId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1000") int maxPoints) {
+        return ResponseEntity.ok(snapshotSeriesReader.read(simulationId, startDate, endDate, maxPoints));
+    }
+
     @Operation(summary = "포트폴리오 스냅샷 조회", description = "백테스팅 기간 동안의 포트폴리오 스냅샷을 조회합니다")
     @GetMapping("/{simulationId}/snapshots")
     public ResponseEntity<List<PortfolioSnapshot>> getSnapshots(
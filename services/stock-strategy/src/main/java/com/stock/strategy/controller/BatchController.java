@@ -0,0 +1,57 @@
+package com.stock.strategy.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.JobRegistry;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.stock.common.utils.DateUtils.toStringLocalDate;
+
+@Slf4j
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/batch")
+@Tag(name = "Batch API", description = "백테스트용 사전 계산 배치 실행 API")
+public class BatchController {
+
+    private final JobLauncher jobLauncher;
+    private final JobRegistry jobRegistry;
+
+    @PostMapping("/factors")
+    @Operation(summary = "팩터 노출값 사전 계산", description = "기간 내 거래일별 팩터 노출값을 계산하여 저장합니다. 주가/재무 배치 후 최근 구간은 자동 실행되므로 과거 구간 백필에 사용합니다.")
+    public ResponseEntity<String> factorPrecomputeApi(
+            @Parameter(description = "시작 일자 (yyyyMMdd)")
+            @Pattern(regexp = "^\\d{8}$", message = "날짜 형식은 yyyyMMdd 형식이어야 합니다")
+            @RequestParam(value = "startDate") String startDate,
+            @Parameter(description = "종료 일자 (yyyyMMdd)")
+            @Pattern(regexp = "^\\d{8}$", message = "날짜 형식은 yyyyMMdd 형식이어야 합니다")
+            @RequestParam(value = "endDate") String endDate) throws Exception {
+
+        if (toStringLocalDate(startDate).isAfter(toStringLocalDate(endDate))) {
+            return ResponseEntity.badRequest().body("startDate must not be after endDate");
+        }
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("startDate", startDate)
+                .addString("endDate", endDate)
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters();
+
+        jobLauncher.run(jobRegistry.getJob("factorPrecomputeJob"), jobParameters);
+
+        return ResponseEntity.ok("FACTOR PRECOMPUTE COMPLETED: " + startDate + " - " + endDate);
+    }
+}
@@ -0,0 +1,54 @@
+package com.stock.strategy.dto;
+
+import com.stock.strategy.enums.BacktestJobStatus;
+import com.stock.strategy.enums.BacktestJobType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "백테스트 작업 큐 항목 정보")
+public class BacktestJobInfo {
+    @Schema(description = "작업 ID", example = "42")
+    private Long jobId;
+
+    @Schema(description = "작업 유형", example = "BACKTEST")
+    private BacktestJobType type;
+
+    @Schema(description = "우선순위 (작을수록 먼저 실행)", example = "0")
+    private int priority;
+
+    @Schema(description = "요청 사용자", example = "analyst01")
+    private String userId;
+
+    @Schema(description = "시뮬레이션 ID (단일 백테스트)", example = "100")
+    private Long simulationId;
+
+    @Schema(description = "파라미터 최적화 작업 ID (최적화)", example = "3f2b6c1e-7a0d-4c55-9a57-0c1f3e7f9b21")
+    private String optimizationId;
+
+    @Schema(description = "작업 상태", example = "QUEUED")
+    private BacktestJobStatus status;
+
+    @Schema(description = "취소 요청 여부 (실행 중 작업은 다음 확인 주기에 중단)", example = "false")
+    private boolean cancelRequested;
+
+    @Schema(description = "실행 횟수 (인스턴스 중단으로 재실행되면 증가)", example = "1")
+    private int attempts;
+
+    @Schema(description = "등록 시간")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "실행 시작 시간")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시간")
+    private LocalDateTime finishedAt;
+}
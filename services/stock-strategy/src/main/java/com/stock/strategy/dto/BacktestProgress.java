@@ -0,0 +1,67 @@
+package com.stock.strategy.dto;
+
+import com.stock.strategy.enums.SimulationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "백테스팅 실행 진행 상황 (SSE progress 이벤트)")
+public class BacktestProgress {
+    @Schema(description = "시뮬레이션 ID", example = "1")
+    private Long simulationId;
+
+    @Schema(description = "시뮬레이션 상태", example = "RUNNING")
+    private SimulationStatus status;
+
+    @Schema(description = "처리한 거래일 수", example = "612")
+    private int processedDays;
+
+    @Schema(description = "전체 거래일 수", example = "2460")
+    private int totalDays;
+
+    @Schema(description = "진행률 (%)", example = "24.88")
+    private BigDecimal percent;
+
+    @Schema(description = "마지막으로 처리한 거래일", example = "2016-06-30")
+    private LocalDate currentDate;
+
+    @Schema(description = "현재 평가 금액", example = "11523000.00")
+    private BigDecimal totalValue;
+
+    @Schema(description = "누적 수익률 (%)", example = "15.2300")
+    private BigDecimal totalReturn;
+
+    @Schema(description = "연평균 성장률 (%)", example = "6.1200")
+    private BigDecimal cagr;
+
+    @Schema(description = "최대 낙폭 (%)", example = "18.4000")
+    private BigDecimal mdd;
+
+    @Schema(description = "샤프 비율", example = "0.7400")
+    private BigDecimal sharpeRatio;
+
+    @Schema(description = "최근 12개월 수익률 (%, 252 거래일 미만이면 null)", example = "9.8700")
+    private BigDecimal rollingReturn;
+
+    @Schema(description = "최근 12개월 샤프 비율 (252 거래일 미만이면 null)", example = "0.8100")
+    private BigDecimal rollingSharpeRatio;
+
+    @Schema(description = "이번 이벤트 자산 곡선 점의 시작 위치. 클라이언트는 기존 곡선을 이 길이로 자른 뒤 이어 붙인다", example = "120")
+    private int curveOffset;
+
+    @Schema(description = "자산 곡선 날짜 (다운샘플링)")
+    private List<LocalDate> curveDates;
+
+    @Schema(description = "자산 곡선 평가 금액 (curveDates 와 같은 순서)")
+    private double[] curveValues;
+}
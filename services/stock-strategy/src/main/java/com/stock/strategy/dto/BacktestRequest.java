@@ -16,6 +16,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -78,6 +79,10 @@ public class BacktestRequest {
     @Schema(description = "자산 배분 전략 설정 (DUAL_MOMENTUM, RISK_PARITY 전략 사용 시)")
     private AssetAllocationConfig assetAllocationConfig;
 
+    @Valid
+    @Schema(description = "하위 전략 구성 (COMPOSITE 전략 사용 시, 비중 합계 1 이하이며 나머지는 현금). 하위 전략 설정은 위 전략별 설정을 사용")
+    private List<StrategySleeve> sleeves;
+
     @Schema(description = "슬리피지 모델 타입", example = "FIXED", defaultValue = "NONE")
     private com.stock.strategy.enums.SlippageType slippageType;
 
@@ -85,12 +90,38 @@ public class BacktestRequest {
     @Schema(description = "고정 슬리피지 비율 (예: 0.002 = 0.2%)", example = "0.002")
     private BigDecimal fixedSlippageRate;
 
+    @DecimalMin(value = "0.0", inclusive = true, message = "시장 충격 계수는 0 이상이어야 합니다")
+    @Schema(description = "시장 충격 계수 (MARKET_IMPACT, 충격 = 계수 × 일간 변동성 × √(수량/평균 거래량))", example = "1.0", defaultValue = "1.0")
+    private BigDecimal impactCoefficient;
+
+    @Min(value = 1, message = "평균 거래량 산정 기간은 1일 이상이어야 합니다")
+    @Schema(description = "평균 거래량/변동성 산정 기간 (거래일, MARKET_IMPACT)", example = "20", defaultValue = "20")
+    private Integer volumeLookbackDays;
+
     @DecimalMin(value = "0.01", inclusive = true, message = "단일 종목 최대 비중은 0.01 이상이어야 합니다")
     @DecimalMax(value = "1.0", inclusive = true, message = "단일 종목 최대 비중은 1.0 이하여야 합니다")
     @Schema(description = "단일 종목 최대 비중 제한 (예: 0.2 = 20%)", example = "0.2")
     private BigDecimal maxWeightPerStock;
 
     @DecimalMin(value = "0.0", inclusive = true, message = "최대 거래량 비율은 0 이상이어야 합니다")
-    @Schema(description = "최대 거래량 비율 (유동성 제약) (예: 0.05 = 5%)", example = "0.05")
+    @Schema(description = "최대 거래량 비율 (유동성 제약, 초과 수량은 다음 거래일로 이월) (예: 0.05 = 5%)", example = "0.05")
     private BigDecimal maxVolumeRatio;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "리밸런싱 허용 오차는 0 이상이어야 합니다")
+    @DecimalMax(value = "1.0", inclusive = true, message = "리밸런싱 허용 오차는 1 이하여야 합니다")
+    @Schema(description = "리밸런싱 허용 오차 (총자산 대비 목표 금액 이탈이 이 값 미만이면 거래 생략) (예: 0.01 = 1%)", example = "0.01")
+    private BigDecimal rebalanceBand;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "최소 거래 금액은 0 이상이어야 합니다")
+    @Schema(description = "최소 거래 금액 (원, 미만 주문 생략)", example = "100000")
+    private BigDecimal minTradeAmount;
+
+    @Schema(description = "포트폴리오 스냅샷 저장 주기 (마지막 거래일은 항상 저장)", example = "DAILY", defaultValue = "DAILY")
+    private com.stock.strategy.enums.SnapshotGranularity snapshotGranularity;
+
+    @Schema(description = "성과 비교 기준 지수 (알파/베타/추적 오차 등 계산)", example = "KOSPI", defaultValue = "KOSPI")
+    private com.stock.strategy.enums.BenchmarkIndex benchmark;
+
+    @Schema(description = "결과 캐시 사용 안 함 (동일 조건의 저장된 결과가 있어도 다시 실행, 요청 지문에는 포함되지 않음)", example = "false", defaultValue = "false")
+    private Boolean bypassCache;
 }
\ No newline at end of file
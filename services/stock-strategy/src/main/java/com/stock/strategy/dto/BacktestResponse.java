@@ -16,9 +16,18 @@ public class BacktestResponse {
     @Schema(description = "시뮬레이션 고유 ID", example = "100")
     private Long simulationId;
 
+    @Schema(description = "작업 큐 ID (대기/취소 조회용)", example = "42")
+    private Long jobId;
+
+    @Schema(description = "파라미터 최적화 작업 ID (그리드 서치 요청 시)", example = "3f2b6c1e-7a0d-4c55-9a57-0c1f3e7f9b21")
+    private String optimizationId;
+
     @Schema(description = "시뮬레이션 실행 상태", example = "PENDING")
     private SimulationStatus status;
 
     @Schema(description = "응답 메시지", example = "Backtesting job has been submitted.")
     private String message;
+
+    @Schema(description = "동일 조건으로 저장된 결과 재사용 여부 (true 이면 simulationId 의 결과를 바로 조회 가능)", example = "false")
+    private Boolean cached;
 }
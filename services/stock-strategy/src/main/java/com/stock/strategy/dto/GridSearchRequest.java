@@ -1,7 +1,10 @@
 package com.stock.strategy.dto;
 
+import com.stock.strategy.enums.OptimizationMetric;
+import com.stock.strategy.enums.SearchMode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,10 +25,10 @@ public class GridSearchRequest {
     @Schema(description = "기본 백테스팅 설정 (기간, 자본금, 수수료 등)")
     private BacktestRequest baseRequest;
 
-    @Schema(description = "최소 선정 종목 수", example = "10")
+    @Schema(description = "최소 선정 종목 수 (섹터 로테이션은 섹터별 종목 수)", example = "10")
     private Integer minTopN;
 
-    @Schema(description = "최대 선정 종목 수", example = "30")
+    @Schema(description = "최대 선정 종목 수 (섹터 로테이션은 섹터별 종목 수)", example = "30")
     private Integer maxTopN;
 
     @Schema(description = "종목 수 증가 스텝", example = "10")
@@ -33,4 +36,44 @@ public class GridSearchRequest {
 
     @Schema(description = "가중치 탐색 스텝 (예: 0.1 단위 탐색)", example = "0.1")
     private Double weightStep;
+
+    @Schema(description = "섹터 로테이션 최소 선정 섹터 수", example = "2")
+    private Integer minTopSectors;
+
+    @Schema(description = "섹터 로테이션 최대 선정 섹터 수", example = "5")
+    private Integer maxTopSectors;
+
+    @Builder.Default
+    @Schema(description = "탐색 방식 (GRID, RANDOM, SUCCESSIVE_HALVING)", example = "SUCCESSIVE_HALVING")
+    private SearchMode searchMode = SearchMode.GRID;
+
+    @Builder.Default
+    @Schema(description = "후보 비교 지표 (TOTAL_RETURN, CAGR, SHARPE, MDD)", example = "SHARPE")
+    private OptimizationMetric metric = OptimizationMetric.TOTAL_RETURN;
+
+    @Min(value = 1, message = "평가 횟수는 1 이상이어야 합니다")
+    @Schema(description = "무작위 탐색 후보 수 (RANDOM 필수, SUCCESSIVE_HALVING 에서 지정 시 격자 대신 무작위 후보 사용)", example = "200")
+    private Integer budget;
+
+    @Min(value = 2, message = "축소 비율은 2 이상이어야 합니다")
+    @Schema(description = "Successive halving 단계별 축소 비율 (생존 후보 1/n, 평가 기간 n배)", example = "2")
+    private Integer reductionFactor;
+
+    @Min(value = 1, message = "최소 평가 기간은 1개월 이상이어야 합니다")
+    @Schema(description = "Successive halving 첫 단계 최소 평가 기간 (개월)", example = "6")
+    private Integer minWindowMonths;
+
+    @Schema(description = "무작위 탐색 시드 (재현용)", example = "42")
+    private Long seed;
+
+    @Min(value = 1, message = "표본 내 기간은 1개월 이상이어야 합니다")
+    @Schema(description = "워크포워드 표본 내(최적화) 기간 (개월). 표본 외 기간과 함께 지정하면 워크포워드 최적화로 실행", example = "24")
+    private Integer inSampleMonths;
+
+    @Min(value = 1, message = "표본 외 기간은 1개월 이상이어야 합니다")
+    @Schema(description = "워크포워드 표본 외(검증) 기간 (개월). 구간마다 이 기간만큼 창을 이동", example = "6")
+    private Integer outOfSampleMonths;
+
+    @Schema(description = "워크포워드 표본 내 기간 시작일 고정 여부 (true: 확장 창, false: 이동 창)", example = "false")
+    private Boolean anchored;
 }
@@ -0,0 +1,58 @@
+package com.stock.strategy.dto;
+
+import com.stock.strategy.enums.OptimizationMetric;
+import com.stock.strategy.enums.SimulationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "파라미터 최적화 진행 상황")
+public class OptimizationProgress {
+    @Schema(description = "최적화 작업 ID", example = "3f2b6c1e-7a0d-4c55-9a57-0c1f3e7f9b21")
+    private String optimizationId;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private SimulationStatus status;
+
+    @Schema(description = "후보 비교 지표", example = "TOTAL_RETURN")
+    private OptimizationMetric metric;
+
+    @Schema(description = "전체 후보 조합 수", example = "66")
+    private int totalCombinations;
+
+    @Schema(description = "예정된 전체 평가 횟수 (단계별 후보 수 합계)", example = "125")
+    private int totalEvaluations;
+
+    @Schema(description = "완료된 평가 횟수", example = "40")
+    private int completedEvaluations;
+
+    @Schema(description = "실패한 평가 횟수", example = "0")
+    private int failedEvaluations;
+
+    @Schema(description = "현재 평가 단계 (1부터 시작)", example = "2")
+    private int currentRung;
+
+    @Schema(description = "전체 평가 단계 수 (격자/무작위 탐색은 1)", example = "4")
+    private int totalRungs;
+
+    @Schema(description = "전체 기간 평가 결과 중 최고 후보의 시뮬레이션 ID (워크포워드는 표본 외 구간 연결 시뮬레이션 ID)", example = "120")
+    private Long bestSimulationId;
+
+    @Schema(description = "최고 후보의 지표 값 (MDD 는 부호 반전)", example = "35.20")
+    private BigDecimal bestScore;
+
+    @Schema(description = "시작 시간")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "종료 시간")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,81 @@
+package com.stock.strategy.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "부트스트랩 재표본 기반 성과 지표 신뢰 구간")
+public class RobustnessReport {
+    @Schema(description = "시뮬레이션 ID", example = "1")
+    private Long simulationId;
+
+    @Schema(description = "재표본 경로 수", example = "10000")
+    private int paths;
+
+    @Schema(description = "난수 시드 (같은 시드면 같은 결과)", example = "42")
+    private long seed;
+
+    @Schema(description = "신뢰 수준", example = "0.95")
+    private BigDecimal confidence;
+
+    @Schema(description = "일별 수익률 블록 재표본 결과")
+    private ResampleSummary returns;
+
+    @Schema(description = "매매 손익 순서 블록 재표본 결과 (매매 이력이 없으면 null)")
+    private ResampleSummary trades;
+
+    @Schema(description = "계산 소요 시간 (ms)", example = "850")
+    private long elapsedMillis;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "재표본 대상 시계열과 지표별 분포")
+    public static class ResampleSummary {
+        @Schema(description = "재표본 대상 관측 수 (수익률 기간 수 또는 청산 매매 수)", example = "1230")
+        private int observations;
+
+        @Schema(description = "블록 길이", example = "11")
+        private int blockLength;
+
+        @Schema(description = "연평균 성장률 (%)")
+        private MetricInterval cagr;
+
+        @Schema(description = "최대 낙폭 (%)")
+        private MetricInterval mdd;
+
+        @Schema(description = "샤프 비율")
+        private MetricInterval sharpeRatio;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "지표의 실제 값과 재표본 분포 요약")
+    public static class MetricInterval {
+        @Schema(description = "원래 순서로 계산한 값", example = "12.3400")
+        private BigDecimal observed;
+
+        @Schema(description = "재표본 평균", example = "12.1000")
+        private BigDecimal mean;
+
+        @Schema(description = "신뢰 구간 하한", example = "4.5600")
+        private BigDecimal lower;
+
+        @Schema(description = "재표본 중앙값", example = "12.0500")
+        private BigDecimal median;
+
+        @Schema(description = "신뢰 구간 상한", example = "19.8700")
+        private BigDecimal upper;
+    }
+}
@@ -0,0 +1,35 @@
+package com.stock.strategy.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "차트용 포트폴리오 스냅샷 열 단위 시계열 (보유 종목 제외)")
+public class SnapshotSeries {
+    @Schema(description = "시뮬레이션 ID", example = "1")
+    private Long simulationId;
+
+    @Schema(description = "기간 내 전체 스냅샷 수", example = "2460")
+    private int totalPoints;
+
+    @Schema(description = "다운샘플링 여부 (전체 스냅샷 수가 maxPoints 를 넘으면 true)", example = "true")
+    private boolean sampled;
+
+    @Schema(description = "스냅샷 날짜")
+    private List<LocalDate> dates;
+
+    @Schema(description = "평가 금액 (dates 와 같은 순서)")
+    private double[] totalValues;
+
+    @Schema(description = "현금 잔고 (dates 와 같은 순서)")
+    private double[] cashBalances;
+}
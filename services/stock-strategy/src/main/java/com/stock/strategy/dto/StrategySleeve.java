@@ -0,0 +1,30 @@
+package com.stock.strategy.dto;
+
+import com.stock.strategy.enums.StrategyType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "복합 전략의 하위 전략(슬리브)")
+public class StrategySleeve {
+    @NotNull(message = "하위 전략 유형은 필수입니다")
+    @Schema(description = "하위 전략 유형 (COMPOSITE 제외)", example = "MULTI_FACTOR")
+    private StrategyType strategyType;
+
+    @NotNull(message = "하위 전략 비중은 필수입니다")
+    @DecimalMin(value = "0.01", message = "하위 전략 비중은 0.01 이상이어야 합니다")
+    @DecimalMax(value = "1.0", message = "하위 전략 비중은 1 이하여야 합니다")
+    @Schema(description = "총자산 대비 목표 비중 (리밸런싱일마다 이 비중으로 다시 맞춤)", example = "0.4")
+    private BigDecimal weight;
+}
@@ -28,6 +28,9 @@ public class TradeOrder {
     @Schema(description = "주문 가격", example = "71000")
     private BigDecimal price;
 
+    @Schema(description = "체결 가격 (슬리피지 반영, 체결 시 설정)", example = "71071")
+    private BigDecimal executionPrice;
+
     @Schema(description = "주문 날짜", example = "2023-01-15")
     private LocalDate orderDate;
 }
@@ -39,12 +39,19 @@ public class BacktestResult {
     @Column(name = "sharpe_ratio", precision = 10, scale = 4)
     private BigDecimal sharpeRatio;
 
+    @Column(name = "sortino_ratio", precision = 10, scale = 4)
+    private BigDecimal sortinoRatio;
+
+    @Column(name = "calmar_ratio", precision = 10, scale = 4)
+    private BigDecimal calmarRatio;
+
     @Column(name = "volatility", precision = 10, scale = 4)
     private BigDecimal volatility;
 
     @Column(name = "win_rate", precision = 10, scale = 4)
     private BigDecimal winRate;
 
+    // 청산(매도) 매매 수. 수익 매매 수와 승률도 같은 기준
     @Column(name = "total_trades")
     private Integer totalTrades;
 
@@ -56,4 +63,26 @@ public class BacktestResult {
 
     @Column(name = "slippage_type", length = 20)
     private String slippageType;
+
+    // 벤치마크 대비 지표 (기준 지수 시계열이 없으면 null)
+    @Column(name = "benchmark", length = 20)
+    private String benchmark;
+
+    @Column(name = "alpha", precision = 10, scale = 4)
+    private BigDecimal alpha;
+
+    @Column(name = "beta", precision = 10, scale = 4)
+    private BigDecimal beta;
+
+    @Column(name = "tracking_error", precision = 10, scale = 4)
+    private BigDecimal trackingError;
+
+    @Column(name = "information_ratio", precision = 10, scale = 4)
+    private BigDecimal informationRatio;
+
+    @Column(name = "up_capture", precision = 10, scale = 4)
+    private BigDecimal upCapture;
+
+    @Column(name = "down_capture", precision = 10, scale = 4)
+    private BigDecimal downCapture;
 }
@@ -47,6 +47,16 @@ public class BacktestSimulation {
     @Column(name = "tax_rate", nullable = false, precision = 10, scale = 6)
     private BigDecimal taxRate;
 
+    @Column(name = "request_fingerprint", length = 64)
+    private String requestFingerprint;
+
+    @Column(name = "data_version", length = 64)
+    private String dataVersion;
+
+    // 최적화 조합으로 실행된 경우 최적화 작업 ID
+    @Column(name = "optimization_id", length = 36)
+    private String optimizationId;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private SimulationStatus status;
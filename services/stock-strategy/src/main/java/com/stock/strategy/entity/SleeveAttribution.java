@@ -0,0 +1,61 @@
+package com.stock.strategy.entity;
+
+import com.stock.strategy.enums.StrategyType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 복합 전략 하위 전략(슬리브)별 성과 기여.
+ * 손익/수익률은 슬리브 가상 장부 기준 체결 비용 차감 전 값이며, 비용은 실제 계좌(BacktestResult)에만 반영된다.
+ */
+@Entity
+@Table(name = "TB_SLEEVE_ATTRIBUTION")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SleeveAttribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "simulation_id", nullable = false)
+    private Long simulationId;
+
+    @Column(name = "sleeve_index", nullable = false)
+    private Integer sleeveIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "strategy_type", nullable = false, length = 30)
+    private StrategyType strategyType;
+
+    @Column(name = "target_weight", nullable = false, precision = 10, scale = 4)
+    private BigDecimal targetWeight;
+
+    // 슬리브 평가 손익 합계 (원)
+    @Column(name = "profit_loss", precision = 19, scale = 2)
+    private BigDecimal profitLoss;
+
+    // 리밸런싱 구간 수익률을 연결한 슬리브 수익률 (%)
+    @Column(name = "total_return", precision = 10, scale = 4)
+    private BigDecimal totalReturn;
+
+    // 초기 자본 대비 손익 기여 (%)
+    @Column(name = "contribution", precision = 10, scale = 4)
+    private BigDecimal contribution;
+
+    // 슬리브 주문 금액 합계 (상쇄 전)
+    @Column(name = "traded_amount", precision = 19, scale = 2)
+    private BigDecimal tradedAmount;
+
+    // 다른 슬리브의 반대 방향 주문과 상쇄되어 실제로 체결하지 않은 금액
+    @Column(name = "netted_amount", precision = 19, scale = 2)
+    private BigDecimal nettedAmount;
+}
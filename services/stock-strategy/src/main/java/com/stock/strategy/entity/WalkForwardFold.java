@@ -0,0 +1,60 @@
+package com.stock.strategy.entity;
+
+import com.stock.strategy.enums.OptimizationMetric;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 워크포워드 구간별 선택 파라미터와 표본 내/외 점수.
+ * simulationId 는 표본 외 구간을 이어 붙인 시뮬레이션이며, 연결된 성과는 같은 ID 의 BacktestResult 에 저장된다.
+ */
+@Entity
+@Table(name = "TB_WALK_FORWARD_FOLD")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalkForwardFold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "simulation_id", nullable = false)
+    private Long simulationId;
+
+    @Column(name = "fold_index", nullable = false)
+    private Integer foldIndex;
+
+    @Column(name = "in_sample_start", nullable = false)
+    private LocalDate inSampleStart;
+
+    @Column(name = "in_sample_end", nullable = false)
+    private LocalDate inSampleEnd;
+
+    @Column(name = "out_of_sample_start", nullable = false)
+    private LocalDate outOfSampleStart;
+
+    @Column(name = "out_of_sample_end", nullable = false)
+    private LocalDate outOfSampleEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private OptimizationMetric metric;
+
+    @Column(name = "parameters", columnDefinition = "JSON")
+    private String parameters;
+
+    @Column(name = "in_sample_score", precision = 19, scale = 6)
+    private BigDecimal inSampleScore;
+
+    @Column(name = "out_of_sample_score", precision = 19, scale = 6)
+    private BigDecimal outOfSampleScore;
+}
@@ -0,0 +1,9 @@
+package com.stock.strategy.enums;
+
+public enum BacktestJobStatus {
+    QUEUED,     // 대기 중
+    RUNNING,    // 워커에서 실행 중
+    COMPLETED,  // 완료
+    FAILED,     // 실패
+    CANCELLED   // 취소
+}
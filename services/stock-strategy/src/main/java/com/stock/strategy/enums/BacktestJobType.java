@@ -0,0 +1,19 @@
+package com.stock.strategy.enums;
+
+/**
+ * 백테스트 작업 큐의 작업 유형. 우선순위 값이 작을수록 먼저 실행된다
+ */
+public enum BacktestJobType {
+    BACKTEST(0),        // 대시보드 단일 백테스트 (대화형)
+    OPTIMIZATION(10);   // 파라미터 최적화
+
+    private final int priority;
+
+    BacktestJobType(int priority) {
+        this.priority = priority;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+}
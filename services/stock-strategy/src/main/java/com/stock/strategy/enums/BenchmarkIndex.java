@@ -0,0 +1,18 @@
+package com.stock.strategy.enums;
+
+import com.stock.common.enums.IndexWeighting;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum BenchmarkIndex {
+    KOSPI("KOSPI", IndexWeighting.CAP, "코스피 시가총액 가중 지수"),
+    KOSPI_EQUAL("KOSPI", IndexWeighting.EQUAL, "코스피 동일 가중 지수"),
+    KOSDAQ("KOSDAQ", IndexWeighting.CAP, "코스닥 시가총액 가중 지수"),
+    KOSDAQ_EQUAL("KOSDAQ", IndexWeighting.EQUAL, "코스닥 동일 가중 지수");
+
+    private final String marketCode;
+    private final IndexWeighting weighting;
+    private final String description;
+}
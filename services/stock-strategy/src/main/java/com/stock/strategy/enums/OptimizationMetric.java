@@ -0,0 +1,32 @@
+package com.stock.strategy.enums;
+
+import com.stock.strategy.entity.BacktestResult;
+
+import java.math.BigDecimal;
+
+/**
+ * 파라미터 최적화 시 후보를 비교하는 성과 지표
+ */
+public enum OptimizationMetric {
+    TOTAL_RETURN,
+    CAGR,
+    SHARPE,
+    MDD;
+
+    /**
+     * 값이 클수록 좋은 점수로 변환. 지표가 없으면 최하위 점수
+     */
+    public double score(BacktestResult result) {
+        BigDecimal value = switch (this) {
+            case TOTAL_RETURN -> result.getTotalReturn();
+            case CAGR -> result.getCagr();
+            case SHARPE -> result.getSharpeRatio();
+            case MDD -> result.getMdd();
+        };
+        if (value == null) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        // 낙폭은 부호 표기와 관계없이 작을수록 좋음
+        return this == MDD ? -value.abs().doubleValue() : value.doubleValue();
+    }
+}
@@ -0,0 +1,10 @@
+package com.stock.strategy.enums;
+
+/**
+ * 파라미터 최적화 탐색 방식
+ */
+public enum SearchMode {
+    GRID,               // 전체 격자 탐색
+    RANDOM,             // 고정 평가 횟수 내 무작위 탐색
+    SUCCESSIVE_HALVING  // 짧은 기간부터 평가하여 하위 후보를 제거하고 기간을 늘려가는 탐색
+}
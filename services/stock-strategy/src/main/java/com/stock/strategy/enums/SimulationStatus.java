@@ -3,6 +3,8 @@ package com.stock.strategy.enums;
 public enum SimulationStatus {
     PENDING,    // 대기 중
     RUNNING,    // 실행 중
+    RESUMING,   // 인스턴스 재시작 후 체크포인트에서 재개 중
     COMPLETED,  // 완료
-    FAILED      // 실패
+    FAILED,     // 실패
+    CANCELLED   // 취소
 }
@@ -3,5 +3,6 @@ package com.stock.strategy.enums;
 public enum SlippageType {
     NONE,
     FIXED,
-    VOLUME
+    VOLUME,
+    MARKET_IMPACT
 }
@@ -0,0 +1,8 @@
+package com.stock.strategy.enums;
+
+public enum SnapshotGranularity {
+    DAILY,          // 매 거래일
+    WEEKLY,         // 주의 마지막 거래일
+    REBALANCE_ONLY, // 리밸런싱일
+    NONE            // 저장 안 함 (파라미터 최적화 등 요약 결과만 필요한 경우)
+}
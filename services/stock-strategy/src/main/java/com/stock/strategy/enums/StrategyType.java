@@ -13,7 +13,8 @@ public enum StrategyType {
     MULTI_FACTOR("MultiFactor", "멀티팩터 스코어링 전략"),
     SECTOR_ROTATION("SectorRotation", "섹터 로테이션 전략"),
     DUAL_MOMENTUM("DualMomentum", "듀얼 모멘텀 자산배분 전략"),
-    RISK_PARITY("RiskParity", "리스크 패리티 전략");
+    RISK_PARITY("RiskParity", "리스크 패리티 전략"),
+    COMPOSITE("Composite", "복합 전략 (여러 전략을 비중대로 결합)");
 
     private final String code;
     private final String description;
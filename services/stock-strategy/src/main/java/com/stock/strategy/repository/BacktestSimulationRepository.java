@@ -1,9 +1,17 @@
 package com.stock.strategy.repository;
 
 import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.enums.SimulationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BacktestSimulationRepository extends JpaRepository<BacktestSimulation, Long> {
+    Optional<BacktestSimulation> findFirstByRequestFingerprintAndDataVersionAndStatusOrderByIdDesc(
+            String requestFingerprint, String dataVersion, SimulationStatus status);
+
+    List<BacktestSimulation> findByOptimizationId(String optimizationId);
 }
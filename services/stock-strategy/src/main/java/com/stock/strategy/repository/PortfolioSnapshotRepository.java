@@ -2,8 +2,11 @@ package com.stock.strategy.repository;
 
 import com.stock.strategy.entity.PortfolioSnapshot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -12,4 +15,20 @@ public interface PortfolioSnapshotRepository extends JpaRepository<PortfolioSnap
     List<PortfolioSnapshot> findBySimulationIdOrderBySnapshotDateAsc(Long simulationId);
     List<PortfolioSnapshot> findBySimulationIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(
             Long simulationId, LocalDate startDate, LocalDate endDate);
+
+    // 차트용 열 단위 조회. 보유 종목 JSON 컬럼은 읽지 않는다
+    @Query("SELECT s.snapshotDate AS snapshotDate, s.totalValue AS totalValue, s.cashBalance AS cashBalance " +
+            "FROM PortfolioSnapshot s WHERE s.simulationId = :simulationId " +
+            "AND s.snapshotDate BETWEEN :startDate AND :endDate ORDER BY s.snapshotDate ASC")
+    List<SnapshotValue> findValuesBySimulationId(@Param("simulationId") Long simulationId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    interface SnapshotValue {
+        LocalDate getSnapshotDate();
+
+        BigDecimal getTotalValue();
+
+        BigDecimal getCashBalance();
+    }
 }
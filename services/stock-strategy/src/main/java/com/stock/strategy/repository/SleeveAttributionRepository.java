@@ -0,0 +1,12 @@
+package com.stock.strategy.repository;
+
+import com.stock.strategy.entity.SleeveAttribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SleeveAttributionRepository extends JpaRepository<SleeveAttribution, Long> {
+    List<SleeveAttribution> findBySimulationIdOrderBySleeveIndexAsc(Long simulationId);
+}
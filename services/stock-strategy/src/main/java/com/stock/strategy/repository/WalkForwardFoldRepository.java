@@ -0,0 +1,12 @@
+package com.stock.strategy.repository;
+
+import com.stock.strategy.entity.WalkForwardFold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WalkForwardFoldRepository extends JpaRepository<WalkForwardFold, Long> {
+    List<WalkForwardFold> findBySimulationIdOrderByFoldIndexAsc(Long simulationId);
+}
@@ -1,28 +1,51 @@
 package com.stock.strategy.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.strategy.dto.BacktestJobInfo;
 import com.stock.strategy.dto.BacktestRequest;
 import com.stock.strategy.dto.BacktestResponse;
 import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.enums.BacktestJobStatus;
+import com.stock.strategy.enums.BacktestJobType;
 import com.stock.strategy.enums.SimulationStatus;
 import com.stock.strategy.repository.BacktestSimulationRepository;
+import com.stock.strategy.strategy.CompositeStrategy;
 import com.stock.strategy.strategy.Strategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.stock.common.dto.ValueStrategyConfig;
 import com.stock.common.dto.DashboardSummaryDto;
 import com.stock.strategy.dto.CompareStrategiesResponse;
 import com.stock.strategy.dto.GridSearchRequest;
+import com.stock.strategy.dto.OptimizationProgress;
 import com.stock.strategy.entity.BacktestResult;
+import com.stock.strategy.entity.SleeveAttribution;
+import com.stock.strategy.entity.WalkForwardFold;
 import com.stock.strategy.repository.BacktestResultRepository;
+import com.stock.strategy.repository.SleeveAttributionRepository;
+import com.stock.strategy.repository.WalkForwardFoldRepository;
+import com.stock.strategy.enums.OptimizationMetric;
+import com.stock.strategy.enums.SearchMode;
+import com.stock.strategy.service.cache.BacktestResultCache;
+import com.stock.strategy.service.checkpoint.CheckpointStore;
+import com.stock.strategy.service.checkpoint.SimulationCheckpoint;
+import com.stock.strategy.service.optimization.GridSearchRunner;
+import com.stock.strategy.service.optimization.ParameterSpace;
+import com.stock.strategy.service.optimization.SearchSchedule;
+import com.stock.strategy.service.optimization.WalkForwardSchedule;
+import com.stock.strategy.service.progress.BacktestProgressBroadcaster;
+import com.stock.strategy.service.queue.BacktestJob;
+import com.stock.strategy.service.queue.BacktestJobQueue;
 import java.math.BigDecimal;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,20 +57,35 @@ public class BacktestService {
     private final BacktestResultRepository resultRepository;
     private final SimulationEngine simulationEngine;
     private final StrategyFactory strategyFactory;
-    
-    private BacktestService self;
+    private final GridSearchRunner gridSearchRunner;
+    private final CheckpointStore checkpointStore;
+    private final BacktestJobQueue jobQueue;
+    private final WalkForwardFoldRepository walkForwardFoldRepository;
+    private final SleeveAttributionRepository sleeveAttributionRepository;
+    private final BacktestProgressBroadcaster progressBroadcaster;
+    private final BacktestResultCache resultCache;
+    private final ObjectMapper objectMapper;
 
-    @org.springframework.context.annotation.Lazy
-    @org.springframework.beans.factory.annotation.Autowired
-    public void setSelf(BacktestService self) {
-        this.self = self;
-    }
+    /**
+     * 시뮬레이션을 대기 상태로 저장하고 작업 큐에 등록. 실행은 작업 큐 워커가 담당한다.
+     * 같은 요청을 같은 데이터 버전으로 실행해 둔 결과가 있으면 등록하지 않고 그 시뮬레이션을 반환한다
+     */
+    @Transactional
+    public BacktestResponse startBacktest(BacktestRequest request, String userId) {
+        // 복합 전략 슬리브 구성은 대기열 등록 전에 검증
+        strategyFactory.getStrategy(request);
 
-    public BacktestResponse startBacktest(BacktestRequest request) {
-        return startBacktestInternal(request, false);
-    }
+        String dataVersion = resultCache.currentDataVersion();
+        Optional<BacktestResult> cached = resultCache.lookup(request, dataVersion, BacktestResultCache.SOURCE_BACKTEST);
+        if (cached.isPresent()) {
+            return BacktestResponse.builder()
+                    .simulationId(cached.get().getSimulationId())
+                    .status(SimulationStatus.COMPLETED)
+                    .cached(true)
+                    .message("동일한 조건의 백테스팅 결과를 재사용합니다.")
+                    .build();
+        }
 
-    private BacktestResponse startBacktestInternal(BacktestRequest request, boolean isOptimized) {
         // 시뮬레이션 엔티티 생성
         BacktestSimulation simulation = BacktestSimulation.builder()
                 .strategyName(request.getStrategyType().getCode())
@@ -59,44 +97,74 @@ public class BacktestService {
                 .taxRate(request.getTaxRate())
                 .status(SimulationStatus.PENDING)
                 .build();
+        resultCache.stamp(simulation, request, dataVersion);
 
         simulation = simulationRepository.save(simulation);
-
-        // 자가 주입을 통해 프록시를 거쳐 비동기 호출 수행
-        self.runSimulationAsync(simulation.getId(), request, isOptimized);
+        Long jobId = jobQueue.enqueue(BacktestJobType.BACKTEST, userId, simulation.getId(), null, toJson(request));
 
         return BacktestResponse.builder()
                 .simulationId(simulation.getId())
+                .jobId(jobId)
                 .status(SimulationStatus.PENDING)
-                .message("백테스팅이 시작되었습니다.")
+                .cached(false)
+                .message("백테스팅이 대기열에 등록되었습니다.")
                 .build();
     }
 
-    @Async
-    public void runSimulationAsync(Long simulationId, BacktestRequest request, boolean isOptimized) {
+    /**
+     * 작업 큐 워커에서 백테스트 실행. 재실행된 작업이면 마지막 체크포인트부터 재개한다
+     */
+    public BacktestJobStatus runBacktestJob(BacktestJob job) {
+        BacktestRequest request = fromJson(job.payload(), BacktestRequest.class);
+        SimulationCheckpoint checkpoint = checkpointStore.find(job.simulationId()).orElse(null);
+        SimulationStatus runningStatus = job.attempts() > 1 ? SimulationStatus.RESUMING : SimulationStatus.RUNNING;
+
+        SimulationStatus status = executeSimulation(job.simulationId(), request, checkpoint, runningStatus);
+        return switch (status) {
+            case COMPLETED -> BacktestJobStatus.COMPLETED;
+            case CANCELLED -> BacktestJobStatus.CANCELLED;
+            default -> BacktestJobStatus.FAILED;
+        };
+    }
+
+    private SimulationStatus executeSimulation(Long simulationId, BacktestRequest request,
+                                               SimulationCheckpoint resumeFrom, SimulationStatus runningStatus) {
+        SimulationStatus status;
         try {
-            log.info("Starting simulation: {}", simulationId);
-            
-            Strategy strategy = strategyFactory.getStrategy(request.getStrategyType());
-            BacktestResult result = simulationEngine.runSimulation(simulationId, request, strategy);
+            log.info("Starting simulation: {} ({})", simulationId, runningStatus);
+            updateSimulationStatus(simulationId, runningStatus);
+
+            Strategy strategy = strategyFactory.getStrategy(request);
+            SimulationEngine.ProgressListener progress = progressBroadcaster.start(simulationId, runningStatus, resumeFrom != null);
+            BacktestResult result = simulationEngine.runSimulation(simulationId, request, strategy, resumeFrom,
+                    checkpoint -> checkpointStore.save(simulationId, checkpoint), progress);
+            if (strategy instanceof CompositeStrategy composite) {
+                sleeveAttributionRepository.saveAll(composite.attribution(simulationId, request.getEndDate()));
+            }
             
             // update status to COMPLETED
             updateSimulationStatus(simulationId, SimulationStatus.COMPLETED);
 
             // save result
-            if (isOptimized) {
-                result.setIsOptimized(true);
-            }
             if (request.getSlippageType() != null) {
                 result.setSlippageType(request.getSlippageType().name());
             }
             resultRepository.save(result);
+            status = SimulationStatus.COMPLETED;
             
             log.info("Simulation completed: {}", simulationId);
+        } catch (CancellationException e) {
+            log.info("Simulation cancelled: {}", simulationId);
+            status = SimulationStatus.CANCELLED;
+            updateSimulationStatus(simulationId, status);
         } catch (Exception e) {
             log.error("Simulation failed: {}", simulationId, e);
-            updateSimulationStatus(simulationId, SimulationStatus.FAILED);
+            status = SimulationStatus.FAILED;
+            updateSimulationStatus(simulationId, status);
         }
+        checkpointStore.delete(simulationId);
+        progressBroadcaster.finish(simulationId, status);
+        return status;
     }
 
     @Transactional
@@ -159,68 +227,193 @@ public class BacktestService {
                 .build();
     }
 
-    @Transactional
-    public BacktestResponse startGridSearch(GridSearchRequest request) {
-        List<BacktestRequest> combinations = generateCombinations(request);
-        
-        // 병렬로 여러 시뮬레이션 실행 (비동기)
-        for (BacktestRequest comboRequest : combinations) {
-            startBacktestInternal(comboRequest, true);
+    /**
+     * 최적화 요청을 검증하고 작업 큐에 넣음. 진행 상황은 작업을 가져간 인스턴스에서 실행을 시작할 때부터 추적한다
+     */
+    public BacktestResponse startGridSearch(GridSearchRequest request, String userId) {
+        // 워커에서 같은 무작위 후보를 다시 생성할 수 있도록 시드 고정
+        if (request.getSeed() == null) {
+            request.setSeed(ThreadLocalRandom.current().nextLong());
+        }
+        SearchPlan plan = plan(request);
+
+        String optimizationId = UUID.randomUUID().toString();
+        String description;
+        if (plan.walkForward() != null) {
+            description = "워크포워드 최적화(" + plan.mode() + ", " + plan.walkForward().folds().size() + "개 구간)";
+        } else {
+            description = "파라미터 최적화(" + plan.mode() + ", " + plan.schedule().rungs().size() + "단계)";
         }
+        Long jobId = jobQueue.enqueue(BacktestJobType.OPTIMIZATION, userId, null, optimizationId, toJson(request));
 
         return BacktestResponse.builder()
+                .optimizationId(optimizationId)
+                .jobId(jobId)
                 .status(SimulationStatus.PENDING)
-                .message(combinations.size() + "개의 조합에 대한 그리드 서치 백테스팅이 시작되었습니다.")
+                .message(plan.candidates().size() + "개의 조합에 대한 " + description + "가 대기열에 등록되었습니다.")
                 .build();
     }
 
-    private List<BacktestRequest> generateCombinations(GridSearchRequest request) {
-        List<BacktestRequest> list = new ArrayList<>();
-        
-        int minN = request.getMinTopN() != null ? request.getMinTopN() : 20;
-        int maxN = request.getMaxTopN() != null ? request.getMaxTopN() : 20;
-        int stepN = request.getStepTopN() != null ? request.getStepTopN() : 10;
-        double wStep = request.getWeightStep() != null ? request.getWeightStep() : 0.1;
-
-        for (int topN = minN; topN <= maxN; topN += stepN) {
-            for (double pbrW = 0.0; pbrW <= 1.0; pbrW += wStep) {
-                for (double roeW = 0.0; roeW <= (1.0 - pbrW); roeW += wStep) {
-                    double perW = 1.0 - pbrW - roeW;
-                    // 부동소수점 오차 보정
-                    if (perW < -0.0001 || perW > 1.0001) continue;
-                    
-                    if (perW < 0) perW = 0.0;
-                    
-                    ValueStrategyConfig config = ValueStrategyConfig.builder()
-                            .topN(topN)
-                            .pbrWeight(BigDecimal.valueOf(pbrW))
-                            .roeWeight(BigDecimal.valueOf(roeW))
-                            .perWeight(BigDecimal.valueOf(perW))
-                            .build();
-
-                    BacktestRequest comboRequest = copyRequest(request.getBaseRequest());
-                    comboRequest.setValueStrategyConfig(config);
-                    list.add(comboRequest);
-                }
+    /**
+     * 작업 큐 워커에서 최적화 실행. 시장 데이터를 공유하는 전용 풀에서 후보별 시뮬레이션을 실행하며 끝날 때까지 대기한다
+     */
+    public BacktestJobStatus runOptimizationJob(BacktestJob job) {
+        GridSearchRequest request = fromJson(job.payload(), GridSearchRequest.class);
+        SearchPlan plan = plan(request);
+
+        SimulationStatus status = plan.walkForward() != null
+                ? gridSearchRunner.executeWalkForward(job.optimizationId(), request.getBaseRequest(),
+                        plan.candidates(), plan.walkForward(), plan.metric())
+                : gridSearchRunner.execute(job.optimizationId(), request.getBaseRequest(),
+                        plan.candidates(), plan.schedule(), plan.metric());
+        return switch (status) {
+            case COMPLETED -> BacktestJobStatus.COMPLETED;
+            case CANCELLED -> BacktestJobStatus.CANCELLED;
+            default -> BacktestJobStatus.FAILED;
+        };
+    }
+
+    public void cancelOptimization(String optimizationId) {
+        gridSearchRunner.cancel(optimizationId);
+    }
+
+    /**
+     * 최적화 진행 상황. 작업 상태와 시작/종료 시간은 작업 큐 기준이며,
+     * 이 인스턴스에서 실행 중이거나 실행했던 작업이면 평가 횟수와 최고 후보 등 세부 진행률을 함께 반환한다
+     */
+    public OptimizationProgress getGridSearchProgress(String optimizationId) {
+        Optional<OptimizationProgress> local = gridSearchRunner.getProgress(optimizationId);
+        return jobQueue.findByOptimizationId(optimizationId)
+                .map(job -> local.map(progress -> withJobStatus(progress, job)).orElseGet(() -> queuedProgress(job)))
+                .or(() -> local)
+                .orElseThrow(() -> new IllegalArgumentException("Optimization not found: " + optimizationId));
+    }
+
+    public List<WalkForwardFold> getWalkForwardFolds(Long simulationId) {
+        return walkForwardFoldRepository.findBySimulationIdOrderByFoldIndexAsc(simulationId);
+    }
+
+    public List<SleeveAttribution> getSleeveAttributions(Long simulationId) {
+        return sleeveAttributionRepository.findBySimulationIdOrderBySleeveIndexAsc(simulationId);
+    }
+
+    public BacktestJobInfo getJob(Long jobId) {
+        return jobQueue.find(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+    }
+
+    /**
+     * 작업 취소. 대기 중인 작업은 바로 취소되고, 실행 중인 작업은 실행 중인 워커가 다음 폴링 주기에 중단한다
+     */
+    public BacktestJobInfo cancelJob(Long jobId) {
+        BacktestJobInfo job = jobQueue.cancel(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+
+        // 대기 중이던 작업은 워커를 거치지 않으므로 여기서 상태 반영
+        if (job.getStatus() == BacktestJobStatus.CANCELLED) {
+            if (job.getType() == BacktestJobType.BACKTEST) {
+                updateSimulationStatus(job.getSimulationId(), SimulationStatus.CANCELLED);
+            } else {
+                gridSearchRunner.cancel(job.getOptimizationId());
             }
         }
-        return list;
-    }
-
-    private BacktestRequest copyRequest(BacktestRequest original) {
-        return BacktestRequest.builder()
-                .strategyType(original.getStrategyType())
-                .startDate(original.getStartDate())
-                .endDate(original.getEndDate())
-                .initialCapital(original.getInitialCapital())
-                .rebalancingPeriod(original.getRebalancingPeriod())
-                .tradingFeeRate(original.getTradingFeeRate())
-                .taxRate(original.getTaxRate())
-                .universeFilter(original.getUniverseFilter())
-                .slippageType(original.getSlippageType())
-                .fixedSlippageRate(original.getFixedSlippageRate())
-                .maxWeightPerStock(original.getMaxWeightPerStock())
-                .maxVolumeRatio(original.getMaxVolumeRatio())
+        return job;
+    }
+
+    /**
+     * 대기 중이거나 다른 인스턴스에서 실행 중인 최적화는 세부 진행률 없이 작업 큐 상태만 반환
+     */
+    private OptimizationProgress queuedProgress(BacktestJobInfo job) {
+        return OptimizationProgress.builder()
+                .optimizationId(job.getOptimizationId())
+                .status(toSimulationStatus(job.getStatus()))
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getFinishedAt())
                 .build();
     }
+
+    // 중단 후 다른 인스턴스에서 다시 실행된 경우에도 작업 큐의 상태를 따름
+    private OptimizationProgress withJobStatus(OptimizationProgress progress, BacktestJobInfo job) {
+        progress.setStatus(toSimulationStatus(job.getStatus()));
+        progress.setStartedAt(job.getStartedAt());
+        progress.setCompletedAt(job.getFinishedAt());
+        return progress;
+    }
+
+    private static SimulationStatus toSimulationStatus(BacktestJobStatus status) {
+        return switch (status) {
+            case QUEUED -> SimulationStatus.PENDING;
+            case RUNNING -> SimulationStatus.RUNNING;
+            case COMPLETED -> SimulationStatus.COMPLETED;
+            case FAILED -> SimulationStatus.FAILED;
+            case CANCELLED -> SimulationStatus.CANCELLED;
+        };
+    }
+
+    private SearchPlan plan(GridSearchRequest request) {
+        BacktestRequest baseRequest = request.getBaseRequest();
+        SearchMode mode = request.getSearchMode() != null ? request.getSearchMode() : SearchMode.GRID;
+        OptimizationMetric metric = request.getMetric() != null ? request.getMetric() : OptimizationMetric.TOTAL_RETURN;
+
+        List<BacktestRequest> candidates = generateCandidates(request, mode);
+        SearchSchedule schedule = mode == SearchMode.SUCCESSIVE_HALVING
+                ? SearchSchedule.successiveHalving(baseRequest.getStartDate(), baseRequest.getEndDate(), candidates.size(),
+                        request.getReductionFactor() != null ? request.getReductionFactor() : 2,
+                        request.getMinWindowMonths() != null ? request.getMinWindowMonths() : 6)
+                : SearchSchedule.fullWindow(baseRequest.getEndDate(), candidates.size());
+        return new SearchPlan(mode, metric, candidates, schedule, walkForwardSchedule(request, mode));
+    }
+
+    // 표본 내/외 기간이 모두 지정된 경우에만 워크포워드 최적화
+    private WalkForwardSchedule walkForwardSchedule(GridSearchRequest request, SearchMode mode) {
+        if (request.getInSampleMonths() == null && request.getOutOfSampleMonths() == null) {
+            return null;
+        }
+        if (request.getInSampleMonths() == null || request.getOutOfSampleMonths() == null) {
+            throw new IllegalArgumentException("Walk-forward requires both in-sample and out-of-sample months");
+        }
+        // 구간마다 표본 내 기간 전체로 후보를 비교하므로 단계별 축소 탐색은 함께 사용하지 않음
+        if (mode == SearchMode.SUCCESSIVE_HALVING) {
+            throw new IllegalArgumentException("Walk-forward supports GRID and RANDOM search only");
+        }
+        BacktestRequest baseRequest = request.getBaseRequest();
+        return WalkForwardSchedule.rolling(baseRequest.getStartDate(), baseRequest.getEndDate(),
+                request.getInSampleMonths(), request.getOutOfSampleMonths(), Boolean.TRUE.equals(request.getAnchored()));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize job payload", e);
+        }
+    }
+
+    private <T> T fromJson(String payload, Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupted job payload", e);
+        }
+    }
+
+    private List<BacktestRequest> generateCandidates(GridSearchRequest request, SearchMode mode) {
+        return switch (mode) {
+            case GRID -> ParameterSpace.grid(request);
+            case RANDOM -> {
+                if (request.getBudget() == null) {
+                    throw new IllegalArgumentException("Random search requires a budget");
+                }
+                yield ParameterSpace.sample(request, request.getBudget());
+            }
+            // 예산이 있으면 격자 대신 무작위 후보로 넓은 공간을 탐색 (Hyperband 방식)
+            case SUCCESSIVE_HALVING -> request.getBudget() != null
+                    ? ParameterSpace.sample(request, request.getBudget())
+                    : ParameterSpace.grid(request);
+        };
+    }
+
+    private record SearchPlan(SearchMode mode, OptimizationMetric metric, List<BacktestRequest> candidates,
+                              SearchSchedule schedule, WalkForwardSchedule walkForward) {
+    }
 }
@@ -4,6 +4,9 @@ import com.stock.common.dto.CorpFinanceIndicatorDto;
 import com.stock.common.dto.StockIndicatorDto;
 import com.stock.strategy.entity.FactorScore;
 import com.stock.strategy.repository.FactorScoreRepository;
+import com.stock.strategy.service.crosssection.CrossSection;
+import com.stock.strategy.service.factor.FactorExposure;
+import com.stock.strategy.service.factor.FactorExposureCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,13 +16,14 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FactorScoringService {
 
+    private static final double Z_SCORE_LIMIT = 3.0;
+
     private final FactorScoreRepository factorScoreRepository;
 
     @Transactional
@@ -34,117 +38,80 @@ public class FactorScoringService {
         factorScoreRepository.deleteByScoreDate(date);
         factorScoreRepository.flush();
         
-        // stock-finance의 corpCode는 이미 A005930 형식임
-        Map<String, CorpFinanceIndicatorDto> financeMap = finances.stream()
-                .collect(Collectors.toMap(CorpFinanceIndicatorDto::getCorpCode, f -> f, (f1, f2) -> f1));
-        
-        // stock-price의 stockCode는 005930 형식이므로 A를 붙여서 매핑
-        Map<String, StockIndicatorDto> indicatorMap = indicators.stream()
-                .filter(i -> i.getStockCode() != null)
-                .collect(Collectors.toMap(
-                    i -> i.getStockCode().startsWith("A") ? i.getStockCode() : "A" + i.getStockCode(), 
-                    i -> i, 
-                    (i1, i2) -> i1));
-
-        Set<String> commonStocks = new HashSet<>(financeMap.keySet());
-        commonStocks.retainAll(indicatorMap.keySet());
-        
-        log.info("Calculating scores for {} common stocks on {}", commonStocks.size(), date);
-
-        List<String> validStocks = new ArrayList<>();
-        List<Double> perList = new ArrayList<>();
-        List<Double> pbrList = new ArrayList<>();
-        List<Double> roeList = new ArrayList<>();
-        List<Double> momList = new ArrayList<>();
-
-        for (String stock : commonStocks) {
-            CorpFinanceIndicatorDto f = financeMap.get(stock);
-            StockIndicatorDto i = indicatorMap.get(stock);
-            
-            // 데이터가 부족한 초기 단계이므로 momentum6m 대신 1m 사용 시도
-            BigDecimal momentum = i.getMomentum1m() != null ? i.getMomentum1m() : i.getMomentum3m();
-            if (momentum == null) momentum = i.getMomentum6m();
+        List<FactorExposure> exposures = FactorExposureCalculator.merge(date, finances, indicators, null);
+        List<FactorScore> factorScores = calculateScores(date, exposures, valueWeight, momentumWeight, qualityWeight);
+        if (factorScores.isEmpty()) {
+            return factorScores;
+        }
+        return factorScoreRepository.saveAll(factorScores);
+    }
 
-            if (f.getPer() != null && f.getPbr() != null && f.getRoe() != null && momentum != null) {
-                validStocks.add(stock);
-                perList.add(f.getPer().doubleValue());
-                pbrList.add(f.getPbr().doubleValue());
-                roeList.add(f.getRoe().doubleValue());
-                momList.add(momentum.doubleValue());
+    /**
+     * 사전 계산된 팩터 노출값으로 횡단면 z-score 와 가중 합산 점수를 계산 (저장하지 않음).
+     * PER/PBR/ROE/모멘텀이 모두 있는 종목만 대상으로 한다.
+     */
+    public List<FactorScore> calculateScores(LocalDate date,
+                                             List<FactorExposure> exposures,
+                                             BigDecimal valueWeight,
+                                             BigDecimal momentumWeight,
+                                             BigDecimal qualityWeight) {
+        // 네 팩터가 모두 있는 종목만 횡단면 컬럼으로 구성
+        int size = exposures.size();
+        String[] stocks = new String[size];
+        double[] per = new double[size];
+        double[] pbr = new double[size];
+        double[] roe = new double[size];
+        double[] momentum = new double[size];
+        int valid = 0;
+        for (FactorExposure exposure : exposures) {
+            if (!Double.isNaN(exposure.per()) && !Double.isNaN(exposure.pbr())
+                    && !Double.isNaN(exposure.roe()) && !Double.isNaN(exposure.momentum())) {
+                stocks[valid] = exposure.stockCode();
+                per[valid] = exposure.per();
+                pbr[valid] = exposure.pbr();
+                roe[valid] = exposure.roe();
+                momentum[valid] = exposure.momentum();
+                valid++;
             }
         }
 
-        if (validStocks.isEmpty()) {
+        if (valid == 0) {
             log.warn("No valid stocks found for scoring on {}", date);
             return Collections.emptyList();
         }
 
-        log.info("Found {} valid stocks after metric checks", validStocks.size());
-
-        // Calculate means and stddevs
-        Stat perStat = calculateStat(perList);
-        Stat pbrStat = calculateStat(pbrList);
-        Stat roeStat = calculateStat(roeList);
-        Stat momStat = calculateStat(momList);
-
-        List<FactorScore> factorScores = new ArrayList<>();
-
-        for (int i = 0; i < validStocks.size(); i++) {
-            String stock = validStocks.get(i);
-            
-            // Value: PER & PBR (lower is better, so negate z-score)
-            double perZ = -calculateZScore(perList.get(i), perStat);
-            double pbrZ = -calculateZScore(pbrList.get(i), pbrStat);
-            double valueZ = (perZ + pbrZ) / 2.0;
-
-            // Quality: ROE (higher is better)
-            double qualityZ = calculateZScore(roeList.get(i), roeStat);
-
-            // Momentum: 1M/3M/6M Momentum (higher is better)
-            double momZ = calculateZScore(momList.get(i), momStat);
-
-            // Total Score
-            double totalZ = valueZ * valueWeight.doubleValue() + 
-                            momZ * momentumWeight.doubleValue() + 
-                            qualityZ * qualityWeight.doubleValue();
-
-            FactorScore score = FactorScore.builder()
-                    .stockCode(stock)
+        log.debug("Scoring {} valid stocks out of {} on {}", valid, size, date);
+
+        // Value: PER & PBR (lower is better, so negate z-score)
+        double[] valueZ = CrossSection.weightedSum(new double[]{-0.5, -0.5},
+                winsorizedZScore(Arrays.copyOf(per, valid)),
+                winsorizedZScore(Arrays.copyOf(pbr, valid)));
+        // Quality: ROE (higher is better)
+        double[] qualityZ = winsorizedZScore(Arrays.copyOf(roe, valid));
+        // Momentum: 1M/3M/6M Momentum (higher is better)
+        double[] momZ = winsorizedZScore(Arrays.copyOf(momentum, valid));
+
+        double[] totalZ = CrossSection.weightedSum(
+                new double[]{valueWeight.doubleValue(), momentumWeight.doubleValue(), qualityWeight.doubleValue()},
+                valueZ, momZ, qualityZ);
+
+        List<FactorScore> factorScores = new ArrayList<>(valid);
+        for (int i = 0; i < valid; i++) {
+            factorScores.add(FactorScore.builder()
+                    .stockCode(stocks[i])
                     .scoreDate(date)
-                    .valueScore(BigDecimal.valueOf(valueZ).setScale(4, RoundingMode.HALF_UP))
-                    .momentumScore(BigDecimal.valueOf(momZ).setScale(4, RoundingMode.HALF_UP))
-                    .qualityScore(BigDecimal.valueOf(qualityZ).setScale(4, RoundingMode.HALF_UP))
-                    .totalScore(BigDecimal.valueOf(totalZ).setScale(4, RoundingMode.HALF_UP))
-                    .build();
-            
-            factorScores.add(score);
+                    .valueScore(BigDecimal.valueOf(valueZ[i]).setScale(4, RoundingMode.HALF_UP))
+                    .momentumScore(BigDecimal.valueOf(momZ[i]).setScale(4, RoundingMode.HALF_UP))
+                    .qualityScore(BigDecimal.valueOf(qualityZ[i]).setScale(4, RoundingMode.HALF_UP))
+                    .totalScore(BigDecimal.valueOf(totalZ[i]).setScale(4, RoundingMode.HALF_UP))
+                    .build());
         }
 
-        return factorScoreRepository.saveAll(factorScores);
-    }
-
-    private double calculateZScore(double value, Stat stat) {
-        if (stat.stdDev == 0) return 0.0;
-        
-        // Winsorization (cap at +/- 3 stddev)
-        double z = (value - stat.mean) / stat.stdDev;
-        if (z > 3.0) return 3.0;
-        if (z < -3.0) return -3.0;
-        
-        return z;
+        return factorScores;
     }
 
-    private Stat calculateStat(List<Double> values) {
-        double sum = 0.0;
-        for (double v : values) sum += v;
-        double mean = sum / values.size();
-
-        double sqSum = 0.0;
-        for (double v : values) sqSum += Math.pow(v - mean, 2);
-        double stdDev = Math.sqrt(sqSum / values.size());
-
-        return new Stat(mean, stdDev);
+    // Winsorization (cap at +/- 3 stddev)
+    private static double[] winsorizedZScore(double[] values) {
+        return CrossSection.clip(CrossSection.zScore(values), -Z_SCORE_LIMIT, Z_SCORE_LIMIT);
     }
-
-    private record Stat(double mean, double stdDev) {}
 }
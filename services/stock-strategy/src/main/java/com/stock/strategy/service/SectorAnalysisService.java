@@ -3,7 +3,10 @@ package com.stock.strategy.service;
 import com.stock.common.dto.StockIndicatorDto;
 import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.entity.SectorAnalysis;
+import com.stock.strategy.enums.BenchmarkIndex;
 import com.stock.strategy.repository.SectorAnalysisRepository;
+import com.stock.strategy.service.panel.BenchmarkLoader;
+import com.stock.strategy.service.panel.BenchmarkSeries;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,13 @@ public class SectorAnalysisService {
 
     private final SectorAnalysisRepository sectorAnalysisRepository;
     private final PriceClient priceClient;
+    private final BenchmarkLoader benchmarkLoader;
+
+    // 종목 momentum6m (120 거래일 ROC, %) 과 같은 기간으로 비교할 시장 지수
+    private static final BenchmarkIndex RELATIVE_STRENGTH_BENCHMARK = BenchmarkIndex.KOSPI;
+    private static final int MOMENTUM_6M_BARS = 120;
+    // 120 거래일을 포함하는 달력일 (시뮬레이션 기준 지수 적재 룩백)
+    static final int MOMENTUM_6M_CALENDAR_DAYS = 200;
 
     // TODO: In a real system, you'd fetch mapping from stock-corp or DB
     // Here we'll mock a simple sector mapping or assume 'universe' is grouped by sector beforehand
@@ -30,40 +40,87 @@ public class SectorAnalysisService {
     @Transactional
     public List<SectorAnalysis> analyzeAndSaveSectors(LocalDate date, Map<String, List<String>> sectorToStocks, String dateStr) {
         List<SectorAnalysis> results = new ArrayList<>();
+        BenchmarkSeries benchmark = benchmarkLoader.load(RELATIVE_STRENGTH_BENCHMARK, date.minusDays(MOMENTUM_6M_CALENDAR_DAYS), date);
+        double benchmarkMomentum = benchmarkMomentum6m(benchmark, date);
 
         for (Map.Entry<String, List<String>> entry : sectorToStocks.entrySet()) {
-            String sectorName = entry.getKey();
             List<String> stocks = entry.getValue();
-            
             if (stocks.isEmpty()) continue;
 
             List<StockIndicatorDto> indicators = priceClient.getIndicatorsByDateBatch(stocks, dateStr);
+            SectorAnalysis analysis = analyze(date, entry.getKey(), indicators, benchmarkMomentum);
+            if (analysis != null) {
+                results.add(analysis);
+            }
+        }
 
-            double sumMomentum = 0;
-            int count = 0;
-            for (StockIndicatorDto ind : indicators) {
-                if (ind.getMomentum6m() != null) {
-                    sumMomentum += ind.getMomentum6m().doubleValue();
-                    count++;
+        return sectorAnalysisRepository.saveAll(results);
+    }
+
+    /**
+     * 시뮬레이션용 섹터 분석. 리밸런싱에서 이미 조회한 종목 지표와 사전 적재된 기준 지수 시계열로 계산하며,
+     * 외부 호출이나 저장 없이 결과만 반환한다
+     *
+     * @param indicators 종목 코드(sectorToStocks 와 같은 형식)별 지표
+     * @param benchmark  시뮬레이션 기준 지수 (비어 있거나 기간이 부족하면 절대 모멘텀)
+     */
+    public List<SectorAnalysis> analyzeSectors(LocalDate date, Map<String, List<String>> sectorToStocks,
+                                               Map<String, StockIndicatorDto> indicators, BenchmarkSeries benchmark) {
+        List<SectorAnalysis> results = new ArrayList<>();
+        double benchmarkMomentum = benchmarkMomentum6m(benchmark, date);
+
+        for (Map.Entry<String, List<String>> entry : sectorToStocks.entrySet()) {
+            List<StockIndicatorDto> sectorIndicators = new ArrayList<>();
+            for (String stockCode : entry.getValue()) {
+                StockIndicatorDto indicator = indicators.get(stockCode);
+                if (indicator != null) {
+                    sectorIndicators.add(indicator);
                 }
             }
-
-            if (count > 0) {
-                double avgMomentum = sumMomentum / count;
-                // Relative strength is simple alpha over some baseline, here we just use absolute avg momentum for simplicity
-                BigDecimal avgMomBd = BigDecimal.valueOf(avgMomentum).setScale(4, RoundingMode.HALF_UP);
-                
-                SectorAnalysis analysis = SectorAnalysis.builder()
-                        .sectorName(sectorName)
-                        .analysisDate(date)
-                        .avgMomentum12m(avgMomBd)
-                        .relativeStrength(avgMomBd) // simplified
-                        .build();
-                
+            SectorAnalysis analysis = analyze(date, entry.getKey(), sectorIndicators, benchmarkMomentum);
+            if (analysis != null) {
                 results.add(analysis);
             }
         }
+        return results;
+    }
 
-        return sectorAnalysisRepository.saveAll(results);
+    // 섹터 평균 6개월 모멘텀과 상대 강도. 모멘텀이 있는 종목이 없으면 null
+    private static SectorAnalysis analyze(LocalDate date, String sectorName, List<StockIndicatorDto> indicators,
+                                          double benchmarkMomentum) {
+        double sumMomentum = 0;
+        int count = 0;
+        for (StockIndicatorDto ind : indicators) {
+            if (ind.getMomentum6m() != null) {
+                sumMomentum += ind.getMomentum6m().doubleValue();
+                count++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+
+        double avgMomentum = sumMomentum / count;
+        BigDecimal avgMomBd = BigDecimal.valueOf(avgMomentum).setScale(4, RoundingMode.HALF_UP);
+        // 상대 강도: 섹터 평균 모멘텀 - 같은 기간 시장 지수 변화율 (지수가 없으면 절대 모멘텀)
+        BigDecimal relativeStrength = Double.isNaN(benchmarkMomentum)
+                ? avgMomBd
+                : BigDecimal.valueOf(avgMomentum - benchmarkMomentum).setScale(4, RoundingMode.HALF_UP);
+
+        return SectorAnalysis.builder()
+                .sectorName(sectorName)
+                .analysisDate(date)
+                .avgMomentum12m(avgMomBd)
+                .relativeStrength(relativeStrength)
+                .build();
+    }
+
+    // 기준 지수의 120 거래일 변화율 (%). 데이터가 부족하면 NaN
+    private static double benchmarkMomentum6m(BenchmarkSeries benchmark, LocalDate date) {
+        double rateOfChange = benchmark.rateOfChange(date, MOMENTUM_6M_BARS);
+        if (Double.isNaN(rateOfChange)) {
+            log.debug("Benchmark momentum unavailable on {}, relative strength falls back to absolute momentum", date);
+        }
+        return rateOfChange * 100;
     }
 }
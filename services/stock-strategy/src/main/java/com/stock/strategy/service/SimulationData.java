@@ -0,0 +1,93 @@
+package com.stock.strategy.service;
+
+import com.stock.common.model.TradingDays;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import com.stock.strategy.service.panel.PricePanel;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 시뮬레이션 입력 데이터 (거래일, 리밸런싱일별 유니버스, 시세 패널, 기준 지수).
+ * 생성 이후 읽기 전용이므로 같은 조건의 여러 시뮬레이션(그리드 서치 등)이 공유할 수 있다.
+ */
+public record SimulationData(TradingDays tradingDays, Map<LocalDate, List<String>> universes, PricePanel prices,
+                             BenchmarkSeries benchmark) {
+
+    public SimulationData {
+        Map<LocalDate, List<String>> copy = new LinkedHashMap<>();
+        universes.forEach((date, universe) -> copy.put(date, List.copyOf(universe)));
+        universes = Collections.unmodifiableMap(copy);
+        benchmark = benchmark != null ? benchmark : BenchmarkSeries.empty();
+    }
+
+    /**
+     * 기준 지수 없이 생성 (벤치마크 대비 지표 미계산)
+     */
+    public SimulationData(TradingDays tradingDays, Map<LocalDate, List<String>> universes, PricePanel prices) {
+        this(tradingDays, universes, prices, BenchmarkSeries.empty());
+    }
+
+    /**
+     * endDate 까지로 기간을 줄인 데이터. 시세 패널과 기준 지수는 그대로 공유한다
+     */
+    public SimulationData until(LocalDate endDate) {
+        int last = tradingDays.floorIndexOf(endDate);
+        List<LocalDate> days = last == TradingDays.NOT_FOUND ? List.of() : tradingDays.toList().subList(0, last + 1);
+
+        Map<LocalDate, List<String>> prefix = new LinkedHashMap<>();
+        universes.forEach((date, universe) -> {
+            if (!date.isAfter(endDate)) {
+                prefix.put(date, universe);
+            }
+        });
+        return new SimulationData(TradingDays.of(days), prefix, prices, benchmark);
+    }
+
+    /**
+     * startDate ~ endDate 로 기간을 자른 데이터. 시세 패널과 기준 지수는 그대로 공유하므로 시작일 이전 룩백 시세도 사용할 수 있다.
+     * 시작 거래일이 리밸런싱일이 아니면 직전 리밸런싱일의 유니버스로 첫 거래일에 리밸런싱한다.
+     */
+    public SimulationData between(LocalDate startDate, LocalDate endDate) {
+        int first = tradingDays.ceilIndexOf(startDate);
+        int last = tradingDays.floorIndexOf(endDate);
+        if (first == TradingDays.NOT_FOUND || last == TradingDays.NOT_FOUND || first > last) {
+            return new SimulationData(TradingDays.empty(), Map.of(), prices, benchmark);
+        }
+        LocalDate firstDay = tradingDays.get(first);
+
+        Map<LocalDate, List<String>> window = new LinkedHashMap<>();
+        rebalancingOn(List.of(firstDay)).universes().forEach((date, universe) -> {
+            if (!date.isBefore(firstDay) && !date.isAfter(endDate)) {
+                window.put(date, universe);
+            }
+        });
+        return new SimulationData(TradingDays.of(tradingDays.toList().subList(first, last + 1)), window, prices, benchmark);
+    }
+
+    /**
+     * 주어진 날짜(휴장일이면 다음 거래일)에도 리밸런싱하도록 유니버스를 추가한 데이터.
+     * 추가된 날짜는 직전 리밸런싱일의 유니버스를 그대로 사용한다
+     */
+    public SimulationData rebalancingOn(Collection<LocalDate> dates) {
+        NavigableMap<LocalDate, List<String>> merged = new TreeMap<>(universes);
+        for (LocalDate date : dates) {
+            int index = tradingDays.ceilIndexOf(date);
+            if (index == TradingDays.NOT_FOUND) {
+                continue;
+            }
+            LocalDate day = tradingDays.get(index);
+            Map.Entry<LocalDate, List<String>> previous = merged.floorEntry(day);
+            if (previous != null && !previous.getKey().equals(day)) {
+                merged.put(day, previous.getValue());
+            }
+        }
+        return new SimulationData(tradingDays, merged, prices, benchmark);
+    }
+}
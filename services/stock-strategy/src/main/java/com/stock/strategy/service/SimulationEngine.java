@@ -2,101 +2,376 @@ package com.stock.strategy.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.stock.common.dto.StockPriceDto;
-import com.stock.common.service.DayOffService;
-import com.stock.strategy.client.PriceClient;
+import com.stock.common.model.TradingDays;
+import com.stock.common.service.TradingCalendar;
 import com.stock.strategy.dto.BacktestRequest;
 import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.entity.BacktestResult;
 import com.stock.strategy.entity.PortfolioSnapshot;
+import com.stock.strategy.entity.TradeHistory;
 import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.enums.RebalancingPeriod;
 import com.stock.strategy.enums.SlippageType;
+import com.stock.strategy.enums.SnapshotGranularity;
+import com.stock.strategy.service.checkpoint.CheckpointStore;
+import com.stock.strategy.service.checkpoint.SimulationCheckpoint;
+import com.stock.strategy.service.checkpoint.SimulationCheckpointCodec;
+import com.stock.strategy.service.ledger.FixedPoint;
+import com.stock.strategy.service.ledger.FixedPointLedger;
+import com.stock.strategy.enums.BenchmarkIndex;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.panel.BenchmarkLoader;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.panel.PricePanelLoader;
+import com.stock.strategy.service.slippage.MarketImpactSlippageModel;
+import com.stock.strategy.service.slippage.ParticipationLimiter;
 import com.stock.strategy.service.slippage.SlippageModel;
 import com.stock.strategy.service.slippage.SlippageModelFactory;
-import com.stock.strategy.repository.PortfolioSnapshotRepository;
+import com.stock.strategy.service.snapshot.SnapshotWriter;
 import com.stock.strategy.strategy.Strategy;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SimulationEngine {
 
-    private final DayOffService dayOffService;
+    private final TradingCalendar tradingCalendar;
     private final UniverseFilterService universeFilterService;
-    private final PriceClient priceClient;
-    private final PortfolioSnapshotRepository snapshotRepository;
+    private final PricePanelLoader pricePanelLoader;
+    private final BenchmarkLoader benchmarkLoader;
+    private final SnapshotWriter snapshotWriter;
+    private final CheckpointStore checkpointStore;
     private final ObjectMapper objectMapper;
 
+    // true: long 고정소수점 회계 코어 사용, false: BigDecimal Portfolio 직접 갱신
+    @Value("${backtest.fixed-point-accounting:true}")
+    private boolean fixedPointAccounting;
+
+    // 체크포인트 주기: 거래일 수 또는 경과 시간 중 먼저 도달하는 쪽 (0: 해당 조건 미사용)
+    @Value("${backtest.checkpoint.interval-days:60}")
+    private int checkpointIntervalDays;
+
+    @Value("${backtest.checkpoint.max-interval-seconds:60}")
+    private long checkpointMaxIntervalSeconds;
+
     public BacktestResult runSimulation(Long simulationId, BacktestRequest request, Strategy strategy) {
-        Portfolio portfolio = new Portfolio(request.getInitialCapital());
-        LocalDate currentDate = request.getStartDate();
+        return runSimulation(simulationId, request, strategy, prepare(request, strategy.getLookbackDays()));
+    }
+
+    /**
+     * 주기적으로 체크포인트를 남기며 실행. resumeFrom 이 있으면 체크포인트 거래일 다음 날부터 이어서 실행한다.
+     * 형식 버전이나 거래일이 맞지 않는 체크포인트는 삭제하고, 이미 저장된 스냅샷/체결도 지운 뒤 첫 거래일부터 다시 실행한다
+     */
+    public BacktestResult runSimulation(Long simulationId, BacktestRequest request, Strategy strategy,
+                                        SimulationCheckpoint resumeFrom, Consumer<SimulationCheckpoint> checkpointSink) {
+        return runSimulation(simulationId, request, strategy, resumeFrom, checkpointSink, null);
+    }
+
+    /**
+     * 체크포인트와 함께 거래일마다 진행 상황을 progressListener 로 전달하며 실행
+     */
+    public BacktestResult runSimulation(Long simulationId, BacktestRequest request, Strategy strategy,
+                                        SimulationCheckpoint resumeFrom, Consumer<SimulationCheckpoint> checkpointSink,
+                                        ProgressListener progressListener) {
+        return runSimulation(simulationId, request, strategy, prepare(request, strategy.getLookbackDays()), null,
+                resumeFrom, checkpointSink, progressListener);
+    }
+
+    /**
+     * 거래일, 리밸런싱일별 유니버스, 시세 패널, 기준 지수를 한 번에 준비
+     */
+    public SimulationData prepare(BacktestRequest request, int lookbackDays) {
+        LocalDate startDate = request.getStartDate();
         LocalDate endDate = request.getEndDate();
-        
-        SlippageModel slippageModel = SlippageModelFactory.create(
-                request.getSlippageType() != null ? request.getSlippageType() : SlippageType.NONE,
-                request.getFixedSlippageRate()
-        );
-
-        while (!currentDate.isAfter(endDate)) {
-            // 휴장일 인경우 다음날 체크
-            if (dayOffService.checkIsDayOff(currentDate)) {
-                currentDate = currentDate.plusDays(1);
-                continue;
-            }
 
-            log.info("Processing backtest date: {}", currentDate);
+        // 1. 거래일 및 리밸런싱일별 유니버스를 먼저 확정
+        TradingDays tradingDays = tradingCalendar.getTradingDays(startDate, endDate);
+        Map<LocalDate, List<String>> universes = resolveUniverses(tradingDays, request);
 
-            // 리밸런싱 체크
-            if (isRebalancingDate(currentDate, request.getRebalancingPeriod(), request.getStartDate())) {
-                log.info("Rebalancing on: {}", currentDate);
-                // 유니버스 필터링
-                List<String> universe = universeFilterService.filter(currentDate, request.getUniverseFilter());
-                
-                // 전략 실행
-                List<TradeOrder> orders = strategy.rebalance(currentDate, portfolio, universe, request);
-                
-                // 주문 실행
-                executeOrders(simulationId, currentDate, orders, portfolio, slippageModel, request.getTradingFeeRate(), request.getTaxRate(), request.getMaxWeightPerStock());
+        // 2. 전체 유니버스 합집합에 대해 시세 패널을 한 번에 적재 (전략 룩백 기간 포함)
+        Set<String> panelCodes = new HashSet<>();
+        universes.values().forEach(panelCodes::addAll);
+        // 시장 충격 모델은 시작일 이전 평균 거래량이 필요하므로 룩백 기간을 확장
+        int panelLookbackDays = request.getSlippageType() == SlippageType.MARKET_IMPACT
+                ? Math.max(lookbackDays, MarketImpactSlippageModel.lookbackCalendarDays(request.getVolumeLookbackDays()))
+                : lookbackDays;
+        PricePanel prices = pricePanelLoader.load(panelCodes, startDate.minusDays(panelLookbackDays), endDate);
+
+        // 3. 기준 지수 시계열 적재 (미지정 시 코스피). 전략이 리밸런싱일의 지수 모멘텀을 계산할 수 있도록 룩백 기간 포함
+        BenchmarkSeries benchmark = benchmarkLoader.load(benchmarkOf(request),
+                startDate.minusDays(Math.max(lookbackDays, SectorAnalysisService.MOMENTUM_6M_CALENDAR_DAYS)), endDate);
+
+        return new SimulationData(tradingDays, universes, prices, benchmark);
+    }
+
+    /**
+     * 준비된 데이터로 시뮬레이션 실행. data 는 읽기 전용으로만 사용하므로 여러 스레드에서 공유 가능
+     */
+    public BacktestResult runSimulation(Long simulationId, BacktestRequest request, Strategy strategy, SimulationData data) {
+        return runSimulation(simulationId, request, strategy, data, null, null, null, null);
+    }
+
+    /**
+     * 하나의 포트폴리오로 연속 실행하면서 날짜별로 전략 파라미터를 바꿔 적용 (워크포워드 표본 외 구간 연결).
+     * 각 리밸런싱일에는 그 날짜 이하의 마지막 항목 파라미터로 전략을 실행하며, 수수료/세금/슬리피지 등
+     * 체결 조건은 request 를 따른다.
+     */
+    public BacktestResult runSimulation(Long simulationId, BacktestRequest request, Strategy strategy, SimulationData data,
+                                        NavigableMap<LocalDate, BacktestRequest> parameterSchedule) {
+        return runSimulation(simulationId, request, strategy, data, parameterSchedule, null, null, null);
+    }
+
+    private BacktestResult runSimulation(Long simulationId, BacktestRequest request, Strategy strategy, SimulationData data,
+                                         NavigableMap<LocalDate, BacktestRequest> parameterSchedule,
+                                         SimulationCheckpoint resumeFrom, Consumer<SimulationCheckpoint> checkpointSink,
+                                         ProgressListener progressListener) {
+        TradingDays tradingDays = data.tradingDays();
+        Map<LocalDate, List<String>> universes = data.universes();
+        PricePanel prices = data.prices();
+
+        Portfolio portfolio = new Portfolio(request.getInitialCapital());
+
+        SlippageModel slippageModel = SlippageModelFactory.create(request, prices);
+
+        // 당일 거래량 × maxVolumeRatio 를 넘는 주문 수량은 다음 거래일로 이월
+        ParticipationLimiter participationLimiter = new ParticipationLimiter(request.getMaxVolumeRatio(), prices);
+
+        SnapshotGranularity granularity = request.getSnapshotGranularity() != null
+                ? request.getSnapshotGranularity() : SnapshotGranularity.DAILY;
+
+        // 고정소수점 코어 사용 시 Portfolio 는 전략/스냅샷에 필요한 시점에만 갱신되는 뷰
+        FixedPointLedger ledger = fixedPointAccounting ? new FixedPointLedger(request.getInitialCapital(), prices) : null;
+        List<TradeOrder> trades = ledger != null ? ledger.trades() : portfolio.getTrades();
+        int recordedTrades = 0;
+
+        // 성과 지표는 일별 평가 금액/체결이 생길 때마다 누적 계산 (종료 후 스냅샷 재조회 없음)
+        PerformanceAccumulator metrics = new PerformanceAccumulator(request.getStartDate(),
+                request.getInitialCapital().doubleValue(), rateOf(request.getTradingFeeRate()), rateOf(request.getTaxRate()),
+                data.benchmark());
+
+        int firstDay = 0;
+        if (resumeFrom != null) {
+            try {
+                firstDay = restoreCheckpoint(simulationId, resumeFrom, tradingDays, ledger, metrics, participationLimiter);
+            } catch (IllegalStateException e) {
+                // 배포로 체크포인트 형식이 바뀌었거나 휴장일 갱신으로 거래일이 달라진 경우: 재개하지 않고 처음부터 다시 실행
+                log.warn("Discarding incompatible checkpoint {} of simulation {}, restarting from the first trading day: {}",
+                        resumeFrom.date(), simulationId, e.getMessage());
+                checkpointStore.delete(simulationId);
+                snapshotWriter.deleteAll(simulationId);
+                return runSimulation(simulationId, request, strategy, data, parameterSchedule, null, checkpointSink, progressListener);
             }
+        }
 
-            // 일일 성과 계산 (현금 + 주식)
-            calculateDailyReturn(currentDate, portfolio);
-            
-            // 포트폴리오 스냅샷 저장
-            saveSnapshot(currentDate, portfolio, simulationId);
+        // 체크포인트는 고정소수점 원장 상태만 직렬화하므로 BigDecimal 회계에서는 사용하지 않음
+        boolean checkpointing = checkpointSink != null && (checkpointIntervalDays > 0 || checkpointMaxIntervalSeconds > 0);
+        if (checkpointing && ledger == null) {
+            log.warn("Checkpointing requires fixed-point accounting, simulation {} runs without checkpoints", simulationId);
+            checkpointing = false;
+        }
+        int lastCheckpointDay = firstDay - 1;
+        long lastCheckpointNanos = System.nanoTime();
+
+        // 스냅샷은 백그라운드에서 일괄 저장되며, 블록 종료 시 마지막 저장까지 대기
+        try (SnapshotWriter.Sink snapshotSink = snapshotWriter.open(simulationId)) {
+            // 체결 내역은 스냅샷을 남기는 실행에서만 함께 저장 (강건성 분석의 매매 손익 재표본 추출용)
+            SnapshotWriter.Sink tradeSink = granularity != SnapshotGranularity.NONE ? snapshotSink : null;
+            for (int day = firstDay; day < tradingDays.size(); day++) {
+                // 작업 큐 취소 요청 (워커 스레드 인터럽트)
+                if (Thread.interrupted()) {
+                    throw new CancellationException("Simulation " + simulationId + " cancelled");
+                }
+                LocalDate currentDate = tradingDays.get(day);
+                log.debug("Processing backtest date: {}", currentDate);
+
+                // 리밸런싱 체크
+                List<String> universe = universes.get(currentDate);
+                if (universe != null) {
+                    log.info("Rebalancing on: {}", currentDate);
+                    if (ledger != null) {
+                        ledger.writeTo(portfolio);
+                    }
+
+                    // 전략 실행
+                    Map.Entry<LocalDate, BacktestRequest> scheduled = parameterSchedule != null
+                            ? parameterSchedule.floorEntry(currentDate) : null;
+                    BacktestRequest parameters = scheduled != null ? scheduled.getValue() : request;
+                    List<TradeOrder> orders = strategy.rebalance(currentDate, portfolio, universe, parameters, prices, data.benchmark());
+
+                    // 주문 실행 (거래량 제한 초과분은 이월)
+                    orders = participationLimiter.submit(currentDate, orders);
+                    dispatchOrders(simulationId, currentDate, orders, portfolio, ledger, slippageModel, request);
+                    recordedTrades = recordTrades(simulationId, currentDate, metrics, trades, recordedTrades, tradeSink, request);
+                } else if (participationLimiter.hasPending()) {
+                    // 이전 리밸런싱에서 체결되지 못한 잔량 체결
+                    List<TradeOrder> orders = participationLimiter.carryOver(currentDate);
+                    dispatchOrders(simulationId, currentDate, orders, portfolio, ledger, slippageModel, request);
+                    recordedTrades = recordTrades(simulationId, currentDate, metrics, trades, recordedTrades, tradeSink, request);
+                }
+
+                // 일일 성과 계산 (현금 + 주식)
+                if (ledger != null) {
+                    ledger.markToMarket(currentDate);
+                    metrics.onDay(currentDate, FixedPoint.toDouble(ledger.totalValue()));
+                } else {
+                    calculateDailyReturn(currentDate, portfolio, prices);
+                    metrics.onDay(currentDate, portfolio.getTotalValue().doubleValue());
+                }
+                if (progressListener != null) {
+                    progressListener.onDay(day, tradingDays.size(), currentDate, metrics);
+                }
 
-            currentDate = currentDate.plusDays(1);
+                // 포트폴리오 스냅샷 저장
+                if (shouldSaveSnapshot(granularity, day, tradingDays, universe != null)) {
+                    if (ledger != null) {
+                        ledger.writeTo(portfolio);
+                    }
+                    saveSnapshot(currentDate, portfolio, simulationId, snapshotSink);
+                }
+
+                // 체크포인트 (마지막 거래일은 곧 결과가 저장되므로 생략)
+                if (checkpointing && day < tradingDays.size() - 1
+                        && isCheckpointDue(day - lastCheckpointDay, System.nanoTime() - lastCheckpointNanos)) {
+                    // 체크포인트 시점까지의 스냅샷이 모두 저장된 뒤에 기록해야 재개 시 누락이 없음
+                    snapshotSink.flush();
+                    checkpointSink.accept(new SimulationCheckpoint(day, currentDate,
+                            SimulationCheckpointCodec.encode(ledger, metrics, participationLimiter)));
+                    lastCheckpointDay = day;
+                    lastCheckpointNanos = System.nanoTime();
+                }
+            }
+        }
+
+        if (ledger != null) {
+            ledger.writeTo(portfolio);
         }
 
         // 최종 결과 계산
-        return calculateBacktestResult(simulationId, request, portfolio);
+        return calculateBacktestResult(simulationId, request, portfolio, metrics.result(), data.benchmark());
+    }
+
+    // 체크포인트 상태를 복원하고 이어서 처리할 거래일 인덱스 반환. 복원할 수 없는 체크포인트면 IllegalStateException
+    private int restoreCheckpoint(Long simulationId, SimulationCheckpoint checkpoint, TradingDays tradingDays,
+                                  FixedPointLedger ledger, PerformanceAccumulator metrics, ParticipationLimiter participationLimiter) {
+        if (ledger == null) {
+            throw new IllegalStateException("Resuming from a checkpoint requires fixed-point accounting");
+        }
+        int dayIndex = checkpoint.dayIndex();
+        if (dayIndex < 0 || dayIndex >= tradingDays.size() || !tradingDays.get(dayIndex).equals(checkpoint.date())) {
+            throw new IllegalStateException("Trading calendar changed since checkpoint " + checkpoint.date()
+                    + " of simulation " + simulationId);
+        }
+
+        SimulationCheckpointCodec.decode(checkpoint.state(), ledger, metrics, participationLimiter);
+        // 체크포인트 이후 저장된 스냅샷은 다시 저장되므로 제거
+        snapshotWriter.deleteAfter(simulationId, checkpoint.date());
+        log.info("Resuming simulation {} after checkpoint {} ({}/{} trading days)",
+                simulationId, checkpoint.date(), dayIndex + 1, tradingDays.size());
+        return dayIndex + 1;
+    }
+
+    private boolean isCheckpointDue(int daysSinceCheckpoint, long nanosSinceCheckpoint) {
+        return (checkpointIntervalDays > 0 && daysSinceCheckpoint >= checkpointIntervalDays)
+                || (checkpointMaxIntervalSeconds > 0 && nanosSinceCheckpoint >= TimeUnit.SECONDS.toNanos(checkpointMaxIntervalSeconds));
+    }
+
+    private void dispatchOrders(Long simulationId, LocalDate date, List<TradeOrder> orders, Portfolio portfolio,
+                                FixedPointLedger ledger, SlippageModel slippageModel, BacktestRequest request) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        if (ledger != null) {
+            ledger.executeOrders(orders, slippageModel, request.getTradingFeeRate(), request.getTaxRate(), request.getMaxWeightPerStock());
+        } else {
+            executeOrders(simulationId, date, orders, portfolio, slippageModel, request.getTradingFeeRate(), request.getTaxRate(), request.getMaxWeightPerStock());
+        }
+    }
+
+    // 이번 리밸런싱에서 새로 체결된 주문만 지표 집계기에 전달하고, tradeSink 가 있으면 체결 내역으로 저장
+    private int recordTrades(Long simulationId, LocalDate date, PerformanceAccumulator metrics, List<TradeOrder> trades, int from,
+                             SnapshotWriter.Sink tradeSink, BacktestRequest request) {
+        for (int i = from; i < trades.size(); i++) {
+            TradeOrder trade = trades.get(i);
+            BigDecimal executionPrice = trade.getExecutionPrice() != null ? trade.getExecutionPrice() : trade.getPrice();
+            boolean buy = trade.getOrderType() == OrderType.BUY;
+            metrics.onTrade(trade.getStockCode(), buy, trade.getQuantity(), executionPrice.doubleValue());
+
+            if (tradeSink != null) {
+                BigDecimal amount = executionPrice.multiply(BigDecimal.valueOf(trade.getQuantity()));
+                tradeSink.addTrade(TradeHistory.builder()
+                        .simulationId(simulationId)
+                        .tradeDate(date)
+                        .stockCode(trade.getStockCode())
+                        .orderType(trade.getOrderType().name())
+                        .quantity(trade.getQuantity())
+                        .price(executionPrice.setScale(2, RoundingMode.HALF_UP))
+                        .fee(charge(amount, request.getTradingFeeRate()))
+                        .tax(buy ? BigDecimal.ZERO.setScale(2) : charge(amount, request.getTaxRate()))
+                        .build());
+            }
+        }
+        return trades.size();
+    }
+
+    private static BigDecimal charge(BigDecimal amount, BigDecimal rate) {
+        return rate != null ? amount.multiply(rate).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO.setScale(2);
     }
 
-    private boolean isRebalancingDate(LocalDate date, RebalancingPeriod period, LocalDate startDate) {
-        if (date.equals(startDate)) {
-            return true; // 시작일은 항상 리밸런싱
+    private static double rateOf(BigDecimal rate) {
+        return rate != null ? rate.doubleValue() : 0.0;
+    }
+
+    private Map<LocalDate, List<String>> resolveUniverses(TradingDays tradingDays, BacktestRequest request) {
+        Map<LocalDate, List<String>> universes = new LinkedHashMap<>();
+        for (int day = 0; day < tradingDays.size(); day++) {
+            LocalDate date = tradingDays.get(day);
+            if (isRebalancingDate(date, request.getRebalancingPeriod(), tradingDays)) {
+                // 유니버스 필터링
+                universes.put(date, universeFilterService.filter(date, request.getUniverseFilter()));
+            }
+        }
+        return universes;
+    }
+
+    // 각 주기의 첫 거래일에 리밸런싱 (1일/월요일이 휴장일이어도 해당 주기를 건너뛰지 않음)
+    private boolean isRebalancingDate(LocalDate date, RebalancingPeriod period, TradingDays tradingDays) {
+        LocalDate prev = tradingDays.previous(date);
+        if (prev == null) {
+            return true; // 첫 거래일은 항상 리밸런싱
         }
 
         return switch (period) {
             case DAILY -> true;
-            case WEEKLY -> date.getDayOfWeek().getValue() == 1; // 월요일
-            case MONTHLY -> date.getDayOfMonth() == 1; // 매월 1일
-            case QUARTERLY -> date.getDayOfMonth() == 1 && (date.getMonthValue() % 3 == 1);
-            case YEARLY -> date.getDayOfYear() == 1;
+            case WEEKLY -> !date.with(DayOfWeek.MONDAY).equals(prev.with(DayOfWeek.MONDAY));
+            case MONTHLY -> !YearMonth.from(date).equals(YearMonth.from(prev));
+            case QUARTERLY -> date.getYear() != prev.getYear()
+                    || date.get(IsoFields.QUARTER_OF_YEAR) != prev.get(IsoFields.QUARTER_OF_YEAR);
+            case YEARLY -> date.getYear() != prev.getYear();
         };
     }
 
@@ -113,7 +388,7 @@ public class SimulationEngine {
     }
 
     private void processOrder(TradeOrder order, Portfolio portfolio, SlippageModel slippageModel, BigDecimal feeRate, BigDecimal taxRate, BigDecimal maxWeightPerStock) {
-        BigDecimal execPrice = slippageModel.calculateExecutionPrice(order.getPrice(), order.getQuantity(), order.getOrderType());
+        BigDecimal execPrice = slippageModel.calculateExecutionPrice(order);
         BigDecimal totalAmount = execPrice.multiply(BigDecimal.valueOf(order.getQuantity()));
         
         if (order.getOrderType() == OrderType.BUY) {
@@ -154,6 +429,7 @@ public class SimulationEngine {
             
             portfolio.getHoldings().put(order.getStockCode(), holding);
             order.setQuantity(targetQuantity);
+            order.setExecutionPrice(execPrice);
             portfolio.getTrades().add(order);
         } else {
             PortfolioHolding holding = portfolio.getHoldings().get(order.getStockCode());
@@ -169,27 +445,44 @@ public class SimulationEngine {
                 } else {
                     holding.setQuantity(remainingQuantity);
                 }
+                order.setExecutionPrice(execPrice);
                 portfolio.getTrades().add(order);
             }
         }
     }
 
-    private void calculateDailyReturn(LocalDate date, Portfolio portfolio) {
+    private void calculateDailyReturn(LocalDate date, Portfolio portfolio, PricePanel prices) {
         BigDecimal stockValue = BigDecimal.ZERO;
-        String dateStr = date.toString();
 
         for (PortfolioHolding holding : portfolio.getHoldings().values()) {
-            var priceDto = priceClient.getPriceByDate(holding.getStockCode(), dateStr);
-            if (priceDto != null && priceDto.getEndPrice() != null) {
-                holding.setCurrentPrice(priceDto.getEndPrice());
-                holding.setMarketValue(priceDto.getEndPrice().multiply(BigDecimal.valueOf(holding.getQuantity())));
+            BigDecimal closePrice = prices.closeOn(holding.getStockCode(), date);
+            if (closePrice != null) {
+                holding.setCurrentPrice(closePrice);
+                holding.setMarketValue(closePrice.multiply(BigDecimal.valueOf(holding.getQuantity())));
             }
             stockValue = stockValue.add(holding.getMarketValue());
         }
         portfolio.setTotalValue(portfolio.getCashBalance().add(stockValue));
     }
 
-    private void saveSnapshot(LocalDate date, Portfolio portfolio, Long simulationId) {
+    private boolean shouldSaveSnapshot(SnapshotGranularity granularity, int day, TradingDays tradingDays, boolean rebalanced) {
+        if (granularity == SnapshotGranularity.NONE) {
+            return false;
+        }
+        if (day == tradingDays.size() - 1) {
+            return true; // 마지막 거래일은 항상 저장
+        }
+
+        return switch (granularity) {
+            case NONE -> false;
+            case DAILY -> true;
+            case WEEKLY -> !tradingDays.get(day + 1).with(DayOfWeek.MONDAY)
+                    .equals(tradingDays.get(day).with(DayOfWeek.MONDAY)); // 주의 마지막 거래일
+            case REBALANCE_ONLY -> rebalanced;
+        };
+    }
+
+    private void saveSnapshot(LocalDate date, Portfolio portfolio, Long simulationId, SnapshotWriter.Sink snapshotSink) {
         try {
             PortfolioSnapshot snapshot = PortfolioSnapshot.builder()
                     .simulationId(simulationId)
@@ -198,28 +491,56 @@ public class SimulationEngine {
                     .totalValue(portfolio.getTotalValue())
                     .holdings(objectMapper.writeValueAsString(portfolio.getHoldings()))
                     .build();
-            snapshotRepository.save(snapshot);
+            snapshotSink.add(snapshot);
         } catch (JsonProcessingException e) {
             log.error("Failed to save snapshot", e);
         }
     }
 
-    private BacktestResult calculateBacktestResult(Long simulationId, BacktestRequest request, Portfolio portfolio) {
+    private BacktestResult calculateBacktestResult(Long simulationId, BacktestRequest request, Portfolio portfolio,
+                                                   PerformanceAccumulator.PerformanceMetrics metrics, BenchmarkSeries benchmark) {
         BigDecimal totalReturn = portfolio.getTotalValue().subtract(request.getInitialCapital())
                 .divide(request.getInitialCapital(), 4, RoundingMode.HALF_UP)
                 .multiply(BigDecimal.valueOf(100));
 
+        PerformanceAccumulator.RelativeMetrics relative = metrics.relative();
+
         return BacktestResult.builder()
                 .simulationId(simulationId)
                 .finalValue(portfolio.getTotalValue())
                 .totalReturn(totalReturn)
-                .totalTrades(portfolio.getTrades().size())
-                .profitableTrades(0) // Logic needed to calculate this
-                .cagr(BigDecimal.ZERO) // Logic needed
-                .mdd(BigDecimal.ZERO) // Logic needed
+                .cagr(PerformanceAccumulator.percent(metrics.cagr()))
+                .mdd(PerformanceAccumulator.percent(metrics.maxDrawdown()))
+                .sharpeRatio(PerformanceAccumulator.ratio(metrics.sharpeRatio()))
+                .sortinoRatio(PerformanceAccumulator.ratio(metrics.sortinoRatio()))
+                .calmarRatio(PerformanceAccumulator.ratio(metrics.calmarRatio()))
+                .volatility(PerformanceAccumulator.percent(metrics.volatility()))
+                .winRate(PerformanceAccumulator.percent(metrics.winRate()))
+                // 매매 수/수익 매매 수/승률은 모두 청산(매도) 매매 기준 (PerformanceCalculationService 와 동일)
+                .totalTrades(metrics.closedTrades())
+                .profitableTrades(metrics.profitableTrades())
+                .benchmark(relative != null ? benchmark.index().name() : null)
+                .alpha(relative != null ? PerformanceAccumulator.percent(relative.alpha()) : null)
+                .beta(relative != null ? PerformanceAccumulator.ratio(relative.beta()) : null)
+                .trackingError(relative != null ? PerformanceAccumulator.percent(relative.trackingError()) : null)
+                .informationRatio(relative != null ? PerformanceAccumulator.ratio(relative.informationRatio()) : null)
+                .upCapture(relative != null && relative.upCapture() != null ? PerformanceAccumulator.percent(relative.upCapture()) : null)
+                .downCapture(relative != null && relative.downCapture() != null ? PerformanceAccumulator.percent(relative.downCapture()) : null)
                 .build();
     }
 
+    private static BenchmarkIndex benchmarkOf(BacktestRequest request) {
+        return request.getBenchmark() != null ? request.getBenchmark() : BenchmarkIndex.KOSPI;
+    }
+
+    /**
+     * 거래일 처리 완료 시점마다 시뮬레이션 스레드에서 호출된다. 구현은 블로킹 I/O 없이 빠르게 반환해야 한다
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onDay(int day, int totalDays, LocalDate date, PerformanceAccumulator metrics);
+    }
+
     @Data
     public static class Portfolio {
         private BigDecimal cashBalance;
@@ -1,6 +1,9 @@
 package com.stock.strategy.service;
 
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.StrategySleeve;
 import com.stock.strategy.enums.StrategyType;
+import com.stock.strategy.strategy.CompositeStrategy;
 import com.stock.strategy.strategy.EqualWeightStrategy;
 import com.stock.strategy.strategy.LowVolatilityStrategy;
 import com.stock.strategy.strategy.MomentumStrategy;
@@ -12,6 +15,7 @@ import com.stock.strategy.strategy.ValueStrategy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -36,9 +40,37 @@ public class StrategyFactory {
             case MULTI_FACTOR -> multiFactorStrategy;
             case SECTOR_ROTATION -> sectorRotationStrategy;
             case DUAL_MOMENTUM, RISK_PARITY -> assetAllocationStrategy;
+            case COMPOSITE -> throw new IllegalArgumentException("Composite strategy must be built from a request with sleeves");
         };
     }
 
+    /**
+     * 요청에 맞는 전략. 복합 전략은 슬리브별 장부를 상태로 가지므로 호출마다 새로 만든다
+     */
+    public Strategy getStrategy(BacktestRequest request) {
+        if (request.getStrategyType() != StrategyType.COMPOSITE) {
+            return getStrategy(request.getStrategyType());
+        }
+        List<StrategySleeve> sleeves = request.getSleeves();
+        if (sleeves == null || sleeves.isEmpty()) {
+            throw new IllegalArgumentException("Composite strategy requires at least one sleeve");
+        }
+
+        List<CompositeStrategy.Sleeve> composite = new ArrayList<>(sleeves.size());
+        for (int i = 0; i < sleeves.size(); i++) {
+            StrategySleeve sleeve = sleeves.get(i);
+            if (sleeve.getStrategyType() == null || sleeve.getWeight() == null) {
+                throw new IllegalArgumentException("Sleeve strategy type and weight are required");
+            }
+            if (sleeve.getStrategyType() == StrategyType.COMPOSITE) {
+                throw new IllegalArgumentException("Composite strategies cannot be nested");
+            }
+            composite.add(new CompositeStrategy.Sleeve(i, sleeve.getStrategyType(),
+                    getStrategy(sleeve.getStrategyType()), sleeve.getWeight().doubleValue()));
+        }
+        return new CompositeStrategy(composite);
+    }
+
     public Strategy getStrategy(String strategyName) {
         return getStrategy(StrategyType.fromCode(strategyName));
     }
@@ -0,0 +1,127 @@
+package com.stock.strategy.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.entity.BacktestResult;
+import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.enums.SimulationStatus;
+import com.stock.strategy.repository.BacktestResultRepository;
+import com.stock.strategy.repository.BacktestSimulationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.stock.common.consts.ApplicationConstants.CORP_DATA_VERSION_KEY;
+import static com.stock.common.consts.ApplicationConstants.FACTOR_DATA_VERSION_KEY;
+import static com.stock.common.consts.ApplicationConstants.FINANCE_DATA_VERSION_KEY;
+import static com.stock.common.consts.ApplicationConstants.PRICE_DATA_VERSION_KEY;
+
+/**
+ * 요청 지문과 데이터 버전이 같은 완료 시뮬레이션의 결과를 재사용하는 결과 캐시.
+ * <p>
+ * 별도 저장소 없이 시뮬레이션 테이블에 지문/데이터 버전을 기록하고, 결과와 스냅샷은 기존 시뮬레이션 ID 로 그대로 조회한다.
+ * 데이터 버전은 시세/재무/팩터 사전 계산/기업 정보 배치가 완료 시 증가시키는 공용 레디스 값이며, 읽을 수 없으면 캐시를 사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class BacktestResultCache {
+
+    public static final String SOURCE_BACKTEST = "backtest";
+    public static final String SOURCE_OPTIMIZATION = "optimization";
+
+    private final BacktestSimulationRepository simulationRepository;
+    private final BacktestResultRepository resultRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public BacktestResultCache(BacktestSimulationRepository simulationRepository,
+                               BacktestResultRepository resultRepository,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${backtest.result-cache.enabled:true}") boolean enabled) {
+        this.simulationRepository = simulationRepository;
+        this.resultRepository = resultRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 현재 데이터 버전 ("p{시세}.f{재무}.x{팩터}.c{기업 정보}"). 캐시를 사용하지 않거나 레디스를 읽을 수 없으면 null
+     */
+    public String currentDataVersion() {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            List<String> versions = redisTemplate.opsForValue().multiGet(
+                    List.of(PRICE_DATA_VERSION_KEY, FINANCE_DATA_VERSION_KEY, FACTOR_DATA_VERSION_KEY, CORP_DATA_VERSION_KEY));
+            return "p" + versionOf(versions, 0) + ".f" + versionOf(versions, 1)
+                    + ".x" + versionOf(versions, 2) + ".c" + versionOf(versions, 3);
+        } catch (Exception e) {
+            log.warn("Failed to read data version, backtest result cache skipped: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 같은 요청을 같은 데이터 버전으로 실행한 완료 결과. 우회 요청이거나 데이터 버전이 없으면 조회하지 않는다
+     *
+     * @param source 지표 태그 (SOURCE_BACKTEST, SOURCE_OPTIMIZATION)
+     */
+    public Optional<BacktestResult> lookup(BacktestRequest request, String dataVersion, String source) {
+        if (Boolean.TRUE.equals(request.getBypassCache())) {
+            count(source, "bypass");
+            return Optional.empty();
+        }
+        if (dataVersion == null) {
+            count(source, "disabled");
+            return Optional.empty();
+        }
+
+        String fingerprint = RequestFingerprint.of(objectMapper, request);
+        // 완료 상태 저장과 결과 저장 사이에 조회될 수 있으므로 결과가 있는 경우만 적중
+        Optional<BacktestResult> cached = simulationRepository
+                .findFirstByRequestFingerprintAndDataVersionAndStatusOrderByIdDesc(fingerprint, dataVersion, SimulationStatus.COMPLETED)
+                .flatMap(simulation -> resultRepository.findBySimulationId(simulation.getId()));
+
+        count(source, cached.isPresent() ? "hit" : "miss");
+        cached.ifPresent(result -> log.info("Backtest result cache hit ({}): simulation {}", source, result.getSimulationId()));
+        return cached;
+    }
+
+    /**
+     * 새로 실행할 시뮬레이션에 캐시 키 기록. 우회 요청도 기록하여 이후 같은 요청이 최신 결과를 재사용하도록 한다
+     */
+    public void stamp(BacktestSimulation simulation, BacktestRequest request, String dataVersion) {
+        if (dataVersion == null) {
+            return;
+        }
+        simulation.setRequestFingerprint(RequestFingerprint.of(objectMapper, request));
+        simulation.setDataVersion(dataVersion);
+    }
+
+    private static String versionOf(List<String> versions, int index) {
+        String version = versions != null ? versions.get(index) : null;
+        return version != null ? version : "0";
+    }
+
+    private void count(String source, String result) {
+        Counter.builder("backtest.result.cache")
+                .description("백테스트 결과 캐시 조회 결과")
+                .tag("source", source)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
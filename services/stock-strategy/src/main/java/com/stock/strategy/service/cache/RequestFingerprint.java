@@ -0,0 +1,81 @@
+package com.stock.strategy.service.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.stock.strategy.dto.BacktestRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 백테스트 요청의 정규화 지문 (SHA-256 16진수 64자).
+ * <p>
+ * 요청을 JSON 트리로 바꾼 뒤 필드 이름 정렬, null 필드 제외, 숫자 표기 통일(0.0015 와 0.00150 동일)을 거쳐 해시한다.
+ * 목록은 순서가 의미를 가지므로(슬리브 번호 등) 그대로 둔다. 실행 여부만 정하는 필드는 지문에서 제외한다.
+ */
+public final class RequestFingerprint {
+
+    // 시뮬레이션 로직이 바뀌어 같은 요청의 결과가 달라지면 올려서 이전 결과를 재사용하지 않도록 함
+    static final int ENGINE_REVISION = 1;
+
+    private static final Set<String> EXCLUDED_FIELDS = Set.of("bypassCache");
+
+    private RequestFingerprint() {
+    }
+
+    public static String of(ObjectMapper objectMapper, BacktestRequest request) {
+        StringBuilder canonical = new StringBuilder("r").append(ENGINE_REVISION).append(':');
+        write(objectMapper.valueToTree(request), canonical, true);
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void write(JsonNode node, StringBuilder out, boolean root) {
+        if (node.isObject()) {
+            List<String> names = new ArrayList<>();
+            node.fieldNames().forEachRemaining(names::add);
+            Collections.sort(names);
+
+            out.append('{');
+            boolean first = true;
+            for (String name : names) {
+                JsonNode value = node.get(name);
+                if (value.isNull() || (root && EXCLUDED_FIELDS.contains(name))) {
+                    continue;
+                }
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                out.append(TextNode.valueOf(name)).append(':');
+                write(value, out, false);
+            }
+            out.append('}');
+        } else if (node.isArray()) {
+            out.append('[');
+            for (int i = 0; i < node.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                write(node.get(i), out, false);
+            }
+            out.append(']');
+        } else if (node.isNumber()) {
+            out.append(node.decimalValue().stripTrailingZeros().toPlainString());
+        } else {
+            // 문자열은 따옴표/이스케이프를 포함한 JSON 표기
+            out.append(node);
+        }
+    }
+}
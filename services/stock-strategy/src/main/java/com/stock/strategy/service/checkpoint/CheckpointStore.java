@@ -0,0 +1,50 @@
+package com.stock.strategy.service.checkpoint;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 시뮬레이션 체크포인트 저장소 (TB_BACKTEST_CHECKPOINT, 시뮬레이션당 1행).
+ * <p>
+ * 엔진이 체크포인트를 남길 때마다 같은 행을 덮어쓰며, 작업 큐가 중단된 백테스트 작업을 다시 실행할 때
+ * 마지막 체크포인트부터 재개한다. 완료/실패/취소된 시뮬레이션의 체크포인트는 삭제한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckpointStore {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO TB_BACKTEST_CHECKPOINT (simulation_id, day_index, checkpoint_date, state, updated_at) " +
+            "VALUES (?, ?, ?, ?, NOW()) " +
+            "ON DUPLICATE KEY UPDATE day_index = VALUES(day_index), checkpoint_date = VALUES(checkpoint_date), " +
+            "state = VALUES(state), updated_at = VALUES(updated_at)";
+
+    private static final String SELECT_SQL =
+            "SELECT day_index, checkpoint_date, state FROM TB_BACKTEST_CHECKPOINT WHERE simulation_id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM TB_BACKTEST_CHECKPOINT WHERE simulation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(Long simulationId, SimulationCheckpoint checkpoint) {
+        jdbcTemplate.update(UPSERT_SQL, simulationId, checkpoint.dayIndex(), Date.valueOf(checkpoint.date()), checkpoint.state());
+        log.debug("Checkpoint saved for simulation {}: {} ({} bytes)", simulationId, checkpoint.date(), checkpoint.state().length);
+    }
+
+    public Optional<SimulationCheckpoint> find(Long simulationId) {
+        List<SimulationCheckpoint> checkpoints = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new SimulationCheckpoint(
+                rs.getInt("day_index"), rs.getDate("checkpoint_date").toLocalDate(), rs.getBytes("state")), simulationId);
+        return checkpoints.stream().findFirst();
+    }
+
+    public void delete(Long simulationId) {
+        jdbcTemplate.update(DELETE_SQL, simulationId);
+    }
+}
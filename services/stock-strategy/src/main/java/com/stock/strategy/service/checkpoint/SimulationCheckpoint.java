@@ -0,0 +1,9 @@
+package com.stock.strategy.service.checkpoint;
+
+import java.time.LocalDate;
+
+/**
+ * 시뮬레이션 체크포인트. dayIndex 거래일(date)까지 처리를 마친 시점의 엔진 상태를 압축한 바이너리(state)
+ */
+public record SimulationCheckpoint(int dayIndex, LocalDate date, byte[] state) {
+}
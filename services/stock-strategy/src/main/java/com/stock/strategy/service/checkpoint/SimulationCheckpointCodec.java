@@ -0,0 +1,64 @@
+package com.stock.strategy.service.checkpoint;
+
+import com.stock.strategy.service.ledger.FixedPointLedger;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.slippage.ParticipationLimiter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 엔진 상태(원장, 성과 집계기, 이월 주문)를 압축 바이너리로 직렬화.
+ * <p>
+ * 형식: MAGIC(int) + VERSION(byte) 뒤에 각 구성 요소의 writeState 결과를 순서대로 기록하고 Deflate 로 압축한다.
+ * 형식이 바뀌면 VERSION 을 올리며, 다른 버전의 체크포인트는 복원하지 않는다.
+ */
+public final class SimulationCheckpointCodec {
+
+    private static final int MAGIC = 0x53494D43; // "SIMC"
+    private static final byte VERSION = 2;
+
+    private SimulationCheckpointCodec() {
+    }
+
+    public static byte[] encode(FixedPointLedger ledger, PerformanceAccumulator metrics, ParticipationLimiter limiter) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (DataOutputStream out = new DataOutputStream(
+                new DeflaterOutputStream(bytes, new Deflater(Deflater.BEST_SPEED)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            ledger.writeState(out);
+            metrics.writeState(out);
+            limiter.writeState(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode simulation checkpoint", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 새로 생성한 원장/집계기/제한기에 체크포인트 상태를 복원
+     */
+    public static void decode(byte[] state, FixedPointLedger ledger, PerformanceAccumulator metrics, ParticipationLimiter limiter) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(state)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalStateException("Not a simulation checkpoint");
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported checkpoint version: " + version);
+            }
+            ledger.readState(in);
+            metrics.readState(in);
+            limiter.readState(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupted simulation checkpoint", e);
+        }
+    }
+}
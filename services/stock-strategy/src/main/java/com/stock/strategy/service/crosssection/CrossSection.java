@@ -0,0 +1,311 @@
+package com.stock.strategy.service.crosssection;
+
+import java.util.Arrays;
+
+/**
+ * 리밸런싱 시점 종목 횡단면 연산 유틸.
+ * <p>
+ * 모든 연산은 종목 순서가 같은 원시 {@code double[]} 컬럼을 입력으로 받고 새 배열을 반환한다.
+ * {@link Double#NaN}은 결측으로 취급하여 통계 계산과 선택에서 제외하며, 결과에서도 NaN 으로 유지된다.
+ */
+public final class CrossSection {
+
+    private CrossSection() {
+    }
+
+    /**
+     * 모집단 표준편차 기준 z-score. 표준편차가 0이면 유효 종목은 모두 0
+     */
+    public static double[] zScore(double[] values) {
+        int count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        for (double value : values) {
+            if (Double.isNaN(value)) continue;
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+        }
+
+        double stdDev = count > 0 ? Math.sqrt(m2 / count) : 0.0;
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) {
+                result[i] = Double.NaN;
+            } else {
+                result[i] = stdDev == 0 ? 0.0 : (values[i] - mean) / stdDev;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 오름차순 순위 (1부터, 동점은 평균 순위)
+     */
+    public static double[] rank(double[] values) {
+        double[] sorted = sortedValid(values);
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(values[i])) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            int first = lowerBound(sorted, values[i]);
+            int last = upperBound(sorted, values[i]) - 1;
+            result[i] = (first + last) / 2.0 + 1;
+        }
+        return result;
+    }
+
+    /**
+     * 0~1 백분위 순위 ((rank - 1) / (n - 1)). 유효 종목이 1개면 0.5
+     */
+    public static double[] percentile(double[] values) {
+        double[] ranks = rank(values);
+        int count = countValid(values);
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (Double.isNaN(ranks[i])) {
+                result[i] = Double.NaN;
+            } else {
+                result[i] = count > 1 ? (ranks[i] - 1) / (count - 1) : 0.5;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * [lower, upper] 범위로 절단
+     */
+    public static double[] clip(double[] values, double lower, double upper) {
+        if (lower > upper) {
+            throw new IllegalArgumentException("lower must not be greater than upper");
+        }
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            result[i] = Double.isNaN(value) ? Double.NaN : Math.max(lower, Math.min(upper, value));
+        }
+        return result;
+    }
+
+    /**
+     * 하위/상위 분위수(0~1, 선형 보간) 바깥 값을 분위수 값으로 절단
+     */
+    public static double[] winsorize(double[] values, double lowerQuantile, double upperQuantile) {
+        if (lowerQuantile < 0 || upperQuantile > 1 || lowerQuantile > upperQuantile) {
+            throw new IllegalArgumentException("Quantiles must satisfy 0 <= lower <= upper <= 1");
+        }
+        double[] sorted = sortedValid(values);
+        if (sorted.length == 0) {
+            return values.clone();
+        }
+        return clip(values, quantile(sorted, lowerQuantile), quantile(sorted, upperQuantile));
+    }
+
+    /**
+     * 그룹(섹터) 평균을 빼서 그룹 중립화. 그룹 번호가 음수인 종목은 NaN
+     */
+    public static double[] neutralize(double[] values, int[] groups) {
+        checkSameLength(values, groups);
+        int groupCount = groupCount(groups);
+        double[] sum = new double[groupCount];
+        int[] count = new int[groupCount];
+        for (int i = 0; i < values.length; i++) {
+            if (groups[i] >= 0 && !Double.isNaN(values[i])) {
+                sum[groups[i]] += values[i];
+                count[groups[i]]++;
+            }
+        }
+
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            int group = groups[i];
+            if (group < 0 || Double.isNaN(values[i])) {
+                result[i] = Double.NaN;
+            } else {
+                result[i] = values[i] - sum[group] / count[group];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 컬럼 가중 합. 한 컬럼이라도 결측이면 NaN
+     */
+    public static double[] weightedSum(double[] weights, double[]... columns) {
+        if (weights.length != columns.length || columns.length == 0) {
+            throw new IllegalArgumentException("Weights and columns must have the same non-zero length");
+        }
+        int size = columns[0].length;
+        double[] result = new double[size];
+        for (int c = 0; c < columns.length; c++) {
+            double[] column = columns[c];
+            if (column.length != size) {
+                throw new IllegalArgumentException("All columns must have the same length");
+            }
+            double weight = weights[c];
+            for (int i = 0; i < size; i++) {
+                result[i] += column[i] * weight;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 값이 큰 순서로 상위 k개 인덱스 (동점은 앞선 인덱스 우선, NaN 제외)
+     */
+    public static int[] topK(double[] scores, int k) {
+        return select(scores, k, false, null, 0);
+    }
+
+    /**
+     * 값이 작은 순서로 상위 k개 인덱스 (동점은 앞선 인덱스 우선, NaN 제외)
+     */
+    public static int[] bottomK(double[] scores, int k) {
+        return select(scores, k, true, null, 0);
+    }
+
+    /**
+     * 지정한 그룹에 속한 종목 중 값이 큰 순서로 상위 k개 인덱스
+     */
+    public static int[] topKInGroup(double[] scores, int[] groups, int group, int k) {
+        checkSameLength(scores, groups);
+        return select(scores, k, false, groups, group);
+    }
+
+    /**
+     * 크기 k의 최소 힙으로 부분 선택 (전체 정렬 없이 O(n log k)) 후 선택된 k개만 정렬
+     */
+    private static int[] select(double[] scores, int k, boolean ascending, int[] groups, int group) {
+        if (k <= 0) {
+            return new int[0];
+        }
+
+        int[] heap = new int[Math.min(k, scores.length)];
+        int size = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (Double.isNaN(scores[i]) || (groups != null && groups[i] != group)) continue;
+
+            if (size < heap.length) {
+                heap[size] = i;
+                siftUp(heap, size++, scores, ascending);
+            } else if (size > 0 && isBetter(scores, i, heap[0], ascending)) {
+                heap[0] = i;
+                siftDown(heap, size, scores, ascending);
+            }
+        }
+
+        // 힙 루트가 가장 낮은 순위이므로 뒤에서부터 채운다
+        int[] result = new int[size];
+        for (int last = size - 1; last >= 0; last--) {
+            result[last] = heap[0];
+            heap[0] = heap[last];
+            siftDown(heap, last, scores, ascending);
+        }
+        return result;
+    }
+
+    private static boolean isBetter(double[] scores, int a, int b, boolean ascending) {
+        double sa = scores[a];
+        double sb = scores[b];
+        if (sa != sb) {
+            return ascending ? sa < sb : sa > sb;
+        }
+        return a < b;
+    }
+
+    private static void siftUp(int[] heap, int index, double[] scores, boolean ascending) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(scores, heap[parent], item, ascending)) break;
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] scores, boolean ascending) {
+        if (size == 0) return;
+        int item = heap[0];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && isBetter(scores, heap[child], heap[right], ascending)) {
+                child = right;
+            }
+            if (!isBetter(scores, item, heap[child], ascending)) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+    }
+
+    private static double quantile(double[] sorted, double q) {
+        double position = q * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+
+    private static double[] sortedValid(double[] values) {
+        double[] sorted = new double[values.length];
+        int size = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                sorted[size++] = value;
+            }
+        }
+        sorted = size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static int countValid(double[] values) {
+        int count = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) count++;
+        }
+        return count;
+    }
+
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static int upperBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= value) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static int groupCount(int[] groups) {
+        int max = -1;
+        for (int group : groups) {
+            max = Math.max(max, group);
+        }
+        return max + 1;
+    }
+
+    private static void checkSameLength(double[] values, int[] groups) {
+        if (values.length != groups.length) {
+            throw new IllegalArgumentException("Values and groups must have the same length");
+        }
+    }
+}
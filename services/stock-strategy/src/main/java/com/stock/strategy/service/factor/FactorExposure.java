@@ -0,0 +1,14 @@
+package com.stock.strategy.service.factor;
+
+/**
+ * 종목의 일자별 원시 팩터 노출값. 값이 없으면 {@link Double#NaN}.
+ * <ul>
+ *     <li>Value: PER, PBR (낮을수록 좋음)</li>
+ *     <li>Quality: ROE (높을수록 좋음)</li>
+ *     <li>Momentum: 1개월 모멘텀 (없으면 3개월, 6개월 순으로 대체)</li>
+ *     <li>Low-vol: 최근 20일 일간 수익률 표준편차 (낮을수록 좋음)</li>
+ * </ul>
+ * 표준화(z-score)와 가중 합산은 전략이 자신의 유니버스/가중치로 조회 시점에 수행한다.
+ */
+public record FactorExposure(String stockCode, double per, double pbr, double roe, double momentum, double volatility) {
+}
@@ -0,0 +1,113 @@
+package com.stock.strategy.service.factor;
+
+import com.stock.common.dto.CorpFinanceIndicatorDto;
+import com.stock.common.dto.StockIndicatorDto;
+import com.stock.common.utils.DateUtils;
+import com.stock.strategy.client.FinanceClient;
+import com.stock.strategy.client.PriceClient;
+import com.stock.strategy.service.panel.PricePanel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 재무 지표(stock-finance), 가격 지표(stock-price), 시세 패널로부터 원시 팩터 노출값 계산
+ */
+@Component
+@RequiredArgsConstructor
+public class FactorExposureCalculator {
+
+    public static final int VOLATILITY_LOOKBACK_DAYS = 20;
+
+    private final FinanceClient financeClient;
+    private final PriceClient priceClient;
+
+    public List<FactorExposure> calculate(LocalDate date, List<String> stockCodes, PricePanel prices) {
+        if (stockCodes.isEmpty()) {
+            return List.of();
+        }
+        String dateStr = DateUtils.toLocalDateString(date);
+        List<CorpFinanceIndicatorDto> finances = financeClient.getIndicatorsBatch(stockCodes, dateStr);
+        List<StockIndicatorDto> indicators = priceClient.getIndicatorsByDateBatch(stockCodes, dateStr);
+        return merge(date, finances, indicators, prices);
+    }
+
+    /**
+     * 재무/가격 지표를 종목 코드(A 포함)로 합쳐 노출값 생성. 한쪽에만 있는 종목은 없는 값을 NaN 으로 둔다
+     */
+    public static List<FactorExposure> merge(LocalDate date, List<CorpFinanceIndicatorDto> finances,
+                                             List<StockIndicatorDto> indicators, PricePanel prices) {
+        // stock-finance 의 corpCode 는 A005930, stock-price 의 stockCode 는 005930 형식이므로 A 포함 코드로 통일
+        Map<String, CorpFinanceIndicatorDto> financeMap = new HashMap<>();
+        for (CorpFinanceIndicatorDto finance : finances) {
+            if (finance.getCorpCode() != null) {
+                financeMap.putIfAbsent(withPrefix(finance.getCorpCode()), finance);
+            }
+        }
+        Map<String, StockIndicatorDto> indicatorMap = new HashMap<>();
+        for (StockIndicatorDto indicator : indicators) {
+            if (indicator.getStockCode() != null) {
+                indicatorMap.putIfAbsent(withPrefix(indicator.getStockCode()), indicator);
+            }
+        }
+
+        Set<String> codes = new TreeSet<>(financeMap.keySet());
+        codes.addAll(indicatorMap.keySet());
+
+        List<FactorExposure> exposures = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            CorpFinanceIndicatorDto finance = financeMap.get(code);
+            StockIndicatorDto indicator = indicatorMap.get(code);
+            exposures.add(new FactorExposure(
+                    code,
+                    finance != null ? valueOf(finance.getPer()) : Double.NaN,
+                    finance != null ? valueOf(finance.getPbr()) : Double.NaN,
+                    finance != null ? valueOf(finance.getRoe()) : Double.NaN,
+                    indicator != null ? momentumOf(indicator) : Double.NaN,
+                    prices != null ? volatility(prices, code, date) : Double.NaN));
+        }
+        return exposures;
+    }
+
+    /**
+     * 최근 {@link #VOLATILITY_LOOKBACK_DAYS}일 일간 수익률의 표준편차 (모집단)
+     */
+    public static double volatility(PricePanel prices, String stockCode, LocalDate date) {
+        double[] closes = prices.closeWindow(stockCode, date.minusDays(VOLATILITY_LOOKBACK_DAYS), date);
+        int count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        for (int i = 1; i < closes.length; i++) {
+            if (closes[i - 1] <= 0) continue;
+            double dailyReturn = (closes[i] - closes[i - 1]) / closes[i - 1];
+            count++;
+            double delta = dailyReturn - mean;
+            mean += delta / count;
+            m2 += delta * (dailyReturn - mean);
+        }
+        return count > 0 ? Math.sqrt(m2 / count) : Double.NaN;
+    }
+
+    // 데이터가 부족한 초기 구간은 1개월 → 3개월 → 6개월 모멘텀 순으로 대체
+    private static double momentumOf(StockIndicatorDto indicator) {
+        BigDecimal momentum = indicator.getMomentum1m() != null ? indicator.getMomentum1m() : indicator.getMomentum3m();
+        if (momentum == null) momentum = indicator.getMomentum6m();
+        return valueOf(momentum);
+    }
+
+    private static String withPrefix(String stockCode) {
+        return stockCode.startsWith("A") ? stockCode : "A" + stockCode;
+    }
+
+    private static double valueOf(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,65 @@
+package com.stock.strategy.service.factor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * TB_FACTOR_EXPOSURE 연도별 파티션 관리.
+ * <p>
+ * 마이그레이션은 정해진 연도까지만 파티션을 만들고 이후 일자는 pmax 에 쌓이므로,
+ * 사전 계산 배치 시작 시 필요한 연도까지 pmax 를 연도별 파티션으로 분할한다 (pYYYY: YYYY+1 년 1월 1일 미만).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FactorPartitionMaintainer {
+
+    private static final String TABLE = "TB_FACTOR_EXPOSURE";
+    private static final String OVERFLOW_PARTITION = "pmax";
+
+    private static final String SELECT_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * lastYear 까지 연도별 파티션이 있도록 pmax 를 분할
+     *
+     * @return 추가한 파티션 수 (파티션이 없는 테이블이면 0)
+     */
+    public synchronized int ensureYearlyPartitions(int lastYear) {
+        List<String> partitions = jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, TABLE);
+        if (!partitions.contains(OVERFLOW_PARTITION)) {
+            log.debug("{} has no {} partition, partition maintenance skipped", TABLE, OVERFLOW_PARTITION);
+            return 0;
+        }
+
+        int maxYear = partitions.stream()
+                .filter(name -> name.matches("p\\d{4}"))
+                .mapToInt(name -> Integer.parseInt(name.substring(1)))
+                .max()
+                .orElse(lastYear);
+        if (maxYear >= lastYear) {
+            return 0;
+        }
+
+        jdbcTemplate.execute(reorganizeSql(maxYear + 1, lastYear));
+        log.info("{} partitions added: p{} ~ p{}", TABLE, maxYear + 1, lastYear);
+        return lastYear - maxYear;
+    }
+
+    static String reorganizeSql(int fromYear, int toYear) {
+        StringJoiner partitions = new StringJoiner(", ", "(", ")");
+        for (int year = fromYear; year <= toYear; year++) {
+            partitions.add("PARTITION p" + year + " VALUES LESS THAN ('" + (year + 1) + "-01-01')");
+        }
+        partitions.add("PARTITION " + OVERFLOW_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return "ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + OVERFLOW_PARTITION + " INTO " + partitions;
+    }
+}
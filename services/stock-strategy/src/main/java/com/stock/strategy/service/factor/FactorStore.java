@@ -0,0 +1,105 @@
+package com.stock.strategy.service.factor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일자별 팩터 노출값 저장소 (TB_FACTOR_EXPOSURE, score_date 기준 파티션).
+ * <p>
+ * 배치가 거래일 단위로 저장하고, 백테스트는 리밸런싱일의 파티션 하나만 읽는다.
+ * 값이 없는 팩터는 NULL 로 저장하고 조회 시 {@link Double#NaN}으로 복원한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FactorStore {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO TB_FACTOR_EXPOSURE (score_date, stock_code, per, pbr, roe, momentum, volatility) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE per = VALUES(per), pbr = VALUES(pbr), roe = VALUES(roe), " +
+            "momentum = VALUES(momentum), volatility = VALUES(volatility)";
+
+    private static final String SELECT_BY_DATE_SQL =
+            "SELECT stock_code, per, pbr, roe, momentum, volatility FROM TB_FACTOR_EXPOSURE WHERE score_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 해당 일자의 노출값을 저장 (재실행 시 덮어쓰기)
+     */
+    public void save(LocalDate date, List<FactorExposure> exposures) {
+        if (exposures.isEmpty()) {
+            return;
+        }
+
+        Date scoreDate = Date.valueOf(date);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                FactorExposure exposure = exposures.get(i);
+                ps.setDate(1, scoreDate);
+                ps.setString(2, exposure.stockCode());
+                setDouble(ps, 3, exposure.per());
+                setDouble(ps, 4, exposure.pbr());
+                setDouble(ps, 5, exposure.roe());
+                setDouble(ps, 6, exposure.momentum());
+                setDouble(ps, 7, exposure.volatility());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return exposures.size();
+            }
+        });
+        log.debug("Factor exposures saved for {}: {} stocks", date, exposures.size());
+    }
+
+    /**
+     * 해당 일자의 노출값 중 유니버스에 포함된 종목만 반환. 사전 계산되지 않은 일자면 빈 목록
+     */
+    public List<FactorExposure> load(LocalDate date, Collection<String> stockCodes) {
+        Set<String> universe = new HashSet<>(stockCodes);
+        List<FactorExposure> exposures = new ArrayList<>(universe.size());
+        jdbcTemplate.query(SELECT_BY_DATE_SQL, rs -> {
+            String stockCode = rs.getString("stock_code");
+            if (universe.contains(stockCode)) {
+                exposures.add(new FactorExposure(stockCode,
+                        getDouble(rs, "per"),
+                        getDouble(rs, "pbr"),
+                        getDouble(rs, "roe"),
+                        getDouble(rs, "momentum"),
+                        getDouble(rs, "volatility")));
+            }
+        }, Date.valueOf(date));
+        return exposures;
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, double value) throws SQLException {
+        if (Double.isNaN(value)) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, value);
+        }
+    }
+
+    private static double getDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? Double.NaN : value;
+    }
+}
@@ -0,0 +1,78 @@
+package com.stock.strategy.service.ledger;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * 원화 금액/비율을 스케일된 long 으로 다루기 위한 고정소수점 유틸.
+ * <p>
+ * 금액은 1/10,000원 단위({@link #MONEY_SCALE}), 수수료율/세율/비중은 1e-8 단위({@link #RATE_SCALE})로 보관한다.
+ * 원 단위 가격과 체결 금액은 정확히 표현되며, 수수료/세금처럼 원 미만이 생기는 값만 소수 4자리에서 반올림된다.
+ */
+public final class FixedPoint {
+
+    public static final int MONEY_DIGITS = 4;
+    public static final long MONEY_SCALE = 10_000L;
+
+    public static final int RATE_DIGITS = 8;
+    public static final long RATE_SCALE = 100_000_000L;
+
+    private FixedPoint() {
+    }
+
+    public static long toMoney(BigDecimal value) {
+        if (value == null) return 0L;
+        return value.movePointRight(MONEY_DIGITS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static long toMoney(double value) {
+        return Math.round(value * MONEY_SCALE);
+    }
+
+    public static BigDecimal toDecimal(long money) {
+        return BigDecimal.valueOf(money, MONEY_DIGITS);
+    }
+
+    public static double toDouble(long money) {
+        return (double) money / MONEY_SCALE;
+    }
+
+    public static long toRate(BigDecimal rate) {
+        if (rate == null) return 0L;
+        return rate.movePointRight(RATE_DIGITS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * 금액 × 비율 (결과는 금액 스케일, HALF_UP)
+     */
+    public static long applyRate(long money, long rate) {
+        return mulDivHalfUp(money, rate, RATE_SCALE);
+    }
+
+    /**
+     * a × b / d 를 HALF_UP 으로 계산. 곱이 long 범위를 넘으면 BigInteger 로 계산한다. (d > 0)
+     */
+    public static long mulDivHalfUp(long a, long b, long d) {
+        long lo = a * b;
+        long hi = Math.multiplyHigh(a, b);
+        if ((hi == 0 && lo >= 0) || (hi == -1 && lo < 0)) {
+            return divHalfUp(lo, d);
+        }
+        return new BigDecimal(BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)))
+                .divide(BigDecimal.valueOf(d), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * n / d 를 HALF_UP 으로 계산 (d > 0)
+     */
+    public static long divHalfUp(long n, long d) {
+        long q = n / d;
+        long r = n % d;
+        if (Math.abs(r) >= d - Math.abs(r)) {
+            q += Long.signum(n);
+        }
+        return q;
+    }
+}
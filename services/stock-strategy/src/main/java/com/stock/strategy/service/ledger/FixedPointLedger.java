@@ -0,0 +1,262 @@
+package com.stock.strategy.service.ledger;
+
+import com.stock.strategy.dto.PortfolioHolding;
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.slippage.SlippageModel;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.stock.strategy.service.ledger.FixedPoint.MONEY_SCALE;
+import static com.stock.strategy.service.ledger.FixedPoint.applyRate;
+import static com.stock.strategy.service.ledger.FixedPoint.divHalfUp;
+import static com.stock.strategy.service.ledger.FixedPoint.toDecimal;
+import static com.stock.strategy.service.ledger.FixedPoint.toMoney;
+import static com.stock.strategy.service.ledger.FixedPoint.toRate;
+
+/**
+ * 현금과 보유 포지션을 스케일된 long 원시 배열로 관리하는 시뮬레이션 회계 코어.
+ * <p>
+ * 주문 체결/평가 규칙은 {@code SimulationEngine}의 BigDecimal 구현과 동일하며
+ * (매도 우선, 종목당 최대 비중, 잔고 한도, 평균 단가 소수 2자리 반올림),
+ * 전략/스냅샷이 사용하는 {@link Portfolio}는 {@link #writeTo(Portfolio)}로 필요한 시점에만 갱신한다.
+ */
+public final class FixedPointLedger {
+
+    // 평균 단가는 BigDecimal 구현과 동일하게 소수 2자리로 반올림 (금액 스케일 기준 100 단위)
+    private static final long AVERAGE_PRICE_UNIT = MONEY_SCALE / 100;
+
+    private final PricePanel prices;
+    private final Map<String, Integer> stockIds = new HashMap<>();
+    private final BitSet held = new BitSet();
+    private final List<TradeOrder> trades = new ArrayList<>();
+
+    private String[] stockCodes = new String[64];
+    private int[] panelIndex = new int[64];
+    private long[] quantity = new long[64];
+    private long[] averagePrice = new long[64];
+    private long[] currentPrice = new long[64];
+    private long[] marketValue = new long[64];
+    private int stockCount;
+
+    private long cash;
+    private long totalValue;
+    // 체크포인트에서 복원하기 전까지 체결된 주문 수 (체결 목록 자체는 복원하지 않음)
+    private int restoredTradeCount;
+
+    public FixedPointLedger(BigDecimal initialCapital, PricePanel prices) {
+        this.prices = prices;
+        this.cash = toMoney(initialCapital);
+        this.totalValue = cash;
+    }
+
+    public long cash() {
+        return cash;
+    }
+
+    public long totalValue() {
+        return totalValue;
+    }
+
+    public long quantity(String stockCode) {
+        Integer id = stockIds.get(stockCode);
+        return id != null ? quantity[id] : 0L;
+    }
+
+    public List<TradeOrder> trades() {
+        return trades;
+    }
+
+    /**
+     * 전체 체결 건수 (체크포인트 이전 체결 포함)
+     */
+    public int tradeCount() {
+        return restoredTradeCount + trades.size();
+    }
+
+    /**
+     * 매도 주문을 먼저 처리한 뒤 매수 주문을 처리
+     */
+    public void executeOrders(List<TradeOrder> orders, SlippageModel slippageModel,
+                              BigDecimal feeRate, BigDecimal taxRate, BigDecimal maxWeightPerStock) {
+        long fee = toRate(feeRate);
+        long tax = toRate(taxRate);
+        long maxWeight = toRate(maxWeightPerStock);
+
+        for (TradeOrder order : orders) {
+            if (order.getOrderType() == OrderType.SELL) {
+                sell(order, toMoney(slippageModel.calculateExecutionPrice(order)), fee, tax);
+            }
+        }
+        for (TradeOrder order : orders) {
+            if (order.getOrderType() == OrderType.BUY) {
+                buy(order, toMoney(slippageModel.calculateExecutionPrice(order)), fee, maxWeight);
+            }
+        }
+    }
+
+    private void buy(TradeOrder order, long execPrice, long feeRate, long maxWeight) {
+        if (execPrice <= 0) return;
+
+        int id = idOf(order.getStockCode());
+        long targetQuantity = order.getQuantity();
+        long costPerShare = execPrice + applyRate(execPrice, feeRate);
+
+        if (maxWeight > 0) {
+            long maxInvestAmount = applyRate(totalValue, maxWeight);
+            long currentInvestAmount = averagePrice[id] * quantity[id];
+            long remainingCap = maxInvestAmount - currentInvestAmount;
+            targetQuantity = remainingCap <= 0 ? 0 : Math.min(targetQuantity, remainingCap / costPerShare);
+        }
+
+        targetQuantity = Math.min(targetQuantity, Math.max(cash, 0) / costPerShare);
+        if (targetQuantity <= 0) return;
+
+        long amount = execPrice * targetQuantity;
+        cash -= amount + applyRate(amount, feeRate);
+
+        long newQuantity = quantity[id] + targetQuantity;
+        long totalCost = averagePrice[id] * quantity[id] + amount;
+        averagePrice[id] = divHalfUp(totalCost, newQuantity * AVERAGE_PRICE_UNIT) * AVERAGE_PRICE_UNIT;
+        quantity[id] = newQuantity;
+        held.set(id);
+
+        order.setQuantity((int) targetQuantity);
+        order.setExecutionPrice(toDecimal(execPrice));
+        trades.add(order);
+    }
+
+    private void sell(TradeOrder order, long execPrice, long feeRate, long taxRate) {
+        Integer id = stockIds.get(order.getStockCode());
+        if (id == null || !held.get(id) || quantity[id] < order.getQuantity()) return;
+
+        long amount = execPrice * order.getQuantity();
+        cash += amount - applyRate(amount, feeRate) - applyRate(amount, taxRate);
+
+        long remaining = quantity[id] - order.getQuantity();
+        if (remaining == 0) {
+            clear(id);
+        } else {
+            quantity[id] = remaining;
+        }
+        order.setExecutionPrice(toDecimal(execPrice));
+        trades.add(order);
+    }
+
+    /**
+     * 해당 거래일 종가로 보유 종목을 평가. 종가가 없는 종목은 직전 평가 금액을 유지한다.
+     */
+    public void markToMarket(LocalDate date) {
+        int day = prices.dayIndexOf(date);
+        long stockValue = 0L;
+        for (int id = held.nextSetBit(0); id >= 0; id = held.nextSetBit(id + 1)) {
+            if (prices.hasClose(panelIndex[id], day)) {
+                currentPrice[id] = toMoney(prices.close(panelIndex[id], day));
+                marketValue[id] = currentPrice[id] * quantity[id];
+            }
+            stockValue += marketValue[id];
+        }
+        totalValue = cash + stockValue;
+    }
+
+    /**
+     * 리포팅/전략용 BigDecimal 포트폴리오 뷰를 현재 상태로 갱신
+     */
+    public void writeTo(Portfolio view) {
+        view.setCashBalance(toDecimal(cash));
+        view.setTotalValue(toDecimal(totalValue));
+
+        Map<String, PortfolioHolding> holdings = new HashMap<>(held.cardinality() * 2);
+        for (int id = held.nextSetBit(0); id >= 0; id = held.nextSetBit(id + 1)) {
+            holdings.put(stockCodes[id], PortfolioHolding.builder()
+                    .stockCode(stockCodes[id])
+                    .quantity((int) quantity[id])
+                    .averagePrice(toDecimal(averagePrice[id]))
+                    .currentPrice(toDecimal(currentPrice[id]))
+                    .marketValue(toDecimal(marketValue[id]))
+                    .build());
+        }
+        view.setHoldings(holdings);
+        view.setTrades(trades);
+    }
+
+    /**
+     * 현금, 평가 금액, 체결 건수, 보유 포지션을 체크포인트로 기록
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(cash);
+        out.writeLong(totalValue);
+        out.writeInt(tradeCount());
+        out.writeInt(held.cardinality());
+        for (int id = held.nextSetBit(0); id >= 0; id = held.nextSetBit(id + 1)) {
+            out.writeUTF(stockCodes[id]);
+            out.writeLong(quantity[id]);
+            out.writeLong(averagePrice[id]);
+            out.writeLong(currentPrice[id]);
+            out.writeLong(marketValue[id]);
+        }
+    }
+
+    /**
+     * {@link #writeState(DataOutput)}로 기록한 상태 복원. 새로 생성한 원장에서만 호출한다
+     */
+    public void readState(DataInput in) throws IOException {
+        if (stockCount > 0 || !trades.isEmpty()) {
+            throw new IllegalStateException("Ledger state can only be restored into a new ledger");
+        }
+        cash = in.readLong();
+        totalValue = in.readLong();
+        restoredTradeCount = in.readInt();
+        int positions = in.readInt();
+        for (int i = 0; i < positions; i++) {
+            int id = idOf(in.readUTF());
+            quantity[id] = in.readLong();
+            averagePrice[id] = in.readLong();
+            currentPrice[id] = in.readLong();
+            marketValue[id] = in.readLong();
+            held.set(id);
+        }
+    }
+
+    private void clear(int id) {
+        held.clear(id);
+        quantity[id] = 0;
+        averagePrice[id] = 0;
+        currentPrice[id] = 0;
+        marketValue[id] = 0;
+    }
+
+    private int idOf(String stockCode) {
+        Integer id = stockIds.get(stockCode);
+        if (id != null) {
+            return id;
+        }
+
+        if (stockCount == stockCodes.length) {
+            int capacity = stockCount * 2;
+            stockCodes = Arrays.copyOf(stockCodes, capacity);
+            panelIndex = Arrays.copyOf(panelIndex, capacity);
+            quantity = Arrays.copyOf(quantity, capacity);
+            averagePrice = Arrays.copyOf(averagePrice, capacity);
+            currentPrice = Arrays.copyOf(currentPrice, capacity);
+            marketValue = Arrays.copyOf(marketValue, capacity);
+        }
+        id = stockCount++;
+        stockCodes[id] = stockCode;
+        panelIndex[id] = prices.indexOf(stockCode);
+        stockIds.put(stockCode, id);
+        return id;
+    }
+}
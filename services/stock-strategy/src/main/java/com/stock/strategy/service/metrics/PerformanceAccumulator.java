@@ -0,0 +1,485 @@
+package com.stock.strategy.service.metrics;
+
+import com.stock.strategy.service.panel.BenchmarkSeries;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 일별 평가 금액과 체결 내역을 한 번씩만 받아 성과 지표를 누적 계산하는 단일 패스 집계기.
+ * <ul>
+ *     <li>일간 수익률 평균/분산: Welford 온라인 알고리즘 (모집단 분산)</li>
+ *     <li>MDD: 누적 고점 대비 최대 낙폭</li>
+ *     <li>Sortino: 0 기준 하방 편차</li>
+ *     <li>롤링 12개월(252 거래일) 수익률/변동성/샤프: 링 버퍼 + 추가/제거형 Welford</li>
+ *     <li>승률: 종목별 FIFO 매수 로트와 매도를 매칭한 수수료/세금 차감 후 실현 손익 기준</li>
+ *     <li>벤치마크 대비: 지수가 산출된 날의 (포트폴리오, 지수) 일간 수익률 쌍에 대한 온라인 공분산으로
+ *     베타/알파, 초과 수익률 Welford 로 추적 오차/정보 비율, 지수 상승/하락일 평균 수익률 비로 상승/하락 포착률</li>
+ * </ul>
+ * 스레드 안전하지 않으며 시뮬레이션 스레드 하나에서만 사용한다.
+ * 누적 상태는 {@link #writeState(DataOutput)}/{@link #readState(DataInput)}로 체크포인트에 기록/복원할 수 있다.
+ */
+public final class PerformanceAccumulator {
+
+    public static final int TRADING_DAYS_PER_YEAR = 252;
+
+    private final LocalDate startDate;
+    private final double initialCapital;
+    private final double feeRate;
+    private final double taxRate;
+    private final int rollingWindow;
+    private final BenchmarkSeries benchmark;
+
+    // 일간 수익률 누적 통계
+    private long count;
+    private double mean;
+    private double m2;
+    private double downsideSquareSum;
+
+    // 낙폭
+    private double previousValue;
+    private double peak;
+    private double maxDrawdown;
+    private LocalDate lastDate;
+
+    // 롤링 윈도우 (수익률과 윈도우 시작 평가 금액)
+    private final double[] windowReturns;
+    private final double[] windowValues;
+    private int windowSize;
+    private int windowHead;
+    private double windowMean;
+    private double windowM2;
+    private RollingMetrics latestRolling;
+    private double bestRollingReturn = Double.NaN;
+    private double worstRollingReturn = Double.NaN;
+
+    // 체결 FIFO 매칭
+    private final Map<String, ArrayDeque<Lot>> lots = new HashMap<>();
+    private int executedTrades;
+    private int closedTrades;
+    private int profitableTrades;
+
+    // 벤치마크 대비 (수익률 쌍 평균, 공분산, 초과 수익률, 상승/하락일 합계)
+    private long pairCount;
+    private double pairMeanPortfolio;
+    private double pairMeanBenchmark;
+    private double benchmarkM2;
+    private double coMoment;
+    private double activeMean;
+    private double activeM2;
+    private long upDays;
+    private double upPortfolioSum;
+    private double upBenchmarkSum;
+    private long downDays;
+    private double downPortfolioSum;
+    private double downBenchmarkSum;
+
+    public PerformanceAccumulator(LocalDate startDate, double initialCapital, double feeRate, double taxRate) {
+        this(startDate, initialCapital, feeRate, taxRate, TRADING_DAYS_PER_YEAR, null);
+    }
+
+    public PerformanceAccumulator(LocalDate startDate, double initialCapital, double feeRate, double taxRate,
+                                  BenchmarkSeries benchmark) {
+        this(startDate, initialCapital, feeRate, taxRate, TRADING_DAYS_PER_YEAR, benchmark);
+    }
+
+    public PerformanceAccumulator(LocalDate startDate, double initialCapital, double feeRate, double taxRate, int rollingWindow) {
+        this(startDate, initialCapital, feeRate, taxRate, rollingWindow, null);
+    }
+
+    /**
+     * @param benchmark 기준 지수 시계열 (null 또는 빈 시계열이면 벤치마크 대비 지표 미계산)
+     */
+    public PerformanceAccumulator(LocalDate startDate, double initialCapital, double feeRate, double taxRate, int rollingWindow,
+                                  BenchmarkSeries benchmark) {
+        if (initialCapital <= 0) {
+            throw new IllegalArgumentException("Initial capital must be positive: " + initialCapital);
+        }
+        if (rollingWindow <= 1) {
+            throw new IllegalArgumentException("Rolling window must be greater than 1: " + rollingWindow);
+        }
+        this.startDate = startDate;
+        this.initialCapital = initialCapital;
+        this.feeRate = feeRate;
+        this.taxRate = taxRate;
+        this.rollingWindow = rollingWindow;
+        this.benchmark = benchmark != null && !benchmark.isEmpty() ? benchmark : null;
+        this.previousValue = initialCapital;
+        this.peak = initialCapital;
+        this.windowReturns = new double[rollingWindow];
+        this.windowValues = new double[rollingWindow];
+    }
+
+    /**
+     * 거래일 종료 시점 평가 금액 반영. 첫 거래일 수익률은 초기 자본 대비로 계산한다
+     */
+    public void onDay(LocalDate date, double totalValue) {
+        double dailyReturn = previousValue > 0 ? totalValue / previousValue - 1 : 0.0;
+
+        count++;
+        double delta = dailyReturn - mean;
+        mean += delta / count;
+        m2 += delta * (dailyReturn - mean);
+        if (dailyReturn < 0) {
+            downsideSquareSum += dailyReturn * dailyReturn;
+        }
+
+        if (totalValue > peak) {
+            peak = totalValue;
+        }
+        if (peak > 0) {
+            maxDrawdown = Math.max(maxDrawdown, (peak - totalValue) / peak);
+        }
+
+        updateRolling(date, dailyReturn, totalValue);
+        if (benchmark != null) {
+            updateRelative(dailyReturn, benchmark.returnOn(date));
+        }
+
+        previousValue = totalValue;
+        lastDate = date;
+    }
+
+    private void updateRolling(LocalDate date, double dailyReturn, double totalValue) {
+        if (windowSize == rollingWindow) {
+            // 가장 오래된 수익률 제거 (역방향 Welford)
+            double removed = windowReturns[windowHead];
+            double removedDelta = removed - windowMean;
+            windowMean -= removedDelta / (windowSize - 1);
+            windowM2 -= removedDelta * (removed - windowMean);
+            windowSize--;
+        }
+
+        // 수익률 추가, 해당 수익률 직전 평가 금액을 함께 보관
+        windowReturns[windowHead] = dailyReturn;
+        windowValues[windowHead] = previousValue;
+        windowHead = (windowHead + 1) % rollingWindow;
+        windowSize++;
+        double delta = dailyReturn - windowMean;
+        windowMean += delta / windowSize;
+        windowM2 += delta * (dailyReturn - windowMean);
+
+        if (windowSize < rollingWindow) {
+            return;
+        }
+
+        double windowStartValue = windowValues[windowHead];
+        double rollingReturn = windowStartValue > 0 ? totalValue / windowStartValue - 1 : 0.0;
+        double rollingStdDev = Math.sqrt(Math.max(windowM2, 0.0) / windowSize);
+        double rollingVolatility = rollingStdDev * Math.sqrt(TRADING_DAYS_PER_YEAR);
+        double rollingSharpe = rollingStdDev > 0 ? windowMean / rollingStdDev * Math.sqrt(TRADING_DAYS_PER_YEAR) : 0.0;
+
+        latestRolling = new RollingMetrics(date, rollingReturn, rollingVolatility, rollingSharpe);
+        bestRollingReturn = Double.isNaN(bestRollingReturn) ? rollingReturn : Math.max(bestRollingReturn, rollingReturn);
+        worstRollingReturn = Double.isNaN(worstRollingReturn) ? rollingReturn : Math.min(worstRollingReturn, rollingReturn);
+    }
+
+    private void updateRelative(double portfolioReturn, double benchmarkReturn) {
+        if (!Double.isFinite(benchmarkReturn)) {
+            return;
+        }
+
+        pairCount++;
+        double deltaPortfolio = portfolioReturn - pairMeanPortfolio;
+        double deltaBenchmark = benchmarkReturn - pairMeanBenchmark;
+        pairMeanPortfolio += deltaPortfolio / pairCount;
+        pairMeanBenchmark += deltaBenchmark / pairCount;
+        benchmarkM2 += deltaBenchmark * (benchmarkReturn - pairMeanBenchmark);
+        coMoment += deltaPortfolio * (benchmarkReturn - pairMeanBenchmark);
+
+        double active = portfolioReturn - benchmarkReturn;
+        double deltaActive = active - activeMean;
+        activeMean += deltaActive / pairCount;
+        activeM2 += deltaActive * (active - activeMean);
+
+        if (benchmarkReturn > 0) {
+            upDays++;
+            upPortfolioSum += portfolioReturn;
+            upBenchmarkSum += benchmarkReturn;
+        } else if (benchmarkReturn < 0) {
+            downDays++;
+            downPortfolioSum += portfolioReturn;
+            downBenchmarkSum += benchmarkReturn;
+        }
+    }
+
+    /**
+     * 체결 1건 반영. 매수는 로트로 쌓고, 매도는 오래된 로트부터 소진하며 실현 손익을 계산한다
+     *
+     * @return 매도로 청산된 실현 손익 (수수료/세금 차감 후 금액). 매수이거나 대응하는 로트가 없으면 NaN
+     */
+    public double onTrade(String stockCode, boolean buy, long quantity, double executionPrice) {
+        if (quantity <= 0) {
+            return Double.NaN;
+        }
+        executedTrades++;
+
+        if (buy) {
+            lots.computeIfAbsent(stockCode, k -> new ArrayDeque<>()).addLast(new Lot(quantity, executionPrice * (1 + feeRate)));
+            return Double.NaN;
+        }
+
+        ArrayDeque<Lot> stockLots = lots.get(stockCode);
+        if (stockLots == null || stockLots.isEmpty()) {
+            return Double.NaN;
+        }
+
+        double proceedsPerShare = executionPrice * (1 - feeRate - taxRate);
+        double realized = 0.0;
+        long remaining = quantity;
+        while (remaining > 0 && !stockLots.isEmpty()) {
+            Lot lot = stockLots.peekFirst();
+            long matched = Math.min(remaining, lot.quantity);
+            realized += (proceedsPerShare - lot.costPerShare) * matched;
+            remaining -= matched;
+            lot.quantity -= matched;
+            if (lot.quantity == 0) {
+                stockLots.pollFirst();
+            }
+        }
+
+        closedTrades++;
+        if (realized > 0) {
+            profitableTrades++;
+        }
+        return realized;
+    }
+
+    public RollingMetrics latestRolling() {
+        return latestRolling;
+    }
+
+    /**
+     * 마지막으로 반영된 거래일 평가 금액 (반영 전이면 초기 자본)
+     */
+    public double currentValue() {
+        return count > 0 ? previousValue : initialCapital;
+    }
+
+    public PerformanceMetrics result() {
+        double finalValue = count > 0 ? previousValue : initialCapital;
+        double totalReturn = finalValue / initialCapital - 1;
+
+        double years = lastDate != null && startDate != null ? ChronoUnit.DAYS.between(startDate, lastDate) / 365.0 : 0.0;
+        double cagr = years > 0 ? Math.pow(finalValue / initialCapital, 1.0 / years) - 1 : totalReturn;
+
+        double stdDev = count > 0 ? Math.sqrt(Math.max(m2, 0.0) / count) : 0.0;
+        double downsideDeviation = count > 0 ? Math.sqrt(downsideSquareSum / count) : 0.0;
+        double annualization = Math.sqrt(TRADING_DAYS_PER_YEAR);
+
+        return new PerformanceMetrics(
+                totalReturn,
+                cagr,
+                maxDrawdown,
+                stdDev * annualization,
+                stdDev > 0 ? mean / stdDev * annualization : 0.0,
+                downsideDeviation > 0 ? mean / downsideDeviation * annualization : 0.0,
+                maxDrawdown > 0 ? cagr / maxDrawdown : 0.0,
+                executedTrades,
+                closedTrades,
+                profitableTrades,
+                closedTrades > 0 ? (double) profitableTrades / closedTrades : 0.0,
+                latestRolling,
+                Double.isNaN(bestRollingReturn) ? null : bestRollingReturn,
+                Double.isNaN(worstRollingReturn) ? null : worstRollingReturn,
+                relative());
+    }
+
+    /**
+     * 벤치마크 대비 지표. 기준 지수가 없거나 수익률 쌍이 2개 미만, 지수 분산이 0 이면 null
+     */
+    private RelativeMetrics relative() {
+        if (pairCount < 2 || benchmarkM2 <= 0) {
+            return null;
+        }
+        double beta = coMoment / benchmarkM2;
+        double alpha = (pairMeanPortfolio - beta * pairMeanBenchmark) * TRADING_DAYS_PER_YEAR;
+        double activeStdDev = Math.sqrt(Math.max(activeM2, 0.0) / pairCount);
+        double trackingError = activeStdDev * Math.sqrt(TRADING_DAYS_PER_YEAR);
+        double informationRatio = trackingError > 0 ? activeMean * TRADING_DAYS_PER_YEAR / trackingError : 0.0;
+        double upCapture = upDays > 0 && upBenchmarkSum != 0 ? upPortfolioSum / upBenchmarkSum : Double.NaN;
+        double downCapture = downDays > 0 && downBenchmarkSum != 0 ? downPortfolioSum / downBenchmarkSum : Double.NaN;
+
+        return new RelativeMetrics(pairCount, alpha, beta, trackingError, informationRatio,
+                Double.isNaN(upCapture) ? null : upCapture, Double.isNaN(downCapture) ? null : downCapture);
+    }
+
+    /**
+     * 누적 통계, 롤링 윈도우, 미청산 매수 로트, 벤치마크 대비 누적 통계를 체크포인트로 기록
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(m2);
+        out.writeDouble(downsideSquareSum);
+        out.writeDouble(previousValue);
+        out.writeDouble(peak);
+        out.writeDouble(maxDrawdown);
+        out.writeLong(lastDate != null ? lastDate.toEpochDay() : Long.MIN_VALUE);
+
+        out.writeInt(rollingWindow);
+        for (int i = 0; i < rollingWindow; i++) {
+            out.writeDouble(windowReturns[i]);
+            out.writeDouble(windowValues[i]);
+        }
+        out.writeInt(windowSize);
+        out.writeInt(windowHead);
+        out.writeDouble(windowMean);
+        out.writeDouble(windowM2);
+        out.writeBoolean(latestRolling != null);
+        if (latestRolling != null) {
+            out.writeLong(latestRolling.date().toEpochDay());
+            out.writeDouble(latestRolling.totalReturn());
+            out.writeDouble(latestRolling.volatility());
+            out.writeDouble(latestRolling.sharpeRatio());
+        }
+        out.writeDouble(bestRollingReturn);
+        out.writeDouble(worstRollingReturn);
+
+        out.writeInt(lots.size());
+        for (Map.Entry<String, ArrayDeque<Lot>> entry : lots.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (Lot lot : entry.getValue()) {
+                out.writeLong(lot.quantity);
+                out.writeDouble(lot.costPerShare);
+            }
+        }
+        out.writeInt(executedTrades);
+        out.writeInt(closedTrades);
+        out.writeInt(profitableTrades);
+
+        out.writeLong(pairCount);
+        out.writeDouble(pairMeanPortfolio);
+        out.writeDouble(pairMeanBenchmark);
+        out.writeDouble(benchmarkM2);
+        out.writeDouble(coMoment);
+        out.writeDouble(activeMean);
+        out.writeDouble(activeM2);
+        out.writeLong(upDays);
+        out.writeDouble(upPortfolioSum);
+        out.writeDouble(upBenchmarkSum);
+        out.writeLong(downDays);
+        out.writeDouble(downPortfolioSum);
+        out.writeDouble(downBenchmarkSum);
+    }
+
+    /**
+     * {@link #writeState(DataOutput)}로 기록한 상태 복원. 롤링 윈도우 크기가 같은 집계기에서만 가능하다
+     */
+    public void readState(DataInput in) throws IOException {
+        count = in.readLong();
+        mean = in.readDouble();
+        m2 = in.readDouble();
+        downsideSquareSum = in.readDouble();
+        previousValue = in.readDouble();
+        peak = in.readDouble();
+        maxDrawdown = in.readDouble();
+        long lastEpochDay = in.readLong();
+        lastDate = lastEpochDay != Long.MIN_VALUE ? LocalDate.ofEpochDay(lastEpochDay) : null;
+
+        int window = in.readInt();
+        if (window != rollingWindow) {
+            throw new IllegalStateException("Rolling window mismatch: expected " + rollingWindow + " but was " + window);
+        }
+        for (int i = 0; i < rollingWindow; i++) {
+            windowReturns[i] = in.readDouble();
+            windowValues[i] = in.readDouble();
+        }
+        windowSize = in.readInt();
+        windowHead = in.readInt();
+        windowMean = in.readDouble();
+        windowM2 = in.readDouble();
+        latestRolling = in.readBoolean()
+                ? new RollingMetrics(LocalDate.ofEpochDay(in.readLong()), in.readDouble(), in.readDouble(), in.readDouble())
+                : null;
+        bestRollingReturn = in.readDouble();
+        worstRollingReturn = in.readDouble();
+
+        lots.clear();
+        int stocks = in.readInt();
+        for (int i = 0; i < stocks; i++) {
+            String stockCode = in.readUTF();
+            int lotCount = in.readInt();
+            ArrayDeque<Lot> stockLots = new ArrayDeque<>(lotCount);
+            for (int j = 0; j < lotCount; j++) {
+                stockLots.addLast(new Lot(in.readLong(), in.readDouble()));
+            }
+            lots.put(stockCode, stockLots);
+        }
+        executedTrades = in.readInt();
+        closedTrades = in.readInt();
+        profitableTrades = in.readInt();
+
+        pairCount = in.readLong();
+        pairMeanPortfolio = in.readDouble();
+        pairMeanBenchmark = in.readDouble();
+        benchmarkM2 = in.readDouble();
+        coMoment = in.readDouble();
+        activeMean = in.readDouble();
+        activeM2 = in.readDouble();
+        upDays = in.readLong();
+        upPortfolioSum = in.readDouble();
+        upBenchmarkSum = in.readDouble();
+        downDays = in.readLong();
+        downPortfolioSum = in.readDouble();
+        downBenchmarkSum = in.readDouble();
+    }
+
+    /**
+     * 비율 값을 백분율 BigDecimal (소수 4자리)로 변환. NaN/무한대는 0
+     */
+    public static BigDecimal percent(double value) {
+        return ratio(value * 100);
+    }
+
+    /**
+     * 비율 값을 BigDecimal (소수 4자리)로 변환. NaN/무한대는 0
+     */
+    public static BigDecimal ratio(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    // 수수료 포함 주당 매수 원가를 가진 매수 로트
+    private static final class Lot {
+        private long quantity;
+        private final double costPerShare;
+
+        private Lot(long quantity, double costPerShare) {
+            this.quantity = quantity;
+            this.costPerShare = costPerShare;
+        }
+    }
+
+    /**
+     * 최근 롤링 윈도우 지표 (비율 단위, 연율화)
+     */
+    public record RollingMetrics(LocalDate date, double totalReturn, double volatility, double sharpeRatio) {
+    }
+
+    /**
+     * 벤치마크 대비 지표 (비율 단위, 알파/추적 오차는 연율화). 무위험 수익률은 0 으로 본다.
+     * 포착률은 지수 상승(하락)일의 포트폴리오 평균 수익률 / 지수 평균 수익률이며, 해당 일이 없으면 null
+     */
+    public record RelativeMetrics(long observations, double alpha, double beta, double trackingError,
+                                  double informationRatio, Double upCapture, Double downCapture) {
+    }
+
+    /**
+     * 누적 성과 지표 (비율 단위. 예: 0.12 = 12%). MDD 는 양수 낙폭. 기준 지수가 없으면 relative 는 null
+     */
+    public record PerformanceMetrics(double totalReturn, double cagr, double maxDrawdown, double volatility,
+                                     double sharpeRatio, double sortinoRatio, double calmarRatio,
+                                     int executedTrades, int closedTrades, int profitableTrades, double winRate,
+                                     RollingMetrics rolling, Double bestRollingReturn, Double worstRollingReturn,
+                                     RelativeMetrics relative) {
+    }
+}
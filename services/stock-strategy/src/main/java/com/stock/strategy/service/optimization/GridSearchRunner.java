@@ -0,0 +1,629 @@
+package com.stock.strategy.service.optimization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.OptimizationProgress;
+import com.stock.strategy.entity.BacktestResult;
+import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.entity.WalkForwardFold;
+import com.stock.strategy.enums.OptimizationMetric;
+import com.stock.strategy.enums.SimulationStatus;
+import com.stock.strategy.enums.SnapshotGranularity;
+import com.stock.strategy.repository.BacktestResultRepository;
+import com.stock.strategy.repository.BacktestSimulationRepository;
+import com.stock.strategy.repository.WalkForwardFoldRepository;
+import com.stock.strategy.service.SimulationData;
+import com.stock.strategy.service.SimulationEngine;
+import com.stock.strategy.service.StrategyFactory;
+import com.stock.strategy.service.cache.BacktestResultCache;
+import com.stock.strategy.service.cache.RequestFingerprint;
+import com.stock.strategy.strategy.Strategy;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 파라미터 조합별 백테스트를 전용 work-stealing 풀에서 실행하는 최적화 러너.
+ * <p>
+ * 거래일/유니버스/시세 패널은 작업당 한 번만 준비해 모든 조합이 읽기 전용으로 공유하며,
+ * 동시 실행 수는 풀 크기(backtest.optimization.parallelism, 기본값 CPU 코어 수)로 제한된다.
+ * {@link SearchSchedule}의 중간 단계는 앞부분 기간으로만 평가해 하위 후보를 걸러내고(successive halving),
+ * 마지막 단계(전체 기간) 결과만 스냅샷 없이 요약 결과(TB_BACKTEST_RESULT)로 저장한다.
+ * 워크포워드 최적화({@link WalkForwardSchedule})도 같은 풀과 진행 상황 추적을 사용한다.
+ */
+@Slf4j
+@Service
+public class GridSearchRunner {
+
+    private static final int MAX_TRACKED_JOBS = 100;
+    private static final int WALK_FORWARD_RUNGS = 2;
+
+    private final SimulationEngine simulationEngine;
+    private final StrategyFactory strategyFactory;
+    private final BacktestSimulationRepository simulationRepository;
+    private final BacktestResultRepository resultRepository;
+    private final WalkForwardFoldRepository foldRepository;
+    private final BacktestResultCache resultCache;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+    private final Map<String, OptimizationJob> jobs = new ConcurrentHashMap<>();
+
+    public GridSearchRunner(SimulationEngine simulationEngine,
+                            StrategyFactory strategyFactory,
+                            BacktestSimulationRepository simulationRepository,
+                            BacktestResultRepository resultRepository,
+                            WalkForwardFoldRepository foldRepository,
+                            BacktestResultCache resultCache,
+                            ObjectMapper objectMapper,
+                            @Value("${backtest.optimization.parallelism:0}") int parallelism) {
+        this.simulationEngine = simulationEngine;
+        this.strategyFactory = strategyFactory;
+        this.simulationRepository = simulationRepository;
+        this.resultRepository = resultRepository;
+        this.foldRepository = foldRepository;
+        this.resultCache = resultCache;
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                forkJoinPool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("grid-search-" + threadNumber.incrementAndGet());
+                    return thread;
+                },
+                null, false);
+    }
+
+    /**
+     * 후보 목록을 비동기로 평가하고 진행 상황 조회용 작업 정보를 즉시 반환.
+     * 모든 후보는 baseRequest 와 기간/유니버스/자본금이 같고 전략 파라미터만 달라야 한다.
+     */
+    public OptimizationProgress start(BacktestRequest baseRequest, List<BacktestRequest> candidates,
+                                      SearchSchedule schedule, OptimizationMetric metric) {
+        validate(candidates.size(), schedule);
+
+        OptimizationJob job = new OptimizationJob(UUID.randomUUID().toString(), candidates.size(),
+                schedule.totalEvaluations(), schedule.rungs().size(), metric);
+        register(job);
+        pool.execute(() -> run(job, baseRequest, candidates, schedule));
+
+        log.info("Grid search {} submitted: {} candidates, {} rungs, {} evaluations, parallelism {}",
+                job.id, candidates.size(), schedule.rungs().size(), schedule.totalEvaluations(), pool.getParallelism());
+        return job.toProgress();
+    }
+
+    /**
+     * 호출 스레드에서 최적화가 끝날 때까지 대기하며 실행하고 최종 상태 반환 (작업 큐 워커용).
+     * 진행 상황은 실행하는 인스턴스에서만 추적하며, 작업 상태는 작업 큐(TB_BACKTEST_JOB)가 기준이다.
+     * 인스턴스 중단으로 다시 실행된 작업이면 이전 실행에서 결과가 저장된 조합은 다시 실행하지 않는다.
+     */
+    public SimulationStatus execute(String optimizationId, BacktestRequest baseRequest, List<BacktestRequest> candidates,
+                                    SearchSchedule schedule, OptimizationMetric metric) {
+        validate(candidates.size(), schedule);
+        OptimizationJob job = new OptimizationJob(optimizationId, candidates.size(), schedule.totalEvaluations(), schedule.rungs().size(), metric);
+        register(job);
+
+        log.info("Grid search {} started from queue: {} candidates, {} rungs, {} evaluations, parallelism {}",
+                job.id, candidates.size(), schedule.rungs().size(), schedule.totalEvaluations(), pool.getParallelism());
+        pool.submit(() -> run(job, baseRequest, candidates, schedule)).join();
+        return job.status;
+    }
+
+    /**
+     * 워크포워드 최적화를 호출 스레드에서 끝날 때까지 실행하고 최종 상태 반환 (작업 큐 워커용).
+     * <ol>
+     *     <li>모든 구간의 표본 내 기간에서 후보 전체를 한 번에 병렬 평가하고 구간별 최고 후보를 고른다</li>
+     *     <li>구간별 선택 후보를 해당 표본 외 기간에서 단독 평가해 표본 내 점수와 비교할 점수를 남긴다</li>
+     *     <li>표본 외 기간 전체를 하나의 포트폴리오로 이어서 실행하며 구간 시작일마다 선택 파라미터로 리밸런싱한다</li>
+     * </ol>
+     * 시장 데이터는 전체 기간으로 한 번만 적재해 모든 구간이 공유한다. 연결 결과는 요약 결과와 스냅샷으로,
+     * 구간별 선택 파라미터와 점수는 TB_WALK_FORWARD_FOLD 에 저장한다.
+     */
+    public SimulationStatus executeWalkForward(String optimizationId, BacktestRequest baseRequest, List<BacktestRequest> candidates,
+                                               WalkForwardSchedule schedule, OptimizationMetric metric) {
+        validate(candidates.size());
+        OptimizationJob job = new OptimizationJob(optimizationId, candidates.size(), walkForwardEvaluations(candidates.size(), schedule),
+                WALK_FORWARD_RUNGS, metric);
+        register(job);
+
+        log.info("Walk-forward {} started from queue: {} candidates, {} folds, parallelism {}",
+                job.id, candidates.size(), schedule.folds().size(), pool.getParallelism());
+        pool.submit(() -> runWalkForward(job, baseRequest, candidates, schedule)).join();
+        return job.status;
+    }
+
+    /**
+     * 취소 요청. 이미 실행 중인 조합은 끝까지 실행하고 남은 조합과 단계는 건너뛴다
+     */
+    public boolean cancel(String optimizationId) {
+        OptimizationJob job = jobs.get(optimizationId);
+        if (job == null) {
+            return false;
+        }
+        job.cancelled = true;
+        if (job.status == SimulationStatus.PENDING) {
+            job.finish(SimulationStatus.CANCELLED);
+        }
+        return true;
+    }
+
+    private static void validate(int candidates, SearchSchedule schedule) {
+        validate(candidates);
+        if (schedule.rungs().get(0).candidates() != candidates) {
+            throw new IllegalArgumentException("Search schedule does not match candidate count: " + candidates);
+        }
+    }
+
+    private static void validate(int candidates) {
+        if (candidates == 0) {
+            throw new IllegalArgumentException("No parameter combinations to evaluate");
+        }
+    }
+
+    // 구간 × 후보 표본 내 평가 + 구간별 표본 외 평가 + 연결 실행 1회
+    private static int walkForwardEvaluations(int candidates, WalkForwardSchedule schedule) {
+        return schedule.folds().size() * (candidates + 1) + 1;
+    }
+
+    public Optional<OptimizationProgress> getProgress(String optimizationId) {
+        return Optional.ofNullable(jobs.get(optimizationId)).map(OptimizationJob::toProgress);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Grid search pool did not finish running combinations within timeout");
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+        }
+    }
+
+    private void run(OptimizationJob job, BacktestRequest baseRequest, List<BacktestRequest> candidates, SearchSchedule schedule) {
+        if (job.cancelled) {
+            job.finish(SimulationStatus.CANCELLED);
+            return;
+        }
+        job.status = SimulationStatus.RUNNING;
+        try {
+            Strategy strategy = strategyFactory.getStrategy(baseRequest.getStrategyType());
+            job.dataVersion = resultCache.currentDataVersion();
+            job.previousRuns = previousRuns(job.id);
+
+            // 시장 데이터는 전체 기간으로 한 번만 적재하여 모든 후보와 단계가 공유
+            SimulationData data = simulationEngine.prepare(baseRequest, strategy.getLookbackDays());
+
+            List<BacktestRequest> survivors = candidates;
+            List<SearchSchedule.Rung> rungs = schedule.rungs();
+            for (int i = 0; i < rungs.size() && !job.cancelled; i++) {
+                job.currentRung = i + 1;
+                if (i == rungs.size() - 1) {
+                    runFinalRung(job, survivors, strategy, data);
+                } else {
+                    survivors = runPrefixRung(job, survivors, rungs.get(i).endDate(), rungs.get(i + 1).candidates(), strategy, data);
+                }
+            }
+
+            if (job.cancelled) {
+                job.finish(SimulationStatus.CANCELLED);
+                log.info("Grid search {} cancelled after {} evaluations", job.id, job.completed.get());
+                return;
+            }
+            job.finish(job.completed.get() == 0 ? SimulationStatus.FAILED : SimulationStatus.COMPLETED);
+            log.info("Grid search {} finished: {} evaluations, {} failed, best simulation {}",
+                    job.id, job.completed.get(), job.failed.get(), job.bestSimulationId);
+        } catch (Exception e) {
+            log.error("Grid search {} failed", job.id, e);
+            job.finish(SimulationStatus.FAILED);
+        }
+    }
+
+    private void runWalkForward(OptimizationJob job, BacktestRequest baseRequest, List<BacktestRequest> candidates,
+                                WalkForwardSchedule schedule) {
+        if (job.cancelled) {
+            job.finish(SimulationStatus.CANCELLED);
+            return;
+        }
+        job.status = SimulationStatus.RUNNING;
+        try {
+            // 다시 실행된 작업이면 이전 실행에서 연결 시뮬레이션까지 저장한 경우 그대로 완료
+            Optional<BacktestResult> saved = completedRun(job);
+            if (saved.isPresent()) {
+                job.completed.set(job.totalEvaluations - 1);
+                job.onCompleted(saved.get().getSimulationId(), saved.get());
+                job.finish(SimulationStatus.COMPLETED);
+                log.info("Walk-forward {} already saved as simulation {}", job.id, saved.get().getSimulationId());
+                return;
+            }
+
+            Strategy strategy = strategyFactory.getStrategy(baseRequest.getStrategyType());
+            SimulationData data = simulationEngine.prepare(baseRequest, strategy.getLookbackDays());
+            List<WalkForwardSchedule.Fold> folds = schedule.folds();
+
+            // 1단계: 구간 × 후보 표본 내 평가를 한 번에 병렬 실행 (구간 간 대기 없이 작업 훔치기로 분배)
+            job.currentRung = 1;
+            List<SimulationData> inSampleData = folds.stream()
+                    .map(fold -> data.between(fold.inSampleStart(), fold.inSampleEnd()))
+                    .toList();
+            double[][] inSampleScores = new double[folds.size()][candidates.size()];
+            ForkJoinTask.invokeAll(IntStream.range(0, folds.size() * candidates.size())
+                    .mapToObj(task -> ForkJoinTask.adapt(() -> {
+                        WalkForwardSchedule.Fold fold = folds.get(task / candidates.size());
+                        int candidate = task % candidates.size();
+                        inSampleScores[fold.index()][candidate] = evaluate(job, candidates.get(candidate),
+                                fold.inSampleStart(), fold.inSampleEnd(), strategy, inSampleData.get(fold.index()));
+                    }))
+                    .toList());
+            if (job.cancelled) {
+                finishCancelled(job);
+                return;
+            }
+
+            int[] selected = new int[folds.size()];
+            NavigableMap<LocalDate, BacktestRequest> parameterSchedule = new TreeMap<>();
+            for (WalkForwardSchedule.Fold fold : folds) {
+                selected[fold.index()] = best(inSampleScores[fold.index()]);
+                if (selected[fold.index()] < 0) {
+                    throw new IllegalStateException("No candidate could be evaluated in fold " + fold.index());
+                }
+                parameterSchedule.put(fold.outOfSampleStart(), candidates.get(selected[fold.index()]));
+            }
+
+            // 2단계: 구간별 선택 후보의 표본 외 단독 평가
+            job.currentRung = 2;
+            double[] outOfSampleScores = new double[folds.size()];
+            ForkJoinTask.invokeAll(folds.stream()
+                    .map(fold -> ForkJoinTask.adapt(() -> {
+                        outOfSampleScores[fold.index()] = evaluate(job, candidates.get(selected[fold.index()]),
+                                fold.outOfSampleStart(), fold.outOfSampleEnd(), strategy,
+                                data.between(fold.outOfSampleStart(), fold.outOfSampleEnd()));
+                    }))
+                    .toList());
+            if (job.cancelled) {
+                finishCancelled(job);
+                return;
+            }
+
+            // 표본 외 기간을 하나의 포트폴리오로 연결 (구간 시작일마다 새 파라미터로 리밸런싱)
+            BacktestRequest chained = ParameterSpace.copy(baseRequest);
+            chained.setStartDate(schedule.outOfSampleStart());
+            chained.setEndDate(schedule.outOfSampleEnd());
+            SimulationData chainedData = data.between(schedule.outOfSampleStart(), schedule.outOfSampleEnd())
+                    .rebalancingOn(parameterSchedule.keySet());
+
+            BacktestSimulation created = newSimulation(chained);
+            created.setOptimizationId(job.id);
+            BacktestSimulation simulation = simulationRepository.save(created);
+            try {
+                BacktestResult result = simulationEngine.runSimulation(simulation.getId(), chained, strategy, chainedData, parameterSchedule);
+                result.setIsOptimized(true);
+                if (chained.getSlippageType() != null) {
+                    result.setSlippageType(chained.getSlippageType().name());
+                }
+                resultRepository.save(result);
+
+                List<WalkForwardFold> foldResults = new ArrayList<>(folds.size());
+                for (WalkForwardSchedule.Fold fold : folds) {
+                    int candidate = selected[fold.index()];
+                    foldResults.add(WalkForwardFold.builder()
+                            .simulationId(simulation.getId())
+                            .foldIndex(fold.index())
+                            .inSampleStart(fold.inSampleStart())
+                            .inSampleEnd(fold.inSampleEnd())
+                            .outOfSampleStart(fold.outOfSampleStart())
+                            .outOfSampleEnd(fold.outOfSampleEnd())
+                            .metric(job.metric)
+                            .parameters(parametersOf(candidates.get(candidate)))
+                            .inSampleScore(scoreOf(inSampleScores[fold.index()][candidate]))
+                            .outOfSampleScore(scoreOf(outOfSampleScores[fold.index()]))
+                            .build());
+                }
+                foldRepository.saveAll(foldResults);
+
+                simulation.setStatus(SimulationStatus.COMPLETED);
+                simulation.setCompletedAt(LocalDateTime.now());
+                simulationRepository.save(simulation);
+                job.onCompleted(simulation.getId(), result);
+            } catch (Exception e) {
+                simulation.setStatus(SimulationStatus.FAILED);
+                simulationRepository.save(simulation);
+                throw e;
+            }
+
+            job.finish(SimulationStatus.COMPLETED);
+            log.info("Walk-forward {} finished: {} folds, chained simulation {}, {} evaluations, {} failed",
+                    job.id, folds.size(), simulation.getId(), job.completed.get(), job.failed.get());
+        } catch (Exception e) {
+            log.error("Walk-forward {} failed", job.id, e);
+            job.finish(SimulationStatus.FAILED);
+        }
+    }
+
+    private static void finishCancelled(OptimizationJob job) {
+        job.finish(SimulationStatus.CANCELLED);
+        log.info("Optimization {} cancelled after {} evaluations", job.id, job.completed.get());
+    }
+
+    // 점수가 가장 높은 후보 인덱스. 모두 평가에 실패했으면 -1
+    private static int best(double[] scores) {
+        int best = -1;
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] != Double.NEGATIVE_INFINITY && (best < 0 || scores[i] > scores[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static BigDecimal scoreOf(double score) {
+        return Double.isFinite(score) ? BigDecimal.valueOf(score).setScale(6, RoundingMode.HALF_UP) : null;
+    }
+
+    // 탐색 대상 전략 설정만 기록 (기간/비용 조건은 연결 시뮬레이션과 동일)
+    private String parametersOf(BacktestRequest request) {
+        Object config = switch (request.getStrategyType()) {
+            case VALUE -> request.getValueStrategyConfig();
+            case MULTI_FACTOR -> request.getMultiFactorConfig();
+            case SECTOR_ROTATION -> request.getSectorRotationConfig();
+            default -> null;
+        };
+        try {
+            return config != null ? objectMapper.writeValueAsString(config) : null;
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize walk-forward parameters: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 앞부분 기간으로만 평가하고 지표 상위 keep 개 후보를 반환. 중간 단계 결과는 저장하지 않는다
+     */
+    private List<BacktestRequest> runPrefixRung(OptimizationJob job, List<BacktestRequest> candidates, LocalDate rungEnd,
+                                                int keep, Strategy strategy, SimulationData data) {
+        SimulationData prefix = data.until(rungEnd);
+        double[] scores = new double[candidates.size()];
+
+        // 워커 스레드에서 invokeAll 을 호출하므로 대기 중에도 이 스레드가 후보 평가에 참여한다
+        ForkJoinTask.invokeAll(IntStream.range(0, candidates.size())
+                .mapToObj(i -> ForkJoinTask.adapt(() -> {
+                    scores[i] = evaluate(job, candidates.get(i), candidates.get(i).getStartDate(), rungEnd, strategy, prefix);
+                }))
+                .toList());
+
+        List<BacktestRequest> survivors = IntStream.range(0, candidates.size()).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                .limit(keep)
+                .map(candidates::get)
+                .toList();
+        log.info("Grid search {} rung {} (until {}): kept {} of {}", job.id, job.currentRung, rungEnd, survivors.size(), candidates.size());
+        return survivors;
+    }
+
+    /**
+     * 결과를 저장하지 않고 startDate ~ endDate 기간(data)으로만 평가한 지표 점수. 실패하면 최하위 점수
+     */
+    private double evaluate(OptimizationJob job, BacktestRequest candidate, LocalDate startDate, LocalDate endDate,
+                            Strategy strategy, SimulationData data) {
+        if (job.cancelled) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        try {
+            BacktestRequest request = ParameterSpace.copy(candidate);
+            request.setStartDate(startDate);
+            request.setEndDate(endDate);
+            request.setSnapshotGranularity(SnapshotGranularity.NONE);
+
+            BacktestResult result = simulationEngine.runSimulation(null, request, strategy, data);
+            job.completed.incrementAndGet();
+            return job.metric.score(result);
+        } catch (Exception e) {
+            log.warn("Grid search {} candidate failed at rung {}: {}", job.id, job.currentRung, e.getMessage());
+            job.failed.incrementAndGet();
+            return Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    private void runFinalRung(OptimizationJob job, List<BacktestRequest> candidates, Strategy strategy, SimulationData data) {
+        ForkJoinTask.invokeAll(candidates.stream()
+                .map(request -> ForkJoinTask.adapt(() -> runCombination(job, request, strategy, data)))
+                .toList());
+    }
+
+    private void runCombination(OptimizationJob job, BacktestRequest candidate, Strategy strategy, SimulationData data) {
+        if (job.cancelled) {
+            return;
+        }
+        // 후보 요청은 호출자와 공유하므로 복사본에만 실행 옵션을 바꿈
+        BacktestRequest request = ParameterSpace.copy(candidate);
+        request.setSnapshotGranularity(SnapshotGranularity.NONE);
+        String fingerprint = RequestFingerprint.of(objectMapper, request);
+
+        // 같은 작업의 이전 실행에서 결과까지 저장한 조합은 다시 실행하지 않음 (결과 저장 직후 중단된 경우 완료 처리)
+        BacktestSimulation previous = job.previousRuns.get(fingerprint);
+        if (previous != null) {
+            Optional<BacktestResult> saved = resultRepository.findBySimulationId(previous.getId());
+            if (saved.isPresent()) {
+                if (previous.getStatus() != SimulationStatus.COMPLETED) {
+                    previous.setStatus(SimulationStatus.COMPLETED);
+                    previous.setCompletedAt(LocalDateTime.now());
+                    simulationRepository.save(previous);
+                }
+                job.onCompleted(previous.getId(), saved.get());
+                return;
+            }
+        }
+
+        // 이전 최적화나 백테스트에서 같은 조합을 같은 데이터로 실행했다면 저장된 결과로 비교
+        Optional<BacktestResult> cached = resultCache.lookup(request, job.dataVersion, BacktestResultCache.SOURCE_OPTIMIZATION);
+        if (cached.isPresent()) {
+            job.onCompleted(cached.get().getSimulationId(), cached.get());
+            return;
+        }
+
+        // 이전 실행에서 중단된 조합은 같은 시뮬레이션 행으로 다시 실행 (스냅샷을 저장하지 않으므로 남은 데이터 없음)
+        BacktestSimulation created = previous != null ? previous : newSimulation(request);
+        created.setStatus(SimulationStatus.RUNNING);
+        created.setOptimizationId(job.id);
+        created.setRequestFingerprint(fingerprint);
+        resultCache.stamp(created, request, job.dataVersion);
+        BacktestSimulation simulation = simulationRepository.save(created);
+        try {
+            BacktestResult result = simulationEngine.runSimulation(simulation.getId(), request, strategy, data);
+
+            result.setIsOptimized(true);
+            if (request.getSlippageType() != null) {
+                result.setSlippageType(request.getSlippageType().name());
+            }
+            resultRepository.save(result);
+
+            simulation.setStatus(SimulationStatus.COMPLETED);
+            simulation.setCompletedAt(LocalDateTime.now());
+            simulationRepository.save(simulation);
+
+            job.onCompleted(simulation.getId(), result);
+        } catch (Exception e) {
+            log.error("Grid search {} combination failed: simulation {}", job.id, simulation.getId(), e);
+            simulation.setStatus(SimulationStatus.FAILED);
+            simulationRepository.save(simulation);
+            job.failed.incrementAndGet();
+        }
+    }
+
+    // 같은 최적화 작업의 이전 실행이 저장한 조합 시뮬레이션 (요청 지문별 최신 행)
+    private Map<String, BacktestSimulation> previousRuns(String optimizationId) {
+        Map<String, BacktestSimulation> previous = new HashMap<>();
+        for (BacktestSimulation simulation : simulationRepository.findByOptimizationId(optimizationId)) {
+            if (simulation.getRequestFingerprint() != null) {
+                previous.merge(simulation.getRequestFingerprint(), simulation,
+                        (a, b) -> a.getId() > b.getId() ? a : b);
+            }
+        }
+        if (!previous.isEmpty()) {
+            log.info("Optimization {} resumed: {} combinations saved by a previous run", optimizationId, previous.size());
+        }
+        return previous;
+    }
+
+    // 워크포워드 연결 시뮬레이션이 이전 실행에서 완료되었으면 그 결과
+    private Optional<BacktestResult> completedRun(OptimizationJob job) {
+        return simulationRepository.findByOptimizationId(job.id).stream()
+                .filter(simulation -> simulation.getStatus() == SimulationStatus.COMPLETED)
+                .max(Comparator.comparing(BacktestSimulation::getId))
+                .flatMap(simulation -> resultRepository.findBySimulationId(simulation.getId()));
+    }
+
+    private BacktestSimulation newSimulation(BacktestRequest request) {
+        return BacktestSimulation.builder()
+                .strategyName(request.getStrategyType().getCode())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .initialCapital(request.getInitialCapital())
+                .rebalancingPeriod(request.getRebalancingPeriod())
+                .tradingFeeRate(request.getTradingFeeRate())
+                .taxRate(request.getTaxRate())
+                .status(SimulationStatus.RUNNING)
+                .build();
+    }
+
+    // 완료된 작업부터 오래된 순으로 정리하여 추적 작업 수를 제한
+    private void register(OptimizationJob job) {
+        if (jobs.size() >= MAX_TRACKED_JOBS) {
+            jobs.values().stream()
+                    .filter(tracked -> tracked.completedAt != null)
+                    .sorted((a, b) -> a.completedAt.compareTo(b.completedAt))
+                    .limit(jobs.size() - MAX_TRACKED_JOBS + 1L)
+                    .forEach(tracked -> jobs.remove(tracked.id));
+        }
+        jobs.put(job.id, job);
+    }
+
+    private static final class OptimizationJob {
+
+        private final String id;
+        private final int candidates;
+        private final int totalEvaluations;
+        private final int totalRungs;
+        private final OptimizationMetric metric;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private volatile SimulationStatus status = SimulationStatus.PENDING;
+        private volatile boolean cancelled;
+        private volatile int currentRung;
+        private volatile LocalDateTime completedAt;
+        private volatile String dataVersion;
+        private volatile Map<String, BacktestSimulation> previousRuns = Map.of();
+        private Long bestSimulationId;
+        private double bestScore = Double.NEGATIVE_INFINITY;
+
+        private OptimizationJob(String id, int candidates, int totalEvaluations, int totalRungs, OptimizationMetric metric) {
+            this.id = id;
+            this.candidates = candidates;
+            this.totalEvaluations = totalEvaluations;
+            this.totalRungs = totalRungs;
+            this.metric = metric;
+        }
+
+        // 전체 기간으로 평가된 결과만 최고 후보 비교 대상
+        private synchronized void onCompleted(Long simulationId, BacktestResult result) {
+            completed.incrementAndGet();
+            double score = metric.score(result);
+            if (bestSimulationId == null || score > bestScore) {
+                bestScore = score;
+                bestSimulationId = simulationId;
+            }
+        }
+
+        private void finish(SimulationStatus finalStatus) {
+            completedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private synchronized OptimizationProgress toProgress() {
+            return OptimizationProgress.builder()
+                    .optimizationId(id)
+                    .status(status)
+                    .metric(metric)
+                    .totalCombinations(candidates)
+                    .totalEvaluations(totalEvaluations)
+                    .completedEvaluations(completed.get())
+                    .failedEvaluations(failed.get())
+                    .currentRung(currentRung)
+                    .totalRungs(totalRungs)
+                    .bestSimulationId(bestSimulationId)
+                    .bestScore(bestSimulationId != null && Double.isFinite(bestScore) ? BigDecimal.valueOf(bestScore) : null)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .build();
+        }
+    }
+}
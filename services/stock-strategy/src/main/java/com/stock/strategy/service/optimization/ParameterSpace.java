@@ -0,0 +1,199 @@
+package com.stock.strategy.service.optimization;
+
+import com.stock.common.dto.MultiFactorConfig;
+import com.stock.common.dto.SectorRotationConfig;
+import com.stock.common.dto.ValueStrategyConfig;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.GridSearchRequest;
+import com.stock.strategy.enums.StrategyType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 전략별 파라미터 탐색 공간. 격자 전체 열거와 무작위 표본 추출을 제공한다.
+ * <ul>
+ *     <li>Value: topN × (PBR, ROE, PER) 가중치 (합계 1)</li>
+ *     <li>MultiFactor: topN × (Value, Momentum, Quality) 가중치 (합계 1)</li>
+ *     <li>SectorRotation: 선정 섹터 수 × 섹터별 종목 수 (topN 범위)</li>
+ * </ul>
+ */
+public final class ParameterSpace {
+
+    private static final int WEIGHT_SCALE = 4;
+
+    private ParameterSpace() {
+    }
+
+    /**
+     * 격자 전체 조합
+     */
+    public static List<BacktestRequest> grid(GridSearchRequest request) {
+        StrategyType type = strategyTypeOf(request);
+        List<BacktestRequest> list = new ArrayList<>();
+        int weightSteps = weightSteps(request);
+
+        switch (type) {
+            case VALUE, MULTI_FACTOR -> {
+                for (int topN : topNValues(request)) {
+                    // 가중치 합계가 1 이 되도록 정수 격자에서 열거 (부동소수점 누적 오차 방지)
+                    for (int i = 0; i <= weightSteps; i++) {
+                        for (int j = 0; j <= weightSteps - i; j++) {
+                            BigDecimal first = weight(i, weightSteps);
+                            BigDecimal second = weight(j, weightSteps);
+                            list.add(withWeights(request, type, topN, first, second, BigDecimal.ONE.subtract(first).subtract(second)));
+                        }
+                    }
+                }
+            }
+            case SECTOR_ROTATION -> {
+                for (int sectors = minTopSectors(request); sectors <= maxTopSectors(request); sectors++) {
+                    for (int stocks : topNValues(request)) {
+                        list.add(withSectors(request, sectors, stocks));
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException("Parameter search is not supported for strategy: " + type);
+        }
+        return list;
+    }
+
+    /**
+     * 탐색 공간에서 budget 개 후보를 무작위 추출. 가중치는 격자가 아닌 단체(simplex) 위에서 균등 추출한다
+     */
+    public static List<BacktestRequest> sample(GridSearchRequest request, int budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Search budget must be positive");
+        }
+        StrategyType type = strategyTypeOf(request);
+        SplittableRandom random = request.getSeed() != null ? new SplittableRandom(request.getSeed()) : new SplittableRandom();
+        List<Integer> topNValues = topNValues(request);
+        List<BacktestRequest> list = new ArrayList<>(budget);
+
+        for (int n = 0; n < budget; n++) {
+            int topN = topNValues.get(random.nextInt(topNValues.size()));
+            switch (type) {
+                case VALUE, MULTI_FACTOR -> {
+                    // 정렬된 두 균등 난수의 간격 = 합계 1 인 3차원 단체 위의 균등 분포
+                    double a = random.nextDouble();
+                    double b = random.nextDouble();
+                    BigDecimal first = BigDecimal.valueOf(Math.min(a, b)).setScale(WEIGHT_SCALE, RoundingMode.HALF_UP);
+                    BigDecimal second = BigDecimal.valueOf(Math.abs(a - b)).setScale(WEIGHT_SCALE, RoundingMode.HALF_UP);
+                    BigDecimal third = BigDecimal.ONE.subtract(first).subtract(second).max(BigDecimal.ZERO);
+                    list.add(withWeights(request, type, topN, first, second, third));
+                }
+                case SECTOR_ROTATION -> list.add(withSectors(request,
+                        random.nextInt(minTopSectors(request), maxTopSectors(request) + 1), topN));
+                default -> throw new IllegalArgumentException("Parameter search is not supported for strategy: " + type);
+            }
+        }
+        return list;
+    }
+
+    public static BacktestRequest copy(BacktestRequest original) {
+        return BacktestRequest.builder()
+                .strategyType(original.getStrategyType())
+                .startDate(original.getStartDate())
+                .endDate(original.getEndDate())
+                .initialCapital(original.getInitialCapital())
+                .rebalancingPeriod(original.getRebalancingPeriod())
+                .tradingFeeRate(original.getTradingFeeRate())
+                .taxRate(original.getTaxRate())
+                .universeFilter(original.getUniverseFilter())
+                .valueStrategyConfig(original.getValueStrategyConfig())
+                .multiFactorConfig(original.getMultiFactorConfig())
+                .sectorRotationConfig(original.getSectorRotationConfig())
+                .assetAllocationConfig(original.getAssetAllocationConfig())
+                .sleeves(original.getSleeves())
+                .slippageType(original.getSlippageType())
+                .fixedSlippageRate(original.getFixedSlippageRate())
+                .maxWeightPerStock(original.getMaxWeightPerStock())
+                .maxVolumeRatio(original.getMaxVolumeRatio())
+                .impactCoefficient(original.getImpactCoefficient())
+                .volumeLookbackDays(original.getVolumeLookbackDays())
+                .rebalanceBand(original.getRebalanceBand())
+                .minTradeAmount(original.getMinTradeAmount())
+                .snapshotGranularity(original.getSnapshotGranularity())
+                .benchmark(original.getBenchmark())
+                .bypassCache(original.getBypassCache())
+                .build();
+    }
+
+    private static BacktestRequest withWeights(GridSearchRequest request, StrategyType type, int topN,
+                                               BigDecimal first, BigDecimal second, BigDecimal third) {
+        BacktestRequest comboRequest = copy(request.getBaseRequest());
+        if (type == StrategyType.VALUE) {
+            comboRequest.setValueStrategyConfig(ValueStrategyConfig.builder()
+                    .topN(topN)
+                    .pbrWeight(first)
+                    .roeWeight(second)
+                    .perWeight(third)
+                    .build());
+        } else {
+            comboRequest.setMultiFactorConfig(MultiFactorConfig.builder()
+                    .topN(topN)
+                    .valueWeight(first)
+                    .momentumWeight(second)
+                    .qualityWeight(third)
+                    .build());
+        }
+        return comboRequest;
+    }
+
+    private static BacktestRequest withSectors(GridSearchRequest request, int topSectors, int stocksPerSector) {
+        BacktestRequest comboRequest = copy(request.getBaseRequest());
+        comboRequest.setSectorRotationConfig(SectorRotationConfig.builder()
+                .topSectorsCount(topSectors)
+                .stocksPerSector(stocksPerSector)
+                .build());
+        return comboRequest;
+    }
+
+    private static StrategyType strategyTypeOf(GridSearchRequest request) {
+        return request.getBaseRequest().getStrategyType();
+    }
+
+    private static List<Integer> topNValues(GridSearchRequest request) {
+        StrategyType type = strategyTypeOf(request);
+        int defaultN = type == StrategyType.SECTOR_ROTATION ? 5 : 20;
+        int minN = request.getMinTopN() != null ? request.getMinTopN() : defaultN;
+        int maxN = request.getMaxTopN() != null ? request.getMaxTopN() : minN;
+        int stepN = request.getStepTopN() != null ? request.getStepTopN() : 10;
+        if (minN <= 0 || stepN <= 0 || maxN < minN) {
+            throw new IllegalArgumentException("Invalid topN range: " + minN + ".." + maxN + " step " + stepN);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        for (int topN = minN; topN <= maxN; topN += stepN) {
+            values.add(topN);
+        }
+        return values;
+    }
+
+    private static int weightSteps(GridSearchRequest request) {
+        double step = request.getWeightStep() != null ? request.getWeightStep() : 0.1;
+        if (step <= 0 || step > 1) {
+            throw new IllegalArgumentException("Weight step must be in (0, 1]: " + step);
+        }
+        return (int) Math.round(1.0 / step);
+    }
+
+    private static BigDecimal weight(int numerator, int steps) {
+        return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(steps), WEIGHT_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static int minTopSectors(GridSearchRequest request) {
+        return request.getMinTopSectors() != null ? request.getMinTopSectors() : 3;
+    }
+
+    private static int maxTopSectors(GridSearchRequest request) {
+        int max = request.getMaxTopSectors() != null ? request.getMaxTopSectors() : minTopSectors(request);
+        if (minTopSectors(request) <= 0 || max < minTopSectors(request)) {
+            throw new IllegalArgumentException("Invalid sector count range: " + minTopSectors(request) + ".." + max);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,74 @@
+package com.stock.strategy.service.optimization;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최적화 평가 단계 목록. 각 단계는 시작일부터 endDate 까지의 기간으로 candidates 개 후보를 평가하며,
+ * 마지막 단계만 전체 기간으로 평가되어 결과가 저장된다.
+ */
+public record SearchSchedule(List<Rung> rungs) {
+
+    public record Rung(LocalDate endDate, int candidates) {
+    }
+
+    public SearchSchedule {
+        if (rungs.isEmpty()) {
+            throw new IllegalArgumentException("Search schedule must have at least one rung");
+        }
+        rungs = List.copyOf(rungs);
+    }
+
+    /**
+     * 모든 후보를 전체 기간으로 한 번에 평가 (격자/무작위 탐색)
+     */
+    public static SearchSchedule fullWindow(LocalDate endDate, int candidates) {
+        return new SearchSchedule(List.of(new Rung(endDate, candidates)));
+    }
+
+    /**
+     * Successive halving 단계 구성.
+     * 단계마다 상위 1/reductionFactor 만 남기고 평가 기간을 reductionFactor 배로 늘리며,
+     * 첫 단계 기간이 minWindowMonths 보다 짧아지지 않는 범위에서 단계 수를 최대로 잡는다.
+     */
+    public static SearchSchedule successiveHalving(LocalDate startDate, LocalDate endDate, int candidates,
+                                                   int reductionFactor, int minWindowMonths) {
+        if (reductionFactor < 2) {
+            throw new IllegalArgumentException("Reduction factor must be at least 2: " + reductionFactor);
+        }
+        if (candidates <= 0) {
+            throw new IllegalArgumentException("No parameter combinations to evaluate");
+        }
+
+        long months = ChronoUnit.MONTHS.between(startDate, endDate.plusDays(1));
+        int rungCount = 1;
+        long divisor = 1;
+        int survivors = candidates;
+        while (survivors > 1 && months / (divisor * reductionFactor) >= minWindowMonths) {
+            rungCount++;
+            divisor *= reductionFactor;
+            survivors = ceilDiv(survivors, reductionFactor);
+        }
+
+        List<Rung> rungs = new ArrayList<>(rungCount);
+        int size = candidates;
+        for (int i = 0; i < rungCount; i++) {
+            boolean last = i == rungCount - 1;
+            LocalDate rungEnd = last ? endDate : startDate.plusMonths(months / divisor).minusDays(1);
+            rungs.add(new Rung(rungEnd, size));
+            size = ceilDiv(size, reductionFactor);
+            divisor /= reductionFactor;
+        }
+        return new SearchSchedule(rungs);
+    }
+
+    public int totalEvaluations() {
+        return rungs.stream().mapToInt(Rung::candidates).sum();
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
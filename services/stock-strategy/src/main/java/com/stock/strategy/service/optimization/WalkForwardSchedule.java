@@ -0,0 +1,58 @@
+package com.stock.strategy.service.optimization;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 워크포워드 구간 목록. 각 구간은 표본 내(in-sample) 기간으로 파라미터를 고르고
+ * 바로 이어지는 표본 외(out-of-sample) 기간에 적용하며, 표본 외 기간들은 겹치지 않고 이어진다.
+ */
+public record WalkForwardSchedule(List<Fold> folds) {
+
+    public record Fold(int index, LocalDate inSampleStart, LocalDate inSampleEnd,
+                       LocalDate outOfSampleStart, LocalDate outOfSampleEnd) {
+    }
+
+    public WalkForwardSchedule {
+        if (folds.isEmpty()) {
+            throw new IllegalArgumentException("Walk-forward schedule must have at least one fold");
+        }
+        folds = List.copyOf(folds);
+    }
+
+    /**
+     * 표본 외 기간만큼 창을 밀어가며 구간 구성. anchored 이면 표본 내 기간 시작을 startDate 로 고정해 늘려간다.
+     * 마지막 표본 외 기간은 endDate 에서 잘린다.
+     */
+    public static WalkForwardSchedule rolling(LocalDate startDate, LocalDate endDate, int inSampleMonths,
+                                              int outOfSampleMonths, boolean anchored) {
+        if (inSampleMonths <= 0 || outOfSampleMonths <= 0) {
+            throw new IllegalArgumentException("Walk-forward windows must be at least one month");
+        }
+
+        List<Fold> folds = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            LocalDate outOfSampleStart = startDate.plusMonths(inSampleMonths + (long) i * outOfSampleMonths);
+            if (outOfSampleStart.isAfter(endDate)) {
+                break;
+            }
+            LocalDate inSampleStart = anchored ? startDate : startDate.plusMonths((long) i * outOfSampleMonths);
+            LocalDate outOfSampleEnd = startDate.plusMonths(inSampleMonths + (long) (i + 1) * outOfSampleMonths).minusDays(1);
+            folds.add(new Fold(i, inSampleStart, outOfSampleStart.minusDays(1), outOfSampleStart,
+                    outOfSampleEnd.isAfter(endDate) ? endDate : outOfSampleEnd));
+        }
+        if (folds.isEmpty()) {
+            throw new IllegalArgumentException("Backtest period is shorter than the in-sample window: " + inSampleMonths + " months");
+        }
+        return new WalkForwardSchedule(folds);
+    }
+
+    public LocalDate outOfSampleStart() {
+        return folds.get(0).outOfSampleStart();
+    }
+
+    public LocalDate outOfSampleEnd() {
+        return folds.get(folds.size() - 1).outOfSampleEnd();
+    }
+}
@@ -0,0 +1,64 @@
+package com.stock.strategy.service.panel;
+
+import com.stock.common.dto.MarketIndexDto;
+import com.stock.common.utils.DateUtils;
+import com.stock.strategy.client.PriceClient;
+import com.stock.strategy.enums.BenchmarkIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BenchmarkLoader {
+
+    private final PriceClient priceClient;
+
+    /**
+     * 기준 지수의 기간 시계열을 한 번에 적재하여 {@link BenchmarkSeries}를 생성합니다.
+     * 조회에 실패하면 빈 시계열을 반환하며, 이 경우 벤치마크 대비 지표는 계산되지 않습니다.
+     */
+    public BenchmarkSeries load(BenchmarkIndex benchmark, LocalDate startDate, LocalDate endDate) {
+        if (benchmark == null) {
+            return BenchmarkSeries.empty();
+        }
+
+        List<MarketIndexDto> series;
+        try {
+            series = priceClient.getMarketIndex(benchmark.getMarketCode(), benchmark.getWeighting(),
+                    DateUtils.toLocalDateString(startDate), DateUtils.toLocalDateString(endDate));
+        } catch (Exception e) {
+            log.warn("Failed to load benchmark {} ({} ~ {}): {}", benchmark, startDate, endDate, e.getMessage());
+            return BenchmarkSeries.empty();
+        }
+        if (series == null || series.isEmpty()) {
+            log.warn("No benchmark data for {} ({} ~ {})", benchmark, startDate, endDate);
+            return BenchmarkSeries.empty();
+        }
+
+        int size = 0;
+        LocalDate[] dates = new LocalDate[series.size()];
+        double[] levels = new double[series.size()];
+        double[] returns = new double[series.size()];
+        for (MarketIndexDto index : series) {
+            if (index.getBasDt() == null || index.getIndexValue() == null || index.getDailyReturn() == null
+                    || (size > 0 && !index.getBasDt().isAfter(dates[size - 1]))) {
+                continue;
+            }
+            dates[size] = index.getBasDt();
+            levels[size] = index.getIndexValue().doubleValue();
+            returns[size] = index.getDailyReturn().doubleValue();
+            size++;
+        }
+
+        BenchmarkSeries loaded = BenchmarkSeries.of(benchmark,
+                Arrays.copyOf(dates, size), Arrays.copyOf(levels, size), Arrays.copyOf(returns, size));
+        log.info("Benchmark {} loaded: {} days ({} ~ {})", benchmark, loaded.size(), startDate, endDate);
+        return loaded;
+    }
+}
@@ -0,0 +1,85 @@
+package com.stock.strategy.service.panel;
+
+import com.stock.strategy.enums.BenchmarkIndex;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 기준 지수의 일별 지수 값과 일간 수익률을 원시 배열에 보관하는 읽기 전용 시계열.
+ * <p>
+ * 주가 서비스가 하루 한 번 산출해 둔 지수를 시뮬레이션 시작 시 한 번 적재하며,
+ * 이후 성과 집계는 날짜 이진 탐색만으로 같은 날의 지수 수익률을 조회한다.
+ */
+public final class BenchmarkSeries {
+
+    private static final BenchmarkSeries EMPTY = new BenchmarkSeries(null, new long[0], new double[0], new double[0]);
+
+    private final BenchmarkIndex index;
+    private final long[] epochDays;
+    private final double[] levels;
+    private final double[] returns;
+
+    private BenchmarkSeries(BenchmarkIndex index, long[] epochDays, double[] levels, double[] returns) {
+        this.index = index;
+        this.epochDays = epochDays;
+        this.levels = levels;
+        this.returns = returns;
+    }
+
+    public static BenchmarkSeries empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param dates   기준일 (오름차순, 중복 없음)
+     * @param levels  지수 값
+     * @param returns 일간 수익률 (비율)
+     */
+    public static BenchmarkSeries of(BenchmarkIndex index, LocalDate[] dates, double[] levels, double[] returns) {
+        if (dates.length != levels.length || dates.length != returns.length) {
+            throw new IllegalArgumentException("Benchmark arrays must have the same length");
+        }
+        long[] epochDays = new long[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            epochDays[i] = dates[i].toEpochDay();
+            if (i > 0 && epochDays[i] <= epochDays[i - 1]) {
+                throw new IllegalArgumentException("Benchmark dates must be strictly ascending: " + dates[i]);
+            }
+        }
+        return new BenchmarkSeries(index, epochDays, levels.clone(), returns.clone());
+    }
+
+    public BenchmarkIndex index() {
+        return index;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * 해당 일자의 지수 일간 수익률. 지수가 산출되지 않은 날은 NaN
+     */
+    public double returnOn(LocalDate date) {
+        int i = Arrays.binarySearch(epochDays, date.toEpochDay());
+        return i >= 0 ? returns[i] : Double.NaN;
+    }
+
+    /**
+     * date 이하 마지막 산출일 기준 bars 개 산출일 전 대비 지수 변화율 (비율). 데이터가 부족하면 NaN
+     */
+    public double rateOfChange(LocalDate date, int bars) {
+        int i = Arrays.binarySearch(epochDays, date.toEpochDay());
+        int last = i >= 0 ? i : -i - 2;
+        int first = last - bars;
+        if (last < 0 || first < 0 || levels[first] <= 0) {
+            return Double.NaN;
+        }
+        return levels[last] / levels[first] - 1;
+    }
+}
@@ -0,0 +1,253 @@
+package com.stock.strategy.service.panel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 종목 × 거래일 단위로 종가와 거래량을 원시 배열에 보관하는 읽기 전용 시세 패널.
+ * <p>
+ * 시뮬레이션 시작 시 한 번 적재되며, 이후 엔진/전략/슬리피지 모델은 HTTP 호출 없이 이 패널만 조회한다.
+ * 생성 이후 변경되지 않으므로 여러 스레드에서 공유해도 안전하다.
+ * 종목 코드는 'A' 접두어를 제거한 단축코드로 정규화하여 보관한다.
+ */
+public final class PricePanel {
+
+    public static final int NOT_FOUND = -1;
+
+    private final String[] stockCodes;
+    private final Map<String, Integer> stockIndex;
+    private final LocalDate[] tradingDays;
+    private final long baseEpochDay;
+    // 달력일 오프셋 -> 해당일 이하의 마지막 거래일 인덱스 (O(1) 날짜 조회용)
+    private final int[] floorDayIndex;
+    // [종목][거래일], 결측값은 NaN
+    private final double[][] close;
+    // [종목][거래일], 결측값은 0
+    private final long[][] volume;
+
+    private PricePanel(String[] stockCodes, LocalDate[] tradingDays, double[][] close, long[][] volume) {
+        this.stockCodes = stockCodes;
+        this.tradingDays = tradingDays;
+        this.close = close;
+        this.volume = volume;
+
+        this.stockIndex = new HashMap<>(stockCodes.length * 2);
+        for (int i = 0; i < stockCodes.length; i++) {
+            stockIndex.put(stockCodes[i], i);
+        }
+
+        if (tradingDays.length == 0) {
+            this.baseEpochDay = 0;
+            this.floorDayIndex = new int[0];
+        } else {
+            this.baseEpochDay = tradingDays[0].toEpochDay();
+            int span = (int) (tradingDays[tradingDays.length - 1].toEpochDay() - baseEpochDay) + 1;
+            this.floorDayIndex = new int[span];
+            int day = 0;
+            for (int offset = 0; offset < span; offset++) {
+                while (day + 1 < tradingDays.length && tradingDays[day + 1].toEpochDay() - baseEpochDay <= offset) {
+                    day++;
+                }
+                floorDayIndex[offset] = day;
+            }
+        }
+    }
+
+    public static PricePanel empty() {
+        return new PricePanel(new String[0], new LocalDate[0], new double[0][], new long[0][]);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 'A' 접두어가 붙은 전략 서비스 내부 코드와 주가 서비스의 단축코드를 동일하게 취급하기 위한 정규화
+     */
+    public static String normalize(String stockCode) {
+        if (stockCode == null) return null;
+        return stockCode.startsWith("A") ? stockCode.substring(1) : stockCode;
+    }
+
+    public int stockCount() {
+        return stockCodes.length;
+    }
+
+    public int dayCount() {
+        return tradingDays.length;
+    }
+
+    public String stockCodeAt(int stock) {
+        return stockCodes[stock];
+    }
+
+    public LocalDate dayAt(int day) {
+        return tradingDays[day];
+    }
+
+    public int indexOf(String stockCode) {
+        Integer idx = stockIndex.get(normalize(stockCode));
+        return idx != null ? idx : NOT_FOUND;
+    }
+
+    /**
+     * 해당 날짜가 거래일이면 거래일 인덱스, 아니면 {@link #NOT_FOUND}
+     */
+    public int dayIndexOf(LocalDate date) {
+        int floor = floorDayIndexOf(date);
+        return floor != NOT_FOUND && tradingDays[floor].equals(date) ? floor : NOT_FOUND;
+    }
+
+    /**
+     * 해당 날짜 이하의 마지막 거래일 인덱스. 패널 시작 이전이면 {@link #NOT_FOUND}
+     */
+    public int floorDayIndexOf(LocalDate date) {
+        if (tradingDays.length == 0) return NOT_FOUND;
+        long offset = date.toEpochDay() - baseEpochDay;
+        if (offset < 0) return NOT_FOUND;
+        if (offset >= floorDayIndex.length) return tradingDays.length - 1;
+        return floorDayIndex[(int) offset];
+    }
+
+    /**
+     * 해당 날짜 이상의 첫 거래일 인덱스. 패널 종료 이후이면 {@link #NOT_FOUND}
+     */
+    public int ceilDayIndexOf(LocalDate date) {
+        if (tradingDays.length == 0) return NOT_FOUND;
+        int floor = floorDayIndexOf(date);
+        if (floor == NOT_FOUND) return 0;
+        if (tradingDays[floor].equals(date)) return floor;
+        return floor + 1 < tradingDays.length ? floor + 1 : NOT_FOUND;
+    }
+
+    public double close(int stock, int day) {
+        return close[stock][day];
+    }
+
+    public long volume(int stock, int day) {
+        return volume[stock][day];
+    }
+
+    public boolean hasClose(int stock, int day) {
+        return stock != NOT_FOUND && day != NOT_FOUND && !Double.isNaN(close[stock][day]);
+    }
+
+    /**
+     * 해당 거래일 종가. 데이터가 없으면 null
+     */
+    public BigDecimal closeOn(String stockCode, LocalDate date) {
+        int stock = indexOf(stockCode);
+        int day = dayIndexOf(date);
+        if (!hasClose(stock, day)) return null;
+        return BigDecimal.valueOf(close[stock][day]);
+    }
+
+    /**
+     * 해당 거래일 거래량. 데이터가 없으면 0
+     */
+    public long volumeOn(String stockCode, LocalDate date) {
+        int stock = indexOf(stockCode);
+        int day = dayIndexOf(date);
+        if (stock == NOT_FOUND || day == NOT_FOUND) return 0L;
+        return volume[stock][day];
+    }
+
+    /**
+     * [from, to] 구간에서 결측을 제외한 종가를 날짜순으로 반환한다.
+     */
+    public double[] closeWindow(String stockCode, LocalDate from, LocalDate to) {
+        int stock = indexOf(stockCode);
+        int start = ceilDayIndexOf(from);
+        int end = floorDayIndexOf(to);
+        if (stock == NOT_FOUND || start == NOT_FOUND || end == NOT_FOUND || start > end) {
+            return new double[0];
+        }
+
+        double[] row = close[stock];
+        double[] window = new double[end - start + 1];
+        int size = 0;
+        for (int day = start; day <= end; day++) {
+            if (!Double.isNaN(row[day])) {
+                window[size++] = row[day];
+            }
+        }
+        return size == window.length ? window : Arrays.copyOf(window, size);
+    }
+
+    /**
+     * 시세 행을 순서와 무관하게 누적한 뒤 한 번에 원시 배열로 변환하는 빌더.
+     * 행 단위 객체를 만들지 않도록 내부도 원시 배열로 누적한다.
+     */
+    public static final class Builder {
+        private final Map<String, Integer> codeIndex = new HashMap<>();
+        private String[] codes = new String[64];
+        private int[] rowStock = new int[1024];
+        private long[] rowEpochDay = new long[1024];
+        private double[] rowClose = new double[1024];
+        private long[] rowVolume = new long[1024];
+        private int rows;
+
+        private Builder() {
+        }
+
+        public Builder add(String stockCode, LocalDate basDt, BigDecimal closePrice, BigDecimal tradeVolume) {
+            if (stockCode == null || basDt == null || closePrice == null) {
+                return this;
+            }
+            return add(stockCode, basDt, closePrice.doubleValue(), tradeVolume != null ? tradeVolume.longValue() : 0L);
+        }
+
+        public Builder add(String stockCode, LocalDate basDt, double closePrice, long tradeVolume) {
+            String code = normalize(stockCode);
+            Integer stock = codeIndex.get(code);
+            if (stock == null) {
+                stock = codeIndex.size();
+                if (stock == codes.length) {
+                    codes = Arrays.copyOf(codes, codes.length * 2);
+                }
+                codes[stock] = code;
+                codeIndex.put(code, stock);
+            }
+
+            if (rows == rowStock.length) {
+                int capacity = rows * 2;
+                rowStock = Arrays.copyOf(rowStock, capacity);
+                rowEpochDay = Arrays.copyOf(rowEpochDay, capacity);
+                rowClose = Arrays.copyOf(rowClose, capacity);
+                rowVolume = Arrays.copyOf(rowVolume, capacity);
+            }
+            rowStock[rows] = stock;
+            rowEpochDay[rows] = basDt.toEpochDay();
+            rowClose[rows] = closePrice;
+            rowVolume[rows] = tradeVolume;
+            rows++;
+            return this;
+        }
+
+        public PricePanel build() {
+            long[] distinctDays = Arrays.stream(rowEpochDay, 0, rows).distinct().sorted().toArray();
+            LocalDate[] tradingDays = new LocalDate[distinctDays.length];
+            for (int i = 0; i < distinctDays.length; i++) {
+                tradingDays[i] = LocalDate.ofEpochDay(distinctDays[i]);
+            }
+
+            int stockCount = codeIndex.size();
+            double[][] close = new double[stockCount][distinctDays.length];
+            long[][] volume = new long[stockCount][distinctDays.length];
+            for (double[] row : close) {
+                Arrays.fill(row, Double.NaN);
+            }
+
+            for (int i = 0; i < rows; i++) {
+                int day = Arrays.binarySearch(distinctDays, rowEpochDay[i]);
+                close[rowStock[i]][day] = rowClose[i];
+                volume[rowStock[i]][day] = rowVolume[i];
+            }
+
+            return new PricePanel(Arrays.copyOf(codes, stockCount), tradingDays, close, volume);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.stock.strategy.service.panel;
+
+import com.stock.common.dto.StockPriceDto;
+import com.stock.common.utils.DateUtils;
+import com.stock.strategy.client.PriceClient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PricePanelLoader {
+
+    private final PriceClient priceClient;
+
+    /**
+     * 대상 종목들의 기간 시세를 한 번에 적재하여 {@link PricePanel}을 생성합니다.
+     * 주가 서비스의 패널 스트리밍 엔드포인트로 한 번만 요청하며, 실패 시 종목별 기간 조회로 대체합니다.
+     * 이후 시뮬레이션 루프에서는 추가 호출이 발생하지 않습니다.
+     */
+    public PricePanel load(Collection<String> stockCodes, LocalDate startDate, LocalDate endDate) {
+        if (stockCodes == null || stockCodes.isEmpty()) {
+            return PricePanel.empty();
+        }
+
+        Set<String> codes = new LinkedHashSet<>();
+        for (String stockCode : stockCodes) {
+            codes.add(PricePanel.normalize(stockCode));
+        }
+
+        String startDateStr = DateUtils.toLocalDateString(startDate);
+        String endDateStr = DateUtils.toLocalDateString(endDate);
+
+        PricePanel panel;
+        try {
+            PricePanel.Builder builder = PricePanel.builder();
+            priceClient.streamPricePanel(new ArrayList<>(codes), startDateStr, endDateStr, builder::add);
+            panel = builder.build();
+        } catch (Exception e) {
+            log.warn("Price panel stream failed, falling back to per-stock history: {}", e.getMessage());
+            panel = loadPerStock(codes, startDateStr, endDateStr);
+        }
+
+        log.info("Price panel loaded: {} stocks x {} trading days ({} ~ {})",
+                panel.stockCount(), panel.dayCount(), startDate, endDate);
+        return panel;
+    }
+
+    private PricePanel loadPerStock(Set<String> codes, String startDateStr, String endDateStr) {
+        PricePanel.Builder builder = PricePanel.builder();
+        for (String code : codes) {
+            try {
+                List<StockPriceDto> history = priceClient.getPriceHistory(code, startDateStr, endDateStr);
+                if (history == null) continue;
+                for (StockPriceDto price : history) {
+                    builder.add(price.getStockCode() != null ? price.getStockCode() : code,
+                            price.getBasDt(), price.getEndPrice(), price.getVolume());
+                }
+            } catch (Exception e) {
+                log.warn("Failed to load price history for {}: {}", code, e.getMessage());
+            }
+        }
+        return builder.build();
+    }
+}
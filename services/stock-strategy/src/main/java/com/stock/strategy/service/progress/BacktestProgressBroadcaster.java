@@ -0,0 +1,418 @@
+package com.stock.strategy.service.progress;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.strategy.dto.BacktestProgress;
+import com.stock.strategy.dto.SnapshotSeries;
+import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.enums.SimulationStatus;
+import com.stock.strategy.repository.BacktestSimulationRepository;
+import com.stock.strategy.service.SimulationEngine;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.snapshot.SnapshotSeriesReader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 중인 백테스트의 진행률, 다운샘플링된 자산 곡선, 주요 지표를 SSE 로 전달.
+ * <p>
+ * 시뮬레이션 스레드는 거래일마다 {@link Tracker}에 평가 금액만 기록하고, 일정 주기마다 만든 이벤트를
+ * 전송 전용 스레드에 넘긴다. 느린 클라이언트가 있어도 시뮬레이션은 네트워크 쓰기를 기다리지 않는다.
+ * 이벤트는 이전 이벤트 이후 추가된 곡선 점만 담으며, 새 구독자는 처음에 전체 곡선을 받는다.
+ * <p>
+ * 게이트웨이가 구독 요청을 아무 인스턴스로 분산하므로, 실행 중인 인스턴스는 이벤트를 공용 레디스 채널로 발행하고
+ * 모든 인스턴스가 채널을 구독해 자신에게 연결된 구독자에게 전달한다. 새 구독자가 받을 전체 곡선은 발행할 때마다
+ * 레디스 키에 함께 저장한다 (state-ttl 동안 갱신이 없으면 만료되어 실행 인스턴스 중단 시에도 남지 않음).
+ * 하트비트 주기마다 구독 중인 시뮬레이션의 DB 상태를 확인하여, 종료되었는데 complete 이벤트를 받지 못했으면 보낸다.
+ */
+@Slf4j
+@Component
+public class BacktestProgressBroadcaster {
+
+    public static final String PROGRESS_EVENT = "progress";
+    public static final String STATUS_EVENT = "status";
+    public static final String COMPLETE_EVENT = "complete";
+
+    static final String PROGRESS_CHANNEL = "backtest-progress";
+    static final String PROGRESS_KEY_PREFIX = "backtest-progress:";
+
+    private final BacktestSimulationRepository simulationRepository;
+    private final SnapshotSeriesReader snapshotSeriesReader;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration stateTtl;
+    private final int maxCurvePoints;
+    private final long publishIntervalNanos;
+    private final long emitterTimeoutMillis;
+    private final ScheduledExecutorService sender;
+
+    private final Map<Long, Tracker> trackers = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    public BacktestProgressBroadcaster(BacktestSimulationRepository simulationRepository,
+                                       SnapshotSeriesReader snapshotSeriesReader,
+                                       StringRedisTemplate redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       @Value("${backtest.progress.max-curve-points:500}") int maxCurvePoints,
+                                       @Value("${backtest.progress.publish-interval-ms:500}") long publishIntervalMillis,
+                                       @Value("${backtest.progress.emitter-timeout-seconds:3600}") long emitterTimeoutSeconds,
+                                       @Value("${backtest.progress.heartbeat-seconds:15}") long heartbeatSeconds,
+                                       @Value("${backtest.progress.state-ttl-seconds:600}") long stateTtlSeconds) {
+        if (maxCurvePoints < 3) {
+            throw new IllegalArgumentException("Max curve points must be at least 3: " + maxCurvePoints);
+        }
+        this.simulationRepository = simulationRepository;
+        this.snapshotSeriesReader = snapshotSeriesReader;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.stateTtl = Duration.ofSeconds(stateTtlSeconds);
+        this.maxCurvePoints = maxCurvePoints;
+        this.publishIntervalNanos = TimeUnit.MILLISECONDS.toNanos(publishIntervalMillis);
+        this.emitterTimeoutMillis = TimeUnit.SECONDS.toMillis(emitterTimeoutSeconds);
+        this.sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backtest-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (heartbeatSeconds > 0) {
+            sender.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        }
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(PROGRESS_CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    /**
+     * 시뮬레이션 실행 시작. 반환된 리스너를 엔진에 전달한다.
+     * 체크포인트에서 재개하면 이미 저장된 스냅샷으로 곡선 앞부분을 채운다
+     */
+    public SimulationEngine.ProgressListener start(Long simulationId, SimulationStatus status, boolean resumed) {
+        SnapshotSeries seed = null;
+        if (resumed) {
+            try {
+                seed = snapshotSeriesReader.read(simulationId, null, null, maxCurvePoints);
+            } catch (Exception e) {
+                log.warn("Failed to load saved snapshots for progress of simulation {}: {}", simulationId, e.getMessage());
+            }
+        }
+        Tracker tracker = new Tracker(simulationId, status, seed);
+        trackers.put(simulationId, tracker);
+        BacktestProgress event = tracker.event(0);
+        sender.execute(() -> publish(STATUS_EVENT, event, event));
+        return tracker;
+    }
+
+    /**
+     * 시뮬레이션 종료. 마지막 진행 이벤트 뒤에 complete 이벤트를 발행하며, 각 인스턴스는 받은 즉시 구독을 닫는다
+     */
+    public void finish(Long simulationId, SimulationStatus status) {
+        trackers.remove(simulationId);
+        sender.execute(() -> {
+            try {
+                redisTemplate.delete(PROGRESS_KEY_PREFIX + simulationId);
+            } catch (Exception e) {
+                log.warn("Failed to remove progress state of simulation {}: {}", simulationId, e.getMessage());
+            }
+            publish(COMPLETE_EVENT, statusEvent(simulationId, status), null);
+        });
+    }
+
+    /**
+     * 진행 상황 구독. 어느 인스턴스에서든 실행 중이면 전체 곡선을 담은 progress 이벤트, 대기 중이면 status 이벤트를 먼저 보내고,
+     * 이미 끝난 시뮬레이션이면 complete 이벤트 후 바로 닫는다
+     */
+    public SseEmitter subscribe(Long simulationId) {
+        BacktestSimulation simulation = simulationRepository.findById(simulationId)
+                .orElseThrow(() -> new IllegalArgumentException("Simulation not found: " + simulationId));
+        SimulationStatus status = simulation.getStatus();
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> unregister(simulationId, emitter));
+        emitter.onTimeout(() -> unregister(simulationId, emitter));
+        emitter.onError(e -> unregister(simulationId, emitter));
+
+        // 전송 스레드에서 등록해야 이전 이벤트와 순서가 섞이지 않음
+        sender.execute(() -> {
+            BacktestProgress state = readState(simulationId);
+            if (state == null && isTerminal(status)) {
+                send(simulationId, emitter, COMPLETE_EVENT, statusEvent(simulationId, status));
+                emitter.complete();
+                return;
+            }
+            emitters.computeIfAbsent(simulationId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+            if (state != null) {
+                send(simulationId, emitter, PROGRESS_EVENT, state);
+            } else {
+                send(simulationId, emitter, STATUS_EVENT, statusEvent(simulationId, status));
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 이벤트를 공용 채널로 발행. state 가 있으면 새 구독자용 전체 상태로 함께 저장 (전송 스레드에서 호출)
+     */
+    private void publish(String name, BacktestProgress event, BacktestProgress state) {
+        try {
+            if (state != null) {
+                redisTemplate.opsForValue().set(PROGRESS_KEY_PREFIX + event.getSimulationId(),
+                        objectMapper.writeValueAsString(state), stateTtl);
+            }
+            redisTemplate.convertAndSend(PROGRESS_CHANNEL, objectMapper.writeValueAsString(new ProgressMessage(name, event)));
+        } catch (Exception e) {
+            log.warn("Failed to publish {} event of simulation {}: {}", name, event.getSimulationId(), e.getMessage());
+        }
+    }
+
+    // 레디스 구독 스레드에서 호출. 이 인스턴스에 구독자가 있으면 전송 스레드에서 전달
+    void onMessage(Message message, byte[] pattern) {
+        ProgressMessage received;
+        try {
+            received = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), ProgressMessage.class);
+        } catch (Exception e) {
+            log.warn("Ignoring malformed backtest progress message: {}", e.getMessage());
+            return;
+        }
+        Long simulationId = received.progress().getSimulationId();
+        if (!emitters.containsKey(simulationId)) {
+            return;
+        }
+        sender.execute(() -> {
+            if (COMPLETE_EVENT.equals(received.event())) {
+                complete(simulationId, received.progress().getStatus());
+            } else {
+                broadcast(simulationId, received.event(), received.progress());
+            }
+        });
+    }
+
+    private BacktestProgress readState(Long simulationId) {
+        try {
+            String state = redisTemplate.opsForValue().get(PROGRESS_KEY_PREFIX + simulationId);
+            return state != null ? objectMapper.readValue(state, BacktestProgress.class) : null;
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to read progress state of simulation {}: {}", simulationId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void broadcast(Long simulationId, String name, BacktestProgress event) {
+        List<SseEmitter> subscribers = emitters.get(simulationId);
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(simulationId, emitter, name, event);
+        }
+    }
+
+    private void complete(Long simulationId, SimulationStatus status) {
+        List<SseEmitter> subscribers = emitters.remove(simulationId);
+        if (subscribers == null) {
+            return;
+        }
+        BacktestProgress event = statusEvent(simulationId, status);
+        for (SseEmitter emitter : subscribers) {
+            send(simulationId, emitter, COMPLETE_EVENT, event);
+            emitter.complete();
+        }
+    }
+
+    private void send(Long simulationId, SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            unregister(simulationId, emitter);
+        }
+    }
+
+    private void unregister(Long simulationId, SseEmitter emitter) {
+        emitters.computeIfPresent(simulationId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    // 프록시 유휴 연결 종료 방지, complete 이벤트를 받지 못한 작업(실행 인스턴스 중단 등)의 종료 확인
+    private void heartbeat() {
+        try {
+            for (Map.Entry<Long, List<SseEmitter>> entry : emitters.entrySet()) {
+                Long simulationId = entry.getKey();
+                if (!trackers.containsKey(simulationId)) {
+                    SimulationStatus status = simulationRepository.findById(simulationId)
+                            .map(BacktestSimulation::getStatus)
+                            .orElse(SimulationStatus.FAILED);
+                    // 진행 상태가 남아 있으면 실행 인스턴스가 마지막 이벤트와 complete 를 발행하는 중
+                    if (isTerminal(status) && !Boolean.TRUE.equals(redisTemplate.hasKey(PROGRESS_KEY_PREFIX + simulationId))) {
+                        complete(simulationId, status);
+                        continue;
+                    }
+                }
+                for (SseEmitter emitter : entry.getValue()) {
+                    try {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        unregister(simulationId, emitter);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Backtest progress heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isTerminal(SimulationStatus status) {
+        return status == SimulationStatus.COMPLETED || status == SimulationStatus.FAILED || status == SimulationStatus.CANCELLED;
+    }
+
+    private static BacktestProgress statusEvent(Long simulationId, SimulationStatus status) {
+        return BacktestProgress.builder()
+                .simulationId(simulationId)
+                .status(status)
+                .curveDates(List.of())
+                .curveValues(new double[0])
+                .build();
+    }
+
+    /**
+     * 인스턴스 간 전달하는 이벤트 (SSE 이벤트 이름과 내용)
+     */
+    record ProgressMessage(String event, BacktestProgress progress) {
+    }
+
+    /**
+     * 시뮬레이션 하나의 진행 상황. onDay 는 시뮬레이션 스레드, event 는 전송 스레드에서도 호출된다
+     */
+    final class Tracker implements SimulationEngine.ProgressListener {
+
+        private final Long simulationId;
+        private final SimulationStatus status;
+        private final List<LocalDate> curveDates = new ArrayList<>();
+        private double[] curveValues = new double[64];
+        private int stride;
+        private long lastPublishNanos;
+        private int publishedPoints;
+
+        // 마지막 처리 거래일 기준 상태
+        private int processedDays;
+        private int totalDays;
+        private LocalDate currentDate;
+        private double currentValue;
+        private PerformanceAccumulator.PerformanceMetrics metrics;
+
+        private Tracker(Long simulationId, SimulationStatus status, SnapshotSeries seed) {
+            this.simulationId = simulationId;
+            this.status = status;
+            if (seed != null) {
+                for (int i = 0; i < seed.getDates().size(); i++) {
+                    append(seed.getDates().get(i), seed.getTotalValues()[i]);
+                }
+            }
+        }
+
+        @Override
+        public void onDay(int day, int totalDays, LocalDate date, PerformanceAccumulator metrics) {
+            if (stride == 0) {
+                stride = Math.max(1, (totalDays + maxCurvePoints - 1) / maxCurvePoints);
+            }
+            boolean last = day == totalDays - 1;
+            long now = System.nanoTime();
+            boolean publish = last || now - lastPublishNanos >= publishIntervalNanos;
+
+            synchronized (this) {
+                if (day % stride == 0 || last) {
+                    append(date, metrics.currentValue());
+                }
+                this.processedDays = day + 1;
+                this.totalDays = totalDays;
+                this.currentDate = date;
+                this.currentValue = metrics.currentValue();
+                if (publish) {
+                    this.metrics = metrics.result();
+                }
+            }
+            if (!publish) {
+                return;
+            }
+
+            lastPublishNanos = now;
+            BacktestProgress event = event(publishedPoints);
+            BacktestProgress state = event(0);
+            publishedPoints = event.getCurveOffset() + event.getCurveDates().size();
+            sender.execute(() -> publish(PROGRESS_EVENT, event, state));
+        }
+
+        private void append(LocalDate date, double value) {
+            int size = curveDates.size();
+            // 재개 시 체크포인트 이후 저장된 스냅샷과 겹치는 날짜는 건너뜀
+            if (size > 0 && !date.isAfter(curveDates.get(size - 1))) {
+                return;
+            }
+            if (size == curveValues.length) {
+                curveValues = Arrays.copyOf(curveValues, size * 2);
+            }
+            curveDates.add(date);
+            curveValues[size] = value;
+        }
+
+        /**
+         * fromPoint 번째 곡선 점부터 담은 이벤트
+         */
+        synchronized BacktestProgress event(int fromPoint) {
+            int size = curveDates.size();
+            int offset = Math.min(fromPoint, size);
+            PerformanceAccumulator.RollingMetrics rolling = metrics != null ? metrics.rolling() : null;
+
+            return BacktestProgress.builder()
+                    .simulationId(simulationId)
+                    .status(status)
+                    .processedDays(processedDays)
+                    .totalDays(totalDays)
+                    .percent(totalDays > 0
+                            ? BigDecimal.valueOf(processedDays * 100.0 / totalDays).setScale(2, RoundingMode.HALF_UP)
+                            : BigDecimal.ZERO)
+                    .currentDate(currentDate)
+                    .totalValue(currentDate != null ? BigDecimal.valueOf(currentValue).setScale(2, RoundingMode.HALF_UP) : null)
+                    .totalReturn(metrics != null ? PerformanceAccumulator.percent(metrics.totalReturn()) : null)
+                    .cagr(metrics != null ? PerformanceAccumulator.percent(metrics.cagr()) : null)
+                    .mdd(metrics != null ? PerformanceAccumulator.percent(metrics.maxDrawdown()) : null)
+                    .sharpeRatio(metrics != null ? PerformanceAccumulator.ratio(metrics.sharpeRatio()) : null)
+                    .rollingReturn(rolling != null ? PerformanceAccumulator.percent(rolling.totalReturn()) : null)
+                    .rollingSharpeRatio(rolling != null ? PerformanceAccumulator.ratio(rolling.sharpeRatio()) : null)
+                    .curveOffset(offset)
+                    .curveDates(List.copyOf(curveDates.subList(offset, size)))
+                    .curveValues(Arrays.copyOfRange(curveValues, offset, size))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.stock.strategy.service.queue;
+
+import com.stock.strategy.enums.BacktestJobType;
+
+import java.time.Duration;
+
+/**
+ * 워커가 가져간 작업. payload 는 작업 유형별 요청 JSON, attempts 는 이번 실행을 포함한 실행 횟수
+ */
+public record BacktestJob(Long id, BacktestJobType type, String userId, Long simulationId, String optimizationId,
+                          String payload, int attempts, Duration waited) {
+}
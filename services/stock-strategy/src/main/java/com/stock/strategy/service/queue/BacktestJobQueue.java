@@ -0,0 +1,221 @@
+package com.stock.strategy.service.queue;
+
+import com.stock.strategy.dto.BacktestJobInfo;
+import com.stock.strategy.enums.BacktestJobStatus;
+import com.stock.strategy.enums.BacktestJobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * DB 테이블(TB_BACKTEST_JOB) 기반 백테스트 작업 큐.
+ * <p>
+ * 여러 인스턴스의 워커가 {@code SELECT ... FOR UPDATE SKIP LOCKED}로 서로 다른 작업을 가져가며,
+ * 우선순위(작을수록 먼저) → 등록 순서로 실행하고 사용자별 실행 중 작업 수를 제한한다.
+ * 실행 중 작업은 워커가 주기적으로 heartbeat_at 을 갱신하며, lease 시간 동안 갱신이 없으면
+ * 인스턴스가 중단된 것으로 보고 다시 대기열로 돌린다. 시각 비교는 모두 DB 시계 기준이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BacktestJobQueue {
+
+    // 사용자를 알 수 없는 작업은 모두 하나의 익명 사용자로 묶어 동시 실행 수를 제한
+    public static final String ANONYMOUS_USER = "anonymous";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO TB_BACKTEST_JOB (job_type, priority, user_id, simulation_id, optimization_id, payload, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 'QUEUED', NOW(3))";
+
+    // 사용자별 제한은 잠금 없이 센 실행 중 작업 수 기준이라 인스턴스 간 동시 claim 시 일시적으로 1건 초과할 수 있음
+    // user_id 가 NULL 인 행도 익명 사용자와 같은 묶음으로 센다 (NULL = NULL 은 참이 아니므로)
+    private static final String SELECT_NEXT_SQL =
+            "SELECT j.id, j.job_type, j.user_id, j.simulation_id, j.optimization_id, j.payload, j.attempts, " +
+            "TIMESTAMPDIFF(MICROSECOND, j.created_at, NOW(3)) AS wait_micros " +
+            "FROM TB_BACKTEST_JOB j " +
+            "WHERE j.status = 'QUEUED' " +
+            "AND (SELECT COUNT(*) FROM TB_BACKTEST_JOB r " +
+            "WHERE COALESCE(r.user_id, '" + ANONYMOUS_USER + "') = COALESCE(j.user_id, '" + ANONYMOUS_USER + "') " +
+            "AND r.status = 'RUNNING') < ? " +
+            "ORDER BY j.priority, j.id LIMIT 1 FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_RUNNING_SQL =
+            "UPDATE TB_BACKTEST_JOB SET status = 'RUNNING', worker = ?, attempts = attempts + 1, " +
+            "started_at = NOW(3), heartbeat_at = NOW(3) WHERE id = ?";
+
+    private static final String FINISH_SQL =
+            "UPDATE TB_BACKTEST_JOB SET status = ?, finished_at = NOW(3) WHERE id = ? AND status = 'RUNNING'";
+
+    // SET 절은 왼쪽부터 적용되므로 finished_at 은 바뀐 status 기준
+    private static final String REQUEUE_STALE_SQL =
+            "UPDATE TB_BACKTEST_JOB SET " +
+            "status = CASE WHEN cancel_requested THEN 'CANCELLED' WHEN attempts >= ? THEN 'FAILED' ELSE 'QUEUED' END, " +
+            "worker = NULL, finished_at = IF(status = 'QUEUED', NULL, NOW(3)) " +
+            "WHERE status = 'RUNNING' AND heartbeat_at < DATE_SUB(NOW(3), INTERVAL ? SECOND)";
+
+    private static final String CANCEL_QUEUED_SQL =
+            "UPDATE TB_BACKTEST_JOB SET status = 'CANCELLED', cancel_requested = TRUE, finished_at = NOW(3) " +
+            "WHERE id = ? AND status = 'QUEUED'";
+
+    private static final String CANCEL_RUNNING_SQL =
+            "UPDATE TB_BACKTEST_JOB SET cancel_requested = TRUE WHERE id = ? AND status = 'RUNNING'";
+
+    private static final String SELECT_INFO_SQL =
+            "SELECT id, job_type, priority, user_id, simulation_id, optimization_id, status, cancel_requested, attempts, " +
+            "created_at, started_at, finished_at FROM TB_BACKTEST_JOB ";
+
+    private static final String DEPTH_SQL =
+            "SELECT job_type, COUNT(*) AS depth FROM TB_BACKTEST_JOB WHERE status = 'QUEUED' GROUP BY job_type";
+
+    private static final RowMapper<BacktestJobInfo> INFO_MAPPER = (rs, rowNum) -> BacktestJobInfo.builder()
+            .jobId(rs.getLong("id"))
+            .type(BacktestJobType.valueOf(rs.getString("job_type")))
+            .priority(rs.getInt("priority"))
+            .userId(rs.getString("user_id"))
+            .simulationId(rs.getObject("simulation_id", Long.class))
+            .optimizationId(rs.getString("optimization_id"))
+            .status(BacktestJobStatus.valueOf(rs.getString("status")))
+            .cancelRequested(rs.getBoolean("cancel_requested"))
+            .attempts(rs.getInt("attempts"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .startedAt(toLocalDateTime(rs.getTimestamp("started_at")))
+            .finishedAt(toLocalDateTime(rs.getTimestamp("finished_at")))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업 등록 후 작업 ID 반환. userId 가 없으면 익명 사용자로 등록
+     */
+    public Long enqueue(BacktestJobType type, String userId, Long simulationId, String optimizationId, String payload) {
+        String owner = userId == null || userId.isBlank() ? ANONYMOUS_USER : userId;
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, type.name());
+            ps.setInt(2, type.getPriority());
+            ps.setString(3, owner);
+            ps.setObject(4, simulationId);
+            ps.setString(5, optimizationId);
+            ps.setString(6, payload);
+            return ps;
+        }, keyHolder);
+
+        Long jobId = keyHolder.getKey().longValue();
+        log.info("Backtest job {} queued: type={}, user={}", jobId, type, owner);
+        return jobId;
+    }
+
+    /**
+     * 실행 가능한 작업 중 우선순위가 가장 높은 작업 1건을 가져와 실행 중으로 표시
+     */
+    @Transactional
+    public Optional<BacktestJob> claim(String worker, int perUserLimit) {
+        List<BacktestJob> next = jdbcTemplate.query(SELECT_NEXT_SQL, (rs, rowNum) -> new BacktestJob(
+                rs.getLong("id"),
+                BacktestJobType.valueOf(rs.getString("job_type")),
+                rs.getString("user_id"),
+                rs.getObject("simulation_id", Long.class),
+                rs.getString("optimization_id"),
+                rs.getString("payload"),
+                rs.getInt("attempts") + 1,
+                Duration.ofNanos(rs.getLong("wait_micros") * 1_000L)), perUserLimit);
+        if (next.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BacktestJob job = next.get(0);
+        jdbcTemplate.update(MARK_RUNNING_SQL, worker, job.id());
+        return Optional.of(job);
+    }
+
+    public void heartbeat(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE TB_BACKTEST_JOB SET heartbeat_at = NOW(3) WHERE status = 'RUNNING' AND id IN ("
+                + placeholders(jobIds.size()) + ")", jobIds.toArray());
+    }
+
+    /**
+     * 주어진 실행 중 작업 중 취소가 요청된 작업 ID
+     */
+    public Set<Long> cancelRequested(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM TB_BACKTEST_JOB WHERE cancel_requested = TRUE AND id IN ("
+                + placeholders(jobIds.size()) + ")", Long.class, jobIds.toArray()));
+    }
+
+    /**
+     * lease 동안 하트비트가 없는 실행 중 작업을 대기열로 되돌림. 최대 실행 횟수에 도달했으면 실패 처리
+     */
+    public int requeueStale(Duration lease, int maxAttempts) {
+        int requeued = jdbcTemplate.update(REQUEUE_STALE_SQL, maxAttempts, lease.toSeconds());
+        if (requeued > 0) {
+            log.warn("{} backtest jobs lost their worker heartbeat and were released", requeued);
+        }
+        return requeued;
+    }
+
+    public void finish(Long jobId, BacktestJobStatus status) {
+        jdbcTemplate.update(FINISH_SQL, status.name(), jobId);
+    }
+
+    /**
+     * 취소 요청. 대기 중이면 바로 취소하고, 실행 중이면 워커가 다음 확인 주기에 중단한다
+     */
+    public Optional<BacktestJobInfo> cancel(Long jobId) {
+        if (jdbcTemplate.update(CANCEL_QUEUED_SQL, jobId) == 0) {
+            jdbcTemplate.update(CANCEL_RUNNING_SQL, jobId);
+        }
+        return find(jobId);
+    }
+
+    public Optional<BacktestJobInfo> find(Long jobId) {
+        return jdbcTemplate.query(SELECT_INFO_SQL + "WHERE id = ?", INFO_MAPPER, jobId).stream().findFirst();
+    }
+
+    public Optional<BacktestJobInfo> findByOptimizationId(String optimizationId) {
+        return jdbcTemplate.query(SELECT_INFO_SQL + "WHERE optimization_id = ?", INFO_MAPPER, optimizationId).stream().findFirst();
+    }
+
+    /**
+     * 유형별 대기 작업 수
+     */
+    public Map<BacktestJobType, Long> depth() {
+        Map<BacktestJobType, Long> depth = new EnumMap<>(BacktestJobType.class);
+        jdbcTemplate.query(DEPTH_SQL, rs -> {
+            depth.put(BacktestJobType.valueOf(rs.getString("job_type")), rs.getLong("depth"));
+        });
+        return depth;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
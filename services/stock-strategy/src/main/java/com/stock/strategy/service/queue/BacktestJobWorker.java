@@ -0,0 +1,260 @@
+package com.stock.strategy.service.queue;
+
+import com.stock.strategy.enums.BacktestJobStatus;
+import com.stock.strategy.enums.BacktestJobType;
+import com.stock.strategy.service.BacktestService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 작업 큐에서 백테스트/최적화 작업을 가져와 실행하는 인스턴스별 워커 풀.
+ * <p>
+ * 폴링 스레드 하나가 poll-interval 마다 실행 중 작업의 하트비트 갱신, 취소 요청 확인, 중단된 작업 회수,
+ * 대기열 지표 갱신을 수행하고 빈 워커 수만큼 작업을 가져온다. 작업은 workers 크기의 전용 풀에서 실행된다.
+ * <ul>
+ *     <li>backtest.queue.depth (type): 유형별 대기 작업 수 (전체 인스턴스 합산)</li>
+ *     <li>backtest.queue.wait (type): 등록부터 실행 시작까지 대기 시간</li>
+ *     <li>backtest.queue.running: 이 인스턴스에서 실행 중인 작업 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class BacktestJobWorker {
+
+    private final BacktestJobQueue jobQueue;
+    private final BacktestService backtestService;
+    private final int workers;
+    private final int perUserLimit;
+    private final long pollIntervalMillis;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final String workerId;
+
+    private final ExecutorService executor;
+    private final ScheduledExecutorService poller;
+    private final Map<Long, RunningJob> running = new ConcurrentHashMap<>();
+
+    private final Map<BacktestJobType, AtomicLong> depth = new EnumMap<>(BacktestJobType.class);
+    private final Map<BacktestJobType, Timer> waitTimers = new EnumMap<>(BacktestJobType.class);
+
+    public BacktestJobWorker(BacktestJobQueue jobQueue,
+                             BacktestService backtestService,
+                             MeterRegistry meterRegistry,
+                             @Value("${backtest.queue.workers:2}") int workers,
+                             @Value("${backtest.queue.per-user-limit:2}") int perUserLimit,
+                             @Value("${backtest.queue.poll-interval-ms:1000}") long pollIntervalMillis,
+                             @Value("${backtest.queue.lease-seconds:60}") long leaseSeconds,
+                             @Value("${backtest.queue.max-attempts:3}") int maxAttempts) {
+        if (workers <= 0 || perUserLimit <= 0 || pollIntervalMillis <= 0 || leaseSeconds <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Backtest queue settings must be positive");
+        }
+        if (TimeUnit.SECONDS.toMillis(leaseSeconds) <= pollIntervalMillis * 2) {
+            throw new IllegalArgumentException("Backtest queue lease must be longer than two poll intervals");
+        }
+        this.jobQueue = jobQueue;
+        this.backtestService = backtestService;
+        this.workers = workers;
+        this.perUserLimit = perUserLimit;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.maxAttempts = maxAttempts;
+        this.workerId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "backtest-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backtest-queue-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (BacktestJobType type : BacktestJobType.values()) {
+            AtomicLong queued = new AtomicLong();
+            depth.put(type, queued);
+            Gauge.builder("backtest.queue.depth", queued, AtomicLong::get)
+                    .description("Queued backtest jobs")
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            waitTimers.put(type, Timer.builder("backtest.queue.wait")
+                    .description("Time from enqueue to worker start")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("backtest.queue.running", running, Map::size)
+                .description("Backtest jobs running on this instance")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Backtest queue worker {} started: {} workers, per-user limit {}", workerId, workers, perUserLimit);
+        poller.scheduleWithFixedDelay(this::poll, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중 작업은 하트비트가 끊기면 다른 인스턴스가 체크포인트부터 이어서 실행
+        poller.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    void poll() {
+        try {
+            if (!running.isEmpty()) {
+                jobQueue.heartbeat(running.keySet());
+                cancelRequestedJobs(jobQueue.cancelRequested(running.keySet()));
+            }
+            jobQueue.requeueStale(lease, maxAttempts);
+
+            Map<BacktestJobType, Long> queued = jobQueue.depth();
+            depth.forEach((type, gauge) -> gauge.set(queued.getOrDefault(type, 0L)));
+
+            while (running.size() < workers) {
+                Optional<BacktestJob> job = jobQueue.claim(workerId, perUserLimit);
+                if (job.isEmpty()) {
+                    break;
+                }
+                dispatch(job.get());
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 주기 실행이 취소되므로 기록만 하고 다음 주기에 재시도
+            log.error("Backtest queue poll failed", e);
+        }
+    }
+
+    private void dispatch(BacktestJob job) {
+        waitTimers.get(job.type()).record(job.waited());
+        log.info("Backtest job {} started on {}: type={}, user={}, attempt {}, waited {} ms",
+                job.id(), workerId, job.type(), job.userId(), job.attempts(), job.waited().toMillis());
+
+        // 실행이 바로 끝나도 목록에서 제거되도록 등록 후 제출
+        RunningJob runningJob = new RunningJob(job);
+        running.put(job.id(), runningJob);
+        executor.execute(() -> execute(runningJob));
+    }
+
+    private void execute(RunningJob runningJob) {
+        BacktestJob job = runningJob.job;
+        try {
+            BacktestJobStatus status;
+            if (!runningJob.attach(Thread.currentThread())) {
+                status = BacktestJobStatus.CANCELLED;
+            } else {
+                try {
+                    status = switch (job.type()) {
+                        case BACKTEST -> backtestService.runBacktestJob(job);
+                        case OPTIMIZATION -> backtestService.runOptimizationJob(job);
+                    };
+                } catch (Exception e) {
+                    log.error("Backtest job {} failed", job.id(), e);
+                    status = BacktestJobStatus.FAILED;
+                } finally {
+                    runningJob.detach();
+                }
+            }
+
+            // 취소 인터럽트로 DB 호출 등이 실패한 경우도 취소로 기록
+            if (runningJob.cancelling && status == BacktestJobStatus.FAILED) {
+                status = BacktestJobStatus.CANCELLED;
+            }
+            jobQueue.finish(job.id(), status);
+            log.info("Backtest job {} finished: {}", job.id(), status);
+        } finally {
+            running.remove(job.id());
+        }
+    }
+
+    private void cancelRequestedJobs(Set<Long> jobIds) {
+        for (Long jobId : jobIds) {
+            RunningJob runningJob = running.get(jobId);
+            if (runningJob == null || runningJob.cancelling) {
+                continue;
+            }
+            log.info("Cancelling backtest job {}", jobId);
+
+            BacktestJob job = runningJob.job;
+            if (job.type() == BacktestJobType.OPTIMIZATION) {
+                // 최적화는 공용 풀에서 실행되므로 남은 조합을 건너뛰도록 요청
+                runningJob.cancelling = true;
+                backtestService.cancelOptimization(job.optimizationId());
+            } else {
+                // 시뮬레이션 루프가 거래일마다 인터럽트를 확인
+                runningJob.interrupt();
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * 실행 중 작업과 실행 스레드. 취소 인터럽트가 작업 종료 후 같은 스레드의 다음 작업에 닿지 않도록
+     * 스레드 연결/해제와 인터럽트를 같은 잠금 안에서 처리한다.
+     */
+    private static final class RunningJob {
+
+        private final BacktestJob job;
+        private volatile boolean cancelling;
+        private Thread thread;
+
+        private RunningJob(BacktestJob job) {
+            this.job = job;
+        }
+
+        /**
+         * 실행 스레드 연결. 시작 전에 이미 취소됐으면 false
+         */
+        private synchronized boolean attach(Thread current) {
+            if (cancelling) {
+                return false;
+            }
+            thread = current;
+            return true;
+        }
+
+        private synchronized void detach() {
+            thread = null;
+            // 해제 전에 도착한 인터럽트가 풀 스레드에 남지 않도록 정리
+            Thread.interrupted();
+        }
+
+        private synchronized void interrupt() {
+            cancelling = true;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+}
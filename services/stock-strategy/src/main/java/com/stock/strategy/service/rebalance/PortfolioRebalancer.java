@@ -0,0 +1,151 @@
+package com.stock.strategy.service.rebalance;
+
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.PortfolioHolding;
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.panel.PricePanel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 목표 비중으로 포트폴리오를 맞추는 주문 생성기 (전략 공통).
+ * <ol>
+ *     <li>목표에 없는 보유 종목은 전량 매도 (held 로 지정한 종목은 그대로 보유)</li>
+ *     <li>목표 종목은 목표 금액과 현재 평가 금액의 차이만큼 매수/매도</li>
+ * </ol>
+ * 차이가 1주 가격 이하이거나, 총자산 대비 이탈이 no-trade band 미만이거나,
+ * 거래 금액이 최소 거래 금액 미만이면 주문을 만들지 않는다.
+ */
+public final class PortfolioRebalancer {
+
+    private final BigDecimal noTradeBand;
+    private final BigDecimal minTradeAmount;
+
+    public PortfolioRebalancer(BigDecimal noTradeBand, BigDecimal minTradeAmount) {
+        this.noTradeBand = noTradeBand != null ? noTradeBand : BigDecimal.ZERO;
+        this.minTradeAmount = minTradeAmount != null ? minTradeAmount : BigDecimal.ZERO;
+        if (this.noTradeBand.signum() < 0 || this.minTradeAmount.signum() < 0) {
+            throw new IllegalArgumentException("No-trade band and minimum trade amount must not be negative");
+        }
+    }
+
+    public static PortfolioRebalancer of(BacktestRequest request) {
+        return new PortfolioRebalancer(request.getRebalanceBand(), request.getMinTradeAmount());
+    }
+
+    /**
+     * 총자산을 목표 종목 수로 균등 배분
+     */
+    public List<TradeOrder> rebalanceEqualWeight(LocalDate date, Portfolio portfolio, List<String> targets, PricePanel prices) {
+        return rebalanceEqualWeight(date, portfolio, targets, portfolio.getTotalValue(), prices);
+    }
+
+    /**
+     * 투자 금액을 목표 종목 수로 균등 배분
+     */
+    public List<TradeOrder> rebalanceEqualWeight(LocalDate date, Portfolio portfolio, List<String> targets,
+                                                 BigDecimal investableValue, PricePanel prices) {
+        BigDecimal[] targetValues = new BigDecimal[targets.size()];
+        if (!targets.isEmpty()) {
+            BigDecimal targetValuePerStock = investableValue.divide(BigDecimal.valueOf(targets.size()), 2, RoundingMode.HALF_UP);
+            Arrays.fill(targetValues, targetValuePerStock);
+        }
+        return generate(date, portfolio, targets, targetValues, prices, Set.of());
+    }
+
+    /**
+     * 투자 금액을 목표 비중 벡터(targets 와 같은 순서)대로 배분. 비중이 0 이하인 종목은 목표에서 제외
+     */
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> targets, double[] weights,
+                                      BigDecimal investableValue, PricePanel prices) {
+        return rebalance(date, portfolio, targets, weights, investableValue, prices, Set.of());
+    }
+
+    /**
+     * 목표 비중 벡터로 배분하되, held 에 포함된 보유 종목은 목표에서 빠져도 매도/조정하지 않고 그대로 둔다
+     */
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> targets, double[] weights,
+                                      BigDecimal investableValue, PricePanel prices, Set<String> held) {
+        if (targets.size() != weights.length) {
+            throw new IllegalArgumentException("Targets and weights must have the same length");
+        }
+        List<String> weighted = new ArrayList<>(targets.size());
+        List<BigDecimal> targetValues = new ArrayList<>(targets.size());
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                weighted.add(targets.get(i));
+                targetValues.add(investableValue.multiply(BigDecimal.valueOf(weights[i])).setScale(2, RoundingMode.HALF_UP));
+            }
+        }
+        return generate(date, portfolio, weighted, targetValues.toArray(new BigDecimal[0]), prices, held);
+    }
+
+    private List<TradeOrder> generate(LocalDate date, Portfolio portfolio, List<String> targets,
+                                      BigDecimal[] targetValues, PricePanel prices, Set<String> held) {
+        List<TradeOrder> orders = new ArrayList<>();
+        Map<String, PortfolioHolding> holdings = portfolio.getHoldings();
+
+        Map<String, Integer> targetIndex = new HashMap<>(targets.size() * 2);
+        for (int i = 0; i < targets.size(); i++) {
+            targetIndex.putIfAbsent(targets.get(i), i);
+        }
+
+        // 1. 목표에 없는 보유 종목 전량 매도
+        for (Map.Entry<String, PortfolioHolding> entry : holdings.entrySet()) {
+            if (!targetIndex.containsKey(entry.getKey()) && !held.contains(entry.getKey())) {
+                PortfolioHolding holding = entry.getValue();
+                orders.add(order(entry.getKey(), OrderType.SELL, holding.getQuantity(), holding.getCurrentPrice(), date));
+            }
+        }
+
+        // 2. 목표 종목 차이 조정 (거래일 인덱스는 한 번만 조회)
+        BigDecimal bandAmount = portfolio.getTotalValue().multiply(noTradeBand);
+        int day = prices.dayIndexOf(date);
+        for (int i = 0; i < targets.size(); i++) {
+            String stockCode = targets.get(i);
+            if (targetIndex.get(stockCode) != i) continue;
+
+            int stock = prices.indexOf(stockCode);
+            if (!prices.hasClose(stock, day)) continue;
+            BigDecimal currentPrice = BigDecimal.valueOf(prices.close(stock, day));
+
+            PortfolioHolding holding = holdings.get(stockCode);
+            BigDecimal currentValue = holding != null ? holding.getMarketValue() : BigDecimal.ZERO;
+            BigDecimal diff = targetValues[i].subtract(currentValue);
+            BigDecimal drift = diff.abs();
+
+            if (drift.compareTo(currentPrice) <= 0 || drift.compareTo(bandAmount) < 0) continue;
+
+            int quantity = drift.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
+            if (quantity <= 0 || currentPrice.multiply(BigDecimal.valueOf(quantity)).compareTo(minTradeAmount) < 0) continue;
+
+            if (diff.signum() > 0) {
+                orders.add(order(stockCode, OrderType.BUY, quantity, currentPrice, date));
+            } else if (holding != null && holding.getQuantity() >= quantity) {
+                orders.add(order(stockCode, OrderType.SELL, quantity, currentPrice, date));
+            }
+        }
+
+        return orders;
+    }
+
+    private static TradeOrder order(String stockCode, OrderType orderType, int quantity, BigDecimal price, LocalDate date) {
+        return TradeOrder.builder()
+                .stockCode(stockCode)
+                .orderType(orderType)
+                .quantity(quantity)
+                .price(price)
+                .orderDate(date)
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package com.stock.strategy.service.robustness;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 순환 블록 부트스트랩으로 수익 시계열을 재표본 추출해 경로별 CAGR/MDD/Sharpe 분포를 계산.
+ * <p>
+ * 각 경로는 임의 시작점에서 blockLength 개씩 연속 구간을 이어 붙여 원래 길이의 시계열을 만든다 (끝에 닿으면 처음으로 순환).
+ * 경로마다 배열을 새로 만들지 않고 원본 배열을 인덱스로 읽으며 지표를 한 번에 누적한다.
+ * 경로는 fork/join 으로 나누어 계산하며, 분할 시점마다 {@link SplittableRandom#split()}으로 난수열을 나누므로
+ * 같은 seed 면 스레드 수/실행 순서와 관계없이 같은 결과가 나온다.
+ */
+public final class BlockBootstrap {
+
+    // 작업 하나가 순차로 계산하는 경로 수
+    private static final int LEAF_PATHS = 256;
+
+    /**
+     * 시계열 누적 방식
+     */
+    public enum Accumulation {
+        COMPOUND,   // 기간 수익률: 자산 × (1 + r)
+        ADDITIVE    // 초기 자본 대비 손익 비율: 자산 + x (매매 손익 시퀀스)
+    }
+
+    /**
+     * 경로별 지표. 인덱스가 경로 번호이며 MDD 는 양수 비율
+     */
+    public record Distribution(double[] cagr, double[] maxDrawdown, double[] sharpe) {
+
+        public int paths() {
+            return cagr.length;
+        }
+    }
+
+    private BlockBootstrap() {
+    }
+
+    /**
+     * 원래 순서 그대로 계산한 지표 (재표본 결과와 같은 계산식)
+     */
+    public static Distribution observed(double[] series, Accumulation accumulation, double years) {
+        Distribution distribution = new Distribution(new double[1], new double[1], new double[1]);
+        simulate(series, accumulation, years, series.length, null, distribution, 0);
+        return distribution;
+    }
+
+    /**
+     * paths 개 재표본 경로의 지표 분포
+     */
+    public static Distribution resample(double[] series, Accumulation accumulation, double years,
+                                        int paths, int blockLength, long seed, ForkJoinPool pool) {
+        if (series.length == 0) {
+            throw new IllegalArgumentException("Cannot resample an empty series");
+        }
+        if (paths <= 0 || blockLength <= 0) {
+            throw new IllegalArgumentException("Paths and block length must be positive");
+        }
+        Distribution distribution = new Distribution(new double[paths], new double[paths], new double[paths]);
+        pool.invoke(new PathTask(series, accumulation, years, Math.min(blockLength, series.length),
+                distribution, 0, paths, new SplittableRandom(seed)));
+        return distribution;
+    }
+
+    /**
+     * 기본 블록 길이: 관측 수의 세제곱근 (자기상관을 보존하면서 블록 수를 충분히 확보)
+     */
+    public static int defaultBlockLength(int observations) {
+        return Math.max(1, (int) Math.round(Math.cbrt(observations)));
+    }
+
+    /**
+     * 정렬된 배열의 분위수 (선형 보간)
+     */
+    public static double quantile(double[] sorted, double probability) {
+        if (sorted.length == 1) {
+            return sorted[0];
+        }
+        double position = probability * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+
+    /**
+     * 지표 배열을 제자리 정렬하고 평균 반환
+     */
+    public static double sortAndAverage(double[] values) {
+        Arrays.sort(values);
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    // random 이 null 이면 원래 순서대로 한 블록으로 읽음
+    private static void simulate(double[] series, Accumulation accumulation, double years, int blockLength,
+                                 SplittableRandom random, Distribution out, int path) {
+        int n = series.length;
+        double equity = 1.0;
+        double peak = 1.0;
+        double maxDrawdown = 0.0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        int count = 0;
+        int position = 0;
+        int remaining = random != null ? 0 : n;
+
+        for (int t = 0; t < n; t++) {
+            if (remaining == 0) {
+                position = random.nextInt(n);
+                remaining = blockLength;
+            }
+            double value = series[position];
+            position = position + 1 == n ? 0 : position + 1;
+            remaining--;
+
+            double periodReturn;
+            if (accumulation == Accumulation.COMPOUND) {
+                periodReturn = value;
+                equity *= 1.0 + value;
+            } else {
+                periodReturn = value / equity;
+                equity += value;
+            }
+
+            count++;
+            double delta = periodReturn - mean;
+            mean += delta / count;
+            m2 += delta * (periodReturn - mean);
+
+            if (equity <= 0.0) {
+                // 자본 소진 경로는 이후 회복을 가정하지 않음
+                equity = 0.0;
+                maxDrawdown = 1.0;
+                break;
+            }
+            if (equity > peak) {
+                peak = equity;
+            } else {
+                maxDrawdown = Math.max(maxDrawdown, (peak - equity) / peak);
+            }
+        }
+
+        double stdDev = Math.sqrt(Math.max(m2, 0.0) / count);
+        double periodsPerYear = years > 0 ? n / years : n;
+        out.cagr()[path] = years > 0 ? Math.pow(equity, 1.0 / years) - 1.0 : equity - 1.0;
+        out.maxDrawdown()[path] = maxDrawdown;
+        out.sharpe()[path] = stdDev > 0 ? mean / stdDev * Math.sqrt(periodsPerYear) : 0.0;
+    }
+
+    private static final class PathTask extends RecursiveAction {
+
+        private final double[] series;
+        private final Accumulation accumulation;
+        private final double years;
+        private final int blockLength;
+        private final Distribution out;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        private PathTask(double[] series, Accumulation accumulation, double years, int blockLength,
+                         Distribution out, int from, int to, SplittableRandom random) {
+            this.series = series;
+            this.accumulation = accumulation;
+            this.years = years;
+            this.blockLength = blockLength;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_PATHS) {
+                for (int path = from; path < to; path++) {
+                    simulate(series, accumulation, years, blockLength, random, out, path);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            SplittableRandom left = random.split();
+            invokeAll(new PathTask(series, accumulation, years, blockLength, out, from, mid, left),
+                    new PathTask(series, accumulation, years, blockLength, out, mid, to, random));
+        }
+    }
+}
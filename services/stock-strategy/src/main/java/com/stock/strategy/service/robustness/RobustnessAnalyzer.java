@@ -0,0 +1,194 @@
+package com.stock.strategy.service.robustness;
+
+import com.stock.strategy.dto.RobustnessReport;
+import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.entity.PortfolioSnapshot;
+import com.stock.strategy.entity.TradeHistory;
+import com.stock.strategy.repository.BacktestSimulationRepository;
+import com.stock.strategy.repository.PortfolioSnapshotRepository;
+import com.stock.strategy.repository.TradeHistoryRepository;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 완료된 백테스트 결과의 강건성 분석. 저장된 스냅샷의 기간 수익률과 체결 내역(시뮬레이션이 스냅샷과 함께 저장)의 청산 손익 순서를
+ * 블록 부트스트랩으로 재표본 추출해 CAGR/MDD/Sharpe 신뢰 구간을 계산한다.
+ * <p>
+ * 연환산은 PerformanceAccumulator 와 같이 시작일부터 마지막 스냅샷까지의 달력 일수/365 를 연수로 쓰며,
+ * Sharpe 는 스냅샷 주기와 무관하도록 연간 관측 수(관측 수/연수)로 연환산한다.
+ */
+@Slf4j
+@Service
+public class RobustnessAnalyzer {
+
+    public static final int MAX_PATHS = 100_000;
+
+    private final BacktestSimulationRepository simulationRepository;
+    private final PortfolioSnapshotRepository snapshotRepository;
+    private final TradeHistoryRepository tradeHistoryRepository;
+    private final ForkJoinPool pool;
+
+    public RobustnessAnalyzer(BacktestSimulationRepository simulationRepository,
+                              PortfolioSnapshotRepository snapshotRepository,
+                              TradeHistoryRepository tradeHistoryRepository,
+                              @Value("${backtest.bootstrap.parallelism:0}") int parallelism) {
+        this.simulationRepository = simulationRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.tradeHistoryRepository = tradeHistoryRepository;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ForkJoinPool(
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(),
+                forkJoinPool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("bootstrap-" + threadNumber.incrementAndGet());
+                    return thread;
+                },
+                null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * @param blockLength 블록 길이 (null 이면 관측 수의 세제곱근)
+     * @param seed        난수 시드 (null 이면 임의 시드를 정해 결과에 포함)
+     */
+    public RobustnessReport analyze(Long simulationId, int paths, Integer blockLength, Long seed, double confidence) {
+        if (paths <= 0 || paths > MAX_PATHS) {
+            throw new IllegalArgumentException("Bootstrap paths must be between 1 and " + MAX_PATHS + ": " + paths);
+        }
+        if (blockLength != null && blockLength <= 0) {
+            throw new IllegalArgumentException("Block length must be positive: " + blockLength);
+        }
+        if (!(confidence > 0 && confidence < 1)) {
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        }
+
+        BacktestSimulation simulation = simulationRepository.findById(simulationId)
+                .orElseThrow(() -> new IllegalArgumentException("Simulation not found"));
+        List<PortfolioSnapshot> snapshots = snapshotRepository.findBySimulationIdOrderBySnapshotDateAsc(simulationId);
+        if (snapshots.size() < 2) {
+            throw new IllegalArgumentException("Not enough snapshots to resample for simulation: " + simulationId);
+        }
+
+        long started = System.nanoTime();
+        long resolvedSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        double initialCapital = simulation.getInitialCapital().doubleValue();
+        LocalDate lastDate = snapshots.get(snapshots.size() - 1).getSnapshotDate();
+        double years = ChronoUnit.DAYS.between(simulation.getStartDate(), lastDate) / 365.0;
+
+        RobustnessReport.ResampleSummary returns = summarize(periodReturns(snapshots, initialCapital),
+                BlockBootstrap.Accumulation.COMPOUND, years, paths, blockLength, resolvedSeed, confidence);
+
+        // 매매 손익 재표본은 수익률 재표본과 독립된 난수열 사용
+        double[] tradeProfits = closedTradeProfits(tradeHistoryRepository.findBySimulationIdOrderByTradeDateAsc(simulationId), simulation);
+        RobustnessReport.ResampleSummary trades = tradeProfits.length >= 2
+                ? summarize(tradeProfits, BlockBootstrap.Accumulation.ADDITIVE, years, paths, blockLength, ~resolvedSeed, confidence)
+                : null;
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Bootstrap for simulation {} finished: {} paths, {} returns, {} trades, {} ms",
+                simulationId, paths, returns.getObservations(), tradeProfits.length, elapsedMillis);
+
+        return RobustnessReport.builder()
+                .simulationId(simulationId)
+                .paths(paths)
+                .seed(resolvedSeed)
+                .confidence(BigDecimal.valueOf(confidence))
+                .returns(returns)
+                .trades(trades)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private RobustnessReport.ResampleSummary summarize(double[] series, BlockBootstrap.Accumulation accumulation, double years,
+                                                       int paths, Integer blockLength, long seed, double confidence) {
+        int resolvedBlockLength = Math.min(blockLength != null ? blockLength : BlockBootstrap.defaultBlockLength(series.length),
+                series.length);
+        BlockBootstrap.Distribution observed = BlockBootstrap.observed(series, accumulation, years);
+        BlockBootstrap.Distribution resampled = BlockBootstrap.resample(series, accumulation, years,
+                paths, resolvedBlockLength, seed, pool);
+
+        return RobustnessReport.ResampleSummary.builder()
+                .observations(series.length)
+                .blockLength(resolvedBlockLength)
+                .cagr(interval(resampled.cagr(), observed.cagr()[0], confidence, true))
+                .mdd(interval(resampled.maxDrawdown(), observed.maxDrawdown()[0], confidence, true))
+                .sharpeRatio(interval(resampled.sharpe(), observed.sharpe()[0], confidence, false))
+                .build();
+    }
+
+    private static RobustnessReport.MetricInterval interval(double[] values, double observed, double confidence, boolean percent) {
+        double mean = BlockBootstrap.sortAndAverage(values);
+        double tail = (1 - confidence) / 2;
+        return RobustnessReport.MetricInterval.builder()
+                .observed(scale(observed, percent))
+                .mean(scale(mean, percent))
+                .lower(scale(BlockBootstrap.quantile(values, tail), percent))
+                .median(scale(BlockBootstrap.quantile(values, 0.5), percent))
+                .upper(scale(BlockBootstrap.quantile(values, 1 - tail), percent))
+                .build();
+    }
+
+    private static BigDecimal scale(double value, boolean percent) {
+        return percent ? PerformanceAccumulator.percent(value) : PerformanceAccumulator.ratio(value);
+    }
+
+    /**
+     * 스냅샷 간 기간 수익률. 첫 기간은 초기 자본 대비
+     */
+    static double[] periodReturns(List<PortfolioSnapshot> snapshots, double initialCapital) {
+        double[] returns = new double[snapshots.size()];
+        int count = 0;
+        double previous = initialCapital;
+        for (PortfolioSnapshot snapshot : snapshots) {
+            double value = snapshot.getTotalValue().doubleValue();
+            if (previous > 0) {
+                returns[count++] = value / previous - 1;
+            }
+            previous = value;
+        }
+        return count == returns.length ? returns : Arrays.copyOf(returns, count);
+    }
+
+    /**
+     * 매도 체결별 청산 손익 (초기 자본 대비 비율, 체결 순서). 승률과 같은 PerformanceAccumulator 의 종목별 선입선출 매칭으로
+     * 수수료/세금 차감 후 실현 손익을 계산하며, 대응하는 매수가 없는 매도는 제외
+     */
+    static double[] closedTradeProfits(List<TradeHistory> trades, BacktestSimulation simulation) {
+        double initialCapital = simulation.getInitialCapital().doubleValue();
+        PerformanceAccumulator matcher = new PerformanceAccumulator(simulation.getStartDate(), initialCapital,
+                rateOf(simulation.getTradingFeeRate()), rateOf(simulation.getTaxRate()));
+
+        double[] profits = new double[trades.size()];
+        int count = 0;
+        for (TradeHistory trade : trades) {
+            double realized = matcher.onTrade(trade.getStockCode(), "BUY".equals(trade.getOrderType()), trade.getQuantity(),
+                    trade.getPrice().doubleValue());
+            if (!Double.isNaN(realized)) {
+                profits[count++] = realized / initialCapital;
+            }
+        }
+        return Arrays.copyOf(profits, count);
+    }
+
+    private static double rateOf(BigDecimal rate) {
+        return rate != null ? rate.doubleValue() : 0.0;
+    }
+}
@@ -0,0 +1,118 @@
+package com.stock.strategy.service.slippage;
+
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.panel.PricePanel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+/**
+ * 제곱근 시장 충격 슬리피지 모델.
+ * <p>
+ * 슬리피지율 = 호가 스프레드 절반 + 충격 계수 × 일간 변동성 × √(주문 수량 / 평균 거래량).
+ * 평균 거래량과 변동성은 주문일 직전 N 거래일의 시세 패널 데이터로 계산하며 (당일 데이터 미사용),
+ * 직전 데이터가 없으면 당일 거래량만 사용한다.
+ */
+public class MarketImpactSlippageModel implements SlippageModel {
+
+    public static final int DEFAULT_WINDOW_DAYS = 20;
+    public static final BigDecimal DEFAULT_SPREAD_RATE = new BigDecimal("0.0005");
+    public static final BigDecimal DEFAULT_IMPACT_COEFFICIENT = BigDecimal.ONE;
+
+    // 변동성을 계산할 수 없을 때 가정하는 일간 변동성
+    private static final double DEFAULT_DAILY_VOLATILITY = 0.02;
+    // 한 주문의 슬리피지율 상한
+    private static final double MAX_SLIPPAGE_RATE = 0.1;
+
+    private final double spreadRate;
+    private final double impactCoefficient;
+    private final int windowDays;
+    private final PricePanel prices;
+
+    public MarketImpactSlippageModel(BigDecimal spreadRate, BigDecimal impactCoefficient, Integer windowDays, PricePanel prices) {
+        this.spreadRate = (spreadRate != null ? spreadRate : DEFAULT_SPREAD_RATE).doubleValue();
+        this.impactCoefficient = (impactCoefficient != null ? impactCoefficient : DEFAULT_IMPACT_COEFFICIENT).doubleValue();
+        this.windowDays = windowDays != null ? windowDays : DEFAULT_WINDOW_DAYS;
+        this.prices = prices != null ? prices : PricePanel.empty();
+        if (this.spreadRate < 0 || this.impactCoefficient < 0 || this.windowDays <= 0) {
+            throw new IllegalArgumentException("Market impact settings must not be negative");
+        }
+    }
+
+    /**
+     * 평균 거래량 산정 기간(거래일)을 덮는 시세 패널 적재 기간 (달력일)
+     */
+    public static int lookbackCalendarDays(Integer windowDays) {
+        int window = windowDays != null ? windowDays : DEFAULT_WINDOW_DAYS;
+        return window * 7 / 5 + 10;
+    }
+
+    @Override
+    public BigDecimal calculateExecutionPrice(BigDecimal originalPrice, int quantity, OrderType orderType) {
+        // 시장 데이터가 없으면 스프레드만 반영
+        return apply(originalPrice, spreadRate, orderType);
+    }
+
+    @Override
+    public BigDecimal calculateExecutionPrice(TradeOrder order) {
+        return apply(order.getPrice(), slippageRate(order.getStockCode(), order.getOrderDate(), order.getQuantity()),
+                order.getOrderType());
+    }
+
+    double slippageRate(String stockCode, LocalDate date, int quantity) {
+        int stock = prices.indexOf(stockCode);
+        int day = prices.floorDayIndexOf(date);
+        if (stock == PricePanel.NOT_FOUND || day == PricePanel.NOT_FOUND) {
+            return spreadRate;
+        }
+
+        // 직전 N 거래일 평균 거래량과 일간 수익률 변동성
+        int from = Math.max(0, day - windowDays);
+        long volumeSum = 0L;
+        int volumeDays = 0;
+        int count = 0;
+        double mean = 0.0;
+        double m2 = 0.0;
+        double previousClose = Double.NaN;
+        for (int d = from; d < day; d++) {
+            long volume = prices.volume(stock, d);
+            if (volume > 0) {
+                volumeSum += volume;
+                volumeDays++;
+            }
+            if (prices.hasClose(stock, d)) {
+                double close = prices.close(stock, d);
+                if (previousClose > 0) {
+                    double dailyReturn = close / previousClose - 1;
+                    count++;
+                    double delta = dailyReturn - mean;
+                    mean += delta / count;
+                    m2 += delta * (dailyReturn - mean);
+                }
+                previousClose = close;
+            }
+        }
+
+        double averageVolume = volumeDays > 0 ? (double) volumeSum / volumeDays : prices.volume(stock, day);
+        if (averageVolume <= 0) {
+            return spreadRate;
+        }
+
+        double volatility = count > 1 ? Math.sqrt(m2 / count) : DEFAULT_DAILY_VOLATILITY;
+        double impact = impactCoefficient * volatility * Math.sqrt(quantity / averageVolume);
+        return Math.min(spreadRate + impact, MAX_SLIPPAGE_RATE);
+    }
+
+    private static BigDecimal apply(BigDecimal originalPrice, double rate, OrderType orderType) {
+        BigDecimal slippageAmount = originalPrice.multiply(BigDecimal.valueOf(rate));
+
+        // 매수할 때는 비싸게 사고, 매도할 때는 싸게 판다.
+        if (orderType == OrderType.BUY) {
+            return originalPrice.add(slippageAmount).setScale(2, RoundingMode.HALF_UP);
+        } else {
+            return originalPrice.subtract(slippageAmount).setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+}
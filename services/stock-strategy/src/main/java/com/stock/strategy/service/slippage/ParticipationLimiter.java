@@ -0,0 +1,136 @@
+package com.stock.strategy.service.slippage;
+
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.panel.PricePanel;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 당일 거래량 대비 최대 거래 비율(maxVolumeRatio) 제한.
+ * <p>
+ * 주문 수량을 당일 거래량 × 비율 이하로 잘라 체결 대상으로 넘기고, 남은 수량은 다음 거래일로 이월한다.
+ * 이월 잔량은 그날 종가로 다시 제한하며, 새 리밸런싱 주문이 들어오면 전략이 현재 보유 기준으로
+ * 주문을 다시 만들었으므로 이전 잔량은 폐기한다. 시뮬레이션 1건에서만 사용한다.
+ */
+public final class ParticipationLimiter {
+
+    private final double maxVolumeRatio;
+    private final PricePanel prices;
+    private List<TradeOrder> pending = new ArrayList<>();
+
+    public ParticipationLimiter(BigDecimal maxVolumeRatio, PricePanel prices) {
+        this.maxVolumeRatio = maxVolumeRatio != null ? maxVolumeRatio.doubleValue() : 0.0;
+        this.prices = prices;
+    }
+
+    /**
+     * 비율이 0 이하(미설정)면 제한하지 않음
+     */
+    public boolean isEnabled() {
+        return maxVolumeRatio > 0;
+    }
+
+    public boolean hasPending() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * 리밸런싱 주문 제출. 이전 이월 잔량은 폐기하고 당일 체결 가능 수량만 반환
+     */
+    public List<TradeOrder> submit(LocalDate date, List<TradeOrder> orders) {
+        if (!isEnabled()) {
+            return orders;
+        }
+        pending = new ArrayList<>();
+        return slice(date, orders);
+    }
+
+    /**
+     * 리밸런싱이 없는 날 이월 잔량을 당일 종가/거래량 기준으로 다시 제한
+     */
+    public List<TradeOrder> carryOver(LocalDate date) {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        List<TradeOrder> carried = pending;
+        pending = new ArrayList<>();
+
+        int day = prices.dayIndexOf(date);
+        List<TradeOrder> repriced = new ArrayList<>(carried.size());
+        for (TradeOrder order : carried) {
+            int stock = prices.indexOf(order.getStockCode());
+            if (!prices.hasClose(stock, day)) {
+                pending.add(order); // 거래 정지 등으로 시세가 없으면 다시 이월
+                continue;
+            }
+            repriced.add(copy(order, order.getQuantity(), BigDecimal.valueOf(prices.close(stock, day)), date));
+        }
+        return slice(date, repriced);
+    }
+
+    /**
+     * 이월 잔량을 체크포인트로 기록
+     */
+    public void writeState(DataOutput out) throws IOException {
+        out.writeInt(pending.size());
+        for (TradeOrder order : pending) {
+            out.writeUTF(order.getStockCode());
+            out.writeUTF(order.getOrderType().name());
+            out.writeInt(order.getQuantity());
+            out.writeUTF(order.getPrice().toPlainString());
+            out.writeLong(order.getOrderDate().toEpochDay());
+        }
+    }
+
+    public void readState(DataInput in) throws IOException {
+        int size = in.readInt();
+        pending = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pending.add(TradeOrder.builder()
+                    .stockCode(in.readUTF())
+                    .orderType(OrderType.valueOf(in.readUTF()))
+                    .quantity(in.readInt())
+                    .price(new BigDecimal(in.readUTF()))
+                    .orderDate(LocalDate.ofEpochDay(in.readLong()))
+                    .build());
+        }
+    }
+
+    private List<TradeOrder> slice(LocalDate date, List<TradeOrder> orders) {
+        int day = prices.dayIndexOf(date);
+        List<TradeOrder> executable = new ArrayList<>(orders.size());
+        for (TradeOrder order : orders) {
+            int stock = prices.indexOf(order.getStockCode());
+            long volume = stock != PricePanel.NOT_FOUND && day != PricePanel.NOT_FOUND ? prices.volume(stock, day) : 0L;
+            long limit = (long) Math.floor(volume * maxVolumeRatio);
+            int quantity = order.getQuantity();
+
+            if (quantity <= limit) {
+                executable.add(order);
+                continue;
+            }
+            if (limit > 0) {
+                executable.add(copy(order, (int) limit, order.getPrice(), order.getOrderDate()));
+            }
+            pending.add(copy(order, quantity - (int) limit, order.getPrice(), order.getOrderDate()));
+        }
+        return executable;
+    }
+
+    private static TradeOrder copy(TradeOrder order, int quantity, BigDecimal price, LocalDate date) {
+        return TradeOrder.builder()
+                .stockCode(order.getStockCode())
+                .orderType(order.getOrderType())
+                .quantity(quantity)
+                .price(price)
+                .orderDate(date)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.stock.strategy.service.slippage;
 
+import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.enums.OrderType;
 
 import java.math.BigDecimal;
@@ -14,4 +15,15 @@ public interface SlippageModel {
      * @return 슬리피지가 적용된 체결가
      */
     BigDecimal calculateExecutionPrice(BigDecimal originalPrice, int quantity, OrderType orderType);
+
+    /**
+     * 주문 정보(종목, 주문일)를 기준으로 체결 단가를 계산합니다.
+     * 시세 패널을 참조하는 모델은 이 메서드를 재정의하여 종목/일자별 시장 데이터를 활용합니다.
+     *
+     * @param order 매매 주문
+     * @return 슬리피지가 적용된 체결가
+     */
+    default BigDecimal calculateExecutionPrice(TradeOrder order) {
+        return calculateExecutionPrice(order.getPrice(), order.getQuantity(), order.getOrderType());
+    }
 }
@@ -1,16 +1,32 @@
 package com.stock.strategy.service.slippage;
 
+import com.stock.strategy.dto.BacktestRequest;
 import com.stock.strategy.enums.SlippageType;
+import com.stock.strategy.service.panel.PricePanel;
 import java.math.BigDecimal;
 
 public class SlippageModelFactory {
     public static SlippageModel create(SlippageType type, BigDecimal fixedRate) {
+        return create(type, fixedRate, PricePanel.empty());
+    }
+
+    public static SlippageModel create(BacktestRequest request, PricePanel prices) {
+        if (request.getSlippageType() == SlippageType.MARKET_IMPACT) {
+            // 고정 슬리피지 비율은 호가 스프레드 절반으로 사용
+            return new MarketImpactSlippageModel(request.getFixedSlippageRate(), request.getImpactCoefficient(),
+                    request.getVolumeLookbackDays(), prices);
+        }
+        return create(request.getSlippageType(), request.getFixedSlippageRate(), prices);
+    }
+
+    public static SlippageModel create(SlippageType type, BigDecimal fixedRate, PricePanel prices) {
         if (type == null) return new NoSlippageModel();
         
         return switch (type) {
             case NONE -> new NoSlippageModel();
             case FIXED -> new FixedSlippageModel(fixedRate);
-            case VOLUME -> new VolumeBasedSlippageModel(null, null);
+            case VOLUME -> new VolumeBasedSlippageModel(null, null, prices);
+            case MARKET_IMPACT -> new MarketImpactSlippageModel(fixedRate, null, null, prices);
             default -> new NoSlippageModel();
         };
     }
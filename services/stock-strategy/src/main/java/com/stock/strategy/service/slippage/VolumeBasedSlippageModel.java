@@ -1,26 +1,54 @@
 package com.stock.strategy.service.slippage;
 
+import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.panel.PricePanel;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 public class VolumeBasedSlippageModel implements SlippageModel {
 
+    // 시세 패널이 없을 때 대량 주문으로 간주하는 수량
+    private static final int LARGE_ORDER_QUANTITY = 1000;
+    // 당일 거래량 대비 이 비율을 초과하면 대량 주문으로 간주
+    private static final double LARGE_ORDER_VOLUME_RATIO = 0.01;
+
     private final BigDecimal baseSlipRate;
     private final BigDecimal penaltyRate;
+    private final PricePanel prices;
 
     public VolumeBasedSlippageModel(BigDecimal baseSlipRate, BigDecimal penaltyRate) {
+        this(baseSlipRate, penaltyRate, PricePanel.empty());
+    }
+
+    public VolumeBasedSlippageModel(BigDecimal baseSlipRate, BigDecimal penaltyRate, PricePanel prices) {
         this.baseSlipRate = baseSlipRate != null ? baseSlipRate : new BigDecimal("0.001");
         this.penaltyRate = penaltyRate != null ? penaltyRate : new BigDecimal("0.005");
+        this.prices = prices != null ? prices : PricePanel.empty();
     }
 
     @Override
     public BigDecimal calculateExecutionPrice(BigDecimal originalPrice, int quantity, OrderType orderType) {
-        // 실제 구현에서는 일일 거래량 데이터를 받아와서 비율을 계산해야 하지만,
-        // 여기서는 임의의 임계값(예: 주문량 1000주 이상)을 초과하면 페널티를 부과하는 방식으로 시뮬레이션
+        // 거래량 정보가 없는 경우 임의의 임계값(주문량 1000주 초과)으로 페널티 여부를 판단
+        return applySlippage(originalPrice, quantity > LARGE_ORDER_QUANTITY, orderType);
+    }
+
+    @Override
+    public BigDecimal calculateExecutionPrice(TradeOrder order) {
+        long dailyVolume = prices.volumeOn(order.getStockCode(), order.getOrderDate());
+        if (dailyVolume <= 0) {
+            return calculateExecutionPrice(order.getPrice(), order.getQuantity(), order.getOrderType());
+        }
+
+        // 시세 패널의 당일 거래량 대비 주문 비중으로 페널티 여부를 판단
+        boolean largeOrder = order.getQuantity() > dailyVolume * LARGE_ORDER_VOLUME_RATIO;
+        return applySlippage(order.getPrice(), largeOrder, order.getOrderType());
+    }
+
+    private BigDecimal applySlippage(BigDecimal originalPrice, boolean largeOrder, OrderType orderType) {
         BigDecimal currentSlipRate = baseSlipRate;
-        if (quantity > 1000) {
+        if (largeOrder) {
             currentSlipRate = currentSlipRate.add(penaltyRate);
         }
 
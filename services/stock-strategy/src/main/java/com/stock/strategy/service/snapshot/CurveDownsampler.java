@@ -0,0 +1,79 @@
+package com.stock.strategy.service.snapshot;
+
+/**
+ * 차트 표시용 시계열 다운샘플링 (Largest-Triangle-Three-Buckets).
+ * <p>
+ * 첫 점과 마지막 점은 항상 남기고, 나머지 구간을 maxPoints - 2 개 버킷으로 나눠 버킷마다
+ * 직전 선택 점, 다음 버킷 평균 점과 이루는 삼각형 넓이가 가장 큰 점 하나를 고른다.
+ * 고점/저점처럼 곡선 모양을 결정하는 점이 살아남아 단순 간격 추출보다 낙폭 구간이 덜 뭉개진다.
+ */
+public final class CurveDownsampler {
+
+    private CurveDownsampler() {
+    }
+
+    /**
+     * @param x         가로축 값 (오름차순, 예: epoch day)
+     * @param y         세로축 값
+     * @param maxPoints 남길 최대 점 수 (3 미만이면 3 으로 본다)
+     * @return 선택된 점의 인덱스 (오름차순). 점 수가 maxPoints 이하이면 전체 인덱스
+     */
+    public static int[] largestTriangleThreeBuckets(double[] x, double[] y, int maxPoints) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("x and y must have the same length");
+        }
+        int size = x.length;
+        int threshold = Math.max(maxPoints, 3);
+        if (size <= threshold) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        int count = 0;
+        selected[count++] = 0;
+
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int start = (int) Math.floor(bucket * bucketSize) + 1;
+            int end = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+
+            // 다음 버킷 평균 (마지막 버킷이면 마지막 점)
+            int nextStart = end;
+            int nextEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0.0;
+            double averageY = 0.0;
+            if (nextStart >= size - 1 || nextStart >= nextEnd) {
+                averageX = x[size - 1];
+                averageY = y[size - 1];
+            } else {
+                for (int i = nextStart; i < nextEnd; i++) {
+                    averageX += x[i];
+                    averageY += y[i];
+                }
+                averageX /= nextEnd - nextStart;
+                averageY /= nextEnd - nextStart;
+            }
+
+            double maxArea = -1.0;
+            int chosen = start;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((x[previous] - averageX) * (y[i] - y[previous])
+                        - (x[previous] - x[i]) * (averageY - y[previous]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            selected[count++] = chosen;
+            previous = chosen;
+        }
+
+        selected[count++] = size - 1;
+        return selected;
+    }
+}
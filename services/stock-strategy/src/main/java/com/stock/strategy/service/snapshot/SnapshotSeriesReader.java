@@ -0,0 +1,65 @@
+package com.stock.strategy.service.snapshot;
+
+import com.stock.strategy.dto.SnapshotSeries;
+import com.stock.strategy.repository.PortfolioSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포트폴리오 스냅샷을 차트용 열 단위 배열로 조회. 보유 종목 JSON 은 읽지 않으며,
+ * 스냅샷 수가 maxPoints 를 넘으면 {@link CurveDownsampler}로 평가 금액 곡선 모양을 유지하며 줄인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SnapshotSeriesReader {
+
+    // DATE 컬럼 범위 (기간 미지정 시 전체 조회)
+    private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    private final PortfolioSnapshotRepository snapshotRepository;
+
+    /**
+     * @param maxPoints 최대 점 수 (0 이하이면 다운샘플링하지 않음)
+     */
+    public SnapshotSeries read(Long simulationId, LocalDate startDate, LocalDate endDate, int maxPoints) {
+        List<PortfolioSnapshotRepository.SnapshotValue> rows = snapshotRepository.findValuesBySimulationId(simulationId,
+                startDate != null ? startDate : MIN_DATE, endDate != null ? endDate : MAX_DATE);
+
+        int size = rows.size();
+        double[] x = new double[size];
+        double[] totalValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = rows.get(i).getSnapshotDate().toEpochDay();
+            totalValues[i] = rows.get(i).getTotalValue().doubleValue();
+        }
+
+        boolean sampled = maxPoints > 0 && size > maxPoints;
+        int[] indices = sampled
+                ? CurveDownsampler.largestTriangleThreeBuckets(x, totalValues, maxPoints)
+                : CurveDownsampler.largestTriangleThreeBuckets(x, totalValues, size);
+
+        List<LocalDate> dates = new ArrayList<>(indices.length);
+        double[] values = new double[indices.length];
+        double[] cashBalances = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            PortfolioSnapshotRepository.SnapshotValue row = rows.get(indices[i]);
+            dates.add(row.getSnapshotDate());
+            values[i] = totalValues[indices[i]];
+            cashBalances[i] = row.getCashBalance().doubleValue();
+        }
+
+        return SnapshotSeries.builder()
+                .simulationId(simulationId)
+                .totalPoints(size)
+                .sampled(sampled)
+                .dates(dates)
+                .totalValues(values)
+                .cashBalances(cashBalances)
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.stock.strategy.service.snapshot;
+
+import com.stock.strategy.entity.PortfolioSnapshot;
+import com.stock.strategy.entity.TradeHistory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백테스트 포트폴리오 스냅샷과 체결 내역을 모아서 백그라운드 스레드에서 다중 행 INSERT 로 저장하는 컴포넌트.
+ * <p>
+ * 시뮬레이션 스레드는 {@link Sink}에 스냅샷/체결을 추가만 하며, 각각 batch-size 만큼 쌓이면 쓰기 작업을 큐에 넘긴다.
+ * 큐가 가득 차면 빈 자리가 생길 때까지 시뮬레이션 스레드가 대기한다 (back-pressure).
+ * {@link Sink#close()}는 남은 스냅샷을 넘긴 뒤 해당 시뮬레이션의 모든 쓰기가 끝날 때까지 대기한다.
+ */
+@Slf4j
+@Component
+public class SnapshotWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO TB_PORTFOLIO_SNAPSHOT (simulation_id, snapshot_date, total_value, cash_balance, holdings) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 5;
+    private static final String DELETE_AFTER_SQL =
+            "DELETE FROM TB_PORTFOLIO_SNAPSHOT WHERE simulation_id = ? AND snapshot_date > ?";
+    private static final String DELETE_ALL_SQL = "DELETE FROM TB_PORTFOLIO_SNAPSHOT WHERE simulation_id = ?";
+
+    private static final String TRADE_INSERT_PREFIX =
+            "INSERT INTO TB_TRADE_HISTORY (simulation_id, trade_date, stock_code, order_type, quantity, price, fee, tax) VALUES ";
+    private static final String TRADE_ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int TRADE_COLUMNS = 8;
+    private static final String DELETE_TRADES_AFTER_SQL =
+            "DELETE FROM TB_TRADE_HISTORY WHERE simulation_id = ? AND trade_date > ?";
+    private static final String DELETE_TRADES_ALL_SQL = "DELETE FROM TB_TRADE_HISTORY WHERE simulation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+
+    public SnapshotWriter(JdbcTemplate jdbcTemplate,
+                          @Value("${backtest.snapshot.batch-size:500}") int batchSize,
+                          @Value("${backtest.snapshot.queue-capacity:16}") int queueCapacity,
+                          @Value("${backtest.snapshot.writer-threads:2}") int writerThreads) {
+        if (batchSize <= 0 || queueCapacity <= 0 || writerThreads <= 0) {
+            throw new IllegalArgumentException("Snapshot writer settings must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "snapshot-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    // 큐가 가득 차면 호출 스레드를 대기시켜 메모리 사용량을 제한
+                    if (pool.isShutdown()) {
+                        throw new RejectedExecutionException("Snapshot writer is shut down");
+                    }
+                    try {
+                        pool.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for snapshot queue", e);
+                    }
+                });
+    }
+
+    public Sink open(Long simulationId) {
+        return new Sink(simulationId);
+    }
+
+    /**
+     * 체크포인트 이후에 저장된 스냅샷과 체결 삭제 (재개 시 같은 날짜가 다시 저장되므로)
+     */
+    public void deleteAfter(Long simulationId, LocalDate date) {
+        int deleted = jdbcTemplate.update(DELETE_AFTER_SQL, simulationId, Date.valueOf(date));
+        int deletedTrades = jdbcTemplate.update(DELETE_TRADES_AFTER_SQL, simulationId, Date.valueOf(date));
+        if (deleted > 0 || deletedTrades > 0) {
+            log.info("Removed {} snapshots and {} trades after checkpoint {} for simulation {}",
+                    deleted, deletedTrades, date, simulationId);
+        }
+    }
+
+    /**
+     * 시뮬레이션의 스냅샷과 체결 모두 삭제 (체크포인트를 버리고 처음부터 다시 실행할 때)
+     */
+    public void deleteAll(Long simulationId) {
+        int deleted = jdbcTemplate.update(DELETE_ALL_SQL, simulationId);
+        int deletedTrades = jdbcTemplate.update(DELETE_TRADES_ALL_SQL, simulationId);
+        if (deleted > 0 || deletedTrades > 0) {
+            log.info("Removed {} snapshots and {} trades of simulation {}", deleted, deletedTrades, simulationId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Snapshot writer did not finish pending batches within timeout");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    void insertBatch(List<PortfolioSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + snapshots.size() * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        Object[] args = new Object[snapshots.size() * COLUMNS];
+        int i = 0;
+        for (PortfolioSnapshot snapshot : snapshots) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            args[i++] = snapshot.getSimulationId();
+            args[i++] = Date.valueOf(snapshot.getSnapshotDate());
+            args[i++] = snapshot.getTotalValue();
+            args[i++] = snapshot.getCashBalance();
+            args[i++] = snapshot.getHoldings();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    void insertTrades(List<TradeHistory> trades) {
+        if (trades.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(TRADE_INSERT_PREFIX.length() + trades.size() * (TRADE_ROW_PLACEHOLDER.length() + 2));
+        sql.append(TRADE_INSERT_PREFIX);
+        Object[] args = new Object[trades.size() * TRADE_COLUMNS];
+        int i = 0;
+        for (TradeHistory trade : trades) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(TRADE_ROW_PLACEHOLDER);
+            args[i++] = trade.getSimulationId();
+            args[i++] = Date.valueOf(trade.getTradeDate());
+            args[i++] = trade.getStockCode();
+            args[i++] = trade.getOrderType();
+            args[i++] = trade.getQuantity();
+            args[i++] = trade.getPrice();
+            args[i++] = trade.getFee();
+            args[i++] = trade.getTax();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    /**
+     * 시뮬레이션 1건의 스냅샷/체결 버퍼. 시뮬레이션 스레드 하나에서만 사용한다.
+     */
+    public final class Sink implements AutoCloseable {
+
+        private final Long simulationId;
+        private final List<Future<?>> pending = new ArrayList<>();
+        private List<PortfolioSnapshot> buffer;
+        private List<TradeHistory> tradeBuffer;
+        private int written;
+        private int writtenTrades;
+
+        private Sink(Long simulationId) {
+            this.simulationId = simulationId;
+            this.buffer = new ArrayList<>(batchSize);
+            this.tradeBuffer = new ArrayList<>(batchSize);
+        }
+
+        public void add(PortfolioSnapshot snapshot) {
+            buffer.add(snapshot);
+            if (buffer.size() >= batchSize) {
+                submitBuffer();
+            }
+        }
+
+        public void addTrade(TradeHistory trade) {
+            tradeBuffer.add(trade);
+            if (tradeBuffer.size() >= batchSize) {
+                submitTrades();
+            }
+        }
+
+        private void submitBuffer() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            List<PortfolioSnapshot> batch = buffer;
+            buffer = new ArrayList<>(batchSize);
+            written += batch.size();
+
+            checkCompleted();
+            pending.add(executor.submit(() -> insertBatch(batch)));
+        }
+
+        private void submitTrades() {
+            if (tradeBuffer.isEmpty()) {
+                return;
+            }
+            List<TradeHistory> batch = tradeBuffer;
+            tradeBuffer = new ArrayList<>(batchSize);
+            writtenTrades += batch.size();
+
+            checkCompleted();
+            pending.add(executor.submit(() -> insertTrades(batch)));
+        }
+
+        // 완료된 쓰기 작업을 정리하고, 실패가 있으면 즉시 전달
+        private void checkCompleted() {
+            Iterator<Future<?>> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                Future<?> future = iterator.next();
+                if (future.isDone()) {
+                    await(future);
+                    iterator.remove();
+                }
+            }
+        }
+
+        private void await(Future<?> future) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while flushing snapshots for simulation " + simulationId, e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to write snapshots for simulation " + simulationId, e.getCause());
+            }
+        }
+
+        /**
+         * 지금까지 추가된 스냅샷과 체결이 모두 저장될 때까지 대기 (체크포인트 직전 호출)
+         */
+        public void flush() {
+            submitBuffer();
+            submitTrades();
+            for (Future<?> future : pending) {
+                await(future);
+            }
+            pending.clear();
+        }
+
+        /**
+         * 남은 스냅샷과 체결을 저장하고 이 시뮬레이션의 모든 쓰기가 끝날 때까지 대기
+         */
+        @Override
+        public void close() {
+            flush();
+            log.debug("Snapshots flushed for simulation {}: {} rows, {} trades", simulationId, written, writtenTrades);
+        }
+    }
+}
@@ -5,10 +5,10 @@ import com.stock.common.dto.StockIndicatorDto;
 import com.stock.common.utils.DateUtils;
 import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.dto.BacktestRequest;
-import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
-import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -32,7 +32,7 @@ public class AssetAllocationStrategy implements Strategy {
     }
 
     @Override
-    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request) {
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
         AssetAllocationConfig config = request.getAssetAllocationConfig();
         if (config == null) {
             config = AssetAllocationConfig.builder()
@@ -40,10 +40,12 @@ public class AssetAllocationStrategy implements Strategy {
                     .maxRiskAssetWeight(BigDecimal.ONE)
                     .build();
         }
-        return rebalanceInternal(date, portfolio, universe, config, request.getStrategyType());
+        return rebalanceInternal(date, portfolio, universe, config, request.getStrategyType(), prices, PortfolioRebalancer.of(request));
     }
 
-    private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, List<String> universe, AssetAllocationConfig config, com.stock.strategy.enums.StrategyType strategyType) {
+    private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, List<String> universe, AssetAllocationConfig config,
+                                               com.stock.strategy.enums.StrategyType strategyType, PricePanel prices,
+                                               PortfolioRebalancer rebalancer) {
         List<TradeOrder> orders = new ArrayList<>();
         if (universe.isEmpty()) return orders;
 
@@ -78,100 +80,44 @@ public class AssetAllocationStrategy implements Strategy {
             // Target Value for Risk Assets
             BigDecimal totalValue = portfolio.getTotalValue();
             BigDecimal targetRiskAssetValue = totalValue.multiply(riskAssetWeight).setScale(2, RoundingMode.HALF_UP);
-            
-            // Sell phase
-            for (String stockCode : new ArrayList<>(portfolio.getHoldings().keySet())) {
-                if (!universe.contains(stockCode) || targetRiskAssetValue.compareTo(BigDecimal.ZERO) == 0) {
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    orders.add(TradeOrder.builder()
-                            .stockCode(stockCode)
-                            .orderType(OrderType.SELL)
-                            .quantity(holding.getQuantity())
-                            .price(holding.getCurrentPrice())
-                            .orderDate(date)
-                            .build());
-                }
-            }
 
-            // Buy/Adjust phase
-            if (targetRiskAssetValue.compareTo(BigDecimal.ZERO) > 0) {
-                Map<String, BigDecimal> targetWeights = new HashMap<>();
-
-                if (strategyType == com.stock.strategy.enums.StrategyType.RISK_PARITY) {
-                    // Simple Inverse Volatility
-                    Map<String, Double> invVolMap = new HashMap<>();
-                    double sumInvVol = 0.0;
-
-                    for (StockIndicatorDto ind : indicators) {
-                        String codeWithA = "A" + ind.getStockCode();
-                        if (ind.getStockCode() != null && ind.getBollingerUpper() != null && ind.getBollingerLower() != null) {
-                            double bandWidth = ind.getBollingerUpper().doubleValue() - ind.getBollingerLower().doubleValue();
-                            double price = ind.getMa20() != null ? ind.getMa20().doubleValue() : bandWidth;
-                            double vol = price > 0 ? (bandWidth / price) : 0.01;
-                            if (vol <= 0) vol = 0.01;
-
-                            double invVol = 1.0 / vol;
-                            invVolMap.put(codeWithA, invVol);
-                            sumInvVol += invVol;
-                        }
-                    }
-
-                    for (String stockCode : universe) {
-                        double weight = sumInvVol > 0 && invVolMap.containsKey(stockCode) ? 
-                                invVolMap.get(stockCode) / sumInvVol : 0.0;
-                        targetWeights.put(stockCode, BigDecimal.valueOf(weight));
-                    }
-                } else {
-                    // Equal weight
-                    BigDecimal eqWeight = BigDecimal.ONE.divide(BigDecimal.valueOf(universe.size()), 4, RoundingMode.HALF_UP);
-                    for (String stockCode : universe) {
-                        targetWeights.put(stockCode, eqWeight);
+            if (targetRiskAssetValue.compareTo(BigDecimal.ZERO) <= 0) {
+                // 100% Cash: 목표 종목 없이 리밸런싱하여 전량 매도
+                orders.addAll(rebalancer.rebalanceEqualWeight(date, portfolio, List.of(), prices));
+            } else if (strategyType == com.stock.strategy.enums.StrategyType.RISK_PARITY) {
+                // Simple Inverse Volatility
+                Map<String, Double> invVolMap = new HashMap<>();
+                double sumInvVol = 0.0;
+
+                for (StockIndicatorDto ind : indicators) {
+                    String codeWithA = "A" + ind.getStockCode();
+                    if (ind.getStockCode() != null && ind.getBollingerUpper() != null && ind.getBollingerLower() != null) {
+                        double bandWidth = ind.getBollingerUpper().doubleValue() - ind.getBollingerLower().doubleValue();
+                        double price = ind.getMa20() != null ? ind.getMa20().doubleValue() : bandWidth;
+                        double vol = price > 0 ? (bandWidth / price) : 0.01;
+                        if (vol <= 0) vol = 0.01;
+
+                        double invVol = 1.0 / vol;
+                        invVolMap.put(codeWithA, invVol);
+                        sumInvVol += invVol;
                     }
                 }
 
-                for (String stockCode : universe) {
-                    BigDecimal weight = targetWeights.getOrDefault(stockCode, BigDecimal.ZERO);
-                    if (weight.compareTo(BigDecimal.ZERO) <= 0) continue;
-
-                    BigDecimal targetValuePerStock = targetRiskAssetValue.multiply(weight).setScale(2, RoundingMode.HALF_UP);
-
-                    var priceDto = priceClient.getPriceByDate(stockCode.startsWith("A") ? stockCode.substring(1) : stockCode, dateStr);
-                    if (priceDto == null || priceDto.getEndPrice() == null) continue;
-
-                    BigDecimal currentPrice = priceDto.getEndPrice();
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    BigDecimal currentValue = holding != null ? holding.getMarketValue() : BigDecimal.ZERO;
-
-                    BigDecimal diff = targetValuePerStock.subtract(currentValue);
-
-                    if (diff.abs().compareTo(currentPrice) > 0) {
-                        if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                            int quantity = diff.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.BUY)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        } else {
-                            int quantity = diff.abs().divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0 && holding != null && holding.getQuantity() >= quantity) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.SELL)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        }
+                // 변동성 지표가 없어 비중을 정할 수 없는 유니버스 종목은 매도하지 않고 기존 보유 수량 유지
+                double[] weights = new double[universe.size()];
+                Set<String> unweighted = new HashSet<>();
+                for (int i = 0; i < weights.length; i++) {
+                    Double invVol = invVolMap.get(universe.get(i));
+                    weights[i] = sumInvVol > 0 && invVol != null ? invVol / sumInvVol : 0.0;
+                    if (weights[i] <= 0) {
+                        unweighted.add(universe.get(i));
                     }
                 }
+                orders.addAll(rebalancer.rebalance(date, portfolio, universe, weights, targetRiskAssetValue, prices, unweighted));
+            } else {
+                // Equal weight
+                orders.addAll(rebalancer.rebalanceEqualWeight(date, portfolio, universe, targetRiskAssetValue, prices));
             }
-
         } catch (Exception e) {
             log.error("Failed to rebalance AssetAllocation", e);
         }
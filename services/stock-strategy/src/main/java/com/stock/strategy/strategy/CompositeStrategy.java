@@ -0,0 +1,329 @@
+package com.stock.strategy.strategy;
+
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.PortfolioHolding;
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.entity.SleeveAttribution;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.enums.StrategyType;
+import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.optimization.ParameterSpace;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import com.stock.strategy.service.panel.PricePanel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 전략을 목표 비중대로 결합해 하나의 계좌로 운용하는 복합 전략 (COMPOSITE).
+ * <p>
+ * 하위 전략(슬리브)마다 가상 장부를 두고 리밸런싱일마다
+ * <ol>
+ *     <li>실제 총자산 × 목표 비중으로 슬리브 자본을 다시 맞춘 가상 포트폴리오로 하위 전략을 실행하고</li>
+ *     <li>하위 전략 주문을 가상 장부에 반영해 슬리브별 목표 수량을 구한 뒤</li>
+ *     <li>종목별 목표 수량 합계와 실제 보유 수량의 차이만 주문으로 낸다</li>
+ * </ol>
+ * 슬리브끼리 반대 방향인 주문은 서로 상쇄되어 체결되지 않으므로 수수료/세금/슬리피지가 생기지 않는다.
+ * 유니버스와 시세 패널은 모든 슬리브가 공유하므로 데이터 적재는 단일 전략 백테스트와 같다.
+ * <p>
+ * 리밸런싱 사이의 슬리브 장부를 상태로 가지므로 스프링 빈이 아니라 시뮬레이션마다
+ * {@link com.stock.strategy.service.StrategyFactory#getStrategy(BacktestRequest)}로 새로 만든다.
+ * 체크포인트에서 재개하면 슬리브 장부는 빈 상태로 시작하며 (목표 수량은 실제 보유와 비교하므로 주문은 정상),
+ * 성과 기여는 재개 이후 구간만 집계된다.
+ */
+@Slf4j
+public class CompositeStrategy implements Strategy {
+
+    // 비중 합계 허용 오차 (BigDecimal → double 변환)
+    private static final double WEIGHT_TOLERANCE = 1e-9;
+
+    private final List<Sleeve> sleeves;
+
+    // 마지막 리밸런싱의 시세 패널과 초기 자본 (종료 시점 성과 기여 평가용)
+    private PricePanel prices;
+    private double initialCapital;
+
+    public CompositeStrategy(List<Sleeve> sleeves) {
+        if (sleeves.isEmpty()) {
+            throw new IllegalArgumentException("Composite strategy requires at least one sleeve");
+        }
+        double totalWeight = 0.0;
+        for (Sleeve sleeve : sleeves) {
+            if (sleeve.strategy instanceof CompositeStrategy) {
+                throw new IllegalArgumentException("Composite strategies cannot be nested");
+            }
+            if (!(sleeve.weight > 0)) {
+                throw new IllegalArgumentException("Sleeve weight must be positive: " + sleeve.type);
+            }
+            totalWeight += sleeve.weight;
+        }
+        if (totalWeight > 1.0 + WEIGHT_TOLERANCE) {
+            throw new IllegalArgumentException("Sleeve weights must not sum to more than 1: " + totalWeight);
+        }
+        this.sleeves = List.copyOf(sleeves);
+    }
+
+    @Override
+    public String getName() {
+        return "Composite";
+    }
+
+    @Override
+    public int getLookbackDays() {
+        int lookbackDays = 0;
+        for (Sleeve sleeve : sleeves) {
+            lookbackDays = Math.max(lookbackDays, sleeve.strategy.getLookbackDays());
+        }
+        return lookbackDays;
+    }
+
+    @Override
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
+        return rebalance(date, portfolio, universe, request, prices, BenchmarkSeries.empty());
+    }
+
+    @Override
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request,
+                                      PricePanel prices, BenchmarkSeries benchmark) {
+        this.prices = prices;
+        if (initialCapital == 0.0) {
+            initialCapital = request.getInitialCapital().doubleValue();
+        }
+        // 평가는 해당일 이하 마지막 거래일 종가, 주문은 해당일 종가가 있는 종목만
+        int valuationDay = prices.floorDayIndexOf(date);
+        int day = prices.dayIndexOf(date);
+        double totalValue = portfolio.getTotalValue().doubleValue();
+
+        // 1. 직전 리밸런싱 이후 슬리브 손익 확정 후 목표 비중으로 자본 재배분, 하위 전략 실행
+        List<Map<String, Integer>> deltas = new ArrayList<>(sleeves.size());
+        for (Sleeve sleeve : sleeves) {
+            sleeve.close(prices, valuationDay);
+            Portfolio view = sleeve.open(totalValue * sleeve.weight, prices, valuationDay);
+            List<TradeOrder> orders = sleeve.strategy.rebalance(date, view, universe, sleeve.requestOf(request), prices, benchmark);
+            deltas.add(sleeve.apply(orders));
+        }
+        recordNetting(date, deltas);
+
+        // 2. 종목별 슬리브 목표 수량 합계
+        Map<String, Integer> targets = new LinkedHashMap<>();
+        for (Sleeve sleeve : sleeves) {
+            sleeve.quantities.forEach((stockCode, quantity) -> targets.merge(stockCode, quantity, Integer::sum));
+        }
+
+        // 3. 실제 보유와의 차이만 주문 (매도 먼저 체결해 매수 현금 확보)
+        Set<String> stockCodes = new LinkedHashSet<>(portfolio.getHoldings().keySet());
+        stockCodes.addAll(targets.keySet());
+        List<TradeOrder> sells = new ArrayList<>();
+        List<TradeOrder> buys = new ArrayList<>();
+        for (String stockCode : stockCodes) {
+            PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
+            int held = holding != null ? holding.getQuantity() : 0;
+            int diff = targets.getOrDefault(stockCode, 0) - held;
+            int stock = prices.indexOf(stockCode);
+            if (diff == 0 || !prices.hasClose(stock, day)) continue;
+
+            BigDecimal price = BigDecimal.valueOf(prices.close(stock, day));
+            if (diff > 0) {
+                buys.add(order(stockCode, OrderType.BUY, diff, price, date));
+            } else {
+                sells.add(order(stockCode, OrderType.SELL, -diff, price, date));
+            }
+        }
+        sells.addAll(buys);
+        return sells;
+    }
+
+    /**
+     * 종료일 기준으로 슬리브 장부를 평가한 성과 기여. 리밸런싱이 한 번도 없었으면 빈 목록
+     */
+    public List<SleeveAttribution> attribution(Long simulationId, LocalDate endDate) {
+        if (prices == null) {
+            return List.of();
+        }
+        int day = prices.floorDayIndexOf(endDate);
+        List<SleeveAttribution> attributions = new ArrayList<>(sleeves.size());
+        for (Sleeve sleeve : sleeves) {
+            sleeve.close(prices, day);
+            attributions.add(SleeveAttribution.builder()
+                    .simulationId(simulationId)
+                    .sleeveIndex(sleeve.index)
+                    .strategyType(sleeve.type)
+                    .targetWeight(PerformanceAccumulator.ratio(sleeve.weight))
+                    .profitLoss(amount(sleeve.profitLoss))
+                    .totalReturn(PerformanceAccumulator.percent(sleeve.growth - 1.0))
+                    .contribution(PerformanceAccumulator.percent(initialCapital > 0 ? sleeve.profitLoss / initialCapital : 0.0))
+                    .tradedAmount(amount(sleeve.tradedAmount))
+                    .nettedAmount(amount(sleeve.nettedAmount))
+                    .build());
+        }
+        return attributions;
+    }
+
+    // 종목별로 매수 슬리브 합계와 매도 슬리브 합계 중 작은 쪽이 상쇄되며, 각 슬리브에 주문 금액 비율대로 배분
+    private void recordNetting(LocalDate date, List<Map<String, Integer>> deltas) {
+        Map<String, double[]> sides = new HashMap<>();
+        for (Map<String, Integer> delta : deltas) {
+            delta.forEach((stockCode, quantity) -> {
+                double[] side = sides.computeIfAbsent(stockCode, code -> new double[2]);
+                side[quantity > 0 ? 0 : 1] += Math.abs(quantity);
+            });
+        }
+
+        double netted = 0.0;
+        for (int i = 0; i < sleeves.size(); i++) {
+            Sleeve sleeve = sleeves.get(i);
+            for (Map.Entry<String, Integer> entry : deltas.get(i).entrySet()) {
+                int quantity = entry.getValue();
+                double[] side = sides.get(entry.getKey());
+                double crossed = Math.min(side[0], side[1]);
+                // 하위 전략 주문은 모두 당일 종가 기준
+                double amount = Math.abs(quantity) * sleeve.orderPrices.getOrDefault(entry.getKey(), 0.0);
+                double nettedAmount = amount * crossed / side[quantity > 0 ? 0 : 1];
+
+                sleeve.tradedAmount += amount;
+                sleeve.nettedAmount += nettedAmount;
+                netted += nettedAmount;
+            }
+        }
+        if (netted > 0) {
+            log.debug("Composite rebalance on {} netted {} between sleeves", date, Math.round(netted));
+        }
+    }
+
+    // 해당 거래일 이하 마지막 유효 종가 (거래정지 등 결측 시 직전 가격으로 평가). 없으면 0
+    private static double lastClose(PricePanel prices, int stock, int day) {
+        for (int d = day; stock != PricePanel.NOT_FOUND && d >= 0; d--) {
+            if (prices.hasClose(stock, d)) {
+                return prices.close(stock, d);
+            }
+        }
+        return 0.0;
+    }
+
+    private static BigDecimal amount(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+
+    private static TradeOrder order(String stockCode, OrderType orderType, int quantity, BigDecimal price, LocalDate date) {
+        return TradeOrder.builder()
+                .stockCode(stockCode)
+                .orderType(orderType)
+                .quantity(quantity)
+                .price(price)
+                .orderDate(date)
+                .build();
+    }
+
+    /**
+     * 하위 전략과 목표 비중, 가상 장부
+     */
+    public static final class Sleeve {
+
+        private final int index;
+        private final StrategyType type;
+        private final Strategy strategy;
+        private final double weight;
+
+        // 가상 장부: 종목별 보유 수량과 현금 (체결 비용 없이 종가로 체결된 것으로 가정)
+        private final Map<String, Integer> quantities = new LinkedHashMap<>();
+        // 이번 리밸런싱 주문 가격 (상쇄 금액 계산용)
+        private final Map<String, Double> orderPrices = new HashMap<>();
+        private double cash;
+        // 직전 리밸런싱에서 배정한 자본. 첫 리밸런싱 전에는 NaN
+        private double capital = Double.NaN;
+
+        private double profitLoss;
+        private double growth = 1.0;
+        private double tradedAmount;
+        private double nettedAmount;
+
+        public Sleeve(int index, StrategyType type, Strategy strategy, double weight) {
+            this.index = index;
+            this.type = type;
+            this.strategy = strategy;
+            this.weight = weight;
+        }
+
+        // 가상 장부 평가 금액으로 직전 구간 손익 확정
+        private void close(PricePanel prices, int day) {
+            if (Double.isNaN(capital)) {
+                return;
+            }
+            double value = cash;
+            for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+                value += entry.getValue() * lastClose(prices, prices.indexOf(entry.getKey()), day);
+            }
+            profitLoss += value - capital;
+            growth *= capital > 0 ? value / capital : 1.0;
+            capital = value;
+        }
+
+        // 배정 자본으로 장부를 재설정하고 하위 전략에 넘길 가상 포트폴리오 생성
+        private Portfolio open(double allocated, PricePanel prices, int day) {
+            Map<String, PortfolioHolding> holdings = new HashMap<>(quantities.size() * 2);
+            double holdingsValue = 0.0;
+            for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+                double price = lastClose(prices, prices.indexOf(entry.getKey()), day);
+                BigDecimal currentPrice = BigDecimal.valueOf(price);
+                holdings.put(entry.getKey(), PortfolioHolding.builder()
+                        .stockCode(entry.getKey())
+                        .quantity(entry.getValue())
+                        .averagePrice(currentPrice)
+                        .currentPrice(currentPrice)
+                        .marketValue(currentPrice.multiply(BigDecimal.valueOf(entry.getValue())))
+                        .build());
+                holdingsValue += entry.getValue() * price;
+            }
+            capital = allocated;
+            cash = allocated - holdingsValue;
+
+            Portfolio view = new Portfolio(BigDecimal.valueOf(cash).setScale(2, RoundingMode.HALF_UP));
+            view.setTotalValue(BigDecimal.valueOf(allocated).setScale(2, RoundingMode.HALF_UP));
+            view.setHoldings(holdings);
+            return view;
+        }
+
+        // 하위 전략 주문을 가상 장부에 반영하고 종목별 수량 변화 반환 (보유 초과 매도는 보유 수량까지만)
+        private Map<String, Integer> apply(List<TradeOrder> orders) {
+            Map<String, Integer> delta = new LinkedHashMap<>();
+            orderPrices.clear();
+            for (TradeOrder order : orders) {
+                int held = quantities.getOrDefault(order.getStockCode(), 0);
+                int quantity = order.getOrderType() == OrderType.BUY
+                        ? order.getQuantity()
+                        : -Math.min(order.getQuantity(), held);
+                if (quantity == 0) continue;
+
+                double price = order.getPrice().doubleValue();
+                cash -= quantity * price;
+                orderPrices.put(order.getStockCode(), price);
+                if (held + quantity == 0) {
+                    quantities.remove(order.getStockCode());
+                } else {
+                    quantities.put(order.getStockCode(), held + quantity);
+                }
+                delta.merge(order.getStockCode(), quantity, Integer::sum);
+            }
+            delta.values().removeIf(quantity -> quantity == 0);
+            return delta;
+        }
+
+        // 하위 전략은 자신의 유형으로 설정을 읽으므로 (자산 배분: DUAL_MOMENTUM/RISK_PARITY) 유형만 바꾼 요청 전달
+        private BacktestRequest requestOf(BacktestRequest request) {
+            BacktestRequest sleeveRequest = ParameterSpace.copy(request);
+            sleeveRequest.setStrategyType(type);
+            sleeveRequest.setSleeves(null);
+            return sleeveRequest;
+        }
+    }
+}
@@ -1,32 +1,28 @@
 package com.stock.strategy.strategy;
 
-import com.stock.common.dto.StockPriceDto;
-import com.stock.common.utils.DateUtils;
-import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.dto.BacktestRequest;
-import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
-import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.crosssection.CrossSection;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LowVolatilityStrategy implements Strategy {
 
-    private final PriceClient priceClient;
-    
     private static final int TOP_N = 20;
     private static final int VOLATILITY_PERIOD = 60;
+    // 데이터 부족한 초기 단계이므로 기간 완화 (60 -> 10)
+    private static final int EFFECTIVE_PERIOD = 10;
+    private static final int LOOKBACK_DAYS = EFFECTIVE_PERIOD + 10;
 
     @Override
     public String getName() {
@@ -34,7 +30,12 @@ public class LowVolatilityStrategy implements Strategy {
     }
 
     @Override
-    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request) {
+    public int getLookbackDays() {
+        return LOOKBACK_DAYS;
+    }
+
+    @Override
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
         List<TradeOrder> orders = new ArrayList<>();
 
         if (universe.isEmpty()) {
@@ -42,13 +43,12 @@ public class LowVolatilityStrategy implements Strategy {
         }
 
         try {
-            Map<String, BigDecimal> volatilityScores = calculateVolatility(universe, date);
-            
-            List<String> lowVolStocks = volatilityScores.entrySet().stream()
-                    .sorted(Map.Entry.comparingByValue())
-                    .limit(TOP_N)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
+            double[] volatilities = calculateVolatility(universe, date, prices);
+
+            List<String> lowVolStocks = new ArrayList<>();
+            for (int index : CrossSection.bottomK(volatilities, TOP_N)) {
+                lowVolStocks.add(universe.get(index));
+            }
 
             if (lowVolStocks.isEmpty()) {
                 return orders;
@@ -56,71 +56,7 @@ public class LowVolatilityStrategy implements Strategy {
 
             log.info("Selected {} low volatility stocks for date {}", lowVolStocks.size(), date);
 
-            BigDecimal totalValue = portfolio.getTotalValue();
-            BigDecimal targetValuePerStock = totalValue.divide(
-                    BigDecimal.valueOf(lowVolStocks.size()), 2, RoundingMode.HALF_UP);
-
-            for (String stockCode : new ArrayList<>(portfolio.getHoldings().keySet())) {
-                if (!lowVolStocks.contains(stockCode)) {
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    orders.add(TradeOrder.builder()
-                            .stockCode(stockCode)
-                            .orderType(OrderType.SELL)
-                            .quantity(holding.getQuantity())
-                            .price(holding.getCurrentPrice())
-                            .orderDate(date)
-                            .build());
-                }
-            }
-
-            String dateStr = DateUtils.toLocalDateString(date);
-            for (String stockCode : lowVolStocks) {
-                try {
-                    String codeWithoutA = stockCode.startsWith("A") ? stockCode.substring(1) : stockCode;
-                    var priceDto = priceClient.getPriceByDate(codeWithoutA, dateStr);
-                    if (priceDto == null || priceDto.getEndPrice() == null) {
-                        continue;
-                    }
-
-                    BigDecimal currentPrice = priceDto.getEndPrice();
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    
-                    BigDecimal currentValue = holding != null 
-                            ? holding.getMarketValue() 
-                            : BigDecimal.ZERO;
-
-                    BigDecimal diff = targetValuePerStock.subtract(currentValue);
-                    
-                    if (diff.abs().compareTo(currentPrice) > 0) {
-                        if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                            int quantity = diff.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.BUY)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        } else {
-                            int quantity = diff.abs().divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0 && holding != null && holding.getQuantity() >= quantity) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.SELL)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to get price for {}: {}", stockCode, e.getMessage());
-                }
-            }
-
+            orders.addAll(PortfolioRebalancer.of(request).rebalanceEqualWeight(date, portfolio, lowVolStocks, prices));
         } catch (Exception e) {
             log.error("Failed to rebalance with low volatility strategy", e);
         }
@@ -128,63 +64,34 @@ public class LowVolatilityStrategy implements Strategy {
         return orders;
     }
 
-    private Map<String, BigDecimal> calculateVolatility(List<String> universe, LocalDate date) {
-        Map<String, BigDecimal> volatilities = new HashMap<>();
-        
-        // 데이터 부족한 초기 단계이므로 기간 완화 (60 -> 10)
-        int period = 10;
-        LocalDate startDate = date.minusDays(period + 10);
-        String startDateStr = DateUtils.toLocalDateString(startDate);
-        String endDateStr = DateUtils.toLocalDateString(date);
-
-        for (String stockCode : universe) {
-            try {
-                String codeWithoutA = stockCode.startsWith("A") ? stockCode.substring(1) : stockCode;
-                var priceHistory = priceClient.getPriceHistory(codeWithoutA, startDateStr, endDateStr);
-                
-                if (priceHistory == null || priceHistory.size() < 2) {
-                    continue;
-                }
-
-                priceHistory.sort(Comparator.comparing(StockPriceDto::getBasDt));
-
-                List<BigDecimal> returns = new ArrayList<>();
-                for (int i = 1; i < priceHistory.size(); i++) {
-                    BigDecimal prevPrice = priceHistory.get(i - 1).getEndPrice();
-                    BigDecimal currPrice = priceHistory.get(i).getEndPrice();
-                    
-                    if (prevPrice != null && currPrice != null && prevPrice.compareTo(BigDecimal.ZERO) > 0) {
-                        BigDecimal dailyReturn = currPrice.subtract(prevPrice)
-                                .divide(prevPrice, 8, RoundingMode.HALF_UP);
-                        returns.add(dailyReturn);
-                    }
-                }
-
-                if (!returns.isEmpty()) {
-                    BigDecimal volatility = calculateStandardDeviation(returns);
-                    volatilities.put(stockCode, volatility);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to calculate volatility for {}: {}", stockCode, e.getMessage());
+    /**
+     * 유니버스 순서의 일간 수익률 표준편차(모집단) 컬럼. 수익률을 계산할 수 없는 종목은 NaN
+     */
+    private double[] calculateVolatility(List<String> universe, LocalDate date, PricePanel prices) {
+        double[] volatilities = new double[universe.size()];
+
+        LocalDate startDate = date.minusDays(LOOKBACK_DAYS);
+
+        for (int i = 0; i < volatilities.length; i++) {
+            double[] priceHistory = prices.closeWindow(universe.get(i), startDate, date);
+
+            int count = 0;
+            double mean = 0.0;
+            double m2 = 0.0;
+            for (int day = 1; day < priceHistory.length; day++) {
+                double prevPrice = priceHistory[day - 1];
+                if (prevPrice <= 0) continue;
+
+                double dailyReturn = (priceHistory[day] - prevPrice) / prevPrice;
+                count++;
+                double delta = dailyReturn - mean;
+                mean += delta / count;
+                m2 += delta * (dailyReturn - mean);
             }
-        }
-
-        return volatilities;
-    }
 
-    private BigDecimal calculateStandardDeviation(List<BigDecimal> values) {
-        if (values.isEmpty()) {
-            return BigDecimal.ZERO;
+            volatilities[i] = count > 0 ? Math.sqrt(m2 / count) : Double.NaN;
         }
 
-        BigDecimal sum = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal mean = sum.divide(BigDecimal.valueOf(values.size()), 8, RoundingMode.HALF_UP);
-
-        BigDecimal variance = values.stream()
-                .map(v -> v.subtract(mean).pow(2))
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .divide(BigDecimal.valueOf(values.size()), 8, RoundingMode.HALF_UP);
-
-        return BigDecimal.valueOf(Math.sqrt(variance.doubleValue()));
+        return volatilities;
     }
 }
@@ -1,37 +1,32 @@
 package com.stock.strategy.strategy;
 
-import com.stock.common.utils.DateUtils;
-import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.dto.BacktestRequest;
-import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
-import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.crosssection.CrossSection;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MomentumStrategy implements Strategy {
 
-    private final PriceClient priceClient;
-    
     private static final int TOP_N = 20;
     private static final int MOMENTUM_1M_DAYS = 20;
     private static final int MOMENTUM_3M_DAYS = 60;
     private static final int MOMENTUM_6M_DAYS = 120;
+    private static final int LOOKBACK_DAYS = MOMENTUM_6M_DAYS + 30;
     
-    private static final BigDecimal WEIGHT_1M = new BigDecimal("0.5");
-    private static final BigDecimal WEIGHT_3M = new BigDecimal("0.3");
-    private static final BigDecimal WEIGHT_6M = new BigDecimal("0.2");
+    private static final double WEIGHT_1M = 0.5;
+    private static final double WEIGHT_3M = 0.3;
+    private static final double WEIGHT_6M = 0.2;
 
     @Override
     public String getName() {
@@ -39,7 +34,12 @@ public class MomentumStrategy implements Strategy {
     }
 
     @Override
-    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request) {
+    public int getLookbackDays() {
+        return LOOKBACK_DAYS;
+    }
+
+    @Override
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
         List<TradeOrder> orders = new ArrayList<>();
 
         if (universe.isEmpty()) {
@@ -48,14 +48,13 @@ public class MomentumStrategy implements Strategy {
 
         try {
             // 1. 모멘텀 스코어 계산
-            Map<String, BigDecimal> momentumScores = calculateMomentumScores(universe, date);
-            
+            double[] momentumScores = calculateMomentumScores(universe, date, prices);
+
             // 2. 상위 N개 종목 선정
-            List<String> topStocks = momentumScores.entrySet().stream()
-                    .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
-                    .limit(TOP_N)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
+            List<String> topStocks = new ArrayList<>();
+            for (int index : CrossSection.topK(momentumScores, TOP_N)) {
+                topStocks.add(universe.get(index));
+            }
 
             if (topStocks.isEmpty()) {
                 return orders;
@@ -63,78 +62,8 @@ public class MomentumStrategy implements Strategy {
 
             log.info("Selected {} momentum stocks for date {}", topStocks.size(), date);
 
-            // 3. 전체 자산 가치
-            BigDecimal totalValue = portfolio.getTotalValue();
-            
-            // 4. 종목당 목표 금액 (동일 비중)
-            BigDecimal targetValuePerStock = totalValue.divide(
-                    BigDecimal.valueOf(topStocks.size()), 2, RoundingMode.HALF_UP);
-
-            // 5. 기존 보유 종목 중 상위 N개에 없는 종목 매도
-            for (String stockCode : new ArrayList<>(portfolio.getHoldings().keySet())) {
-                if (!topStocks.contains(stockCode)) {
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    orders.add(TradeOrder.builder()
-                            .stockCode(stockCode)
-                            .orderType(OrderType.SELL)
-                            .quantity(holding.getQuantity())
-                            .price(holding.getCurrentPrice())
-                            .orderDate(date)
-                            .build());
-                }
-            }
-
-            // 6. 상위 종목 리밸런싱
-            String dateStr = DateUtils.toLocalDateString(date);
-            for (String stockCode : topStocks) {
-                try {
-                    String codeWithoutA = stockCode.startsWith("A") ? stockCode.substring(1) : stockCode;
-                    var priceDto = priceClient.getPriceByDate(codeWithoutA, dateStr);
-                    if (priceDto == null || priceDto.getEndPrice() == null) {
-                        continue;
-                    }
-
-                    BigDecimal currentPrice = priceDto.getEndPrice();
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    
-                    BigDecimal currentValue = holding != null 
-                            ? holding.getMarketValue() 
-                            : BigDecimal.ZERO;
-
-                    BigDecimal diff = targetValuePerStock.subtract(currentValue);
-                    
-                    if (diff.abs().compareTo(currentPrice) > 0) {
-                        if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                            // 매수
-                            int quantity = diff.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.BUY)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        } else {
-                            // 매도
-                            int quantity = diff.abs().divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0 && holding != null && holding.getQuantity() >= quantity) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.SELL)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to get price for {}: {}", stockCode, e.getMessage());
-                }
-            }
-
+            // 3. 동일 비중 리밸런싱 주문 생성
+            orders.addAll(PortfolioRebalancer.of(request).rebalanceEqualWeight(date, portfolio, topStocks, prices));
         } catch (Exception e) {
             log.error("Failed to rebalance with momentum strategy", e);
         }
@@ -142,74 +71,60 @@ public class MomentumStrategy implements Strategy {
         return orders;
     }
 
-    private Map<String, BigDecimal> calculateMomentumScores(List<String> universe, LocalDate date) {
-        Map<String, BigDecimal> scores = new HashMap<>();
-        
-        LocalDate startDate = date.minusDays(MOMENTUM_6M_DAYS + 30);
-        String startDateStr = DateUtils.toLocalDateString(startDate);
-        String endDateStr = DateUtils.toLocalDateString(date);
-
-        for (String stockCode : universe) {
-            try {
-                String codeWithoutA = stockCode.startsWith("A") ? stockCode.substring(1) : stockCode;
-                var priceHistory = priceClient.getPriceHistory(codeWithoutA, startDateStr, endDateStr);
-                
-                if (priceHistory == null || priceHistory.isEmpty()) {
-                    continue;
-                }
-
-                // 날짜순 정렬
-                priceHistory.sort(Comparator.comparing(p -> p.getBasDt()));
-
-                BigDecimal momentum1m = calculateMomentum(priceHistory, MOMENTUM_1M_DAYS);
-                BigDecimal momentum3m = calculateMomentum(priceHistory, MOMENTUM_3M_DAYS);
-                BigDecimal momentum6m = calculateMomentum(priceHistory, MOMENTUM_6M_DAYS);
-
-                // 데이터가 부족하면 1m이라도 있으면 점수 산정 (테스트용 유연성)
-                BigDecimal score = BigDecimal.ZERO;
-                boolean hasAny = false;
-                
-                if (momentum1m != null) {
-                    score = score.add(momentum1m.multiply(WEIGHT_1M));
-                    hasAny = true;
-                }
-                if (momentum3m != null) {
-                    score = score.add(momentum3m.multiply(WEIGHT_3M));
-                    hasAny = true;
-                }
-                if (momentum6m != null) {
-                    score = score.add(momentum6m.multiply(WEIGHT_6M));
-                    hasAny = true;
-                }
-
-                if (hasAny) {
-                    scores.put(stockCode, score);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to calculate momentum for {}: {}", stockCode, e.getMessage());
+    /**
+     * 유니버스 순서의 모멘텀 점수 컬럼. 시세가 없는 종목은 NaN
+     */
+    private double[] calculateMomentumScores(List<String> universe, LocalDate date, PricePanel prices) {
+        double[] scores = new double[universe.size()];
+
+        LocalDate startDate = date.minusDays(LOOKBACK_DAYS);
+
+        for (int i = 0; i < scores.length; i++) {
+            // 패널에서 날짜순 종가 구간 조회
+            double[] priceHistory = prices.closeWindow(universe.get(i), startDate, date);
+
+            Double momentum1m = calculateMomentum(priceHistory, MOMENTUM_1M_DAYS);
+            Double momentum3m = calculateMomentum(priceHistory, MOMENTUM_3M_DAYS);
+            Double momentum6m = calculateMomentum(priceHistory, MOMENTUM_6M_DAYS);
+
+            // 데이터가 부족하면 1m이라도 있으면 점수 산정 (테스트용 유연성)
+            double score = 0.0;
+            boolean hasAny = false;
+
+            if (momentum1m != null) {
+                score += momentum1m * WEIGHT_1M;
+                hasAny = true;
+            }
+            if (momentum3m != null) {
+                score += momentum3m * WEIGHT_3M;
+                hasAny = true;
             }
+            if (momentum6m != null) {
+                score += momentum6m * WEIGHT_6M;
+                hasAny = true;
+            }
+
+            scores[i] = hasAny ? score : Double.NaN;
         }
 
         return scores;
     }
 
-    private BigDecimal calculateMomentum(List<com.stock.common.dto.StockPriceDto> priceHistory, int days) {
-        if (priceHistory.size() < 2) {
+    private Double calculateMomentum(double[] priceHistory, int days) {
+        if (priceHistory.length < 2) {
             return null;
         }
 
-        int endIndex = priceHistory.size() - 1;
+        int endIndex = priceHistory.length - 1;
         int startIndex = Math.max(0, endIndex - days);
 
-        BigDecimal endPrice = priceHistory.get(endIndex).getEndPrice();
-        BigDecimal startPrice = priceHistory.get(startIndex).getEndPrice();
+        double endPrice = priceHistory[endIndex];
+        double startPrice = priceHistory[startIndex];
 
-        if (startPrice == null || endPrice == null || startPrice.compareTo(BigDecimal.ZERO) == 0) {
+        if (startPrice == 0) {
             return null;
         }
 
-        return endPrice.subtract(startPrice)
-                .divide(startPrice, 8, RoundingMode.HALF_UP)
-                .multiply(new BigDecimal("100"));
+        return (endPrice - startPrice) / startPrice * 100;
     }
 }
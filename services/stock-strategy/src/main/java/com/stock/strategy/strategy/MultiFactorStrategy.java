@@ -1,37 +1,33 @@
 package com.stock.strategy.strategy;
 
-import com.stock.common.dto.CorpFinanceIndicatorDto;
 import com.stock.common.dto.MultiFactorConfig;
-import com.stock.common.dto.StockIndicatorDto;
-import com.stock.common.utils.DateUtils;
-import com.stock.strategy.client.FinanceClient;
-import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.dto.BacktestRequest;
-import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.entity.FactorScore;
-import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.service.FactorScoringService;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.crosssection.CrossSection;
+import com.stock.strategy.service.factor.FactorExposure;
+import com.stock.strategy.service.factor.FactorExposureCalculator;
+import com.stock.strategy.service.factor.FactorStore;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MultiFactorStrategy implements Strategy {
 
-    private final PriceClient priceClient;
-    private final FinanceClient financeClient;
+    private final FactorStore factorStore;
+    private final FactorExposureCalculator factorExposureCalculator;
     private final FactorScoringService factorScoringService;
 
     @Override
@@ -40,7 +36,7 @@ public class MultiFactorStrategy implements Strategy {
     }
 
     @Override
-    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request) {
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
         MultiFactorConfig config = request.getMultiFactorConfig();
         if (config == null) {
             config = MultiFactorConfig.builder()
@@ -50,94 +46,46 @@ public class MultiFactorStrategy implements Strategy {
                     .qualityWeight(new BigDecimal("0.3"))
                     .build();
         }
-        return rebalanceInternal(date, portfolio, universe, config);
+        return rebalanceInternal(date, portfolio, universe, config, prices, PortfolioRebalancer.of(request));
     }
 
-    private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, List<String> universe, MultiFactorConfig config) {
+    private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, List<String> universe,
+                                               MultiFactorConfig config, PricePanel prices, PortfolioRebalancer rebalancer) {
         List<TradeOrder> orders = new ArrayList<>();
         if (universe.isEmpty()) return orders;
 
-        String dateStr = DateUtils.toLocalDateString(date);
-
         try {
-            List<CorpFinanceIndicatorDto> finances = financeClient.getIndicatorsBatch(universe, dateStr);
-            List<StockIndicatorDto> indicators = priceClient.getIndicatorsByDateBatch(universe, dateStr);
+            // 배치로 사전 계산된 노출값을 우선 사용하고, 없는 일자만 즉석 계산 (저장하지 않음)
+            List<FactorExposure> exposures = factorStore.load(date, universe);
+            if (exposures.isEmpty()) {
+                exposures = factorExposureCalculator.calculate(date, universe, prices);
+            }
 
-            log.info("MultiFactor rebalance on {}: Universe={}, Finances={}, Indicators={}", 
-                    date, universe.size(), finances.size(), indicators.size());
+            log.debug("MultiFactor rebalance on {}: Universe={}, Exposures={}", date, universe.size(), exposures.size());
 
-            List<FactorScore> scores = factorScoringService.calculateAndSaveScores(
-                    date, finances, indicators, 
-                    config.getValueWeight(), 
-                    config.getMomentumWeight(), 
+            List<FactorScore> scores = factorScoringService.calculateScores(
+                    date, exposures,
+                    config.getValueWeight(),
+                    config.getMomentumWeight(),
                     config.getQualityWeight()
             );
 
             if (scores.isEmpty()) return orders;
 
             // 상위 N개 선정
-            List<String> targetStocks = scores.stream()
-                    .sorted(Comparator.comparing(FactorScore::getTotalScore).reversed())
-                    .limit(config.getTopN())
-                    .map(FactorScore::getStockCode)
-                    .collect(Collectors.toList());
-
-            log.info("Selected {} multi-factor stocks for date {}", targetStocks.size(), date);
-
-            // 1. 매도 (targetStocks에 없는 종목)
-            for (String stockCode : new ArrayList<>(portfolio.getHoldings().keySet())) {
-                if (!targetStocks.contains(stockCode)) {
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    orders.add(TradeOrder.builder()
-                            .stockCode(stockCode)
-                            .orderType(OrderType.SELL)
-                            .quantity(holding.getQuantity())
-                            .price(holding.getCurrentPrice())
-                            .orderDate(date)
-                            .build());
-                }
+            double[] totalScores = new double[scores.size()];
+            for (int i = 0; i < totalScores.length; i++) {
+                totalScores[i] = scores.get(i).getTotalScore().doubleValue();
+            }
+            List<String> targetStocks = new ArrayList<>();
+            for (int index : CrossSection.topK(totalScores, config.getTopN())) {
+                targetStocks.add(scores.get(index).getStockCode());
             }
 
-            // 2. 매수 (동일 비중 가정)
-            BigDecimal totalValue = portfolio.getTotalValue();
-            BigDecimal targetValuePerStock = totalValue.divide(BigDecimal.valueOf(targetStocks.size()), 2, RoundingMode.HALF_UP);
-
-            for (String stockCode : targetStocks) {
-                var priceDto = priceClient.getPriceByDate(stockCode.startsWith("A") ? stockCode.substring(1) : stockCode, dateStr);
-                if (priceDto == null || priceDto.getEndPrice() == null) continue;
-
-                BigDecimal currentPrice = priceDto.getEndPrice();
-                PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                BigDecimal currentValue = holding != null ? holding.getMarketValue() : BigDecimal.ZERO;
-
-                BigDecimal diff = targetValuePerStock.subtract(currentValue);
+            log.info("Selected {} multi-factor stocks for date {}", targetStocks.size(), date);
 
-                if (diff.abs().compareTo(currentPrice) > 0) {
-                    if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                        int quantity = diff.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                        if (quantity > 0) {
-                            orders.add(TradeOrder.builder()
-                                    .stockCode(stockCode)
-                                    .orderType(OrderType.BUY)
-                                    .quantity(quantity)
-                                    .price(currentPrice)
-                                    .orderDate(date)
-                                    .build());
-                        }
-                    } else {
-                        int quantity = diff.abs().divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                        if (quantity > 0 && holding != null && holding.getQuantity() >= quantity) {
-                            orders.add(TradeOrder.builder()
-                                    .stockCode(stockCode)
-                                    .orderType(OrderType.SELL)
-                                    .quantity(quantity)
-                                    .price(currentPrice)
-                                    .orderDate(date)
-                                    .build());
-                        }
-                    }
-                }
-            }
+            // 동일 비중 리밸런싱 주문 생성
+            orders.addAll(rebalancer.rebalanceEqualWeight(date, portfolio, targetStocks, prices));
         } catch (Exception e) {
             log.error("Failed to rebalance MultiFactor", e);
         }
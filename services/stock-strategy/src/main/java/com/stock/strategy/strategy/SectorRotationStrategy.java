@@ -7,18 +7,19 @@ import com.stock.common.utils.DateUtils;
 import com.stock.strategy.client.CorpClient;
 import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.dto.BacktestRequest;
-import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.entity.SectorAnalysis;
-import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.service.SectorAnalysisService;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.crosssection.CrossSection;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -38,7 +39,13 @@ public class SectorRotationStrategy implements Strategy {
     }
 
     @Override
-    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request) {
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
+        return rebalance(date, portfolio, universe, request, prices, BenchmarkSeries.empty());
+    }
+
+    @Override
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request,
+                                      PricePanel prices, BenchmarkSeries benchmark) {
         SectorRotationConfig config = request.getSectorRotationConfig();
         if (config == null) {
             config = SectorRotationConfig.builder()
@@ -46,10 +53,11 @@ public class SectorRotationStrategy implements Strategy {
                     .stocksPerSector(5)
                     .build();
         }
-        return rebalanceInternal(date, portfolio, universe, config);
+        return rebalanceInternal(date, portfolio, universe, config, prices, benchmark, PortfolioRebalancer.of(request));
     }
 
-    private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, List<String> universe, SectorRotationConfig config) {
+    private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, List<String> universe, SectorRotationConfig config,
+                                               PricePanel prices, BenchmarkSeries benchmark, PortfolioRebalancer rebalancer) {
         List<TradeOrder> orders = new ArrayList<>();
         if (universe.isEmpty()) return orders;
 
@@ -66,103 +74,66 @@ public class SectorRotationStrategy implements Strategy {
                             Collectors.mapping(CorpInfoDto::getStockCode, Collectors.toList())
                     ));
 
-            // 2. Analyze sectors
-            List<SectorAnalysis> sectorScores = sectorAnalysisService.analyzeAndSaveSectors(date, sectorToStocks, dateStr);
-
-            // 3. Select top N sectors
-            List<String> topSectors = sectorScores.stream()
-                    .sorted(Comparator.comparing(SectorAnalysis::getAvgMomentum12m).reversed())
-                    .limit(config.getTopSectorsCount())
-                    .map(SectorAnalysis::getSectorName)
-                    .collect(Collectors.toList());
-
-            // 4. Select top stocks within top sectors based on momentum
-            List<String> targetStocks = new ArrayList<>();
+            // 2. Fetch indicators for universe once (sector analysis and stock selection share them)
             List<String> codesWithoutA = universe.stream().map(c -> c.startsWith("A") ? c.substring(1) : c).collect(Collectors.toList());
             List<StockIndicatorDto> indicators = priceClient.getIndicatorsByDateBatch(codesWithoutA, dateStr);
-            
-            Map<String, Double> momMap = indicators.stream()
+            Map<String, StockIndicatorDto> indicatorByCode = indicators.stream()
                     .filter(i -> i.getStockCode() != null)
-                    .collect(Collectors.toMap(
-                        i -> "A" + i.getStockCode(), 
-                        i -> {
-                            BigDecimal mom = i.getMomentum6m() != null ? i.getMomentum6m() : i.getMomentum1m();
-                            return mom != null ? mom.doubleValue() : -999.0;
-                        }, 
-                        (i1, i2) -> i1));
-
-            for (String sector : topSectors) {
-                List<String> sectorStocks = sectorToStocks.get(sector);
-                if (sectorStocks == null) continue;
+                    .collect(Collectors.toMap(i -> "A" + i.getStockCode(), i -> i, (i1, i2) -> i1));
 
-                List<String> bestInSector = sectorStocks.stream()
-                        .filter(momMap::containsKey)
-                        .sorted(Comparator.comparingDouble((String s) -> momMap.get(s)).reversed())
-                        .limit(config.getStocksPerSector())
-                        .collect(Collectors.toList());
+            // 3. Analyze sectors (시뮬레이션 기준 지수로 상대 강도 계산, 저장하지 않음)
+            List<SectorAnalysis> sectorScores = sectorAnalysisService.analyzeSectors(date, sectorToStocks, indicatorByCode, benchmark);
 
-                targetStocks.addAll(bestInSector);
+            // 4. Select top N sectors
+            double[] sectorMomentum = new double[sectorScores.size()];
+            for (int i = 0; i < sectorMomentum.length; i++) {
+                BigDecimal avgMomentum = sectorScores.get(i).getAvgMomentum12m();
+                sectorMomentum[i] = avgMomentum != null ? avgMomentum.doubleValue() : Double.NaN;
+            }
+            List<String> topSectors = new ArrayList<>();
+            for (int index : CrossSection.topK(sectorMomentum, config.getTopSectorsCount())) {
+                topSectors.add(sectorScores.get(index).getSectorName());
             }
 
-            if (targetStocks.isEmpty()) return orders;
-
-            log.info("Selected {} sector rotation stocks for date {}", targetStocks.size(), date);
-
-            // 5. Sell
-            for (String stockCode : new ArrayList<>(portfolio.getHoldings().keySet())) {
-                if (!targetStocks.contains(stockCode)) {
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    orders.add(TradeOrder.builder()
-                            .stockCode(stockCode)
-                            .orderType(OrderType.SELL)
-                            .quantity(holding.getQuantity())
-                            .price(holding.getCurrentPrice())
-                            .orderDate(date)
-                            .build());
+            // 5. Select top stocks within top sectors based on momentum
+            Map<String, Double> momMap = new HashMap<>();
+            indicatorByCode.forEach((stockCode, i) -> {
+                BigDecimal mom = i.getMomentum6m() != null ? i.getMomentum6m() : i.getMomentum1m();
+                momMap.put(stockCode, mom != null ? mom.doubleValue() : -999.0);
+            });
+
+            // 상위 섹터 종목을 섹터 번호/모멘텀 컬럼으로 펼친 뒤 섹터별 부분 선택 (지표 없는 종목은 NaN 으로 제외)
+            List<String> candidates = new ArrayList<>();
+            List<Integer> candidateSectors = new ArrayList<>();
+            for (int sector = 0; sector < topSectors.size(); sector++) {
+                List<String> sectorStocks = sectorToStocks.get(topSectors.get(sector));
+                if (sectorStocks == null) continue;
+                for (String stockCode : sectorStocks) {
+                    candidates.add(stockCode);
+                    candidateSectors.add(sector);
                 }
             }
 
-            // 6. Buy target stocks equal-weighted
-            BigDecimal totalValue = portfolio.getTotalValue();
-            BigDecimal targetValuePerStock = totalValue.divide(BigDecimal.valueOf(targetStocks.size()), 2, RoundingMode.HALF_UP);
-
-            for (String stockCode : targetStocks) {
-                String codeWithoutA = stockCode.startsWith("A") ? stockCode.substring(1) : stockCode;
-                var priceDto = priceClient.getPriceByDate(codeWithoutA, dateStr);
-                if (priceDto == null || priceDto.getEndPrice() == null) continue;
-
-                BigDecimal currentPrice = priceDto.getEndPrice();
-                PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                BigDecimal currentValue = holding != null ? holding.getMarketValue() : BigDecimal.ZERO;
-
-                BigDecimal diff = targetValuePerStock.subtract(currentValue);
-
-                if (diff.abs().compareTo(currentPrice) > 0) {
-                    if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                        int quantity = diff.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                        if (quantity > 0) {
-                            orders.add(TradeOrder.builder()
-                                    .stockCode(stockCode)
-                                    .orderType(OrderType.BUY)
-                                    .quantity(quantity)
-                                    .price(currentPrice)
-                                    .orderDate(date)
-                                    .build());
-                        }
-                    } else {
-                        int quantity = diff.abs().divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                        if (quantity > 0 && holding != null && holding.getQuantity() >= quantity) {
-                            orders.add(TradeOrder.builder()
-                                    .stockCode(stockCode)
-                                    .orderType(OrderType.SELL)
-                                    .quantity(quantity)
-                                    .price(currentPrice)
-                                    .orderDate(date)
-                                    .build());
-                        }
-                    }
+            double[] momentum = new double[candidates.size()];
+            int[] groups = new int[candidates.size()];
+            for (int i = 0; i < momentum.length; i++) {
+                momentum[i] = momMap.getOrDefault(candidates.get(i), Double.NaN);
+                groups[i] = candidateSectors.get(i);
+            }
+
+            List<String> targetStocks = new ArrayList<>();
+            for (int sector = 0; sector < topSectors.size(); sector++) {
+                for (int index : CrossSection.topKInGroup(momentum, groups, sector, config.getStocksPerSector())) {
+                    targetStocks.add(candidates.get(index));
                 }
             }
+
+            if (targetStocks.isEmpty()) return orders;
+
+            log.info("Selected {} sector rotation stocks for date {}", targetStocks.size(), date);
+
+            // 6. Equal-weight rebalance orders
+            orders.addAll(rebalancer.rebalanceEqualWeight(date, portfolio, targetStocks, prices));
         } catch (Exception e) {
             log.error("Failed to rebalance SectorRotation", e);
         }
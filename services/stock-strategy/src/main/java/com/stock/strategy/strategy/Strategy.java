@@ -3,18 +3,31 @@ package com.stock.strategy.strategy;
 import com.stock.strategy.dto.BacktestRequest;
 import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import com.stock.strategy.service.panel.PricePanel;
 
 import java.time.LocalDate;
 import java.util.List;
 
 public interface Strategy {
     String getName();
-    
+
+    // 전략이 참조하는 과거 시세 기간 (달력일 기준, 시세 패널 적재 범위 산정용)
+    default int getLookbackDays() {
+        return 0;
+    }
+
     // 기본 구현 (하위 호환성용)
     default List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe) {
         return List.of();
     }
 
-    // 설정 정보가 포함된 리밸런싱
-    List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request);
+    // 설정 정보와 사전 적재된 시세 패널이 포함된 리밸런싱
+    List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices);
+
+    // 사전 적재된 기준 지수 시계열까지 참조하는 리밸런싱 (지수를 쓰지 않는 전략은 기본 구현 사용)
+    default List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request,
+                                       PricePanel prices, BenchmarkSeries benchmark) {
+        return rebalance(date, portfolio, universe, request, prices);
+    }
 }
@@ -2,30 +2,26 @@ package com.stock.strategy.strategy;
 
 import com.stock.common.dto.CorpFinanceIndicatorDto;
 import com.stock.common.dto.ValueStrategyConfig;
-import com.stock.common.utils.DateUtils;
 import com.stock.strategy.client.FinanceClient;
-import com.stock.strategy.client.PriceClient;
 import com.stock.strategy.dto.BacktestRequest;
-import com.stock.strategy.dto.PortfolioHolding;
 import com.stock.strategy.dto.TradeOrder;
-import com.stock.strategy.enums.OrderType;
 import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.crosssection.CrossSection;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ValueStrategy implements Strategy {
 
-    private final PriceClient priceClient;
     private final FinanceClient financeClient;
 
     @Override
@@ -34,16 +30,17 @@ public class ValueStrategy implements Strategy {
     }
 
     @Override
-    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request) {
+    public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe, BacktestRequest request, PricePanel prices) {
         ValueStrategyConfig config = request.getValueStrategyConfig();
         if (config == null) {
             config = ValueStrategyConfig.builder().build();
         }
-        return rebalanceInternal(date, portfolio, universe, config);
+        return rebalanceInternal(date, portfolio, universe, config, prices, PortfolioRebalancer.of(request));
     }
 
     private List<TradeOrder> rebalanceInternal(LocalDate date, Portfolio portfolio, 
-                                              List<String> universe, ValueStrategyConfig config) {
+                                              List<String> universe, ValueStrategyConfig config, PricePanel prices,
+                                              PortfolioRebalancer rebalancer) {
         List<TradeOrder> orders = new ArrayList<>();
 
         if (universe.isEmpty()) {
@@ -56,20 +53,8 @@ public class ValueStrategy implements Strategy {
         BigDecimal roeWeight = config.getRoeWeight();
 
         try {
-            // 1. 가치 스코어 계산
-            Map<String, BigDecimal> valueScores = 
-                    calculateValueScores(universe, date, perWeight, pbrWeight, roeWeight);
-            
-            if (valueScores.isEmpty()) {
-                return orders;
-            }
-
-            // 2. 상위 N개 종목 선정
-            List<String> topStocks = valueScores.entrySet().stream()
-                    .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
-                    .limit(topN)
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
+            // 1. 가치 스코어 계산 후 상위 N개 종목 선정
+            List<String> topStocks = selectTopStocks(universe, date, topN, perWeight, pbrWeight, roeWeight);
 
             if (topStocks.isEmpty()) {
                 return orders;
@@ -77,71 +62,8 @@ public class ValueStrategy implements Strategy {
 
             log.info("Selected {} value stocks for date {}", topStocks.size(), date);
 
-            // 3. 전체 자산 가치
-            BigDecimal totalValue = portfolio.getTotalValue();
-            BigDecimal targetValuePerStock = totalValue.divide(
-                    BigDecimal.valueOf(topStocks.size()), 2, RoundingMode.HALF_UP);
-
-            // 4. 기존 보유 종목 중 상위 N개에 없는 종목 매도
-            for (String stockCode : new ArrayList<>(portfolio.getHoldings().keySet())) {
-                if (!topStocks.contains(stockCode)) {
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    orders.add(TradeOrder.builder()
-                            .stockCode(stockCode)
-                            .orderType(OrderType.SELL)
-                            .quantity(holding.getQuantity())
-                            .price(holding.getCurrentPrice())
-                            .orderDate(date)
-                            .build());
-                }
-            }
-
-            // 5. 상위 종목 리밸런싱
-            String dateStr = DateUtils.toLocalDateString(date);
-            for (String stockCode : topStocks) {
-                try {
-                    var priceDto = priceClient.getPriceByDate(stockCode.startsWith("A") ? stockCode.substring(1) : stockCode, dateStr);
-                    if (priceDto == null || priceDto.getEndPrice() == null) {
-                        continue;
-                    }
-
-                    BigDecimal currentPrice = priceDto.getEndPrice();
-                    PortfolioHolding holding = portfolio.getHoldings().get(stockCode);
-                    BigDecimal currentValue = holding != null ? holding.getMarketValue() : BigDecimal.ZERO;
-                    BigDecimal diff = targetValuePerStock.subtract(currentValue);
-                    
-                    if (diff.abs().compareTo(currentPrice) > 0) {
-                        if (diff.compareTo(BigDecimal.ZERO) > 0) {
-                            // 매수
-                            int quantity = diff.divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.BUY)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        } else {
-                            // 매도
-                            int quantity = diff.abs().divide(currentPrice, 0, RoundingMode.DOWN).intValue();
-                            if (quantity > 0 && holding != null && holding.getQuantity() >= quantity) {
-                                orders.add(TradeOrder.builder()
-                                        .stockCode(stockCode)
-                                        .orderType(OrderType.SELL)
-                                        .quantity(quantity)
-                                        .price(currentPrice)
-                                        .orderDate(date)
-                                        .build());
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to get price for {}: {}", stockCode, e.getMessage());
-                }
-            }
-
+            // 2. 동일 비중 리밸런싱 주문 생성
+            orders.addAll(rebalancer.rebalanceEqualWeight(date, portfolio, topStocks, prices));
         } catch (Exception e) {
             log.error("Failed to rebalance with value strategy", e);
         }
@@ -149,53 +71,50 @@ public class ValueStrategy implements Strategy {
         return orders;
     }
 
-    private Map<String, BigDecimal> calculateValueScores(List<String> universe, LocalDate date,
-                                                         BigDecimal perWeight, BigDecimal pbrWeight, 
-                                                         BigDecimal roeWeight) {
-        Map<String, BigDecimal> scores = new HashMap<>();
-        String dateStr = date.toString();
-        
+    private List<String> selectTopStocks(List<String> universe, LocalDate date, int topN,
+                                         BigDecimal perWeight, BigDecimal pbrWeight, BigDecimal roeWeight) {
+        List<CorpFinanceIndicatorDto> indicators;
         try {
-            List<CorpFinanceIndicatorDto> indicators = financeClient.getIndicatorsBatch(universe, dateStr);
-            
-            for (CorpFinanceIndicatorDto indicator : indicators) {
-                try {
-                    BigDecimal score = calculateScore(indicator, perWeight, pbrWeight, roeWeight);
-                    if (score != null) {
-                        scores.put(indicator.getCorpCode(), score);
-                    }
-                } catch (Exception e) {
-                    log.warn("Failed to calculate value score for {}: {}", 
-                            indicator.getCorpCode(), e.getMessage());
-                }
-            }
+            indicators = financeClient.getIndicatorsBatch(universe, date.toString());
         } catch (Exception e) {
             log.error("Failed to fetch indicators batch", e);
+            return List.of();
         }
 
-        return scores;
-    }
-
-    private BigDecimal calculateScore(CorpFinanceIndicatorDto indicator,
-                                     BigDecimal perWeight, BigDecimal pbrWeight, BigDecimal roeWeight) {
-        BigDecimal per = indicator.getPer();
-        BigDecimal pbr = indicator.getPbr();
-        BigDecimal roe = indicator.getRoe();
-
-        if (per == null || pbr == null || roe == null) {
-            return null;
+        // 종목당 첫 지표만 사용 (중복 종목이 상위 K 자리를 차지하지 않도록 순위 계산 전에 제거)
+        Set<String> seen = new HashSet<>();
+        indicators = indicators.stream()
+                .filter(indicator -> indicator.getCorpCode() != null && seen.add(indicator.getCorpCode()))
+                .toList();
+
+        // 1/PER, 1/PBR, ROE(%) 컬럼 구성. 음수/0/결측 지표가 있는 종목은 NaN 으로 제외
+        int size = indicators.size();
+        String[] codes = new String[size];
+        double[] earningsYield = new double[size];
+        double[] bookYield = new double[size];
+        double[] roeRatio = new double[size];
+        for (int i = 0; i < size; i++) {
+            CorpFinanceIndicatorDto indicator = indicators.get(i);
+            codes[i] = indicator.getCorpCode();
+            earningsYield[i] = inversePositive(indicator.getPer());
+            bookYield[i] = inversePositive(indicator.getPbr());
+            roeRatio[i] = indicator.getRoe() != null && indicator.getRoe().signum() > 0
+                    ? indicator.getRoe().doubleValue() / 100
+                    : Double.NaN;
         }
 
-        if (per.compareTo(BigDecimal.ZERO) <= 0 || 
-            pbr.compareTo(BigDecimal.ZERO) <= 0 || 
-            roe.compareTo(BigDecimal.ZERO) <= 0) {
-            return null;
-        }
+        double[] scores = CrossSection.weightedSum(
+                new double[]{perWeight.doubleValue(), pbrWeight.doubleValue(), roeWeight.doubleValue()},
+                earningsYield, bookYield, roeRatio);
 
-        BigDecimal perScore = BigDecimal.ONE.divide(per, 8, RoundingMode.HALF_UP).multiply(perWeight);
-        BigDecimal pbrScore = BigDecimal.ONE.divide(pbr, 8, RoundingMode.HALF_UP).multiply(pbrWeight);
-        BigDecimal roeScore = roe.divide(new BigDecimal("100"), 8, RoundingMode.HALF_UP).multiply(roeWeight);
+        List<String> topStocks = new ArrayList<>();
+        for (int index : CrossSection.topK(scores, topN)) {
+            topStocks.add(codes[index]);
+        }
+        return topStocks;
+    }
 
-        return perScore.add(pbrScore).add(roeScore);
+    private static double inversePositive(BigDecimal value) {
+        return value != null && value.signum() > 0 ? 1.0 / value.doubleValue() : Double.NaN;
     }
 }
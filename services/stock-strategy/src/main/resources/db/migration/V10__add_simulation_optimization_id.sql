@@ -0,0 +1,4 @@
+-- 최적화 작업이 저장한 조합 시뮬레이션. 인스턴스 중단으로 작업이 다시 실행되면 이미 완료된 조합은 건너뜀
+ALTER TABLE TB_BACKTEST_SIMULATION
+    ADD COLUMN optimization_id VARCHAR(36) AFTER data_version,
+    ADD INDEX idx_simulation_optimization (optimization_id);
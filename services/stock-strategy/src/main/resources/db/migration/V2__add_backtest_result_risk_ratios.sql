@@ -0,0 +1,4 @@
+-- 하방 위험 기준 성과 지표 (Sortino, Calmar)
+ALTER TABLE TB_BACKTEST_RESULT
+    ADD COLUMN sortino_ratio DECIMAL(10, 4) AFTER sharpe_ratio,
+    ADD COLUMN calmar_ratio DECIMAL(10, 4) AFTER sortino_ratio;
@@ -0,0 +1,27 @@
+-- 일자별 원시 팩터 노출값 (배치 사전 계산, 전략은 조회만 수행)
+-- 리밸런싱 시점 조회는 항상 score_date 단일 값이므로 일자 기준으로 파티셔닝
+CREATE TABLE TB_FACTOR_EXPOSURE (
+    score_date DATE NOT NULL,
+    stock_code VARCHAR(20) NOT NULL,
+    per DOUBLE,
+    pbr DOUBLE,
+    roe DOUBLE,
+    momentum DOUBLE,
+    volatility DOUBLE,
+    PRIMARY KEY (score_date, stock_code)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+PARTITION BY RANGE COLUMNS(score_date) (
+    PARTITION p2015 VALUES LESS THAN ('2016-01-01'),
+    PARTITION p2016 VALUES LESS THAN ('2017-01-01'),
+    PARTITION p2017 VALUES LESS THAN ('2018-01-01'),
+    PARTITION p2018 VALUES LESS THAN ('2019-01-01'),
+    PARTITION p2019 VALUES LESS THAN ('2020-01-01'),
+    PARTITION p2020 VALUES LESS THAN ('2021-01-01'),
+    PARTITION p2021 VALUES LESS THAN ('2022-01-01'),
+    PARTITION p2022 VALUES LESS THAN ('2023-01-01'),
+    PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+    PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+    PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
@@ -0,0 +1,13 @@
+-- 장시간 백테스트 재개용 체크포인트 (시뮬레이션당 1행, 실행 중 주기적으로 덮어씀)
+-- updated_at 은 실행 인스턴스의 하트비트이며, 오래된 행은 재시작된 인스턴스가 가져가 재개
+CREATE TABLE TB_BACKTEST_CHECKPOINT (
+    simulation_id BIGINT PRIMARY KEY,
+    request JSON NOT NULL,
+    optimized BOOLEAN NOT NULL DEFAULT FALSE,
+    day_index INT,
+    checkpoint_date DATE,
+    state MEDIUMBLOB,
+    updated_at DATETIME NOT NULL,
+    FOREIGN KEY (simulation_id) REFERENCES TB_BACKTEST_SIMULATION(id),
+    INDEX idx_updated_at (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
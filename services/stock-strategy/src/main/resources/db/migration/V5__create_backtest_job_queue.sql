@@ -0,0 +1,28 @@
+-- 백테스트 작업 큐 (여러 strategy 인스턴스가 SKIP LOCKED 로 나누어 가져감)
+-- priority 가 작을수록 먼저 실행, 같은 우선순위는 먼저 들어온 순서
+-- heartbeat_at 이 lease 시간 동안 갱신되지 않은 RUNNING 작업은 다시 대기열로 돌아감
+CREATE TABLE TB_BACKTEST_JOB (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_type VARCHAR(20) NOT NULL,
+    priority INT NOT NULL,
+    user_id VARCHAR(100) NOT NULL,
+    simulation_id BIGINT,
+    optimization_id VARCHAR(36),
+    payload JSON NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    worker VARCHAR(100),
+    created_at DATETIME(3) NOT NULL,
+    started_at DATETIME(3),
+    heartbeat_at DATETIME(3),
+    finished_at DATETIME(3),
+    INDEX idx_status_priority (status, priority, id),
+    INDEX idx_user_status (user_id, status),
+    INDEX idx_optimization_id (optimization_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 실행 중 재개는 작업 큐가 담당하므로 체크포인트에는 엔진 상태만 보관
+ALTER TABLE TB_BACKTEST_CHECKPOINT
+    DROP COLUMN request,
+    DROP COLUMN optimized;
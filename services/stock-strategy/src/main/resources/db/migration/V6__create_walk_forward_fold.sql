@@ -0,0 +1,17 @@
+-- 워크포워드 최적화 구간별 결과 (표본 내 최적 파라미터와 표본 외 점수)
+-- simulation_id 는 표본 외 구간을 이어 붙인 시뮬레이션 (TB_BACKTEST_RESULT 와 같은 ID)
+CREATE TABLE TB_WALK_FORWARD_FOLD (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    simulation_id BIGINT NOT NULL,
+    fold_index INT NOT NULL,
+    in_sample_start DATE NOT NULL,
+    in_sample_end DATE NOT NULL,
+    out_of_sample_start DATE NOT NULL,
+    out_of_sample_end DATE NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    parameters JSON,
+    in_sample_score DECIMAL(19, 6),
+    out_of_sample_score DECIMAL(19, 6),
+    FOREIGN KEY (simulation_id) REFERENCES TB_BACKTEST_SIMULATION(id),
+    UNIQUE KEY uk_simulation_fold (simulation_id, fold_index)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
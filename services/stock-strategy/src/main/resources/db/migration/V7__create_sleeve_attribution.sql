@@ -0,0 +1,16 @@
+-- 복합 전략 하위 전략(슬리브)별 성과 기여
+-- 손익은 슬리브 가상 장부를 종가로 평가한 체결 비용 차감 전 금액 (실제 계좌 손익과의 차이가 체결 비용)
+CREATE TABLE TB_SLEEVE_ATTRIBUTION (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    simulation_id BIGINT NOT NULL,
+    sleeve_index INT NOT NULL,
+    strategy_type VARCHAR(30) NOT NULL,
+    target_weight DECIMAL(10, 4) NOT NULL,
+    profit_loss DECIMAL(19, 2),
+    total_return DECIMAL(10, 4),
+    contribution DECIMAL(10, 4),
+    traded_amount DECIMAL(19, 2),
+    netted_amount DECIMAL(19, 2),
+    FOREIGN KEY (simulation_id) REFERENCES TB_BACKTEST_SIMULATION(id),
+    UNIQUE KEY uk_simulation_sleeve (simulation_id, sleeve_index)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,9 @@
+-- 벤치마크(시장 지수) 대비 성과 지표. 알파/추적 오차/포착률은 %, 베타/정보 비율은 비율
+ALTER TABLE TB_BACKTEST_RESULT
+    ADD COLUMN benchmark VARCHAR(20) AFTER slippage_type,
+    ADD COLUMN alpha DECIMAL(10, 4) AFTER benchmark,
+    ADD COLUMN beta DECIMAL(10, 4) AFTER alpha,
+    ADD COLUMN tracking_error DECIMAL(10, 4) AFTER beta,
+    ADD COLUMN information_ratio DECIMAL(10, 4) AFTER tracking_error,
+    ADD COLUMN up_capture DECIMAL(10, 4) AFTER information_ratio,
+    ADD COLUMN down_capture DECIMAL(10, 4) AFTER up_capture;
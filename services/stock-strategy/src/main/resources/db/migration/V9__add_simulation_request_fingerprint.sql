@@ -0,0 +1,5 @@
+-- 백테스트 결과 캐시 키. 요청 지문(정규화한 요청의 SHA-256)과 실행 시점의 데이터 버전이 같은 완료 시뮬레이션을 재사용
+ALTER TABLE TB_BACKTEST_SIMULATION
+    ADD COLUMN request_fingerprint CHAR(64) AFTER tax_rate,
+    ADD COLUMN data_version VARCHAR(64) AFTER request_fingerprint,
+    ADD INDEX idx_simulation_fingerprint (request_fingerprint, data_version, status);
@@ -0,0 +1,116 @@
+package com.stock.strategy.batchJob;
+
+import com.stock.common.utils.DateUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FactorPrecomputeTriggerTest {
+
+    @Mock
+    private JobLauncher jobLauncher;
+
+    @Mock
+    private Job factorPrecomputeJob;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private FactorPrecomputeTrigger trigger;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        trigger = new FactorPrecomputeTrigger(jobLauncher, factorPrecomputeJob, redisTemplate, true, 300, 14, 120);
+    }
+
+    private void givenVersions(String price, String finance, String corp) {
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList(price, finance, corp));
+    }
+
+    private JobExecution execution(BatchStatus status) {
+        JobExecution execution = new JobExecution(1L);
+        execution.setStatus(status);
+        return execution;
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 바뀌었을 때만 실행하고, 시세나 기업 정보만 바뀌면 짧은 구간만 재계산")
+    void launchOnVersionChangeTest() throws Exception {
+        // given
+        givenVersions("3", "1", "2");
+        when(jobLauncher.run(eq(factorPrecomputeJob), any(JobParameters.class))).thenReturn(execution(BatchStatus.COMPLETED));
+
+        // when: 기동 직후, 변경 없음, 시세 버전 증가, 기업 정보 버전 증가
+        trigger.poll();
+        trigger.poll();
+        givenVersions("4", "1", "2");
+        trigger.poll();
+        givenVersions("4", "1", "3");
+        trigger.poll();
+
+        // then
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher, times(3)).run(eq(factorPrecomputeJob), captor.capture());
+        List<JobParameters> launched = captor.getAllValues();
+        LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+        assertThat(launched.get(0).getString("dataVersion")).isEqualTo("p3.f1.c2");
+        assertThat(launched.get(0).getString("startDate")).isEqualTo(DateUtils.toLocalDateString(today.minusDays(120)));
+        assertThat(launched.get(1).getString("dataVersion")).isEqualTo("p4.f1.c2");
+        assertThat(launched.get(1).getString("startDate")).isEqualTo(DateUtils.toLocalDateString(today.minusDays(14)));
+        assertThat(launched.get(1).getString("endDate")).isEqualTo(DateUtils.toLocalDateString(today));
+        // 기간은 식별 파라미터가 아니므로 같은 버전은 날짜가 달라도 한 번만 실행
+        assertThat(launched.get(1).getIdentifyingParameters()).containsOnlyKeys("dataVersion");
+        // 기업 정보(유니버스) 변경도 짧은 구간만 재계산
+        assertThat(launched.get(2).getString("dataVersion")).isEqualTo("p4.f1.c3");
+        assertThat(launched.get(2).getString("startDate")).isEqualTo(DateUtils.toLocalDateString(today.minusDays(14)));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이미 계산한 버전은 처리된 것으로 보고, 실패한 버전은 다음 확인 시 다시 실행")
+    void completedElsewhereAndRetryTest() throws Exception {
+        // given
+        givenVersions(null, null, null);
+        when(jobLauncher.run(eq(factorPrecomputeJob), any(JobParameters.class)))
+                .thenReturn(execution(BatchStatus.FAILED))
+                .thenThrow(new JobInstanceAlreadyCompleteException("done"));
+
+        // when
+        trigger.poll();
+        trigger.poll();
+        trigger.poll();
+
+        // then
+        verify(jobLauncher, times(2)).run(eq(factorPrecomputeJob), any(JobParameters.class));
+    }
+}
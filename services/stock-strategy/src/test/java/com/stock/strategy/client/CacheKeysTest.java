@@ -0,0 +1,33 @@
+package com.stock.strategy.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheKeysTest {
+
+    @Test
+    @DisplayName("순서와 중복만 다른 코드 목록은 같은 키")
+    void sameCodesTest() {
+        assertThat(CacheKeys.codes(List.of("005930", "000660", "035420")))
+                .isEqualTo(CacheKeys.codes(List.of("035420", "005930", "000660", "005930")))
+                .hasSize(64);
+    }
+
+    @Test
+    @DisplayName("크기와 hashCode 가 같아도 코드가 다르면 다른 키")
+    void hashCollisionTest() {
+        // given: "Aa" 와 "BB" 는 String.hashCode 가 같음
+        List<String> first = List.of("Aa", "BB");
+        List<String> second = List.of("BB", "BB");
+        List<String> third = List.of("Aa", "Aa");
+        assertThat(second.hashCode()).isEqualTo(third.hashCode());
+
+        // then
+        assertThat(CacheKeys.codes(second)).isNotEqualTo(CacheKeys.codes(third));
+        assertThat(CacheKeys.codes(first)).isNotEqualTo(CacheKeys.codes(third));
+    }
+}
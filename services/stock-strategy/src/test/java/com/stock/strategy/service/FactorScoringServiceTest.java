@@ -4,6 +4,7 @@ import com.stock.common.dto.CorpFinanceIndicatorDto;
 import com.stock.common.dto.StockIndicatorDto;
 import com.stock.strategy.entity.FactorScore;
 import com.stock.strategy.repository.FactorScoreRepository;
+import com.stock.strategy.service.factor.FactorExposure;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +19,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,4 +76,26 @@ class FactorScoringServiceTest {
         assertThat(scoreA.getMomentumScore()).isLessThan(BigDecimal.ZERO);
         assertThat(scoreA.getQualityScore()).isLessThan(BigDecimal.ZERO);
     }
+
+    @Test
+    @DisplayName("노출값 기반 점수 계산은 저장하지 않고 결측 종목을 제외")
+    void calculateScoresWithoutSaveTest() {
+        // given
+        LocalDate date = LocalDate.of(2024, 1, 5);
+        List<FactorExposure> exposures = Arrays.asList(
+                new FactorExposure("A005930", 10, 1, 10, 5, 0.01),
+                new FactorExposure("A000660", 20, 2, 20, 10, 0.02),
+                new FactorExposure("A035420", 30, 3, 30, 15, 0.03),
+                new FactorExposure("A051910", Double.NaN, 1, 10, 5, 0.01)
+        );
+
+        // when
+        List<FactorScore> scores = factorScoringService.calculateScores(
+                date, exposures, new BigDecimal("0.4"), new BigDecimal("0.3"), new BigDecimal("0.3"));
+
+        // then
+        assertThat(scores).extracting(FactorScore::getStockCode).containsExactly("A005930", "A000660", "A035420");
+        assertThat(scores.get(1).getValueScore()).isEqualByComparingTo(BigDecimal.ZERO);
+        verifyNoInteractions(factorScoreRepository);
+    }
 }
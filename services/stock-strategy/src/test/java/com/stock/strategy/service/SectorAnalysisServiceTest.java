@@ -0,0 +1,94 @@
+package com.stock.strategy.service;
+
+import com.stock.common.dto.StockIndicatorDto;
+import com.stock.strategy.client.PriceClient;
+import com.stock.strategy.entity.SectorAnalysis;
+import com.stock.strategy.enums.BenchmarkIndex;
+import com.stock.strategy.repository.SectorAnalysisRepository;
+import com.stock.strategy.service.panel.BenchmarkLoader;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SectorAnalysisServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 6, 28);
+
+    @Mock
+    private SectorAnalysisRepository sectorAnalysisRepository;
+
+    @Mock
+    private PriceClient priceClient;
+
+    @Mock
+    private BenchmarkLoader benchmarkLoader;
+
+    @InjectMocks
+    private SectorAnalysisService sectorAnalysisService;
+
+    private static StockIndicatorDto indicator(String stockCode, String momentum6m) {
+        return StockIndicatorDto.builder()
+                .stockCode(stockCode)
+                .momentum6m(momentum6m != null ? new BigDecimal(momentum6m) : null)
+                .build();
+    }
+
+    // 120 산출일 전 100 → 기준일 110 (6개월 변화율 10%)
+    private static BenchmarkSeries benchmark() {
+        LocalDate[] dates = new LocalDate[121];
+        double[] levels = new double[121];
+        double[] returns = new double[121];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = DATE.minusDays(120 - i);
+            levels[i] = 100 + i / 12.0;
+        }
+        return BenchmarkSeries.of(BenchmarkIndex.KOSPI, dates, levels, returns);
+    }
+
+    private final Map<String, List<String>> sectors = Map.of(
+            "IT", List.of("A005930", "A000660"),
+            "BIO", List.of("A207940"));
+
+    private final Map<String, StockIndicatorDto> indicators = Map.of(
+            "A005930", indicator("005930", "20"),
+            "A000660", indicator("000660", "30"),
+            "A207940", indicator("207940", null));
+
+    @Test
+    @DisplayName("시뮬레이션 섹터 분석 - 사전 적재된 지수 대비 상대 강도, 외부 호출과 저장 없음")
+    void analyzeSectorsTest() {
+        // when
+        List<SectorAnalysis> results = sectorAnalysisService.analyzeSectors(DATE, sectors, indicators, benchmark());
+
+        // then: 모멘텀이 없는 BIO 섹터는 제외, IT 평균 25% - 지수 10% = 15
+        assertThat(results)
+                .extracting(SectorAnalysis::getSectorName, a -> a.getAvgMomentum12m().doubleValue(), a -> a.getRelativeStrength().doubleValue())
+                .containsExactly(tuple("IT", 25.0, 15.0));
+        verifyNoInteractions(sectorAnalysisRepository, priceClient, benchmarkLoader);
+    }
+
+    @Test
+    @DisplayName("지수 시계열이 비어 있으면 상대 강도는 절대 모멘텀")
+    void emptyBenchmarkTest() {
+        // when
+        List<SectorAnalysis> results = sectorAnalysisService.analyzeSectors(DATE, sectors, indicators, BenchmarkSeries.empty());
+
+        // then
+        assertThat(results).singleElement()
+                .satisfies(analysis -> assertThat(analysis.getRelativeStrength()).isEqualByComparingTo("25"));
+    }
+}
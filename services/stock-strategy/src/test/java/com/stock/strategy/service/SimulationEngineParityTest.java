@@ -0,0 +1,136 @@
+package com.stock.strategy.service;
+
+import com.stock.strategy.dto.PortfolioHolding;
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.ledger.FixedPointLedger;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.slippage.FixedSlippageModel;
+import com.stock.strategy.service.slippage.NoSlippageModel;
+import com.stock.strategy.service.slippage.SlippageModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BigDecimal 회계(SimulationEngine.executeOrders)와 고정소수점 회계(FixedPointLedger)가
+ * 동일한 체결 결과와 평가 금액을 내는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class SimulationEngineParityTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 3);
+
+    @InjectMocks
+    private SimulationEngine engine;
+
+    private static TradeOrder order(String stockCode, OrderType type, int quantity, String price, LocalDate date) {
+        return TradeOrder.builder()
+                .stockCode(stockCode)
+                .orderType(type)
+                .quantity(quantity)
+                .price(new BigDecimal(price))
+                .orderDate(date)
+                .build();
+    }
+
+    private void assertParity(SimulationEngine.Portfolio decimal, FixedPointLedger ledger) {
+        SimulationEngine.Portfolio view = new SimulationEngine.Portfolio(BigDecimal.ZERO);
+        ledger.writeTo(view);
+
+        assertThat(view.getCashBalance()).isEqualByComparingTo(decimal.getCashBalance());
+        assertThat(view.getTotalValue()).isEqualByComparingTo(decimal.getTotalValue());
+        assertThat(view.getHoldings().keySet()).isEqualTo(decimal.getHoldings().keySet());
+        for (Map.Entry<String, PortfolioHolding> entry : decimal.getHoldings().entrySet()) {
+            PortfolioHolding actual = view.getHoldings().get(entry.getKey());
+            assertThat(actual.getQuantity()).isEqualTo(entry.getValue().getQuantity());
+            assertThat(actual.getAveragePrice()).isEqualByComparingTo(entry.getValue().getAveragePrice());
+            assertThat(actual.getMarketValue()).isEqualByComparingTo(entry.getValue().getMarketValue());
+        }
+
+        assertThat(view.getTrades()).hasSameSizeAs(decimal.getTrades());
+        for (int i = 0; i < decimal.getTrades().size(); i++) {
+            TradeOrder expected = decimal.getTrades().get(i);
+            TradeOrder actual = view.getTrades().get(i);
+            assertThat(actual.getStockCode()).isEqualTo(expected.getStockCode());
+            assertThat(actual.getOrderType()).isEqualTo(expected.getOrderType());
+            assertThat(actual.getQuantity()).isEqualTo(expected.getQuantity());
+        }
+    }
+
+    private void runBoth(BigDecimal initialCapital, PricePanel prices, SlippageModel slippageModel,
+                         BigDecimal feeRate, BigDecimal taxRate, BigDecimal maxWeightPerStock,
+                         Map<LocalDate, Supplier<List<TradeOrder>>> ordersByDate) {
+        SimulationEngine.Portfolio decimal = new SimulationEngine.Portfolio(initialCapital);
+        FixedPointLedger ledger = new FixedPointLedger(initialCapital, prices);
+
+        ordersByDate.keySet().stream().sorted().forEach(date -> {
+            // 두 엔진 모두 주문 수량을 체결 수량으로 갱신하므로 각각 새 주문 목록 사용
+            ReflectionTestUtils.invokeMethod(engine, "executeOrders",
+                    1L, date, ordersByDate.get(date).get(), decimal, slippageModel, feeRate, taxRate, maxWeightPerStock);
+            ReflectionTestUtils.invokeMethod(engine, "calculateDailyReturn", date, decimal, prices);
+
+            ledger.executeOrders(ordersByDate.get(date).get(), slippageModel, feeRate, taxRate, maxWeightPerStock);
+            ledger.markToMarket(date);
+        });
+
+        assertParity(decimal, ledger);
+    }
+
+    @Test
+    @DisplayName("최대 비중 20% 제한 시 초과 매수 거부 - 두 회계 코어 결과 동일")
+    void maxWeightLimitParityTest() {
+        PricePanel prices = PricePanel.builder()
+                .add("005930", DAY1, 10000d, 1_000_000L)
+                .build();
+
+        runBoth(new BigDecimal("10000000"), prices, new NoSlippageModel(),
+                BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("0.2"),
+                Map.of(DAY1, () -> List.of(order("005930", OrderType.BUY, 300, "10000", DAY1))));
+    }
+
+    @Test
+    @DisplayName("잔고 부족 시 가능한 수량만큼만 매수 - 두 회계 코어 결과 동일")
+    void insufficientBalanceParityTest() {
+        PricePanel prices = PricePanel.builder()
+                .add("005930", DAY1, 10000d, 1_000_000L)
+                .build();
+
+        runBoth(new BigDecimal("1500000"), prices, new NoSlippageModel(),
+                BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("1.0"),
+                Map.of(DAY1, () -> List.of(order("005930", OrderType.BUY, 300, "10000", DAY1))));
+    }
+
+    @Test
+    @DisplayName("수수료/세금/슬리피지가 있는 매수-매도 시나리오 - 두 회계 코어 결과 동일")
+    void feeTaxSlippageParityTest() {
+        PricePanel prices = PricePanel.builder()
+                .add("A005930", DAY1, 70500d, 1_000_000L)
+                .add("A000660", DAY1, 131000d, 300_000L)
+                .add("A005930", DAY2, 71200d, 1_000_000L)
+                .build();
+
+        runBoth(new BigDecimal("10000000"), prices, new FixedSlippageModel(new BigDecimal("0.001")),
+                new BigDecimal("0.00015"), new BigDecimal("0.002"), new BigDecimal("0.5"),
+                Map.of(
+                        DAY1, () -> List.of(
+                                order("A005930", OrderType.BUY, 100, "70000", DAY1),
+                                order("A000660", OrderType.BUY, 30, "130000", DAY1)),
+                        DAY2, () -> List.of(
+                                order("A000660", OrderType.BUY, 10, "128000", DAY2),
+                                order("A005930", OrderType.SELL, 50, "71000", DAY2),
+                                order("A035420", OrderType.SELL, 10, "200000", DAY2))));
+    }
+}
@@ -0,0 +1,168 @@
+package com.stock.strategy.service;
+
+import com.stock.common.model.TradingDays;
+import com.stock.common.service.TradingCalendar;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.entity.BacktestResult;
+import com.stock.strategy.enums.RebalancingPeriod;
+import com.stock.strategy.enums.SnapshotGranularity;
+import com.stock.strategy.service.checkpoint.CheckpointStore;
+import com.stock.strategy.service.checkpoint.SimulationCheckpoint;
+import com.stock.strategy.service.checkpoint.SimulationCheckpointCodec;
+import com.stock.strategy.service.ledger.FixedPointLedger;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.panel.BenchmarkLoader;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.panel.PricePanelLoader;
+import com.stock.strategy.service.slippage.ParticipationLimiter;
+import com.stock.strategy.service.snapshot.SnapshotWriter;
+import com.stock.strategy.strategy.Strategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재개할 수 없는 체크포인트(이전 형식 버전, 바뀐 거래일)는 버리고 처음부터 다시 실행하는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class SimulationEngineResumeTest {
+
+    private static final Long SIMULATION_ID = 1L;
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 3);
+    private static final LocalDate DAY3 = LocalDate.of(2024, 1, 4);
+    private static final BigDecimal CAPITAL = new BigDecimal("10000000");
+
+    private static final PricePanel PRICES = PricePanel.builder()
+            .add("A005930", DAY1, 70000d, 10_000L)
+            .add("A005930", DAY2, 71000d, 10_000L)
+            .add("A005930", DAY3, 69500d, 10_000L)
+            .build();
+
+    @Mock
+    private TradingCalendar tradingCalendar;
+
+    @Mock
+    private UniverseFilterService universeFilterService;
+
+    @Mock
+    private PricePanelLoader pricePanelLoader;
+
+    @Mock
+    private BenchmarkLoader benchmarkLoader;
+
+    @Mock
+    private SnapshotWriter snapshotWriter;
+
+    @Mock
+    private CheckpointStore checkpointStore;
+
+    @Mock
+    private Strategy strategy;
+
+    @InjectMocks
+    private SimulationEngine engine;
+
+    private final List<SimulationCheckpoint> checkpoints = new ArrayList<>();
+    private final List<Integer> progressDays = new ArrayList<>();
+
+    private final BacktestRequest request = BacktestRequest.builder()
+            .startDate(DAY1)
+            .endDate(DAY3)
+            .initialCapital(CAPITAL)
+            .rebalancingPeriod(RebalancingPeriod.MONTHLY)
+            .snapshotGranularity(SnapshotGranularity.NONE)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(engine, "fixedPointAccounting", true);
+        ReflectionTestUtils.setField(engine, "checkpointIntervalDays", 1);
+
+        when(tradingCalendar.getTradingDays(DAY1, DAY3)).thenReturn(TradingDays.of(List.of(DAY1, DAY2, DAY3)));
+        when(universeFilterService.filter(any(), any())).thenReturn(List.of("A005930"));
+        when(pricePanelLoader.load(any(), any(), any())).thenReturn(PRICES);
+        when(benchmarkLoader.load(any(), any(), any())).thenReturn(BenchmarkSeries.empty());
+        when(snapshotWriter.open(SIMULATION_ID)).thenReturn(mock(SnapshotWriter.Sink.class));
+    }
+
+    private BacktestResult resume(SimulationCheckpoint checkpoint) {
+        return engine.runSimulation(SIMULATION_ID, request, strategy, checkpoint, checkpoints::add,
+                (day, totalDays, date, metrics) -> progressDays.add(day));
+    }
+
+    // 첫 거래일을 처리한 시점의 정상 상태
+    private static byte[] validState() {
+        return SimulationCheckpointCodec.encode(
+                new FixedPointLedger(CAPITAL, PRICES),
+                new PerformanceAccumulator(DAY1, CAPITAL.doubleValue(), 0, 0),
+                new ParticipationLimiter(null, PRICES));
+    }
+
+    // 형식 버전 1 로 기록된 체크포인트 (헤더만)
+    private static byte[] versionOneState() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(0x53494D43);
+            out.writeByte(1);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void assertRestartedFromFirstDay(BacktestResult result) {
+        assertThat(result.getFinalValue()).isEqualByComparingTo(CAPITAL);
+        assertThat(progressDays).containsExactly(0, 1, 2);
+        assertThat(checkpoints).extracting(SimulationCheckpoint::dayIndex).containsExactly(0, 1);
+        verify(strategy).rebalance(eq(DAY1), any(), anyList(), any(), any(), any());
+        verify(checkpointStore).delete(SIMULATION_ID);
+        verify(snapshotWriter).deleteAll(SIMULATION_ID);
+        verify(snapshotWriter, never()).deleteAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("이전 형식 버전의 체크포인트는 버리고 첫 거래일부터 다시 실행")
+    void oldVersionCheckpointRestartsTest() throws IOException {
+        // when
+        BacktestResult result = resume(new SimulationCheckpoint(0, DAY1, versionOneState()));
+
+        // then
+        assertRestartedFromFirstDay(result);
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 휴장일 갱신으로 거래일이 바뀌면 체크포인트를 버리고 첫 거래일부터 다시 실행")
+    void calendarChangedCheckpointRestartsTest() {
+        // given: 체크포인트 당시 두 번째 거래일은 2024-01-05 였음
+        SimulationCheckpoint checkpoint = new SimulationCheckpoint(1, LocalDate.of(2024, 1, 5), validState());
+
+        // when
+        BacktestResult result = resume(checkpoint);
+
+        // then
+        assertRestartedFromFirstDay(result);
+    }
+}
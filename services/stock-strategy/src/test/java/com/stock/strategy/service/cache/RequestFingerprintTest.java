@@ -0,0 +1,66 @@
+package com.stock.strategy.service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.common.dto.ValueStrategyConfig;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.enums.RebalancingPeriod;
+import com.stock.strategy.enums.StrategyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestFingerprintTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private BacktestRequest request(String tradingFeeRate) {
+        return BacktestRequest.builder()
+                .strategyType(StrategyType.VALUE)
+                .startDate(LocalDate.of(2023, 1, 1))
+                .endDate(LocalDate.of(2023, 12, 31))
+                .initialCapital(new BigDecimal("10000000"))
+                .rebalancingPeriod(RebalancingPeriod.MONTHLY)
+                .tradingFeeRate(new BigDecimal(tradingFeeRate))
+                .taxRate(new BigDecimal("0.002"))
+                .valueStrategyConfig(ValueStrategyConfig.builder().topN(20).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("숫자 표기와 캐시 우회 여부가 달라도 같은 요청이면 같은 지문")
+    void sameRequestTest() {
+        // given
+        BacktestRequest original = request("0.0015");
+        BacktestRequest rescaled = request("0.00150");
+        rescaled.setInitialCapital(new BigDecimal("1.0E+7"));
+        rescaled.setBypassCache(true);
+
+        // when
+        String first = RequestFingerprint.of(objectMapper, original);
+        String second = RequestFingerprint.of(objectMapper, rescaled);
+
+        // then
+        assertThat(first).hasSize(64).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("결과에 영향을 주는 값이 하나라도 다르면 다른 지문")
+    void differentRequestTest() {
+        // given
+        BacktestRequest original = request("0.0015");
+        BacktestRequest otherFee = request("0.0025");
+        BacktestRequest otherPeriod = request("0.0015");
+        otherPeriod.setEndDate(LocalDate.of(2024, 12, 31));
+
+        // when
+        String fingerprint = RequestFingerprint.of(objectMapper, original);
+
+        // then
+        assertThat(RequestFingerprint.of(objectMapper, otherFee)).isNotEqualTo(fingerprint);
+        assertThat(RequestFingerprint.of(objectMapper, otherPeriod)).isNotEqualTo(fingerprint);
+    }
+}
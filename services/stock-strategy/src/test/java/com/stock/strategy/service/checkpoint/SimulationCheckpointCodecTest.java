@@ -0,0 +1,124 @@
+package com.stock.strategy.service.checkpoint;
+
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.ledger.FixedPointLedger;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.slippage.FixedSlippageModel;
+import com.stock.strategy.service.slippage.ParticipationLimiter;
+import com.stock.strategy.service.slippage.SlippageModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimulationCheckpointCodecTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 3);
+    private static final LocalDate DAY3 = LocalDate.of(2024, 1, 4);
+
+    private static final BigDecimal CAPITAL = new BigDecimal("10000000");
+    private static final BigDecimal FEE = new BigDecimal("0.00015");
+    private static final BigDecimal TAX = new BigDecimal("0.002");
+    private static final SlippageModel SLIPPAGE = new FixedSlippageModel(new BigDecimal("0.001"));
+
+    private static final PricePanel PRICES = PricePanel.builder()
+            .add("A005930", DAY1, 70000d, 10_000L)
+            .add("A000660", DAY1, 130000d, 100_000L)
+            .add("A005930", DAY2, 71000d, 10_000L)
+            .add("A000660", DAY2, 128000d, 100_000L)
+            .add("A005930", DAY3, 69500d, 10_000L)
+            .add("A000660", DAY3, 133000d, 100_000L)
+            .build();
+
+    private static TradeOrder order(String stockCode, OrderType type, int quantity, String price, LocalDate date) {
+        return TradeOrder.builder()
+                .stockCode(stockCode)
+                .orderType(type)
+                .quantity(quantity)
+                .price(new BigDecimal(price))
+                .orderDate(date)
+                .build();
+    }
+
+    private static void trade(FixedPointLedger ledger, PerformanceAccumulator metrics, List<TradeOrder> orders) {
+        int from = ledger.trades().size();
+        ledger.executeOrders(orders, SLIPPAGE, FEE, TAX, BigDecimal.ONE);
+        for (TradeOrder trade : ledger.trades().subList(from, ledger.trades().size())) {
+            metrics.onTrade(trade.getStockCode(), trade.getOrderType() == OrderType.BUY, trade.getQuantity(),
+                    trade.getExecutionPrice().doubleValue());
+        }
+    }
+
+    private static void endOfDay(FixedPointLedger ledger, PerformanceAccumulator metrics, LocalDate date) {
+        ledger.markToMarket(date);
+        metrics.onDay(date, ledger.totalValue() / 10_000.0);
+    }
+
+    private static void continueFromDay2(FixedPointLedger ledger, PerformanceAccumulator metrics, ParticipationLimiter limiter) {
+        trade(ledger, metrics, limiter.carryOver(DAY2));
+        endOfDay(ledger, metrics, DAY2);
+        trade(ledger, metrics, limiter.submit(DAY3, List.of(
+                order("A005930", OrderType.SELL, 60, "69500", DAY3),
+                order("A000660", OrderType.SELL, 10, "133000", DAY3))));
+        endOfDay(ledger, metrics, DAY3);
+    }
+
+    @Test
+    @DisplayName("체크포인트에서 복원한 엔진 상태로 이어서 실행하면 중단 없이 실행한 결과와 동일")
+    void roundTripContinuesIdenticallyTest() {
+        // given - DAY1 처리 후 (삼성전자 100주 중 거래량 한도 50주만 체결, 나머지 이월)
+        FixedPointLedger ledger = new FixedPointLedger(CAPITAL, PRICES);
+        PerformanceAccumulator metrics = new PerformanceAccumulator(DAY1, CAPITAL.doubleValue(), 0.00015, 0.002, 2);
+        ParticipationLimiter limiter = new ParticipationLimiter(new BigDecimal("0.005"), PRICES);
+        trade(ledger, metrics, limiter.submit(DAY1, List.of(
+                order("A005930", OrderType.BUY, 100, "70000", DAY1),
+                order("A000660", OrderType.BUY, 20, "130000", DAY1))));
+        endOfDay(ledger, metrics, DAY1);
+
+        // when
+        byte[] state = SimulationCheckpointCodec.encode(ledger, metrics, limiter);
+        FixedPointLedger restoredLedger = new FixedPointLedger(CAPITAL, PRICES);
+        PerformanceAccumulator restoredMetrics = new PerformanceAccumulator(DAY1, CAPITAL.doubleValue(), 0.00015, 0.002, 2);
+        ParticipationLimiter restoredLimiter = new ParticipationLimiter(new BigDecimal("0.005"), PRICES);
+        SimulationCheckpointCodec.decode(state, restoredLedger, restoredMetrics, restoredLimiter);
+
+        continueFromDay2(ledger, metrics, limiter);
+        continueFromDay2(restoredLedger, restoredMetrics, restoredLimiter);
+
+        // then - DAY3 매도도 거래량 한도 50주만 체결
+        assertThat(restoredLedger.cash()).isEqualTo(ledger.cash());
+        assertThat(restoredLedger.totalValue()).isEqualTo(ledger.totalValue());
+        assertThat(restoredLedger.tradeCount()).isEqualTo(ledger.tradeCount()).isEqualTo(5);
+        assertThat(restoredLedger.quantity("A005930")).isEqualTo(ledger.quantity("A005930")).isEqualTo(50);
+        assertThat(restoredLedger.quantity("A000660")).isEqualTo(ledger.quantity("A000660")).isEqualTo(10);
+        assertThat(restoredMetrics.result()).isEqualTo(metrics.result());
+    }
+
+    @Test
+    @DisplayName("체크포인트가 아닌 데이터는 복원하지 않음")
+    void rejectsForeignPayloadTest() {
+        // given
+        byte[] state = SimulationCheckpointCodec.encode(
+                new FixedPointLedger(CAPITAL, PRICES),
+                new PerformanceAccumulator(DAY1, CAPITAL.doubleValue(), 0, 0),
+                new ParticipationLimiter(null, PRICES));
+        FixedPointLedger ledger = new FixedPointLedger(CAPITAL, PRICES);
+        PerformanceAccumulator metrics = new PerformanceAccumulator(DAY1, CAPITAL.doubleValue(), 0, 0, 2);
+
+        // when & then - 롤링 윈도우 크기가 다른 집계기
+        assertThatThrownBy(() -> SimulationCheckpointCodec.decode(state, ledger, metrics, new ParticipationLimiter(null, PRICES)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Rolling window");
+        assertThatThrownBy(() -> SimulationCheckpointCodec.decode(new byte[]{1, 2, 3},
+                new FixedPointLedger(CAPITAL, PRICES), metrics, new ParticipationLimiter(null, PRICES)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.stock.strategy.service.crosssection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CrossSectionTest {
+
+    private static final double NaN = Double.NaN;
+
+    @Test
+    @DisplayName("z-score 는 결측을 제외하고 계산하며 표준편차 0이면 0")
+    void zScoreTest() {
+        double[] z = CrossSection.zScore(new double[]{1, 2, 3, NaN});
+
+        assertThat(z[0]).isCloseTo(-Math.sqrt(1.5), within(1e-12));
+        assertThat(z[1]).isZero();
+        assertThat(z[2]).isCloseTo(Math.sqrt(1.5), within(1e-12));
+        assertThat(z[3]).isNaN();
+        assertThat(CrossSection.zScore(new double[]{5, 5})).containsExactly(0.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("순위는 동점 평균, 백분위는 0~1 범위")
+    void rankAndPercentileTest() {
+        double[] values = {3, 1, 3, NaN, 2};
+
+        double[] rank = CrossSection.rank(values);
+        assertThat(rank).startsWith(3.5, 1.0, 3.5).endsWith(2.0);
+        assertThat(rank[3]).isNaN();
+        double[] percentile = CrossSection.percentile(values);
+        assertThat(percentile[1]).isZero();
+        assertThat(percentile[0]).isCloseTo(2.5 / 3, within(1e-12));
+        assertThat(percentile[3]).isNaN();
+    }
+
+    @Test
+    @DisplayName("분위수 winsorize 와 섹터 중립화")
+    void winsorizeAndNeutralizeTest() {
+        assertThat(CrossSection.winsorize(new double[]{1, 2, 3, 4, 100}, 0.0, 0.75))
+                .containsExactly(1, 2, 3, 4, 4);
+        double[] neutralized = CrossSection.neutralize(new double[]{1, 3, 10, 20, 5}, new int[]{0, 0, 1, 1, -1});
+        assertThat(neutralized).startsWith(-1, 1, -5, 5);
+        assertThat(neutralized[4]).isNaN(); // 섹터 없는 종목
+    }
+
+    @Test
+    @DisplayName("가중 합은 한 컬럼이라도 결측이면 NaN")
+    void weightedSumTest() {
+        double[] result = CrossSection.weightedSum(new double[]{0.5, 2.0},
+                new double[]{2, 4, NaN}, new double[]{1, 1, 1});
+
+        assertThat(result).startsWith(3.0, 4.0);
+        assertThat(result[2]).isNaN();
+    }
+
+    @Test
+    @DisplayName("부분 선택은 점수순, 동점은 앞선 인덱스 우선, 결측 제외")
+    void topKTest() {
+        double[] scores = {5, NaN, 7, 5, 1, 7};
+
+        assertThat(CrossSection.topK(scores, 3)).containsExactly(2, 5, 0);
+        assertThat(CrossSection.bottomK(scores, 2)).containsExactly(4, 0);
+        assertThat(CrossSection.topK(scores, 10)).containsExactly(2, 5, 0, 3, 4);
+        assertThat(CrossSection.topK(scores, 0)).isEmpty();
+        assertThat(CrossSection.topKInGroup(scores, new int[]{0, 0, 1, 0, 0, 1}, 0, 2)).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("2,500 종목 상위 20 선택 결과가 기존 전략 방식(Map<String, BigDecimal> + 전체 정렬)과 동일")
+    void topKMatchesLegacySelectionTest() {
+        int universe = 2_500;
+        int topN = 20;
+        String[] codes = new String[universe];
+        for (int i = 0; i < universe; i++) {
+            codes[i] = String.format("A%06d", i);
+        }
+
+        for (long seed = 1; seed <= 20; seed++) {
+            SplittableRandom random = new SplittableRandom(seed);
+            double[] values = new double[universe];
+            for (int i = 0; i < universe; i++) {
+                values[i] = random.nextInt(20) == 0 ? NaN : random.nextDouble(-50, 50);
+            }
+
+            List<String> selected = new ArrayList<>(topN);
+            for (int index : CrossSection.topK(values, topN)) {
+                selected.add(codes[index]);
+            }
+            assertThat(selected).isEqualTo(legacySelect(codes, values, topN));
+        }
+    }
+
+    // 기존 전략 코드의 선택 방식
+    private static List<String> legacySelect(String[] codes, double[] values, int topN) {
+        Map<String, BigDecimal> scores = new HashMap<>();
+        for (int i = 0; i < codes.length; i++) {
+            if (!Double.isNaN(values[i])) {
+                scores.put(codes[i], BigDecimal.valueOf(values[i]).setScale(8, RoundingMode.HALF_UP));
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, BigDecimal>comparingByValue().reversed())
+                .limit(topN)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
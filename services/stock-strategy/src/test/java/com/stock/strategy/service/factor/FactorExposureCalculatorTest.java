@@ -0,0 +1,61 @@
+package com.stock.strategy.service.factor;
+
+import com.stock.common.dto.CorpFinanceIndicatorDto;
+import com.stock.common.dto.StockIndicatorDto;
+import com.stock.strategy.service.panel.PricePanel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FactorExposureCalculatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 5);
+
+    @Test
+    @DisplayName("재무/가격 지표를 A 포함 코드로 병합하고 없는 값은 NaN")
+    void mergeTest() {
+        List<CorpFinanceIndicatorDto> finances = List.of(
+                CorpFinanceIndicatorDto.builder().corpCode("A005930").per(new BigDecimal("10")).pbr(new BigDecimal("1")).roe(new BigDecimal("12")).build(),
+                CorpFinanceIndicatorDto.builder().corpCode("A000660").per(new BigDecimal("20")).build()
+        );
+        List<StockIndicatorDto> indicators = List.of(
+                StockIndicatorDto.builder().stockCode("005930").momentum3m(new BigDecimal("4")).momentum6m(new BigDecimal("8")).build(),
+                StockIndicatorDto.builder().stockCode("035420").momentum1m(new BigDecimal("2")).build()
+        );
+
+        List<FactorExposure> exposures = FactorExposureCalculator.merge(DATE, finances, indicators, null);
+
+        assertThat(exposures).extracting(FactorExposure::stockCode).containsExactly("A000660", "A005930", "A035420");
+
+        FactorExposure samsung = exposures.get(1);
+        assertThat(samsung.per()).isEqualTo(10.0);
+        assertThat(samsung.roe()).isEqualTo(12.0);
+        assertThat(samsung.momentum()).isEqualTo(4.0); // 1개월 없으면 3개월
+        assertThat(samsung.volatility()).isNaN();
+
+        assertThat(exposures.get(0).pbr()).isNaN();
+        assertThat(exposures.get(0).momentum()).isNaN();
+        assertThat(exposures.get(2).per()).isNaN();
+    }
+
+    @Test
+    @DisplayName("최근 20일 일간 수익률의 모집단 표준편차")
+    void volatilityTest() {
+        PricePanel prices = PricePanel.builder()
+                .add("005930", DATE.minusDays(3), 100d, 1L)
+                .add("005930", DATE.minusDays(2), 110d, 1L)
+                .add("005930", DATE.minusDays(1), 99d, 1L)
+                .add("005930", DATE, 99d, 1L)
+                .build();
+
+        // 수익률 0.1, -0.1, 0.0 → 평균 0, 분산 0.02/3
+        assertThat(FactorExposureCalculator.volatility(prices, "A005930", DATE)).isCloseTo(Math.sqrt(0.02 / 3), within(1e-12));
+        assertThat(FactorExposureCalculator.volatility(prices, "A000660", DATE)).isNaN();
+    }
+}
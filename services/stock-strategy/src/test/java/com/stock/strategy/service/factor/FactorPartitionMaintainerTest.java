@@ -0,0 +1,59 @@
+package com.stock.strategy.service.factor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FactorPartitionMaintainerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private FactorPartitionMaintainer maintainer;
+
+    @Test
+    @DisplayName("마지막 연도 파티션 다음부터 필요한 연도까지 pmax 분할")
+    void addMissingYearsTest() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("TB_FACTOR_EXPOSURE")))
+                .thenReturn(List.of("p2025", "p2026", "pmax"));
+
+        // when
+        int added = maintainer.ensureYearlyPartitions(2028);
+
+        // then
+        assertThat(added).isEqualTo(2);
+        verify(jdbcTemplate).execute("ALTER TABLE TB_FACTOR_EXPOSURE REORGANIZE PARTITION pmax INTO ("
+                + "PARTITION p2027 VALUES LESS THAN ('2028-01-01'), "
+                + "PARTITION p2028 VALUES LESS THAN ('2029-01-01'), "
+                + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("이미 파티션이 있거나 파티션 테이블이 아니면 변경하지 않음")
+    void noChangeTest() {
+        // given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("TB_FACTOR_EXPOSURE")))
+                .thenReturn(List.of("p2026", "p2027", "pmax"), List.of());
+
+        // when / then
+        assertThat(maintainer.ensureYearlyPartitions(2027)).isZero();
+        assertThat(maintainer.ensureYearlyPartitions(2030)).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,198 @@
+package com.stock.strategy.service.metrics;
+
+import com.stock.strategy.enums.BenchmarkIndex;
+import com.stock.strategy.service.panel.BenchmarkSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PerformanceAccumulatorTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+
+    @Test
+    @DisplayName("단일 패스 누적 지표가 전체 수익률 목록으로 계산한 값과 일치")
+    void matchesBatchCalculationTest() {
+        // given
+        Random random = new Random(7);
+        PerformanceAccumulator accumulator = new PerformanceAccumulator(START, 1_000_000, 0, 0, 20);
+        List<Double> values = new ArrayList<>();
+        double value = 1_000_000;
+        for (int day = 1; day <= 120; day++) {
+            value *= 1 + random.nextGaussian() * 0.01 + 0.0005;
+            values.add(value);
+            accumulator.onDay(START.plusDays(day), value);
+        }
+
+        // 비교용 일괄 계산
+        List<Double> returns = new ArrayList<>();
+        double previous = 1_000_000;
+        double peak = previous;
+        double maxDrawdown = 0;
+        for (double v : values) {
+            returns.add(v / previous - 1);
+            previous = v;
+            peak = Math.max(peak, v);
+            maxDrawdown = Math.max(maxDrawdown, (peak - v) / peak);
+        }
+        double mean = returns.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+        double variance = returns.stream().mapToDouble(r -> (r - mean) * (r - mean)).sum() / returns.size();
+        double downside = Math.sqrt(returns.stream().mapToDouble(r -> r < 0 ? r * r : 0).sum() / returns.size());
+
+        List<Double> window = returns.subList(100, 120);
+        double windowMean = window.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+        double windowVariance = window.stream().mapToDouble(r -> (r - windowMean) * (r - windowMean)).sum() / window.size();
+
+        // when
+        PerformanceAccumulator.PerformanceMetrics metrics = accumulator.result();
+
+        // then
+        double annualization = Math.sqrt(PerformanceAccumulator.TRADING_DAYS_PER_YEAR);
+        assertThat(metrics.totalReturn()).isCloseTo(values.get(119) / 1_000_000 - 1, within(1e-12));
+        assertThat(metrics.maxDrawdown()).isCloseTo(maxDrawdown, within(1e-12));
+        assertThat(metrics.sharpeRatio()).isCloseTo(mean / Math.sqrt(variance) * annualization, within(1e-9));
+        assertThat(metrics.sortinoRatio()).isCloseTo(mean / downside * annualization, within(1e-9));
+        assertThat(metrics.calmarRatio()).isCloseTo(metrics.cagr() / maxDrawdown, within(1e-12));
+
+        assertThat(metrics.rolling()).isNotNull();
+        assertThat(metrics.rolling().date()).isEqualTo(START.plusDays(120));
+        assertThat(metrics.rolling().totalReturn()).isCloseTo(values.get(119) / values.get(99) - 1, within(1e-12));
+        assertThat(metrics.rolling().volatility()).isCloseTo(Math.sqrt(windowVariance) * annualization, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("1년 수익률 10% 이면 CAGR 10%")
+    void cagrTest() {
+        PerformanceAccumulator accumulator = new PerformanceAccumulator(START, 1_000_000, 0, 0);
+
+        accumulator.onDay(START.plusDays(365), 1_100_000);
+
+        assertThat(accumulator.result().cagr()).isCloseTo(0.10, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("FIFO 로트 매칭으로 수수료/세금 차감 후 실현 손익 기준 승률 계산")
+    void fifoWinRateTest() {
+        // given
+        PerformanceAccumulator accumulator = new PerformanceAccumulator(START, 10_000_000, 0.001, 0.002);
+
+        // when
+        double buy = accumulator.onTrade("A005930", true, 10, 100_000);
+        accumulator.onTrade("A005930", true, 10, 120_000);
+        double profit = accumulator.onTrade("A005930", false, 15, 110_000);  // 10주 +, 5주 - → 합계 이익
+        double loss = accumulator.onTrade("A005930", false, 5, 120_100);     // 수수료/세금 차감 시 손실
+        double unmatched = accumulator.onTrade("A000660", false, 5, 130_000); // 보유 로트 없음 → 무시
+
+        // then: 매도 체결별 실현 손익 (매수 원가 100,100 / 120,120, 주당 매도 대금 = 가격 × 0.997)
+        assertThat(buy).isNaN();
+        assertThat(profit).isCloseTo(10 * (109_670 - 100_100) + 5 * (109_670 - 120_120), within(1e-6));
+        assertThat(loss).isCloseTo(5 * (119_739.7 - 120_120), within(1e-6));
+        assertThat(unmatched).isNaN();
+
+        PerformanceAccumulator.PerformanceMetrics metrics = accumulator.result();
+        assertThat(metrics.closedTrades()).isEqualTo(2);
+        assertThat(metrics.profitableTrades()).isEqualTo(1);
+        assertThat(metrics.winRate()).isCloseTo(0.5, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("롤링 윈도우가 채워지기 전에는 롤링 지표 없음")
+    void rollingNotReadyTest() {
+        PerformanceAccumulator accumulator = new PerformanceAccumulator(START, 1_000_000, 0, 0, 5);
+        for (int day = 1; day <= 4; day++) {
+            accumulator.onDay(START.plusDays(day), 1_000_000 + day);
+        }
+
+        assertThat(accumulator.latestRolling()).isNull();
+
+        accumulator.onDay(START.plusDays(5), 1_000_010);
+        assertThat(accumulator.latestRolling()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("포트폴리오 수익률 = 알파 + 베타 × 지수 수익률이면 회귀 계수와 추적 오차가 그대로 복원됨")
+    void benchmarkRelativeTest() {
+        // given: 매일 0.02% 초과 + 지수 1.5배, 10일마다 지수 미산출일
+        Random random = new Random(11);
+        int days = 250;
+        List<LocalDate> indexDates = new ArrayList<>();
+        List<Double> indexReturns = new ArrayList<>();
+        double[] returns = new double[days];
+        for (int i = 0; i < days; i++) {
+            returns[i] = random.nextGaussian() * 0.01;
+            if (i % 10 != 9) {
+                indexDates.add(START.plusDays(i + 1));
+                indexReturns.add(returns[i]);
+            }
+        }
+        double[] levels = new double[indexReturns.size()];
+        double level = 1000;
+        for (int i = 0; i < levels.length; i++) {
+            level *= 1 + indexReturns.get(i);
+            levels[i] = level;
+        }
+        BenchmarkSeries benchmark = BenchmarkSeries.of(BenchmarkIndex.KOSPI, indexDates.toArray(LocalDate[]::new), levels,
+                indexReturns.stream().mapToDouble(Double::doubleValue).toArray());
+        PerformanceAccumulator accumulator = new PerformanceAccumulator(START, 1_000_000, 0, 0, benchmark);
+
+        // when: 지수 미산출일의 포트폴리오 수익률(+5%)은 짝지어지면 회귀 결과가 틀어짐
+        double value = 1_000_000;
+        for (int i = 0; i < days; i++) {
+            value *= i % 10 == 9 ? 1.05 : 1 + 0.0002 + 1.5 * returns[i];
+            accumulator.onDay(START.plusDays(i + 1), value);
+        }
+        PerformanceAccumulator.RelativeMetrics relative = accumulator.result().relative();
+
+        // then
+        double mean = indexReturns.stream().mapToDouble(Double::doubleValue).average().orElseThrow();
+        double stdDev = Math.sqrt(indexReturns.stream().mapToDouble(r -> (r - mean) * (r - mean)).sum() / indexReturns.size());
+        double trackingError = 0.5 * stdDev * Math.sqrt(PerformanceAccumulator.TRADING_DAYS_PER_YEAR);
+
+        assertThat(relative).isNotNull();
+        assertThat(relative.observations()).isEqualTo(indexReturns.size());
+        assertThat(relative.beta()).isCloseTo(1.5, within(1e-9));
+        assertThat(relative.alpha()).isCloseTo(0.0002 * PerformanceAccumulator.TRADING_DAYS_PER_YEAR, within(1e-9));
+        assertThat(relative.trackingError()).isCloseTo(trackingError, within(1e-9));
+        assertThat(relative.informationRatio())
+                .isCloseTo((0.0002 + 0.5 * mean) * PerformanceAccumulator.TRADING_DAYS_PER_YEAR / trackingError, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("지수와 같은 수익률이면 베타 1, 추적 오차 0, 상승/하락 포착률 100%. 지수가 없으면 벤치마크 지표 없음")
+    void benchmarkIdenticalTest() {
+        // given
+        LocalDate[] dates = {START.plusDays(1), START.plusDays(2), START.plusDays(3), START.plusDays(4)};
+        double[] returns = {0.01, -0.02, 0.015, -0.005};
+        double[] levels = new double[returns.length];
+        double level = 1000;
+        for (int i = 0; i < returns.length; i++) {
+            level *= 1 + returns[i];
+            levels[i] = level;
+        }
+        PerformanceAccumulator tracking = new PerformanceAccumulator(START, 1_000_000, 0, 0,
+                BenchmarkSeries.of(BenchmarkIndex.KOSPI, dates, levels, returns));
+        PerformanceAccumulator standalone = new PerformanceAccumulator(START, 1_000_000, 0, 0);
+
+        // when
+        for (int i = 0; i < dates.length; i++) {
+            tracking.onDay(dates[i], levels[i] * 1000);
+            standalone.onDay(dates[i], levels[i] * 1000);
+        }
+        PerformanceAccumulator.RelativeMetrics relative = tracking.result().relative();
+
+        // then
+        assertThat(relative.beta()).isCloseTo(1.0, within(1e-12));
+        assertThat(relative.alpha()).isCloseTo(0.0, within(1e-12));
+        assertThat(relative.trackingError()).isCloseTo(0.0, within(1e-12));
+        assertThat(relative.upCapture()).isCloseTo(1.0, within(1e-12));
+        assertThat(relative.downCapture()).isCloseTo(1.0, within(1e-12));
+        assertThat(standalone.result().relative()).isNull();
+    }
+}
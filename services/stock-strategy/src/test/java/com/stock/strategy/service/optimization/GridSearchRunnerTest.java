@@ -0,0 +1,340 @@
+package com.stock.strategy.service.optimization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.common.model.TradingDays;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.OptimizationProgress;
+import com.stock.strategy.entity.BacktestResult;
+import com.stock.strategy.entity.BacktestSimulation;
+import com.stock.strategy.entity.WalkForwardFold;
+import com.stock.strategy.enums.OptimizationMetric;
+import com.stock.strategy.enums.SimulationStatus;
+import com.stock.strategy.enums.SnapshotGranularity;
+import com.stock.strategy.enums.StrategyType;
+import com.stock.strategy.repository.BacktestResultRepository;
+import com.stock.strategy.repository.BacktestSimulationRepository;
+import com.stock.strategy.repository.WalkForwardFoldRepository;
+import com.stock.strategy.service.SimulationData;
+import com.stock.strategy.service.SimulationEngine;
+import com.stock.strategy.service.StrategyFactory;
+import com.stock.strategy.service.cache.BacktestResultCache;
+import com.stock.strategy.service.cache.RequestFingerprint;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.strategy.Strategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GridSearchRunnerTest {
+
+    @Mock
+    private SimulationEngine simulationEngine;
+
+    @Mock
+    private StrategyFactory strategyFactory;
+
+    @Mock
+    private BacktestSimulationRepository simulationRepository;
+
+    @Mock
+    private BacktestResultRepository resultRepository;
+
+    @Mock
+    private WalkForwardFoldRepository foldRepository;
+
+    @Mock
+    private BacktestResultCache resultCache;
+
+    @Mock
+    private Strategy strategy;
+
+    private GridSearchRunner runner;
+
+    @AfterEach
+    void tearDown() {
+        if (runner != null) {
+            runner.shutdown();
+        }
+    }
+
+    private BacktestRequest request(int topN) {
+        return BacktestRequest.builder()
+                .strategyType(StrategyType.VALUE)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .initialCapital(new BigDecimal("10000000"))
+                .tradingFeeRate(new BigDecimal("0.00015"))
+                .taxRate(new BigDecimal("0.0023"))
+                .maxWeightPerStock(new BigDecimal(topN))
+                .build();
+    }
+
+    private OptimizationProgress awaitCompletion(String optimizationId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            OptimizationProgress progress = runner.getProgress(optimizationId).orElseThrow();
+            if (progress.getCompletedAt() != null) {
+                return progress;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Grid search did not finish in time");
+    }
+
+    private List<BacktestRequest> candidates(int count) {
+        List<BacktestRequest> list = new ArrayList<>();
+        for (int topN = 1; topN <= count; topN++) {
+            list.add(request(topN));
+        }
+        return list;
+    }
+
+    private void givenEngine(SimulationData data) {
+        AtomicLong ids = new AtomicLong();
+        when(strategyFactory.getStrategy(StrategyType.VALUE)).thenReturn(strategy);
+        when(simulationEngine.prepare(any(BacktestRequest.class), anyInt())).thenReturn(data);
+        when(simulationRepository.save(any(BacktestSimulation.class))).thenAnswer(invocation -> {
+            BacktestSimulation simulation = invocation.getArgument(0);
+            if (simulation.getId() == null) {
+                simulation.setId(ids.incrementAndGet());
+            }
+            return simulation;
+        });
+        when(simulationEngine.runSimulation(any(), any(BacktestRequest.class), eq(strategy), any(SimulationData.class))).thenAnswer(invocation -> {
+            BacktestRequest request = invocation.getArgument(1);
+            return BacktestResult.builder()
+                    .simulationId(invocation.getArgument(0))
+                    .totalReturn(request.getMaxWeightPerStock()) // 후보마다 다른 수익률
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("시장 데이터는 한 번만 준비하고 모든 조합을 실행한 뒤 최고 수익률 조합을 기록")
+    void sharedDataAndBestResultTest() throws InterruptedException {
+        // given
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 2);
+        givenEngine(new SimulationData(TradingDays.empty(), Map.of(), PricePanel.builder().build()));
+        List<BacktestRequest> combinations = candidates(6);
+
+        // when
+        OptimizationProgress started = runner.start(request(0), combinations,
+                SearchSchedule.fullWindow(LocalDate.of(2024, 12, 31), 6), OptimizationMetric.TOTAL_RETURN);
+        OptimizationProgress finished = awaitCompletion(started.getOptimizationId());
+
+        // then
+        assertThat(finished.getStatus()).isEqualTo(SimulationStatus.COMPLETED);
+        assertThat(finished.getCompletedEvaluations()).isEqualTo(6);
+        assertThat(finished.getFailedEvaluations()).isZero();
+        assertThat(finished.getBestScore()).isEqualByComparingTo("6");
+
+        verify(simulationEngine, times(1)).prepare(any(BacktestRequest.class), anyInt());
+        verify(resultRepository, times(6)).save(any(BacktestResult.class));
+        // 실행은 스냅샷 없이 하되, 호출자의 후보 요청은 바꾸지 않음
+        verify(simulationEngine, times(6)).runSimulation(any(),
+                argThat(request -> request.getSnapshotGranularity() == SnapshotGranularity.NONE), eq(strategy), any(SimulationData.class));
+        assertThat(combinations).allMatch(request -> request.getSnapshotGranularity() == null);
+    }
+
+    @Test
+    @DisplayName("같은 데이터 버전으로 저장된 결과가 있는 조합은 다시 실행하지 않고 저장된 결과로 비교")
+    void cachedCombinationTest() throws InterruptedException {
+        // given: 6번 후보는 이전에 실행한 시뮬레이션 99번의 결과가 있음
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 2);
+        givenEngine(new SimulationData(TradingDays.empty(), Map.of(), PricePanel.builder().build()));
+        when(resultCache.currentDataVersion()).thenReturn("p3.f1");
+        when(resultCache.lookup(any(BacktestRequest.class), eq("p3.f1"), eq(BacktestResultCache.SOURCE_OPTIMIZATION)))
+                .thenAnswer(invocation -> {
+                    BacktestRequest request = invocation.getArgument(0);
+                    return request.getMaxWeightPerStock().intValue() == 6
+                            ? Optional.of(BacktestResult.builder().simulationId(99L).totalReturn(new BigDecimal("6")).build())
+                            : Optional.empty();
+                });
+
+        // when
+        OptimizationProgress started = runner.start(request(0), candidates(6),
+                SearchSchedule.fullWindow(LocalDate.of(2024, 12, 31), 6), OptimizationMetric.TOTAL_RETURN);
+        OptimizationProgress finished = awaitCompletion(started.getOptimizationId());
+
+        // then
+        assertThat(finished.getCompletedEvaluations()).isEqualTo(6);
+        assertThat(finished.getBestSimulationId()).isEqualTo(99L);
+        verify(simulationEngine, times(5)).runSimulation(any(), any(BacktestRequest.class), eq(strategy), any(SimulationData.class));
+        verify(resultRepository, times(5)).save(any(BacktestResult.class));
+    }
+
+    @Test
+    @DisplayName("Successive halving - 앞부분 기간 평가 후 상위 후보만 전체 기간으로 평가하고 저장")
+    void successiveHalvingTest() throws InterruptedException {
+        // given
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 2);
+        givenEngine(new SimulationData(TradingDays.empty(), Map.of(), PricePanel.builder().build()));
+        SearchSchedule schedule = new SearchSchedule(List.of(
+                new SearchSchedule.Rung(LocalDate.of(2024, 6, 30), 8),
+                new SearchSchedule.Rung(LocalDate.of(2024, 12, 31), 4)));
+
+        // when
+        OptimizationProgress started = runner.start(request(0), candidates(8), schedule, OptimizationMetric.TOTAL_RETURN);
+        OptimizationProgress finished = awaitCompletion(started.getOptimizationId());
+
+        // then
+        assertThat(finished.getStatus()).isEqualTo(SimulationStatus.COMPLETED);
+        assertThat(finished.getTotalRungs()).isEqualTo(2);
+        assertThat(finished.getCompletedEvaluations()).isEqualTo(12);
+        assertThat(finished.getBestScore()).isEqualByComparingTo("8");
+
+        // 중간 단계는 저장 없이 평가, 상위 4개 후보만 저장
+        ArgumentCaptor<BacktestResult> resultCaptor = ArgumentCaptor.forClass(BacktestResult.class);
+        verify(resultRepository, times(4)).save(resultCaptor.capture());
+        assertThat(resultCaptor.getAllValues())
+                .extracting(result -> result.getTotalReturn().intValue())
+                .containsExactlyInAnyOrder(5, 6, 7, 8);
+        verify(simulationEngine, times(8)).runSimulation(isNull(), any(BacktestRequest.class), eq(strategy), any(SimulationData.class));
+    }
+
+    @Test
+    @DisplayName("작업 큐 실행 - 호출 스레드에서 끝까지 실행하고 실행한 인스턴스에서 진행 상황 추적")
+    void queuedExecutionTest() {
+        // given
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 2);
+        givenEngine(new SimulationData(TradingDays.empty(), Map.of(), PricePanel.builder().build()));
+        SearchSchedule schedule = SearchSchedule.fullWindow(LocalDate.of(2024, 12, 31), 3);
+        assertThat(runner.getProgress("queued")).isEmpty();
+
+        // when
+        SimulationStatus status = runner.execute("queued", request(0), candidates(3), schedule, OptimizationMetric.TOTAL_RETURN);
+
+        // then
+        assertThat(status).isEqualTo(SimulationStatus.COMPLETED);
+        assertThat(runner.getProgress("queued").orElseThrow().getCompletedEvaluations()).isEqualTo(3);
+        verify(simulationEngine, times(1)).prepare(any(BacktestRequest.class), anyInt());
+        verify(resultRepository, times(3)).save(any(BacktestResult.class));
+
+        ArgumentCaptor<BacktestSimulation> simulationCaptor = ArgumentCaptor.forClass(BacktestSimulation.class);
+        verify(simulationRepository, times(6)).save(simulationCaptor.capture());
+        assertThat(simulationCaptor.getAllValues()).allMatch(simulation -> "queued".equals(simulation.getOptimizationId()));
+    }
+
+    @Test
+    @DisplayName("다시 실행된 작업 - 이전 실행에서 결과가 저장된 조합은 건너뛰고 중단된 조합은 같은 시뮬레이션으로 다시 실행")
+    void resumedExecutionTest() {
+        // given: 이전 실행에서 2번 후보는 완료(50번), 3번 후보는 실행 중 중단(51번)
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 2);
+        givenEngine(new SimulationData(TradingDays.empty(), Map.of(), PricePanel.builder().build()));
+        BacktestSimulation completed = previousRun(50L, request(2), SimulationStatus.COMPLETED);
+        BacktestSimulation interrupted = previousRun(51L, request(3), SimulationStatus.RUNNING);
+        when(simulationRepository.findByOptimizationId("resumed")).thenReturn(List.of(completed, interrupted));
+        when(resultRepository.findBySimulationId(any())).thenAnswer(invocation -> Long.valueOf(50L).equals(invocation.getArgument(0))
+                ? Optional.of(BacktestResult.builder().simulationId(50L).totalReturn(new BigDecimal("2")).build())
+                : Optional.empty());
+
+        // when
+        SimulationStatus status = runner.execute("resumed", request(0), candidates(3),
+                SearchSchedule.fullWindow(LocalDate.of(2024, 12, 31), 3), OptimizationMetric.TOTAL_RETURN);
+
+        // then
+        assertThat(status).isEqualTo(SimulationStatus.COMPLETED);
+        OptimizationProgress progress = runner.getProgress("resumed").orElseThrow();
+        assertThat(progress.getCompletedEvaluations()).isEqualTo(3);
+        assertThat(progress.getBestSimulationId()).isEqualTo(51L);
+        verify(simulationEngine, times(2)).runSimulation(any(), any(BacktestRequest.class), eq(strategy), any(SimulationData.class));
+        verify(simulationEngine).runSimulation(eq(51L), any(BacktestRequest.class), eq(strategy), any(SimulationData.class));
+        verify(resultRepository, times(2)).save(any(BacktestResult.class));
+    }
+
+    // 조합 실행과 같은 방식(스냅샷 없음)으로 지문을 남긴 이전 실행의 시뮬레이션
+    private static BacktestSimulation previousRun(Long id, BacktestRequest candidate, SimulationStatus status) {
+        BacktestRequest request = ParameterSpace.copy(candidate);
+        request.setSnapshotGranularity(SnapshotGranularity.NONE);
+        return BacktestSimulation.builder()
+                .id(id)
+                .optimizationId("resumed")
+                .requestFingerprint(RequestFingerprint.of(new ObjectMapper(), request))
+                .status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("워크포워드 - 구간별 표본 내 최고 후보를 표본 외 구간에 적용하고 하나의 시뮬레이션으로 연결")
+    @SuppressWarnings("unchecked")
+    void walkForwardTest() {
+        // given - 2024년 상반기 표본 내, 3개월 표본 외 → 2개 구간 (7~9월, 10~12월)
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 2);
+        List<LocalDate> weekdays = LocalDate.of(2024, 1, 1).datesUntil(LocalDate.of(2025, 1, 1))
+                .filter(date -> date.getDayOfWeek().getValue() <= 5)
+                .toList();
+        givenEngine(new SimulationData(TradingDays.of(weekdays), Map.of(), PricePanel.builder().build()));
+        when(simulationEngine.runSimulation(any(), any(BacktestRequest.class), eq(strategy), any(SimulationData.class),
+                any(NavigableMap.class))).thenAnswer(invocation -> BacktestResult.builder()
+                        .simulationId(invocation.getArgument(0))
+                        .totalReturn(new BigDecimal("12.5"))
+                        .build());
+        WalkForwardSchedule schedule = WalkForwardSchedule.rolling(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), 6, 3, false);
+
+        // when
+        SimulationStatus status = runner.executeWalkForward("walk-forward", request(0), candidates(3), schedule, OptimizationMetric.TOTAL_RETURN);
+
+        // then
+        assertThat(status).isEqualTo(SimulationStatus.COMPLETED);
+        OptimizationProgress progress = runner.getProgress("walk-forward").orElseThrow();
+        assertThat(progress.getCompletedEvaluations()).isEqualTo(progress.getTotalEvaluations()).isEqualTo(9);
+        assertThat(progress.getBestScore()).isEqualByComparingTo("12.5");
+        verify(simulationEngine, times(1)).prepare(any(BacktestRequest.class), anyInt());
+
+        // 연결 시뮬레이션은 첫 표본 외 시작일부터, 구간 시작일마다 최고 후보(비중 3) 파라미터 적용
+        ArgumentCaptor<BacktestRequest> chainedCaptor = ArgumentCaptor.forClass(BacktestRequest.class);
+        ArgumentCaptor<NavigableMap<LocalDate, BacktestRequest>> parametersCaptor = ArgumentCaptor.forClass(NavigableMap.class);
+        verify(simulationEngine).runSimulation(any(), chainedCaptor.capture(), eq(strategy), any(SimulationData.class), parametersCaptor.capture());
+        assertThat(chainedCaptor.getValue().getStartDate()).isEqualTo(LocalDate.of(2024, 7, 1));
+        assertThat(chainedCaptor.getValue().getEndDate()).isEqualTo(LocalDate.of(2024, 12, 31));
+        assertThat(parametersCaptor.getValue()).containsOnlyKeys(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 10, 1));
+        assertThat(parametersCaptor.getValue().values())
+                .allSatisfy(parameters -> assertThat(parameters.getMaxWeightPerStock()).isEqualByComparingTo("3"));
+
+        ArgumentCaptor<List<WalkForwardFold>> foldsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(foldRepository).saveAll(foldsCaptor.capture());
+        assertThat(foldsCaptor.getValue())
+                .extracting(WalkForwardFold::getFoldIndex, WalkForwardFold::getInSampleStart, WalkForwardFold::getOutOfSampleEnd)
+                .containsExactly(
+                        tuple(0, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 9, 30)),
+                        tuple(1, LocalDate.of(2024, 4, 1), LocalDate.of(2024, 12, 31)));
+        assertThat(foldsCaptor.getValue())
+                .allSatisfy(fold -> assertThat(fold.getInSampleScore()).isEqualByComparingTo("3"));
+        verify(resultRepository, times(1)).save(any(BacktestResult.class));
+    }
+
+    @Test
+    @DisplayName("조합이 없으면 예외 발생")
+    void emptyCombinationsTest() {
+        runner = new GridSearchRunner(simulationEngine, strategyFactory, simulationRepository, resultRepository, foldRepository, resultCache, new ObjectMapper(), 1);
+
+        assertThatThrownBy(() -> runner.start(request(0), List.of(),
+                SearchSchedule.fullWindow(LocalDate.of(2024, 12, 31), 1), OptimizationMetric.TOTAL_RETURN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.stock.strategy.service.optimization;
+
+import com.stock.common.dto.MultiFactorConfig;
+import com.stock.common.dto.ValueStrategyConfig;
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.GridSearchRequest;
+import com.stock.strategy.enums.StrategyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParameterSpaceTest {
+
+    private GridSearchRequest.GridSearchRequestBuilder request(StrategyType type) {
+        return GridSearchRequest.builder()
+                .baseRequest(BacktestRequest.builder()
+                        .strategyType(type)
+                        .startDate(LocalDate.of(2023, 1, 1))
+                        .endDate(LocalDate.of(2023, 12, 31))
+                        .initialCapital(new BigDecimal("10000000"))
+                        .build());
+    }
+
+    @Test
+    @DisplayName("Value 격자 - topN × 가중치 단체 전체 열거, 가중치 합계 1")
+    void valueGridTest() {
+        List<BacktestRequest> grid = ParameterSpace.grid(request(StrategyType.VALUE)
+                .minTopN(10).maxTopN(30).stepTopN(10).weightStep(0.1)
+                .build());
+
+        assertThat(grid).hasSize(3 * 66);
+        assertThat(grid).allSatisfy(candidate -> {
+            ValueStrategyConfig config = candidate.getValueStrategyConfig();
+            assertThat(config.getPbrWeight().add(config.getRoeWeight()).add(config.getPerWeight()))
+                    .isEqualByComparingTo(BigDecimal.ONE);
+        });
+    }
+
+    @Test
+    @DisplayName("MultiFactor 격자 - 설정 검증 통과")
+    void multiFactorGridTest() {
+        List<BacktestRequest> grid = ParameterSpace.grid(request(StrategyType.MULTI_FACTOR)
+                .weightStep(1.0 / 3)
+                .build());
+
+        assertThat(grid).hasSize(10);
+        grid.forEach(candidate -> candidate.getMultiFactorConfig().validate());
+    }
+
+    @Test
+    @DisplayName("SectorRotation 격자 - 섹터 수 × 섹터별 종목 수")
+    void sectorRotationGridTest() {
+        List<BacktestRequest> grid = ParameterSpace.grid(request(StrategyType.SECTOR_ROTATION)
+                .minTopSectors(2).maxTopSectors(4)
+                .minTopN(3).maxTopN(5).stepTopN(2)
+                .build());
+
+        assertThat(grid).hasSize(3 * 2);
+        assertThat(grid).extracting(candidate -> candidate.getSectorRotationConfig().getTopSectorsCount())
+                .containsExactly(2, 2, 3, 3, 4, 4);
+    }
+
+    @Test
+    @DisplayName("무작위 탐색 - 같은 시드면 같은 후보, 가중치 합계 1")
+    void randomSampleTest() {
+        GridSearchRequest searchRequest = request(StrategyType.MULTI_FACTOR)
+                .minTopN(10).maxTopN(50).stepTopN(5).seed(42L)
+                .build();
+
+        List<BacktestRequest> first = ParameterSpace.sample(searchRequest, 50);
+        List<BacktestRequest> second = ParameterSpace.sample(searchRequest, 50);
+
+        assertThat(first).hasSize(50);
+        assertThat(first).extracting(BacktestRequest::getMultiFactorConfig)
+                .isEqualTo(second.stream().map(BacktestRequest::getMultiFactorConfig).toList());
+        assertThat(first).allSatisfy(candidate -> {
+            MultiFactorConfig config = candidate.getMultiFactorConfig();
+            config.validate();
+            assertThat(config.getTopN()).isBetween(10, 50);
+        });
+    }
+
+    @Test
+    @DisplayName("탐색 공간이 정의되지 않은 전략은 예외 발생")
+    void unsupportedStrategyTest() {
+        assertThatThrownBy(() -> ParameterSpace.grid(request(StrategyType.MOMENTUM).build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("MOMENTUM");
+    }
+}
@@ -0,0 +1,53 @@
+package com.stock.strategy.service.optimization;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchScheduleTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+    private static final LocalDate END = LocalDate.of(2023, 12, 31);
+
+    @Test
+    @DisplayName("단계마다 후보는 절반, 평가 기간은 두 배 - 마지막 단계는 전체 기간")
+    void successiveHalvingRungsTest() {
+        SearchSchedule schedule = SearchSchedule.successiveHalving(START, END, 66, 2, 6);
+
+        assertThat(schedule.rungs()).extracting(SearchSchedule.Rung::candidates).containsExactly(66, 33, 17, 9);
+        assertThat(schedule.rungs()).extracting(SearchSchedule.Rung::endDate).containsExactly(
+                LocalDate.of(2020, 6, 30),
+                LocalDate.of(2020, 12, 31),
+                LocalDate.of(2021, 12, 31),
+                END);
+        assertThat(schedule.totalEvaluations()).isEqualTo(66 + 33 + 17 + 9);
+    }
+
+    @Test
+    @DisplayName("최소 평가 기간보다 짧아지는 단계는 만들지 않음")
+    void minWindowTest() {
+        SearchSchedule schedule = SearchSchedule.successiveHalving(START, LocalDate.of(2020, 12, 31), 100, 3, 6);
+
+        assertThat(schedule.rungs()).hasSize(1);
+        assertThat(schedule.rungs().get(0).candidates()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("후보가 1개가 되면 단계 추가 중단")
+    void singleSurvivorTest() {
+        SearchSchedule schedule = SearchSchedule.successiveHalving(START, END, 4, 2, 1);
+
+        assertThat(schedule.rungs()).extracting(SearchSchedule.Rung::candidates).containsExactly(4, 2, 1);
+    }
+
+    @Test
+    @DisplayName("축소 비율이 2 미만이면 예외 발생")
+    void invalidReductionFactorTest() {
+        assertThatThrownBy(() -> SearchSchedule.successiveHalving(START, END, 10, 1, 6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.stock.strategy.service.optimization;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class WalkForwardScheduleTest {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+    private static final LocalDate END = LocalDate.of(2022, 10, 31);
+
+    @Test
+    @DisplayName("이동 창 - 표본 외 기간만큼 밀며 표본 외 구간은 이어지고 마지막 구간은 종료일에서 잘림")
+    void rollingFoldsTest() {
+        WalkForwardSchedule schedule = WalkForwardSchedule.rolling(START, END, 24, 6, false);
+
+        assertThat(schedule.folds())
+                .extracting(WalkForwardSchedule.Fold::inSampleStart, WalkForwardSchedule.Fold::inSampleEnd,
+                        WalkForwardSchedule.Fold::outOfSampleStart, WalkForwardSchedule.Fold::outOfSampleEnd)
+                .containsExactly(
+                        tuple(START, LocalDate.of(2021, 12, 31), LocalDate.of(2022, 1, 1), LocalDate.of(2022, 6, 30)),
+                        tuple(LocalDate.of(2020, 7, 1), LocalDate.of(2022, 6, 30), LocalDate.of(2022, 7, 1), END));
+        assertThat(schedule.outOfSampleStart()).isEqualTo(LocalDate.of(2022, 1, 1));
+        assertThat(schedule.outOfSampleEnd()).isEqualTo(END);
+    }
+
+    @Test
+    @DisplayName("확장 창 - 표본 내 기간 시작일은 고정")
+    void anchoredFoldsTest() {
+        WalkForwardSchedule schedule = WalkForwardSchedule.rolling(START, END, 24, 6, true);
+
+        assertThat(schedule.folds()).extracting(WalkForwardSchedule.Fold::inSampleStart).containsOnly(START);
+        assertThat(schedule.folds()).extracting(WalkForwardSchedule.Fold::inSampleEnd)
+                .containsExactly(LocalDate.of(2021, 12, 31), LocalDate.of(2022, 6, 30));
+    }
+
+    @Test
+    @DisplayName("표본 내 기간보다 짧은 백테스트 기간은 예외 발생")
+    void tooShortPeriodTest() {
+        assertThatThrownBy(() -> WalkForwardSchedule.rolling(START, LocalDate.of(2021, 12, 31), 24, 6, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
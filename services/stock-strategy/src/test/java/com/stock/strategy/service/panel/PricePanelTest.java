@@ -0,0 +1,75 @@
+package com.stock.strategy.service.panel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PricePanelTest {
+
+    private static final LocalDate FRI = LocalDate.of(2024, 1, 5);
+    private static final LocalDate MON = LocalDate.of(2024, 1, 8);
+    private static final LocalDate TUE = LocalDate.of(2024, 1, 9);
+
+    private PricePanel samplePanel() {
+        return PricePanel.builder()
+                .add("005930", TUE, new BigDecimal("72000"), new BigDecimal("1500000"))
+                .add("005930", FRI, new BigDecimal("70000"), new BigDecimal("1000000"))
+                .add("A000660", FRI, new BigDecimal("130000"), new BigDecimal("300000"))
+                .add("005930", MON, new BigDecimal("71000"), new BigDecimal("1200000"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("입력 순서와 무관하게 거래일이 정렬되고 'A' 접두어 코드도 동일 종목으로 조회")
+    void buildAndLookupTest() {
+        PricePanel panel = samplePanel();
+
+        assertThat(panel.stockCount()).isEqualTo(2);
+        assertThat(panel.dayCount()).isEqualTo(3);
+        assertThat(panel.dayAt(0)).isEqualTo(FRI);
+        assertThat(panel.dayAt(2)).isEqualTo(TUE);
+
+        assertThat(panel.closeOn("A005930", MON)).isEqualByComparingTo("71000");
+        assertThat(panel.closeOn("000660", FRI)).isEqualByComparingTo("130000");
+        assertThat(panel.volumeOn("005930", TUE)).isEqualTo(1500000L);
+    }
+
+    @Test
+    @DisplayName("시세가 없는 종목/날짜는 null 또는 0 반환")
+    void missingValueTest() {
+        PricePanel panel = samplePanel();
+
+        assertThat(panel.closeOn("000660", MON)).isNull();
+        assertThat(panel.closeOn("005930", LocalDate.of(2024, 1, 6))).isNull();
+        assertThat(panel.closeOn("035420", FRI)).isNull();
+        assertThat(panel.volumeOn("035420", FRI)).isZero();
+    }
+
+    @Test
+    @DisplayName("주말/휴장일 기준 거래일 인덱스 조회")
+    void dayIndexTest() {
+        PricePanel panel = samplePanel();
+        LocalDate sat = LocalDate.of(2024, 1, 6);
+
+        assertThat(panel.dayIndexOf(sat)).isEqualTo(PricePanel.NOT_FOUND);
+        assertThat(panel.floorDayIndexOf(sat)).isEqualTo(0);
+        assertThat(panel.ceilDayIndexOf(sat)).isEqualTo(1);
+        assertThat(panel.floorDayIndexOf(LocalDate.of(2024, 1, 4))).isEqualTo(PricePanel.NOT_FOUND);
+        assertThat(panel.ceilDayIndexOf(LocalDate.of(2024, 1, 10))).isEqualTo(PricePanel.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("구간 종가 조회 시 결측을 제외하고 날짜순으로 반환")
+    void closeWindowTest() {
+        PricePanel panel = samplePanel();
+
+        assertThat(panel.closeWindow("005930", LocalDate.of(2024, 1, 1), TUE))
+                .containsExactly(70000d, 71000d, 72000d);
+        assertThat(panel.closeWindow("000660", FRI, TUE)).containsExactly(130000d);
+        assertThat(panel.closeWindow("005930", LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 31))).isEmpty();
+    }
+}
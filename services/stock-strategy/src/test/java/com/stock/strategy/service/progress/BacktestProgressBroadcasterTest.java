@@ -0,0 +1,134 @@
+package com.stock.strategy.service.progress;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.strategy.dto.BacktestProgress;
+import com.stock.strategy.enums.SimulationStatus;
+import com.stock.strategy.repository.BacktestSimulationRepository;
+import com.stock.strategy.service.SimulationEngine;
+import com.stock.strategy.service.metrics.PerformanceAccumulator;
+import com.stock.strategy.service.snapshot.SnapshotSeriesReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BacktestProgressBroadcasterTest {
+
+    @Mock
+    private BacktestSimulationRepository simulationRepository;
+
+    @Mock
+    private SnapshotSeriesReader snapshotSeriesReader;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private BacktestProgressBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new BacktestProgressBroadcaster(simulationRepository, snapshotSeriesReader, redisTemplate, objectMapper,
+                listenerContainer, 500, 0, 60, 0, 600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    private List<BacktestProgressBroadcaster.ProgressMessage> published(int count) throws Exception {
+        ArgumentCaptor<String> messages = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, timeout(1000).times(count)).convertAndSend(eq(BacktestProgressBroadcaster.PROGRESS_CHANNEL), messages.capture());
+        List<BacktestProgressBroadcaster.ProgressMessage> result = new ArrayList<>();
+        for (String message : messages.getAllValues()) {
+            result.add(objectMapper.readValue(message, BacktestProgressBroadcaster.ProgressMessage.class));
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("진행 이벤트는 공용 채널로 발행하고, 새 구독자용 전체 곡선을 레디스 키에 저장")
+    void publishProgressTest() throws Exception {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        PerformanceAccumulator metrics = new PerformanceAccumulator(LocalDate.of(2024, 1, 1), 1_000_000, 0, 0);
+
+        // when: 거래일 2일 처리 (발행 간격 0 → 매일 발행)
+        SimulationEngine.ProgressListener listener = broadcaster.start(7L, SimulationStatus.RUNNING, false);
+        for (int day = 0; day < 2; day++) {
+            LocalDate date = LocalDate.of(2024, 1, 2).plusDays(day);
+            metrics.onDay(date, 1_000_000 + day * 10_000);
+            listener.onDay(day, 2, date, metrics);
+        }
+
+        // then: status + progress 2회, 두 번째 progress 는 추가된 곡선 점만 포함
+        List<BacktestProgressBroadcaster.ProgressMessage> messages = published(3);
+        assertThat(messages).extracting(BacktestProgressBroadcaster.ProgressMessage::event)
+                .containsExactly(BacktestProgressBroadcaster.STATUS_EVENT, BacktestProgressBroadcaster.PROGRESS_EVENT,
+                        BacktestProgressBroadcaster.PROGRESS_EVENT);
+        BacktestProgress last = messages.get(2).progress();
+        assertThat(last.getCurveOffset()).isEqualTo(1);
+        assertThat(last.getCurveDates()).containsExactly(LocalDate.of(2024, 1, 3));
+
+        ArgumentCaptor<String> states = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(3)).set(eq(BacktestProgressBroadcaster.PROGRESS_KEY_PREFIX + 7), states.capture(),
+                eq(Duration.ofSeconds(600)));
+        BacktestProgress state = objectMapper.readValue(states.getValue(), BacktestProgress.class);
+        assertThat(state.getCurveOffset()).isZero();
+        assertThat(state.getCurveDates()).hasSize(2);
+        assertThat(state.getProcessedDays()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 진행 상태 키를 지우고 complete 이벤트 발행")
+    void finishTest() throws Exception {
+        // when
+        broadcaster.finish(7L, SimulationStatus.COMPLETED);
+
+        // then
+        List<BacktestProgressBroadcaster.ProgressMessage> messages = published(1);
+        assertThat(messages).singleElement().satisfies(message -> {
+            assertThat(message.event()).isEqualTo(BacktestProgressBroadcaster.COMPLETE_EVENT);
+            assertThat(message.progress().getStatus()).isEqualTo(SimulationStatus.COMPLETED);
+        });
+        verify(redisTemplate).delete(BacktestProgressBroadcaster.PROGRESS_KEY_PREFIX + 7);
+    }
+
+    @Test
+    @DisplayName("인스턴스 간 메시지 구독 등록")
+    void listenerRegistrationTest() {
+        verify(listenerContainer).addMessageListener(any(), any(Topic.class));
+        verify(redisTemplate, times(0)).convertAndSend(anyString(), anyString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.stock.strategy.service.queue;
+
+import com.stock.strategy.dto.BacktestJobInfo;
+import com.stock.strategy.enums.BacktestJobStatus;
+import com.stock.strategy.enums.BacktestJobType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 호환 모드)에서 작업 큐의 사용자별 동시 실행 제한 검증
+ */
+class BacktestJobQueueTest {
+
+    // V5__create_backtest_job_queue.sql 과 같은 구조
+    private static final String SCHEMA = """
+            CREATE TABLE TB_BACKTEST_JOB (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                job_type VARCHAR(20) NOT NULL,
+                priority INT NOT NULL,
+                user_id VARCHAR(100) NOT NULL,
+                simulation_id BIGINT,
+                optimization_id VARCHAR(36),
+                payload VARCHAR(1000) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                attempts INT NOT NULL DEFAULT 0,
+                cancel_requested BOOLEAN NOT NULL DEFAULT FALSE,
+                worker VARCHAR(100),
+                created_at DATETIME(3) NOT NULL,
+                started_at DATETIME(3),
+                heartbeat_at DATETIME(3),
+                finished_at DATETIME(3)
+            )
+            """;
+
+    private BacktestJobQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:job-queue-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute(SCHEMA);
+        queue = new BacktestJobQueue(jdbcTemplate);
+    }
+
+    private Long enqueue(String userId, long simulationId) {
+        return queue.enqueue(BacktestJobType.BACKTEST, userId, simulationId, null, "{}");
+    }
+
+    @Test
+    @DisplayName("사용자 ID 가 없는 작업은 하나의 익명 사용자로 묶여 사용자별 제한을 받음")
+    void anonymousJobsSharePerUserLimitTest() {
+        // given
+        Long first = enqueue(null, 1L);
+        Long second = enqueue(null, 2L);
+
+        // when
+        Optional<BacktestJob> claimed = queue.claim("worker-1", 1);
+        Optional<BacktestJob> blocked = queue.claim("worker-2", 1);
+
+        // then
+        assertThat(claimed).map(BacktestJob::id).contains(first);
+        assertThat(claimed).map(BacktestJob::userId).contains(BacktestJobQueue.ANONYMOUS_USER);
+        assertThat(blocked).isEmpty();
+        assertThat(queue.find(second)).map(BacktestJobInfo::getStatus).contains(BacktestJobStatus.QUEUED);
+    }
+
+    @Test
+    @DisplayName("익명 작업이 제한에 걸려도 다른 사용자 작업은 실행되고, 익명 작업이 끝나면 다음 익명 작업 실행")
+    void otherUsersAndReleaseTest() {
+        // given
+        Long first = enqueue(null, 1L);
+        Long second = enqueue("", 2L);
+        Long other = enqueue("user-1", 3L);
+
+        // when
+        Optional<BacktestJob> anonymous = queue.claim("worker-1", 1);
+        Optional<BacktestJob> user = queue.claim("worker-2", 1);
+        queue.finish(first, BacktestJobStatus.COMPLETED);
+        Optional<BacktestJob> next = queue.claim("worker-1", 1);
+
+        // then
+        assertThat(anonymous).map(BacktestJob::id).contains(first);
+        assertThat(user).map(BacktestJob::id).contains(other);
+        assertThat(next).map(BacktestJob::id).contains(second);
+    }
+}
@@ -0,0 +1,105 @@
+package com.stock.strategy.service.rebalance;
+
+import com.stock.strategy.dto.PortfolioHolding;
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.panel.PricePanel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PortfolioRebalancerTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 2);
+
+    private final PricePanel prices = PricePanel.builder()
+            .add("A005930", DATE, 10_000d, 1_000_000L)
+            .add("A000660", DATE, 50_000d, 1_000_000L)
+            .add("A035420", DATE, 20_000d, 1_000_000L)
+            .build();
+
+    // 총자산 1,000만원: 현금 500만원 + A005930 100주(100만원) + A035420 200주(400만원)
+    private Portfolio portfolio() {
+        Portfolio portfolio = new Portfolio(new BigDecimal("5000000"));
+        Map<String, PortfolioHolding> holdings = new HashMap<>();
+        holdings.put("A005930", holding("A005930", 100, "10000"));
+        holdings.put("A035420", holding("A035420", 200, "20000"));
+        portfolio.setHoldings(holdings);
+        portfolio.setTotalValue(new BigDecimal("10000000"));
+        return portfolio;
+    }
+
+    private static PortfolioHolding holding(String stockCode, int quantity, String price) {
+        BigDecimal currentPrice = new BigDecimal(price);
+        return PortfolioHolding.builder()
+                .stockCode(stockCode)
+                .quantity(quantity)
+                .averagePrice(currentPrice)
+                .currentPrice(currentPrice)
+                .marketValue(currentPrice.multiply(BigDecimal.valueOf(quantity)))
+                .build();
+    }
+
+    @Test
+    @DisplayName("목표에 없는 종목은 전량 매도, 목표 종목은 동일 비중 차이만큼 매수")
+    void equalWeightTest() {
+        List<TradeOrder> orders = new PortfolioRebalancer(null, null)
+                .rebalanceEqualWeight(DATE, portfolio(), List.of("A005930", "A000660"), prices);
+
+        assertThat(orders)
+                .extracting(TradeOrder::getStockCode, TradeOrder::getOrderType, TradeOrder::getQuantity)
+                .containsExactly(
+                        tuple("A035420", OrderType.SELL, 200),
+                        tuple("A005930", OrderType.BUY, 400),   // 500만원 목표 - 100만원 보유
+                        tuple("A000660", OrderType.BUY, 100));
+    }
+
+    @Test
+    @DisplayName("no-trade band 미만 이탈과 최소 거래 금액 미만 주문은 생략")
+    void bandAndMinTradeTest() {
+        // 목표 각 50%: A005930 +400만원, A035420 +100만원 이탈 (총자산 대비 40%, 10%)
+        List<String> targets = List.of("A005930", "A035420");
+
+        List<TradeOrder> banded = new PortfolioRebalancer(new BigDecimal("0.2"), null)
+                .rebalanceEqualWeight(DATE, portfolio(), targets, prices);
+        assertThat(banded).extracting(TradeOrder::getStockCode).containsExactly("A005930");
+
+        List<TradeOrder> minTrade = new PortfolioRebalancer(null, new BigDecimal("2000000"))
+                .rebalanceEqualWeight(DATE, portfolio(), targets, prices);
+        assertThat(minTrade).extracting(TradeOrder::getStockCode).containsExactly("A005930");
+    }
+
+    @Test
+    @DisplayName("목표 비중 벡터에서 비중 0인 보유 종목은 목표에서 제외되어 매도")
+    void weightVectorTest() {
+        List<TradeOrder> orders = new PortfolioRebalancer(null, null).rebalance(DATE, portfolio(),
+                List.of("A005930", "A035420"), new double[]{0.3, 0.0}, new BigDecimal("10000000"), prices);
+
+        assertThat(orders)
+                .extracting(TradeOrder::getStockCode, TradeOrder::getOrderType, TradeOrder::getQuantity)
+                .containsExactly(
+                        tuple("A035420", OrderType.SELL, 200),
+                        tuple("A005930", OrderType.BUY, 200));
+    }
+
+    @Test
+    @DisplayName("held 로 지정한 보유 종목은 목표 비중이 없어도 매도하지 않음")
+    void heldTest() {
+        List<TradeOrder> orders = new PortfolioRebalancer(null, null).rebalance(DATE, portfolio(),
+                List.of("A005930", "A035420"), new double[]{0.3, 0.0}, new BigDecimal("10000000"), prices, Set.of("A035420"));
+
+        assertThat(orders)
+                .extracting(TradeOrder::getStockCode, TradeOrder::getOrderType, TradeOrder::getQuantity)
+                .containsExactly(tuple("A005930", OrderType.BUY, 200));
+    }
+}
@@ -0,0 +1,109 @@
+package com.stock.strategy.service.robustness;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BlockBootstrapTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+        singleThreadPool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 시드면 병렬 분할 순서와 관계없이 경로별 결과가 같음")
+    void deterministicWithSeedTest() {
+        // given
+        double[] returns = randomReturns(500, 1L);
+
+        // when
+        BlockBootstrap.Distribution first = BlockBootstrap.resample(returns, BlockBootstrap.Accumulation.COMPOUND, 2.0, 5_000, 8, 42L, pool);
+        BlockBootstrap.Distribution second = BlockBootstrap.resample(returns, BlockBootstrap.Accumulation.COMPOUND, 2.0, 5_000, 8, 42L, singleThreadPool);
+        BlockBootstrap.Distribution other = BlockBootstrap.resample(returns, BlockBootstrap.Accumulation.COMPOUND, 2.0, 5_000, 8, 7L, pool);
+
+        // then
+        assertThat(first.cagr()).containsExactly(second.cagr());
+        assertThat(first.maxDrawdown()).containsExactly(second.maxDrawdown());
+        assertThat(first.sharpe()).containsExactly(second.sharpe());
+        assertThat(first.cagr()).isNotEqualTo(other.cagr());
+    }
+
+    @Test
+    @DisplayName("블록 길이가 시계열 길이면 모든 경로가 원래 시계열의 순환 이동이라 최종 수익률이 같음")
+    void fullBlockPreservesTotalReturnTest() {
+        // given
+        double[] returns = randomReturns(250, 3L);
+        BlockBootstrap.Distribution observed = BlockBootstrap.observed(returns, BlockBootstrap.Accumulation.COMPOUND, 1.0);
+
+        // when
+        BlockBootstrap.Distribution resampled = BlockBootstrap.resample(returns, BlockBootstrap.Accumulation.COMPOUND, 1.0, 1_000, returns.length, 5L, pool);
+
+        // then
+        assertThat(resampled.cagr()).allSatisfy(cagr -> assertThat(cagr).isCloseTo(observed.cagr()[0], within(1e-9)));
+    }
+
+    @Test
+    @DisplayName("일정한 수익률은 모든 경로에서 같은 CAGR, 낙폭 0")
+    void constantSeriesTest() {
+        // given
+        double[] returns = new double[252];
+        Arrays.fill(returns, 0.001);
+
+        // when
+        BlockBootstrap.Distribution resampled = BlockBootstrap.resample(returns, BlockBootstrap.Accumulation.COMPOUND, 1.0, 1_000, 5, 11L, pool);
+        double mean = BlockBootstrap.sortAndAverage(resampled.cagr());
+
+        // then
+        double expected = Math.pow(1.001, 252) - 1;
+        assertThat(BlockBootstrap.quantile(resampled.cagr(), 0.025)).isCloseTo(expected, within(1e-9));
+        assertThat(BlockBootstrap.quantile(resampled.cagr(), 0.975)).isCloseTo(expected, within(1e-9));
+        assertThat(mean).isCloseTo(expected, within(1e-9));
+        assertThat(resampled.maxDrawdown()).containsOnly(0.0);
+    }
+
+    @Test
+    @DisplayName("손익 누적 - 자본이 소진되면 낙폭 100%, CAGR -100%")
+    void additiveRuinTest() {
+        // given: 초기 자본 대비 +10%, -60%, -60%
+        double[] profits = {0.1, -0.6, -0.6};
+
+        // when
+        BlockBootstrap.Distribution observed = BlockBootstrap.observed(profits, BlockBootstrap.Accumulation.ADDITIVE, 1.0);
+
+        // then
+        assertThat(observed.maxDrawdown()[0]).isEqualTo(1.0);
+        assertThat(observed.cagr()[0]).isEqualTo(-1.0);
+    }
+
+    @Test
+    @DisplayName("분위수는 정렬된 값 사이를 선형 보간")
+    void quantileTest() {
+        double[] sorted = {1.0, 2.0, 3.0, 4.0, 5.0};
+
+        assertThat(BlockBootstrap.quantile(sorted, 0.5)).isEqualTo(3.0);
+        assertThat(BlockBootstrap.quantile(sorted, 0.125)).isEqualTo(1.5);
+        assertThat(BlockBootstrap.quantile(sorted, 1.0)).isEqualTo(5.0);
+        assertThat(BlockBootstrap.defaultBlockLength(1000)).isEqualTo(10);
+    }
+
+    private static double[] randomReturns(int size, long seed) {
+        Random random = new Random(seed);
+        double[] returns = new double[size];
+        for (int i = 0; i < size; i++) {
+            returns[i] = random.nextGaussian() * 0.01 + 0.0003;
+        }
+        return returns;
+    }
+}
@@ -0,0 +1,97 @@
+package com.stock.strategy.service.slippage;
+
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.panel.PricePanel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ParticipationLimiterTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 3);
+    private static final LocalDate DAY3 = LocalDate.of(2024, 1, 4);
+
+    private static final PricePanel PRICES = PricePanel.builder()
+            .add("A005930", DAY1, 70000d, 100_000L)
+            .add("A005930", DAY2, 71000d, 50_000L)
+            .add("A005930", DAY3, 72000d, 100_000L)
+            .add("A000660", DAY1, 130000d, 1_000_000L)
+            .build();
+
+    private static TradeOrder order(String stockCode, OrderType type, int quantity, String price) {
+        return TradeOrder.builder()
+                .stockCode(stockCode)
+                .orderType(type)
+                .quantity(quantity)
+                .price(new BigDecimal(price))
+                .orderDate(DAY1)
+                .build();
+    }
+
+    @Test
+    @DisplayName("당일 거래량 × 비율을 넘는 수량은 잘라서 다음 거래일 종가로 이월")
+    void partialFillCarryOverTest() {
+        // given
+        ParticipationLimiter limiter = new ParticipationLimiter(new BigDecimal("0.01"), PRICES);
+
+        // when
+        List<TradeOrder> day1 = limiter.submit(DAY1, List.of(
+                order("A005930", OrderType.BUY, 1_800, "70000"),
+                order("A000660", OrderType.SELL, 500, "130000")));
+
+        // then
+        // 삼성전자 한도 1,000주, 하이닉스 한도 10,000주
+        assertThat(day1).extracting(TradeOrder::getStockCode, TradeOrder::getQuantity)
+                .containsExactly(
+                        tuple("A005930", 1_000),
+                        tuple("A000660", 500));
+        assertThat(limiter.hasPending()).isTrue();
+
+        // DAY2 한도 500주, 가격/주문일은 DAY2 종가 기준으로 갱신
+        List<TradeOrder> day2 = limiter.carryOver(DAY2);
+        assertThat(day2).singleElement().satisfies(o -> {
+            assertThat(o.getQuantity()).isEqualTo(500);
+            assertThat(o.getPrice()).isEqualByComparingTo(new BigDecimal("71000"));
+            assertThat(o.getOrderDate()).isEqualTo(DAY2);
+        });
+
+        List<TradeOrder> day3 = limiter.carryOver(DAY3);
+        assertThat(day3).singleElement().extracting(TradeOrder::getQuantity).isEqualTo(300);
+        assertThat(limiter.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("새 리밸런싱 주문이 들어오면 이전 이월 잔량은 폐기")
+    void submitDiscardsPendingTest() {
+        // given
+        ParticipationLimiter limiter = new ParticipationLimiter(new BigDecimal("0.01"), PRICES);
+        limiter.submit(DAY1, List.of(order("A005930", OrderType.BUY, 5_000, "70000")));
+
+        // when
+        List<TradeOrder> orders = limiter.submit(DAY2, List.of(order("A005930", OrderType.SELL, 100, "71000")));
+
+        // then
+        assertThat(orders).singleElement().extracting(TradeOrder::getQuantity).isEqualTo(100);
+        assertThat(limiter.hasPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("비율 미설정 시 주문을 그대로 통과")
+    void disabledTest() {
+        // given
+        ParticipationLimiter limiter = new ParticipationLimiter(null, PRICES);
+        List<TradeOrder> orders = List.of(order("A005930", OrderType.BUY, 1_000_000, "70000"));
+
+        // when & then
+        assertThat(limiter.submit(DAY1, orders)).isSameAs(orders);
+        assertThat(limiter.hasPending()).isFalse();
+    }
+}
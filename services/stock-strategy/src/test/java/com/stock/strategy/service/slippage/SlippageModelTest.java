@@ -1,10 +1,13 @@
 package com.stock.strategy.service.slippage;
 
+import com.stock.strategy.dto.TradeOrder;
 import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.service.panel.PricePanel;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,4 +56,57 @@ class SlippageModelTest {
         // then
         assertThat(execPrice).isEqualByComparingTo(new BigDecimal("10000"));
     }
+
+    private static final LocalDate ORDER_DATE = LocalDate.of(2024, 2, 1);
+
+    // 주문일 이전 20거래일: 종가가 ±2% 로 번갈아 움직이고 거래량은 100,000주
+    private static PricePanel impactPanel() {
+        PricePanel.Builder builder = PricePanel.builder();
+        for (int i = 20; i >= 1; i--) {
+            builder.add("A005930", ORDER_DATE.minusDays(i), i % 2 == 0 ? 10000d : 10200d, 100_000L);
+        }
+        builder.add("A005930", ORDER_DATE, 10000d, 5_000_000L);
+        return builder.build();
+    }
+
+    private static TradeOrder order(OrderType type, int quantity) {
+        return TradeOrder.builder()
+                .stockCode("A005930")
+                .orderType(type)
+                .quantity(quantity)
+                .price(new BigDecimal("10000"))
+                .orderDate(ORDER_DATE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("시장 충격 모델 - 주문 수량이 평균 거래량 대비 클수록 체결 단가가 불리해야 한다")
+    void marketImpactGrowsWithParticipationTest() {
+        // given
+        MarketImpactSlippageModel model = new MarketImpactSlippageModel(new BigDecimal("0.0005"), BigDecimal.ONE, 20, impactPanel());
+
+        // when
+        BigDecimal small = model.calculateExecutionPrice(order(OrderType.BUY, 100));
+        BigDecimal large = model.calculateExecutionPrice(order(OrderType.BUY, 10_000));
+        BigDecimal sell = model.calculateExecutionPrice(order(OrderType.SELL, 10_000));
+
+        // then
+        // 당일 거래량(500만주)이 아닌 직전 평균 거래량(10만주) 기준: 10% 참여 시 충격 ≈ 0.0198 × √0.1 ≈ 0.63%
+        assertThat(small).isGreaterThan(new BigDecimal("10005"));
+        assertThat(large).isGreaterThan(small);
+        assertThat(large).isBetween(new BigDecimal("10060"), new BigDecimal("10075"));
+        assertThat(sell).isEqualByComparingTo(new BigDecimal("20000").subtract(large));
+    }
+
+    @Test
+    @DisplayName("시장 충격 모델 - 시세 데이터가 없으면 스프레드만 반영하고 충격은 상한을 넘지 않아야 한다")
+    void marketImpactFallbackAndCapTest() {
+        // given
+        MarketImpactSlippageModel noData = new MarketImpactSlippageModel(new BigDecimal("0.0005"), BigDecimal.ONE, 20, PricePanel.empty());
+        MarketImpactSlippageModel extreme = new MarketImpactSlippageModel(new BigDecimal("0.0005"), new BigDecimal("100"), 20, impactPanel());
+
+        // when & then
+        assertThat(noData.calculateExecutionPrice(order(OrderType.BUY, 10_000))).isEqualByComparingTo(new BigDecimal("10005"));
+        assertThat(extreme.calculateExecutionPrice(order(OrderType.BUY, 10_000))).isEqualByComparingTo(new BigDecimal("11000"));
+    }
 }
@@ -0,0 +1,52 @@
+package com.stock.strategy.service.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CurveDownsamplerTest {
+
+    @Test
+    @DisplayName("점 수가 maxPoints 이하이면 전체 인덱스를 그대로 반환")
+    void returnsAllWhenSmallTest() {
+        double[] x = {0, 1, 2, 3};
+        double[] y = {100, 101, 99, 102};
+
+        int[] selected = CurveDownsampler.largestTriangleThreeBuckets(x, y, 10);
+
+        assertThat(selected).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("다운샘플링 결과는 maxPoints 개이며 첫 점과 마지막 점, 급락 지점을 유지")
+    void keepsEndpointsAndExtremesTest() {
+        // given: 완만한 상승 곡선 중간에 하루 급락
+        int size = 1000;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = i;
+            y[i] = 10_000_000 + i * 1_000;
+        }
+        y[537] = 6_000_000;
+
+        // when
+        int[] selected = CurveDownsampler.largestTriangleThreeBuckets(x, y, 50);
+
+        // then
+        assertThat(selected).hasSize(50);
+        assertThat(selected[0]).isZero();
+        assertThat(selected[selected.length - 1]).isEqualTo(size - 1);
+        assertThat(selected).contains(537);
+        assertThat(selected).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("x, y 길이가 다르면 예외 발생")
+    void lengthMismatchTest() {
+        assertThatThrownBy(() -> CurveDownsampler.largestTriangleThreeBuckets(new double[3], new double[2], 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
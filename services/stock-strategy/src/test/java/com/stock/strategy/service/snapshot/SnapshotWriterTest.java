@@ -0,0 +1,134 @@
+package com.stock.strategy.service.snapshot;
+
+import com.stock.strategy.entity.PortfolioSnapshot;
+import com.stock.strategy.entity.TradeHistory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SnapshotWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.shutdown();
+        }
+    }
+
+    private PortfolioSnapshot snapshot(int day) {
+        return PortfolioSnapshot.builder()
+                .simulationId(1L)
+                .snapshotDate(LocalDate.of(2024, 1, 1).plusDays(day))
+                .totalValue(new BigDecimal("10000000"))
+                .cashBalance(new BigDecimal("10000000"))
+                .holdings("{}")
+                .build();
+    }
+
+    @Test
+    @DisplayName("batch-size 단위로 다중 행 INSERT 하고 close 시 남은 스냅샷까지 저장")
+    void batchInsertAndFinalFlushTest() {
+        // given
+        writer = new SnapshotWriter(jdbcTemplate, 2, 4, 1);
+
+        // when
+        try (SnapshotWriter.Sink sink = writer.open(1L)) {
+            for (int day = 0; day < 5; day++) {
+                sink.add(snapshot(day));
+            }
+        }
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(3)).update(sqlCaptor.capture(), argsCaptor.capture());
+
+        List<Object[]> args = argsCaptor.getAllValues();
+        int totalParams = args.stream().mapToInt(a -> a.length).sum();
+        assertThat(totalParams).isEqualTo(5 * 5); // 5개 스냅샷 x 5개 컬럼
+        assertThat(sqlCaptor.getAllValues()).allMatch(sql -> sql.startsWith("INSERT INTO TB_PORTFOLIO_SNAPSHOT"));
+    }
+
+    @Test
+    @DisplayName("쓰기 실패 시 close 에서 예외 전달")
+    void writeFailureTest() {
+        // given
+        writer = new SnapshotWriter(jdbcTemplate, 10, 4, 1);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        SnapshotWriter.Sink sink = writer.open(1L);
+        sink.add(snapshot(0));
+        assertThatThrownBy(sink::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("simulation 1");
+    }
+
+    @Test
+    @DisplayName("체결 내역은 스냅샷과 별도 다중 행 INSERT 로 저장하고 체크포인트 이후 행은 스냅샷과 함께 삭제")
+    void tradeInsertAndDeleteAfterTest() {
+        // given
+        writer = new SnapshotWriter(jdbcTemplate, 2, 4, 1);
+        TradeHistory trade = TradeHistory.builder()
+                .simulationId(1L)
+                .tradeDate(LocalDate.of(2024, 1, 2))
+                .stockCode("A005930")
+                .orderType("BUY")
+                .quantity(10)
+                .price(new BigDecimal("71000.00"))
+                .fee(new BigDecimal("106.50"))
+                .tax(new BigDecimal("0.00"))
+                .build();
+
+        // when
+        try (SnapshotWriter.Sink sink = writer.open(1L)) {
+            sink.add(snapshot(0));
+            for (int i = 0; i < 3; i++) {
+                sink.addTrade(trade);
+            }
+        }
+        writer.deleteAfter(1L, LocalDate.of(2024, 1, 2));
+
+        // then: 체결 2건 + 1건, 스냅샷 1건
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(5)).update(sqlCaptor.capture(), argsCaptor.capture());
+
+        List<String> sqls = sqlCaptor.getAllValues();
+        List<Object[]> args = argsCaptor.getAllValues();
+        int tradeParams = 0;
+        for (int i = 0; i < sqls.size(); i++) {
+            if (sqls.get(i).startsWith("INSERT INTO TB_TRADE_HISTORY")) {
+                tradeParams += args.get(i).length;
+            }
+        }
+        assertThat(tradeParams).isEqualTo(3 * 8); // 3개 체결 x 8개 컬럼
+        assertThat(sqls).filteredOn(sql -> sql.startsWith("DELETE"))
+                .containsExactlyInAnyOrder(
+                        "DELETE FROM TB_PORTFOLIO_SNAPSHOT WHERE simulation_id = ? AND snapshot_date > ?",
+                        "DELETE FROM TB_TRADE_HISTORY WHERE simulation_id = ? AND trade_date > ?");
+    }
+}
@@ -0,0 +1,152 @@
+package com.stock.strategy.strategy;
+
+import com.stock.strategy.dto.BacktestRequest;
+import com.stock.strategy.dto.PortfolioHolding;
+import com.stock.strategy.dto.TradeOrder;
+import com.stock.strategy.entity.SleeveAttribution;
+import com.stock.strategy.enums.OrderType;
+import com.stock.strategy.enums.StrategyType;
+import com.stock.strategy.service.SimulationEngine.Portfolio;
+import com.stock.strategy.service.panel.PricePanel;
+import com.stock.strategy.service.rebalance.PortfolioRebalancer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CompositeStrategyTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY2 = LocalDate.of(2024, 1, 3);
+    private static final LocalDate DAY3 = LocalDate.of(2024, 1, 4);
+
+    private final PricePanel prices = PricePanel.builder()
+            .add("A005930", DAY1, 10_000d, 1_000_000L)
+            .add("A000660", DAY1, 10_000d, 1_000_000L)
+            .add("A005930", DAY2, 10_000d, 1_000_000L)
+            .add("A000660", DAY2, 10_000d, 1_000_000L)
+            .add("A005930", DAY3, 12_000d, 1_000_000L)
+            .add("A000660", DAY3, 10_000d, 1_000_000L)
+            .build();
+
+    private final BacktestRequest request = BacktestRequest.builder()
+            .strategyType(StrategyType.COMPOSITE)
+            .initialCapital(new BigDecimal("10000000"))
+            .build();
+
+    @Test
+    @DisplayName("슬리브끼리 종목을 맞바꾸면 실제 주문 없이 상쇄되고, 슬리브별 손익은 가상 장부로 집계")
+    void nettingAndAttributionTest() {
+        // given: 첫날 1번 슬리브는 A005930, 2번 슬리브는 A000660 보유, 둘째 날 서로 맞바꿈
+        CompositeStrategy composite = new CompositeStrategy(List.of(
+                new CompositeStrategy.Sleeve(0, StrategyType.MOMENTUM, new FixedTargetStrategy("A005930", "A000660"), 0.5),
+                new CompositeStrategy.Sleeve(1, StrategyType.LOW_VOLATILITY, new FixedTargetStrategy("A000660", "A005930"), 0.5)));
+
+        // when
+        List<TradeOrder> first = composite.rebalance(DAY1, new Portfolio(request.getInitialCapital()), List.of(), request, prices);
+        Portfolio filled = filledPortfolio(Map.of("A005930", 500, "A000660", 500), 10_000);
+        List<TradeOrder> second = composite.rebalance(DAY2, filled, List.of(), request, prices);
+        List<SleeveAttribution> attribution = composite.attribution(1L, DAY3);
+
+        // then
+        assertThat(first)
+                .extracting(TradeOrder::getStockCode, TradeOrder::getOrderType, TradeOrder::getQuantity)
+                .containsExactlyInAnyOrder(
+                        tuple("A005930", OrderType.BUY, 500),
+                        tuple("A000660", OrderType.BUY, 500));
+        assertThat(second).isEmpty();
+
+        // 1번 슬리브는 A000660 (가격 변동 없음), 2번 슬리브는 A005930 (+20%) 보유로 종료
+        assertThat(attribution)
+                .extracting(SleeveAttribution::getSleeveIndex, SleeveAttribution::getProfitLoss,
+                        SleeveAttribution::getTotalReturn, SleeveAttribution::getContribution)
+                .containsExactly(
+                        tuple(0, new BigDecimal("0.00"), new BigDecimal("0.0000"), new BigDecimal("0.0000")),
+                        tuple(1, new BigDecimal("1000000.00"), new BigDecimal("20.0000"), new BigDecimal("10.0000")));
+        // 둘째 날 주문 1,000만원(매도 500만 + 매수 500만)이 모두 상쇄
+        assertThat(attribution).extracting(SleeveAttribution::getNettedAmount)
+                .containsExactly(new BigDecimal("10000000.00"), new BigDecimal("10000000.00"));
+        assertThat(attribution).extracting(SleeveAttribution::getTradedAmount)
+                .containsExactly(new BigDecimal("15000000.00"), new BigDecimal("15000000.00"));
+    }
+
+    @Test
+    @DisplayName("슬리브 목표 합계와 실제 보유의 차이만 주문하며 매도 주문이 먼저")
+    void netOrdersAgainstActualHoldingsTest() {
+        // given: 실제 계좌에 슬리브 목표에 없는 종목 보유
+        CompositeStrategy composite = new CompositeStrategy(List.of(
+                new CompositeStrategy.Sleeve(0, StrategyType.MOMENTUM, new FixedTargetStrategy("A005930"), 0.6)));
+        Portfolio portfolio = filledPortfolio(Map.of("A000660", 300), 7_000_000);
+
+        // when
+        List<TradeOrder> orders = composite.rebalance(DAY1, portfolio, List.of(), request, prices);
+
+        // then: 총자산 1,000만원 × 60% = A005930 600주
+        assertThat(orders)
+                .extracting(TradeOrder::getStockCode, TradeOrder::getOrderType, TradeOrder::getQuantity)
+                .containsExactly(
+                        tuple("A000660", OrderType.SELL, 300),
+                        tuple("A005930", OrderType.BUY, 600));
+    }
+
+    @Test
+    @DisplayName("슬리브 비중 합계가 1 을 넘으면 예외 발생")
+    void weightsOverOneTest() {
+        assertThatThrownBy(() -> new CompositeStrategy(List.of(
+                new CompositeStrategy.Sleeve(0, StrategyType.MOMENTUM, new FixedTargetStrategy("A005930"), 0.7),
+                new CompositeStrategy.Sleeve(1, StrategyType.VALUE, new FixedTargetStrategy("A000660"), 0.4))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Portfolio filledPortfolio(Map<String, Integer> quantities, double cash) {
+        Portfolio portfolio = new Portfolio(BigDecimal.valueOf(cash));
+        Map<String, PortfolioHolding> holdings = new HashMap<>();
+        BigDecimal totalValue = BigDecimal.valueOf(cash);
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            BigDecimal price = prices.closeOn(entry.getKey(), DAY1);
+            BigDecimal marketValue = price.multiply(BigDecimal.valueOf(entry.getValue()));
+            holdings.put(entry.getKey(), PortfolioHolding.builder()
+                    .stockCode(entry.getKey())
+                    .quantity(entry.getValue())
+                    .averagePrice(price)
+                    .currentPrice(price)
+                    .marketValue(marketValue)
+                    .build());
+            totalValue = totalValue.add(marketValue);
+        }
+        portfolio.setHoldings(holdings);
+        portfolio.setTotalValue(totalValue);
+        return portfolio;
+    }
+
+    // 호출 순서대로 정해진 종목 하나에 전액 투자 (마지막 종목은 이후 호출에서 반복)
+    private static final class FixedTargetStrategy implements Strategy {
+
+        private final String[] targets;
+        private int calls;
+
+        private FixedTargetStrategy(String... targets) {
+            this.targets = targets;
+        }
+
+        @Override
+        public String getName() {
+            return "FixedTarget";
+        }
+
+        @Override
+        public List<TradeOrder> rebalance(LocalDate date, Portfolio portfolio, List<String> universe,
+                                          BacktestRequest request, PricePanel prices) {
+            String target = targets[Math.min(calls++, targets.length - 1)];
+            return new PortfolioRebalancer(null, null).rebalanceEqualWeight(date, portfolio, List.of(target), prices);
+        }
+    }
+}